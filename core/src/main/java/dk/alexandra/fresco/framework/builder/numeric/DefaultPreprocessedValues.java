@@ -3,6 +3,7 @@ package dk.alexandra.fresco.framework.builder.numeric;
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.BuildStep;
 import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -58,6 +59,68 @@ public class DefaultPreprocessedValues implements PreprocessedValues {
     }
   }
 
+  @Override
+  public DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> getSolvedBits(int noOfMasks,
+      int noOfBits) {
+    if (noOfBits < 1) {
+      throw new IllegalArgumentException("Can not create a random value of less than 1 bit");
+    }
+    return builder.par(par -> {
+      List<List<DRes<SInt>>> bits = new ArrayList<>(noOfMasks);
+      for (int i = 0; i < noOfMasks; i++) {
+        List<DRes<SInt>> maskBits = new ArrayList<>(noOfBits);
+        for (int j = 0; j < noOfBits; j++) {
+          maskBits.add(par.numeric().randomBit());
+        }
+        bits.add(maskBits);
+      }
+      return () -> bits;
+    }).par((par, bits) -> {
+      List<Pair<DRes<SInt>, List<DRes<SInt>>>> masks = new ArrayList<>(noOfMasks);
+      for (List<DRes<SInt>> maskBits : bits) {
+        masks.add(new Pair<>(par.seq(fromBits(maskBits)), maskBits));
+      }
+      return () -> masks;
+    });
+  }
+
+  /**
+   * Derives truncation pairs from solved bits, since r &gt;&gt; shifts is a weighted sum of the
+   * top bits of r and can be computed locally.
+   */
+  @Override
+  public DRes<List<Pair<DRes<SInt>, DRes<SInt>>>> getTruncationPairs(int noOfPairs, int noOfBits,
+      int shifts) {
+    if (shifts < 0 || shifts >= noOfBits) {
+      throw new IllegalArgumentException(
+          "The number of shifts must be non-negative and less than the number of bits");
+    }
+    return builder.seq(seq -> seq.preprocessedValues().getSolvedBits(noOfPairs, noOfBits))
+        .par((par, masks) -> {
+          List<Pair<DRes<SInt>, DRes<SInt>>> pairs = new ArrayList<>(noOfPairs);
+          for (Pair<DRes<SInt>, List<DRes<SInt>>> mask : masks) {
+            DRes<SInt> shifted = par.seq(fromBits(mask.getSecond().subList(shifts, noOfBits)));
+            pairs.add(new Pair<>(mask.getFirst(), shifted));
+          }
+          return () -> pairs;
+        });
+  }
+
+  /**
+   * Returns a computation of the value &Sigma; 2<sup>i</sup>b<sub>i</sub> of the given bits
+   * b<sub>i</sub>, least significant bit first. This only uses local operations.
+   */
+  private static Computation<SInt, ProtocolBuilderNumeric> fromBits(List<DRes<SInt>> bits) {
+    return builder -> {
+      Numeric numeric = builder.numeric();
+      DRes<SInt> sum = bits.get(0);
+      for (int i = 1; i < bits.size(); i++) {
+        sum = numeric.add(sum, numeric.mult(BigInteger.ONE.shiftLeft(i), bits.get(i)));
+      }
+      return sum;
+    };
+  }
+
   public static class Inversion implements Computation<SInt, ProtocolBuilderNumeric> {
 
     private final DRes<SInt> value;
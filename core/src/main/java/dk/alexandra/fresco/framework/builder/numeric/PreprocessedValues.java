@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.framework.builder.numeric;
 
 import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.util.List;
 
@@ -21,4 +22,30 @@ public interface PreprocessedValues {
    */
   DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength);
 
+  /**
+   * Returns a number of random values r = &Sigma; 2<sup>i</sup>r<sub>i</sub> together with their
+   * bit decompositions (sometimes called solved bits), such as used to mask values in comparisons
+   * and truncations. {@link DefaultPreprocessedValues} computes these online.
+   *
+   * @param noOfMasks The number of random values to return.
+   * @param noOfBits The number of bits of each random value.
+   * @return A list of pairs of a random value r and its bits r<sub>i</sub>, least significant bit
+   *        first
+   */
+  DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> getSolvedBits(int noOfMasks, int noOfBits);
+
+  /**
+   * Returns a number of truncation pairs of the form (r, r &gt;&gt; shifts), where r is a random
+   * value of the given bit length. These allow a value to be truncated using a single opening.
+   * {@link DefaultPreprocessedValues} derives the pairs from {@link #getSolvedBits(int, int)}.
+   *
+   * @param noOfPairs The number of truncation pairs to return.
+   * @param noOfBits The number of bits of each random value r.
+   * @param shifts The number of positions r is shifted in the second element of each pair. Must
+   *        be less than the number of bits.
+   * @return A list of pairs of a random value r and r &gt;&gt; shifts
+   */
+  DRes<List<Pair<DRes<SInt>, DRes<SInt>>>> getTruncationPairs(int noOfPairs, int noOfBits,
+      int shifts);
+
 }
@@ -1,6 +1,8 @@
 package dk.alexandra.fresco.framework.util;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface for Deterministic Random Number Generators.
@@ -30,6 +32,21 @@ public interface Drng {
    */
   BigInteger nextBigInteger(BigInteger limit);
 
+  /**
+   * Gets a number of integers of this DRNG in a given range.
+   *
+   * @param limit a limit on the values returned
+   * @param amount the amount of integers to return
+   * @return a list of integers in the range <i>0,...,limit-1</i>
+   */
+  default List<BigInteger> nextBigIntegers(BigInteger limit, int amount) {
+    List<BigInteger> result = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      result.add(nextBigInteger(limit));
+    }
+    return result;
+  }
+
   /**
    * Returns the next random bit of this DRNG.
    *
@@ -1,12 +1,16 @@
 package dk.alexandra.fresco.framework.util;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * A simple implementation based on a deterministic bit generator.
  */
 public class DrngImpl implements Drng {
   private static final int RANDOMBUFFER_SIZE = 16;
+  private static final int BULK_BUFFER_SIZE = 1 << 15;
 
   private Drbg drbg;
   private byte[] randomBytes = new byte[RANDOMBUFFER_SIZE];
@@ -31,13 +35,16 @@ public class DrngImpl implements Drng {
       throw new IllegalArgumentException("Limit must be strictly positive, but is: " + limit);
     }
     int bitSize = (Long.SIZE - Long.numberOfLeadingZeros(limit - 1));
-    byte[] bytes = getBytes(bitSize);
-    long result = Byte.toUnsignedLong(bytes[0]);
-    for (int i = 1; i < bytes.length; i++) {
-      result <<= 8;
-      result ^= Byte.toUnsignedLong(bytes[i]);
-    }
-    return result < limit ? result : nextLong(limit);
+    long result;
+    do {
+      byte[] bytes = getBytes(bitSize);
+      result = Byte.toUnsignedLong(bytes[0]);
+      for (int i = 1; i < bytes.length; i++) {
+        result <<= 8;
+        result ^= Byte.toUnsignedLong(bytes[i]);
+      }
+    } while (result >= limit);
+    return result;
   }
 
   @Override
@@ -46,9 +53,50 @@ public class DrngImpl implements Drng {
       throw new IllegalArgumentException("Limit must be strictly positive, but is: " + limit);
     }
     int bitSize = limit.bitLength();
-    byte[] bytes = getBytes(bitSize);
-    BigInteger result = new BigInteger(1, bytes);
-    return result.compareTo(limit) < 0 ? result : nextBigInteger(limit);
+    BigInteger result;
+    do {
+      result = new BigInteger(1, getBytes(bitSize));
+    } while (result.compareTo(limit) >= 0);
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Candidates are drawn from the underlying bit generator in large blocks and only the accepted
+   * ones are converted to {@link BigInteger}. As rejected candidates are replaced by candidates
+   * drawn after the block, the integers returned are the same as those returned by the same amount
+   * of calls to {@link #nextBigInteger(BigInteger)}, given that the bit generator produces the same
+   * stream of bytes for both call patterns.</p>
+   */
+  @Override
+  public List<BigInteger> nextBigIntegers(BigInteger limit, int amount) {
+    if (limit.signum() < 1) {
+      throw new IllegalArgumentException("Limit must be strictly positive, but is: " + limit);
+    }
+    if (amount < 0) {
+      throw new IllegalArgumentException("Amount must be non-negative, but is: " + amount);
+    }
+    int bitSize = limit.bitLength();
+    int byteSize = (bitSize + Byte.SIZE - 1) / Byte.SIZE;
+    int mask = 0xff >>> (byteSize * Byte.SIZE - bitSize);
+    byte[] limitBytes = toBytes(limit, byteSize);
+    List<BigInteger> result = new ArrayList<>(amount);
+    byte[] buffer = new byte[Math.min(amount, Math.max(1, BULK_BUFFER_SIZE / byteSize)) * byteSize];
+    while (result.size() < amount) {
+      int candidates = Math.min(amount - result.size(), buffer.length / byteSize);
+      byte[] bytes = (candidates * byteSize == buffer.length)
+          ? buffer
+          : new byte[candidates * byteSize];
+      drbg.nextBytes(bytes);
+      for (int offset = 0; offset < bytes.length; offset += byteSize) {
+        bytes[offset] &= mask;
+        if (lessThan(bytes, offset, limitBytes)) {
+          result.add(new BigInteger(1, Arrays.copyOfRange(bytes, offset, offset + byteSize)));
+        }
+      }
+    }
+    return result;
   }
 
   @Override
@@ -64,6 +112,33 @@ public class DrngImpl implements Drng {
     return currentBit == 0x00 ? false : true;
   }
 
+  /**
+   * Returns the unsigned big-endian representation of a non-negative integer in a given amount of
+   * bytes.
+   */
+  private static byte[] toBytes(BigInteger value, int byteSize) {
+    byte[] bytes = value.toByteArray();
+    byte[] result = new byte[byteSize];
+    int length = Math.min(bytes.length, byteSize);
+    System.arraycopy(bytes, bytes.length - length, result, byteSize - length, length);
+    return result;
+  }
+
+  /**
+   * Compares the unsigned big-endian integer starting at an offset in an array to another one of
+   * the same length.
+   */
+  private static boolean lessThan(byte[] bytes, int offset, byte[] other) {
+    for (int i = 0; i < other.length; i++) {
+      int a = Byte.toUnsignedInt(bytes[offset + i]);
+      int b = Byte.toUnsignedInt(other[i]);
+      if (a != b) {
+        return a < b;
+      }
+    }
+    return false;
+  }
+
   private byte[] getBytes(int bitSize) {
     int residue = bitSize % 8;
     residue = (residue == 0) ? 8 : residue;
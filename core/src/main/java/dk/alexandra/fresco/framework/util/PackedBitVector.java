@@ -0,0 +1,293 @@
+package dk.alexandra.fresco.framework.util;
+
+import java.util.Arrays;
+
+/**
+ * A bit vector packed into 64 bit words, intended for bulk bit operations over long vectors.
+ *
+ * <p>Bits are indexed left-to-right in the same way as {@link StrictBitVector#getBit(int, boolean)}
+ * with <code>isBigEndian = false</code>, that is, bit 0 is the most significant bit of the first
+ * byte of {@link #toByteArray()}. Thus converting to and from a {@link StrictBitVector} preserves
+ * the index of every bit. XOR and AND are done in place, a word at a time, and inner products and
+ * parities are computed using {@link Long#bitCount(long)}. The size does not need to be divisible
+ * by 8.</p>
+ */
+public class PackedBitVector implements BitVector {
+
+  private static final int WORD_SIZE = Long.SIZE;
+
+  private final long[] words;
+  private final int size;
+
+  /**
+   * Creates a vector with all entries set to zero.
+   *
+   * @param size bit size of the vector
+   */
+  public PackedBitVector(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Size of vector must not be negative but was " + size);
+    }
+    this.size = size;
+    this.words = new long[(size + WORD_SIZE - 1) / WORD_SIZE];
+  }
+
+  /**
+   * Creates a vector from a secure source of randomness.
+   *
+   * @param size bit size of the vector
+   * @param rand secure source of randomness
+   */
+  public PackedBitVector(int size, Drbg rand) {
+    this(size);
+    byte[] bytes = new byte[(size + Byte.SIZE - 1) / Byte.SIZE];
+    rand.nextBytes(bytes);
+    pack(bytes);
+    clearTail();
+  }
+
+  /**
+   * Creates a vector holding the bits of a byte array. The array is copied.
+   *
+   * @param bytes the bits of the vector, 8 bits per byte
+   */
+  public PackedBitVector(byte[] bytes) {
+    this(bytes.length * Byte.SIZE);
+    pack(bytes);
+  }
+
+  /**
+   * Creates a vector holding the same bits as a strict bit vector.
+   *
+   * @param vector the vector to copy
+   */
+  public PackedBitVector(StrictBitVector vector) {
+    this(vector.toByteArray());
+  }
+
+  private PackedBitVector(long[] words, int size) {
+    this.words = words;
+    this.size = size;
+  }
+
+  @Override
+  public boolean getBit(int index) {
+    rangeCheck(index);
+    return (words[index / WORD_SIZE] & mask(index)) != 0;
+  }
+
+  @Override
+  public void setBit(int index, boolean value) {
+    rangeCheck(index);
+    if (value) {
+      words[index / WORD_SIZE] |= mask(index);
+    } else {
+      words[index / WORD_SIZE] &= ~mask(index);
+    }
+  }
+
+  @Override
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns a new byte array with the bits of this vector, rounding up to the nearest byte.
+   */
+  @Override
+  public byte[] toByteArray() {
+    byte[] bytes = new byte[(size + Byte.SIZE - 1) / Byte.SIZE];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (words[i / Byte.SIZE] >>> (WORD_SIZE - Byte.SIZE * (i % Byte.SIZE + 1)));
+    }
+    return bytes;
+  }
+
+  /**
+   * Converts this vector to a strict bit vector. The size must be divisible by 8.
+   *
+   * @return A strict bit vector with the same bits
+   */
+  public StrictBitVector toStrictBitVector() {
+    if (size % Byte.SIZE != 0) {
+      throw new IllegalStateException("Size must be multiple of 8 but was " + size);
+    }
+    return new StrictBitVector(toByteArray());
+  }
+
+  /**
+   * Returns a copy of this vector.
+   */
+  public PackedBitVector copy() {
+    return new PackedBitVector(words.clone(), size);
+  }
+
+  @Override
+  public void xor(BitVector other) {
+    if (other instanceof PackedBitVector) {
+      xor((PackedBitVector) other);
+    } else {
+      if (other.getSize() != size) {
+        throw new IllegalArgumentException("Vectors must be the same size");
+      }
+      xor(new PackedBitVector(other.toByteArray()));
+    }
+  }
+
+  /**
+   * Updates this vector to be the XOR with another vector of the same size.
+   *
+   * @param other the other vector
+   */
+  public void xor(PackedBitVector other) {
+    sizeCheck(other);
+    for (int i = 0; i < words.length; i++) {
+      words[i] ^= other.words[i];
+    }
+  }
+
+  /**
+   * Updates this vector to be the AND with another vector of the same size.
+   *
+   * @param other the other vector
+   */
+  public void and(PackedBitVector other) {
+    sizeCheck(other);
+    for (int i = 0; i < words.length; i++) {
+      words[i] &= other.words[i];
+    }
+  }
+
+  /**
+   * Updates this vector by XOR'ing in another vector moved <code>shift</code> positions to the
+   * right, i.e., bit <i>j</i> of the other vector is added to bit <i>j + shift</i> of this vector.
+   * Bits moved beyond the end of this vector are discarded. The vectors may be of different sizes.
+   *
+   * @param other the other vector
+   * @param shift the non-negative amount of positions to move the other vector
+   */
+  public void xorShifted(PackedBitVector other, int shift) {
+    if (shift < 0) {
+      throw new IllegalArgumentException("Shift must not be negative but was " + shift);
+    }
+    int wordShift = shift / WORD_SIZE;
+    int bitShift = shift % WORD_SIZE;
+    for (int i = 0; i < other.words.length && i + wordShift < words.length; i++) {
+      long word = other.words[i];
+      words[i + wordShift] ^= word >>> bitShift;
+      if (bitShift != 0 && i + wordShift + 1 < words.length) {
+        words[i + wordShift + 1] ^= word << (WORD_SIZE - bitShift);
+      }
+    }
+    clearTail();
+  }
+
+  /**
+   * Returns the amount of bits set in this vector.
+   */
+  public int popCount() {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the XOR of all bits in this vector.
+   */
+  public boolean parity() {
+    long acc = 0;
+    for (long word : words) {
+      acc ^= word;
+    }
+    return (Long.bitCount(acc) & 1) == 1;
+  }
+
+  /**
+   * Checks whether all bits in this vector are zero.
+   */
+  public boolean isZero() {
+    for (long word : words) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the inner product over GF(2) of this vector and another vector of the same size,
+   * without materializing their AND.
+   *
+   * @param other the other vector
+   * @return the parity of the AND of the two vectors
+   */
+  public boolean innerProduct(PackedBitVector other) {
+    sizeCheck(other);
+    long acc = 0;
+    for (int i = 0; i < words.length; i++) {
+      acc ^= words[i] & other.words[i];
+    }
+    return (Long.bitCount(acc) & 1) == 1;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * size + Arrays.hashCode(words);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    PackedBitVector other = (PackedBitVector) obj;
+    return size == other.size && Arrays.equals(words, other.words);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("PackedBitVector [bits=");
+    for (int i = 0; i < size; i++) {
+      builder.append(getBit(i) ? '1' : '0');
+    }
+    return builder.append("]").toString();
+  }
+
+  private void pack(byte[] bytes) {
+    for (int i = 0; i < bytes.length; i++) {
+      words[i / Byte.SIZE] |=
+          (bytes[i] & 0xFFL) << (WORD_SIZE - Byte.SIZE * (i % Byte.SIZE + 1));
+    }
+  }
+
+  /**
+   * Clears the unused bits of the last word, which all other operations rely on being zero.
+   */
+  private void clearTail() {
+    int used = size % WORD_SIZE;
+    if (used != 0) {
+      words[words.length - 1] &= -1L << (WORD_SIZE - used);
+    }
+  }
+
+  private static long mask(int index) {
+    return Long.MIN_VALUE >>> (index % WORD_SIZE);
+  }
+
+  private void sizeCheck(PackedBitVector other) {
+    if (other.size != size) {
+      throw new IllegalArgumentException("Vectors must be the same size");
+    }
+  }
+
+  private void rangeCheck(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index out of bounds");
+    }
+  }
+}
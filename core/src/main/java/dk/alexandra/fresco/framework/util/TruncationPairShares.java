@@ -0,0 +1,29 @@
+package dk.alexandra.fresco.framework.util;
+
+import java.math.BigInteger;
+
+/**
+ * Generic representation of a truncation pair.<p> A truncation pair is a pair of the form r, r'
+ * where r' = r &gt;&gt; d for some number of shifts d (usually secret-shared). For each of the two
+ * values, this class holds the open value as well as this party's share.</p>
+ */
+public class TruncationPairShares {
+
+  private final Pair<BigInteger, BigInteger> value;
+  private final Pair<BigInteger, BigInteger> shifted;
+
+  public TruncationPairShares(
+      Pair<BigInteger, BigInteger> value,
+      Pair<BigInteger, BigInteger> shifted) {
+    this.value = value;
+    this.shifted = shifted;
+  }
+
+  public Pair<BigInteger, BigInteger> getValue() {
+    return value;
+  }
+
+  public Pair<BigInteger, BigInteger> getShifted() {
+    return shifted;
+  }
+}
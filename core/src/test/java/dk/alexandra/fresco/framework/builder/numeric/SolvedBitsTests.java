@@ -0,0 +1,79 @@
+package dk.alexandra.fresco.framework.builder.numeric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test for random values with bit decompositions from the preprocessed values.
+ */
+public class SolvedBitsTests {
+
+  public static class TestSolvedBits<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private static final int NO_OF_MASKS = 10;
+    private static final int NO_OF_BITS = 20;
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        private BigInteger modulus;
+
+        @Override
+        public void test() throws Exception {
+          Application<List<List<BigInteger>>, ProtocolBuilderNumeric> app =
+              producer -> producer.seq(seq -> {
+                modulus = seq.getBasicNumericContext().getModulus();
+                try {
+                  seq.preprocessedValues().getSolvedBits(1, 0);
+                  fail("Should throw exception on empty bit decomposition");
+                } catch (IllegalArgumentException e) {
+                  // This should happen
+                }
+                return seq.preprocessedValues().getSolvedBits(NO_OF_MASKS, NO_OF_BITS);
+              }).par((par, masks) -> {
+                List<List<DRes<BigInteger>>> output = new ArrayList<>(masks.size());
+                for (Pair<DRes<SInt>, List<DRes<SInt>>> mask : masks) {
+                  List<DRes<BigInteger>> opened = new ArrayList<>(NO_OF_BITS + 1);
+                  opened.add(par.numeric().open(mask.getFirst()));
+                  for (DRes<SInt> bit : mask.getSecond()) {
+                    opened.add(par.numeric().open(bit));
+                  }
+                  output.add(opened);
+                }
+                return () -> output;
+              }).seq((seq, output) -> () -> output.stream()
+                  .map(opened -> opened.stream().map(DRes::out).collect(Collectors.toList()))
+                  .collect(Collectors.toList()));
+          List<List<BigInteger>> output = runApplication(app);
+          assertEquals(NO_OF_MASKS, output.size());
+          for (List<BigInteger> mask : output) {
+            assertEquals(NO_OF_BITS + 1, mask.size());
+            BigInteger value = BigInteger.ZERO;
+            for (int i = 0; i < NO_OF_BITS; i++) {
+              BigInteger bit = mask.get(i + 1);
+              assertTrue(bit.equals(BigInteger.ZERO) || bit.equals(BigInteger.ONE));
+              value = value.add(bit.shiftLeft(i));
+            }
+            assertEquals(value.mod(modulus), mask.get(0));
+          }
+        }
+      };
+    }
+  }
+}
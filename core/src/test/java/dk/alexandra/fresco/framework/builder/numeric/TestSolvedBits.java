@@ -0,0 +1,20 @@
+package dk.alexandra.fresco.framework.builder.numeric;
+
+import static org.mockito.Mockito.mock;
+
+import dk.alexandra.fresco.suite.dummy.arithmetic.AbstractDummyArithmeticTest;
+import org.junit.Test;
+
+public class TestSolvedBits extends AbstractDummyArithmeticTest {
+
+  @Test
+  public void testSolvedBits() {
+    runTest(new SolvedBitsTests.TestSolvedBits<>(), new TestParameters());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDefaultSolvedBitsOfZeroBits() {
+    new DefaultPreprocessedValues(mock(ProtocolBuilderNumeric.class)).getSolvedBits(1, 0);
+  }
+
+}
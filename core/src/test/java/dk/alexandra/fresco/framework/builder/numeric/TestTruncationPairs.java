@@ -0,0 +1,13 @@
+package dk.alexandra.fresco.framework.builder.numeric;
+
+import dk.alexandra.fresco.suite.dummy.arithmetic.AbstractDummyArithmeticTest;
+import org.junit.Test;
+
+public class TestTruncationPairs extends AbstractDummyArithmeticTest {
+
+  @Test
+  public void testTruncationPairs() {
+    runTest(new TruncationPairsTests.TestTruncationPairs<>(), new TestParameters());
+  }
+
+}
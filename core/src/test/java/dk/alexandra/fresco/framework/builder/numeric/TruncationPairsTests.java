@@ -0,0 +1,69 @@
+package dk.alexandra.fresco.framework.builder.numeric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test for truncation pairs from the preprocessed values.
+ */
+public class TruncationPairsTests {
+
+  public static class TestTruncationPairs<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private static final int NO_OF_PAIRS = 10;
+    private static final int MAX_NO_OF_BITS = 20;
+    private static final int SHIFTS = 7;
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          // r must be smaller than the modulus, otherwise r >> shifts is not well-defined
+          final int noOfBits = Math.min(MAX_NO_OF_BITS,
+              getFieldDefinition().getModulus().bitLength() - 1);
+          Application<List<Pair<BigInteger, BigInteger>>, ProtocolBuilderNumeric> app =
+              producer -> producer.seq(seq -> {
+                try {
+                  seq.preprocessedValues().getTruncationPairs(1, noOfBits, noOfBits);
+                  fail("Should throw exception when shifting all bits away");
+                } catch (IllegalArgumentException e) {
+                  // This should happen
+                }
+                return seq.preprocessedValues().getTruncationPairs(NO_OF_PAIRS, noOfBits, SHIFTS);
+              }).par((par, pairs) -> {
+                List<Pair<DRes<BigInteger>, DRes<BigInteger>>> output =
+                    new ArrayList<>(pairs.size());
+                for (Pair<DRes<SInt>, DRes<SInt>> pair : pairs) {
+                  output.add(new Pair<>(par.numeric().open(pair.getFirst()),
+                      par.numeric().open(pair.getSecond())));
+                }
+                return () -> output;
+              }).seq((seq, output) -> () -> output.stream()
+                  .map(pair -> new Pair<>(pair.getFirst().out(), pair.getSecond().out()))
+                  .collect(Collectors.toList()));
+          List<Pair<BigInteger, BigInteger>> output = runApplication(app);
+          assertEquals(NO_OF_PAIRS, output.size());
+          for (Pair<BigInteger, BigInteger> pair : output) {
+            assertEquals(pair.getFirst().shiftRight(SHIFTS), pair.getSecond());
+          }
+        }
+      };
+    }
+  }
+}
@@ -123,6 +123,41 @@ public class TestArithmeticDummyDataSupplier {
     }
   }
 
+  private void testGetTruncationPairShares(int noOfParties, BigInteger modulus) {
+    // use fewer bits than the modulus so the value does not wrap around
+    int noOfBits = modulus.bitLength() - 1;
+    int shifts = noOfBits / 2;
+    List<ArithmeticDummyDataSupplier> suppliers = new ArrayList<>(noOfParties);
+    for (int i = 0; i < noOfParties; i++) {
+      suppliers.add(new ArithmeticDummyDataSupplier(i + 1, noOfParties, modulus));
+    }
+    List<TruncationPairShares> actual = new ArrayList<>();
+    for (ArithmeticDummyDataSupplier supplier : suppliers) {
+      actual.add(supplier.getTruncationPairShares(noOfBits, shifts));
+    }
+    List<BigInteger> values = actual.stream()
+        .map(pair -> pair.getValue().getFirst())
+        .collect(Collectors.toList());
+    List<BigInteger> shifted = actual.stream()
+        .map(pair -> pair.getShifted().getFirst())
+        .collect(Collectors.toList());
+    assertAllEqual(values);
+    assertAllEqual(shifted);
+    assertEquals(values.get(0), MathUtils.sum(actual.stream()
+        .map(pair -> pair.getValue().getSecond())
+        .collect(Collectors.toList()), modulus));
+    assertEquals(shifted.get(0), MathUtils.sum(actual.stream()
+        .map(pair -> pair.getShifted().getSecond())
+        .collect(Collectors.toList()), modulus));
+    assertEquals(values.get(0).shiftRight(shifts), shifted.get(0));
+  }
+
+  private void testGetTruncationPairShares(int noOfParties) {
+    for (BigInteger modulus : moduli) {
+      testGetTruncationPairShares(noOfParties, modulus);
+    }
+  }
+
   @Test
   public void testGetRandomElementShareTwoParties() {
     testGetRandomElementShare(2);
@@ -175,6 +210,13 @@ public class TestArithmeticDummyDataSupplier {
     testGetExpPipe(5);
   }
 
+  @Test
+  public void testGetTruncationPairShares() {
+    testGetTruncationPairShares(2);
+    testGetTruncationPairShares(3);
+    testGetTruncationPairShares(5);
+  }
+
   @Test
   public void testBitsNotAllSame() {
     int noOfParties = 2;
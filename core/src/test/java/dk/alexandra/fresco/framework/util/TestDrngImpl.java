@@ -1,8 +1,10 @@
 package dk.alexandra.fresco.framework.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Random;
 import org.junit.Before;
 import org.junit.Test;
@@ -165,6 +167,55 @@ public class TestDrngImpl {
     }
   }
 
+  @Test
+  public void testNextBigIntegers() {
+    // A limit just above a power of two so that almost half the candidates are rejected
+    BigInteger limit = BigInteger.ONE.shiftLeft(100).add(BigInteger.ONE);
+    List<BigInteger> values = drng.nextBigIntegers(limit, 1000);
+    assertEquals(1000, values.size());
+    for (BigInteger value : values) {
+      assertInRange(value, BigInteger.ZERO, limit);
+    }
+  }
+
+  @Test
+  public void testNextBigIntegersMatchesNextBigInteger() {
+    BigInteger limit = new BigInteger("1234390583094589083690724905729037458907233245");
+    byte[] seed = new byte[32];
+    seed[0] = 42;
+    DrngImpl bulk = new DrngImpl(new AesCtrDrbg(seed));
+    DrngImpl single = new DrngImpl(new AesCtrDrbg(seed));
+    List<BigInteger> values = bulk.nextBigIntegers(limit, 100);
+    for (BigInteger value : values) {
+      assertEquals(single.nextBigInteger(limit), value);
+    }
+  }
+
+  @Test
+  public void testNextBigIntegersByteSize() {
+    BigInteger limit = new BigInteger("256");
+    List<BigInteger> values = drng.nextBigIntegers(limit, 100);
+    assertEquals(100, values.size());
+    for (BigInteger value : values) {
+      assertInRange(value, BigInteger.ZERO, limit);
+    }
+  }
+
+  @Test
+  public void testNextBigIntegersNone() {
+    assertTrue(drng.nextBigIntegers(BigInteger.TEN, 0).isEmpty());
+  }
+
+  @Test (expected = IllegalArgumentException.class)
+  public void testNextBigIntegersZeroSize() {
+    drng.nextBigIntegers(BigInteger.ZERO, 10);
+  }
+
+  @Test (expected = IllegalArgumentException.class)
+  public void testNextBigIntegersNegativeAmount() {
+    drng.nextBigIntegers(BigInteger.TEN, -1);
+  }
+
   @Test
   public void testNextBit() {
     int iterations = 1000;
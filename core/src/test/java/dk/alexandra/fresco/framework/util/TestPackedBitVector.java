@@ -0,0 +1,142 @@
+package dk.alexandra.fresco.framework.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TestPackedBitVector {
+
+  private static final Drbg RAND = AesCtrDrbgFactory.fromDerivedSeed((byte) 0x42);
+
+  // Positive tests
+
+  @Test
+  public void testBitOrderMatchesStrictBitVector() {
+    StrictBitVector strict = new StrictBitVector(200, RAND);
+    PackedBitVector packed = new PackedBitVector(strict);
+    assertEquals(200, packed.getSize());
+    for (int i = 0; i < strict.getSize(); i++) {
+      assertEquals(strict.getBit(i, false), packed.getBit(i));
+    }
+    assertEquals(strict, packed.toStrictBitVector());
+    assertArrayEquals(strict.toByteArray(), packed.toByteArray());
+  }
+
+  @Test
+  public void testSetBit() {
+    PackedBitVector packed = new PackedBitVector(70);
+    packed.setBit(0, true);
+    packed.setBit(65, true);
+    packed.setBit(69, true);
+    packed.setBit(69, false);
+    assertTrue(packed.getBit(0));
+    assertTrue(packed.getBit(65));
+    assertFalse(packed.getBit(69));
+    assertEquals(2, packed.popCount());
+    assertArrayEquals(new byte[] { (byte) 0x80, 0, 0, 0, 0, 0, 0, 0, 0x40 },
+        packed.toByteArray());
+  }
+
+  @Test
+  public void testRandomClearsUnusedBits() {
+    PackedBitVector packed = new PackedBitVector(67, RAND);
+    PackedBitVector copy = new PackedBitVector(67);
+    for (int i = 0; i < 67; i++) {
+      copy.setBit(i, packed.getBit(i));
+    }
+    assertEquals(copy, packed);
+  }
+
+  @Test
+  public void testXorAndAnd() {
+    StrictBitVector a = new StrictBitVector(320, RAND);
+    StrictBitVector b = new StrictBitVector(320, RAND);
+    PackedBitVector xor = new PackedBitVector(a);
+    xor.xor(new PackedBitVector(b));
+    PackedBitVector and = new PackedBitVector(a);
+    and.and(new PackedBitVector(b));
+    int count = 0;
+    boolean parity = false;
+    for (int i = 0; i < 320; i++) {
+      boolean bitA = a.getBit(i, false);
+      boolean bitB = b.getBit(i, false);
+      assertEquals(bitA ^ bitB, xor.getBit(i));
+      assertEquals(bitA && bitB, and.getBit(i));
+      count += bitA && bitB ? 1 : 0;
+      parity ^= bitA && bitB;
+    }
+    assertEquals(count, and.popCount());
+    assertEquals(parity, and.parity());
+    assertEquals(parity, new PackedBitVector(a).innerProduct(new PackedBitVector(b)));
+  }
+
+  @Test
+  public void testXorWithStrictBitVector() {
+    StrictBitVector a = new StrictBitVector(64, RAND);
+    PackedBitVector packed = new PackedBitVector(a);
+    packed.xor(a);
+    assertTrue(packed.isZero());
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    PackedBitVector packed = new PackedBitVector(100, RAND);
+    PackedBitVector copy = packed.copy();
+    assertEquals(packed, copy);
+    copy.setBit(3, !copy.getBit(3));
+    assertNotEquals(packed, copy);
+  }
+
+  @Test
+  public void testXorShifted() {
+    for (int shift : new int[] { 0, 1, 7, 63, 64, 65, 130 }) {
+      PackedBitVector other = new PackedBitVector(100, RAND);
+      PackedBitVector target = new PackedBitVector(190, RAND);
+      PackedBitVector expected = target.copy();
+      for (int j = 0; j < other.getSize() && j + shift < target.getSize(); j++) {
+        expected.setBit(j + shift, expected.getBit(j + shift) ^ other.getBit(j));
+      }
+      target.xorShifted(other, shift);
+      assertEquals(expected, target);
+    }
+  }
+
+  @Test
+  public void testEmptyVector() {
+    PackedBitVector packed = new PackedBitVector(0);
+    assertTrue(packed.isZero());
+    assertFalse(packed.parity());
+    assertEquals(0, packed.toByteArray().length);
+  }
+
+  // Negative tests
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeSize() {
+    new PackedBitVector(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testXorDifferentSizes() {
+    new PackedBitVector(64).xor(new PackedBitVector(128));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInnerProductDifferentSizes() {
+    new PackedBitVector(64).innerProduct(new PackedBitVector(65));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testToStrictBitVectorNotDivisibleByEight() {
+    new PackedBitVector(9).toStrictBitVector();
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetBitOutOfBounds() {
+    new PackedBitVector(64).getBit(64);
+  }
+}
@@ -40,13 +40,15 @@ import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproProtocolSuite
 import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproResourcePool;
 import dk.alexandra.fresco.suite.tinytables.util.Util;
 import dk.alexandra.fresco.tools.ot.base.AbstractNaorPinkasOT;
+import dk.alexandra.fresco.tools.ot.base.BatchOt;
 import dk.alexandra.fresco.tools.ot.base.BigIntChouOrlandi;
 import dk.alexandra.fresco.tools.ot.base.BigIntNaorPinkas;
-import dk.alexandra.fresco.tools.ot.base.Ot;
 import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import dk.alexandra.fresco.tools.ot.otextension.SeedOtCache;
 
 import java.io.File;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -59,10 +61,15 @@ import java.util.function.Supplier;
  */
 public class CmdLineProtocolSuite {
 
+  private static final long SEED_OT_CACHE_MAX_AGE = 24 * 60 * 60 * 1000L;
+  private static final int SEED_OT_CACHE_MAX_USES = 100;
+
   private final int myId;
   private final int noOfPlayers;
   private final ProtocolSuite<?, ?> protocolSuite;
   private final ResourcePool resourcePool;
+  private SeedOtCache seedOtCache;
+  private int seedOtAmount;
 
   static String getSupportedProtocolSuites() {
     String[] strings = {"dummybool", "dummyarithmetic", "spdz", "tinytables", "tinytablesprepro"};
@@ -113,6 +120,16 @@ public class CmdLineProtocolSuite {
     return this.protocolSuite;
   }
 
+  /**
+   * Releases the cached seed OTs handed out to the resource pool, if any, allowing them to be
+   * used by later runs. Must only be called after a run that completed without errors.
+   */
+  void releaseSeedOts() {
+    if (seedOtCache != null) {
+      seedOtCache.releaseAll(noOfPlayers, seedOtAmount);
+    }
+  }
+
   private ProtocolSuite<?, ?> dummyArithmeticFromCmdLine(Properties properties) {
     String mod = properties.getProperty("modulus",
         "67039039649712985497870124991238141152738485774711365274259660130265015367064643"
@@ -159,11 +176,29 @@ public class CmdLineProtocolSuite {
     } else {
       // MASCOT preprocessing
       int prgSeedLength = 256;
+      String seedOtCacheDirectory = properties.getProperty("spdz.seedOtCache");
+      String cacheKeyProperty = properties.getProperty("spdz.seedOtCacheKey");
+      if (seedOtCacheDirectory != null) {
+        if (cacheKeyProperty == null || cacheKeyProperty.isEmpty()) {
+          throw new RuntimeException(
+              "spdz.seedOtCacheKey must be set to a secret key when spdz.seedOtCache is used");
+        }
+        // Opt-in reuse of the seed OTs of previous runs, encrypted under the given key
+        byte[] cacheKey = cacheKeyProperty.getBytes(StandardCharsets.UTF_8);
+        this.seedOtCache = new SeedOtCache(myId, new File(seedOtCacheDirectory), cacheKey,
+            SEED_OT_CACHE_MAX_AGE, SEED_OT_CACHE_MAX_USES);
+        this.seedOtAmount = prgSeedLength;
+      }
 
       Network network = networkSupplier.get();
       Drbg drbg = getDrbg(myId, prgSeedLength);
-      Map<Integer, RotList> seedOts =
-              getSeedOts(myId, noOfPlayers, prgSeedLength, drbg, network);
+      Map<Integer, RotList> seedOts;
+      if (seedOtCache != null) {
+        seedOts = seedOtCache.getAllSeedOts(noOfPlayers, prgSeedLength, drbg, network,
+            otherId -> new BigIntChouOrlandi(otherId, drbg, network));
+      } else {
+        seedOts = getSeedOts(myId, noOfPlayers, prgSeedLength, drbg, network);
+      }
       FieldElement ssk = SpdzMascotDataSupplier.createRandomSsk(definition, prgSeedLength);
 
       SpdzDataSupplier preprocessedValuesDataSupplier = SpdzMascotDataSupplier.createSimpleSupplier(myId, noOfPlayers,
@@ -228,14 +263,15 @@ public class CmdLineProtocolSuite {
     Map<Integer, RotList> seedOts = new HashMap<>();
     for (int otherId = 1; otherId <= parties; otherId++) {
       if (myId != otherId) {
-        Ot ot = new BigIntChouOrlandi(otherId, drbg, network);
+        BatchOt ot = new BigIntChouOrlandi(otherId, drbg, network);
         RotList currentSeedOts = new RotList(drbg, prgSeedLength);
+        // run all seed OTs with the other party as a single batch
         if (myId < otherId) {
-          currentSeedOts.send(ot);
-          currentSeedOts.receive(ot);
+          currentSeedOts.sendBatch(ot);
+          currentSeedOts.receiveBatch(ot);
         } else {
-          currentSeedOts.receive(ot);
-          currentSeedOts.send(ot);
+          currentSeedOts.receiveBatch(ot);
+          currentSeedOts.sendBatch(ot);
         }
         seedOts.put(otherId, currentSeedOts);
       }
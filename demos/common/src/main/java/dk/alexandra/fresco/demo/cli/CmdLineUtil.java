@@ -52,6 +52,7 @@ public class CmdLineUtil<ResourcePoolT extends ResourcePool, BuilderT extends Pr
   private ProtocolEvaluator<ResourcePoolT> evaluator;
 
   private ResourcePoolT resourcePool;
+  private CmdLineProtocolSuite protocolSuiteParser;
   private SecureComputationEngine<ResourcePoolT, BuilderT> sce;
   private Network createdNetwork;
 
@@ -258,6 +259,7 @@ public class CmdLineUtil<ResourcePoolT extends ResourcePool, BuilderT extends Pr
       }
       int maxBatchSize = getMaxBatchSize();
       this.evaluator = new BatchedProtocolEvaluator<>(batchEvalStrat, protocolSuite, maxBatchSize);
+      this.protocolSuiteParser = protocolSuiteParser;
     } catch (Exception e) {
       ExceptionConverter.safe(() -> {
             closeNetwork();
@@ -315,11 +317,15 @@ public class CmdLineUtil<ResourcePoolT extends ResourcePool, BuilderT extends Pr
   }
 
   /**
-   * Attempts to close the network.
+   * Attempts to close the network. Cached seed OTs used by the protocol suite are released for
+   * reuse, so this should only be called once the application has completed without errors.
    *
    * @throws IOException If the networks fails to close
    */
   public void closeNetwork() throws IOException {
+    if (this.protocolSuiteParser != null) {
+      this.protocolSuiteParser.releaseSeedOts();
+    }
     if (this.createdNetwork != null) {
       ((Closeable) this.createdNetwork).close();
     }
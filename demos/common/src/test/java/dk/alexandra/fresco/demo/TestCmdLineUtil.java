@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import dk.alexandra.fresco.demo.cli.CmdLineUtil;
 import dk.alexandra.fresco.framework.Application;
@@ -29,6 +30,7 @@ import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
 import dk.alexandra.fresco.suite.spdz.storage.InitializeStorage;
 import dk.alexandra.fresco.suite.tinytables.online.TinyTablesProtocolSuite;
 import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproProtocolSuite;
+import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -127,6 +129,30 @@ public class TestCmdLineUtil {
     InitializeStorage.cleanup();
   }
 
+  @Test
+  public void testSpdzSeedOtCacheWithoutKey() {
+    try {
+      parseAndCloseNetwork("spdz", "-b", "4048", "-D", "spdz.preprocessingStrategy=MASCOT", "-D",
+          "spdz.seedOtCache=seedOtCache");
+      fail("Expected the missing cache key to be rejected");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("spdz.seedOtCacheKey"));
+    }
+  }
+
+  @Test
+  public void testSpdzSeedOtCacheDirectoryIsFile() throws IOException {
+    File file = File.createTempFile("seed-ot-cache", ".tmp");
+    file.deleteOnExit();
+    try {
+      parseAndCloseNetwork("spdz", "-b", "4048", "-D", "spdz.preprocessingStrategy=MASCOT", "-D",
+          "spdz.seedOtCache=" + file.getPath(), "-D", "spdz.seedOtCacheKey=secret");
+      fail("Expected the cache directory to be rejected");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("seed OT cache directory"));
+    }
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void testSpdzAritmeticBadStrategyFromCmdLine() {
     parseAndCloseNetwork("spdz", "-b", "4048", "-D", "spdz.preprocessingStrategy=NO_STRATEGY");
@@ -171,4 +171,20 @@ public interface Collections extends ComputationDirectory {
    */
   DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> sort(List<Pair<DRes<SInt>, List<DRes<SInt>>>> input);
 
+  /**
+   * Sorts key-value pairs by shuffling them and then sorting on opened comparisons as in {@link
+   * dk.alexandra.fresco.lib.common.collections.sort.ShuffleSort}. Returning the largest element
+   * first. This uses asymptotically fewer comparisons than {@link #sort(List)}, but the keys must
+   * have at most <i>maxBitLength - l</i> bits, where <i>2<sup>l</sup></i> is the number of pairs
+   * rounded up to a power of two. This is not checked, and larger keys are sorted incorrectly.
+   * NOTE: For secrecy reasons, the values associated to the keys must all be lists of
+   * equal length.
+   *
+   * @param input A Key-value pair where the key is being sorted on and the value is a list of other
+   *              elements being associated to the key.
+   * @return Returns the sorted list in descending order.
+   */
+  DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> shuffleSort(
+      List<Pair<DRes<SInt>, List<DRes<SInt>>>> input);
+
 }
@@ -13,6 +13,7 @@ import dk.alexandra.fresco.lib.common.collections.io.OpenRowPair;
 import dk.alexandra.fresco.lib.common.collections.permute.PermuteRows;
 import dk.alexandra.fresco.lib.common.collections.shuffle.ShuffleRows;
 import dk.alexandra.fresco.lib.common.collections.sort.OddEvenMerge;
+import dk.alexandra.fresco.lib.common.collections.sort.ShuffleSort;
 import dk.alexandra.fresco.lib.common.math.integer.conditional.ConditionalSelectRow;
 import dk.alexandra.fresco.lib.common.math.integer.conditional.SwapNeighborsIf;
 import dk.alexandra.fresco.lib.common.math.integer.conditional.SwapRowsIf;
@@ -109,4 +110,10 @@ public class DefaultCollections implements Collections {
       List<Pair<DRes<SInt>, List<DRes<SInt>>>> input) {
     return builder.seq(OddEvenMerge.numeric(input));
   }
+
+  @Override
+  public DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> shuffleSort(
+      List<Pair<DRes<SInt>, List<DRes<SInt>>>> input) {
+    return builder.seq(new ShuffleSort(input));
+  }
 }
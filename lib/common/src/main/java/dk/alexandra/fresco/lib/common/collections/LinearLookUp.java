@@ -17,6 +17,10 @@ import java.util.List;
  * <p>
  * Guaranteed return value is the last value where the corresponding key matches
  * </p>
+ * <p>
+ * The selection takes a round per key. If the keys are distinct, {@link OneHotLookUp} gives the
+ * same result in a constant number of rounds after the equality tests.
+ * </p>
  */
 public class LinearLookUp implements Computation<SInt, ProtocolBuilderNumeric> {
 
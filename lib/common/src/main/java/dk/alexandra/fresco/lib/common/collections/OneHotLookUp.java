@@ -0,0 +1,82 @@
+package dk.alexandra.fresco.lib.common.collections;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.compare.Comparison;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implements an oblivious lookup in a secret table using a linear number of equality protocols
+ * and a single inner product per column.
+ * <p>
+ * The lookup key is compared to all keys in parallel, giving an indicator vector which has a one
+ * at the index of the matching key and zeros elsewhere. Each column of the result is then
+ * computed as <i>notFound + &Sigma;<sub>i</sub> e<sub>i</sub>(v<sub>i</sub> - notFound)</i>,
+ * which takes one round of multiplications for all columns, compared to one round per key for
+ * {@link LinearLookUp}.
+ * </p>
+ * <p>
+ * The keys must be distinct, as the values of all matching keys are added up.
+ * </p>
+ */
+public class OneHotLookUp implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> lookUpKey;
+  private final List<DRes<SInt>> keys;
+  private final Matrix<DRes<SInt>> values;
+  private final List<DRes<SInt>> notFoundValues;
+
+  /**
+   * Makes a new OneHotLookUp.
+   *
+   * @param lookUpKey the key to look up.
+   * @param keys the list of distinct keys to search among.
+   * @param values the rows of values corresponding to each key.
+   * @param notFoundValues The row of values to return if the key is not present.
+   */
+  public OneHotLookUp(DRes<SInt> lookUpKey, List<DRes<SInt>> keys,
+      Matrix<DRes<SInt>> values, List<DRes<SInt>> notFoundValues) {
+    if (keys.size() != values.getHeight()) {
+      throw new IllegalArgumentException("There must be a row of values for each key");
+    }
+    if (notFoundValues.size() != values.getWidth()) {
+      throw new IllegalArgumentException("The not found row must have the width of the values");
+    }
+    this.lookUpKey = lookUpKey;
+    this.keys = keys;
+    this.values = values;
+    this.notFoundValues = notFoundValues;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.par(par -> {
+      List<DRes<SInt>> indicators = new ArrayList<>(keys.size());
+      for (DRes<SInt> key : keys) {
+        indicators.add(Comparison.using(par).equals(lookUpKey, key));
+      }
+      return () -> indicators;
+    }).par((par, indicators) -> {
+      List<DRes<SInt>> result = new ArrayList<>(values.getWidth());
+      for (int i = 0; i < values.getWidth(); i++) {
+        List<DRes<SInt>> column = values.getColumn(i);
+        DRes<SInt> notFound = notFoundValues.get(i);
+        result.add(par.seq(seq -> {
+          Numeric numeric = seq.numeric();
+          List<DRes<SInt>> differences = new ArrayList<>(column.size());
+          for (DRes<SInt> value : column) {
+            differences.add(numeric.sub(value, notFound));
+          }
+          return numeric.add(notFound,
+              AdvancedNumeric.using(seq).innerProduct(indicators, differences));
+        }));
+      }
+      return () -> result;
+    });
+  }
+}
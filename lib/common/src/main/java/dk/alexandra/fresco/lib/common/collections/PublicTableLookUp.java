@@ -0,0 +1,78 @@
+package dk.alexandra.fresco.lib.common.collections;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.compare.Comparison;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implements an oblivious lookup of a secret key in a public table.
+ * <p>
+ * As in {@link OneHotLookUp}, the lookup key is compared to all keys in parallel to get an
+ * indicator vector, but since the values are public each column of the result is an inner product
+ * with a public vector, so no secret multiplications are needed besides the equality tests. Only
+ * the key being looked up, and hence the result, is hidden.
+ * </p>
+ * <p>
+ * The keys must be distinct, as the values of all matching keys are added up.
+ * </p>
+ */
+public class PublicTableLookUp implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final DRes<SInt> lookUpKey;
+  private final List<BigInteger> keys;
+  private final Matrix<BigInteger> values;
+  private final List<BigInteger> notFoundValues;
+
+  /**
+   * Makes a new PublicTableLookUp.
+   *
+   * @param lookUpKey the secret key to look up.
+   * @param keys the list of distinct public keys to search among.
+   * @param values the rows of public values corresponding to each key.
+   * @param notFoundValues The row of values to return if the key is not present.
+   */
+  public PublicTableLookUp(DRes<SInt> lookUpKey, List<BigInteger> keys,
+      Matrix<BigInteger> values, List<BigInteger> notFoundValues) {
+    if (keys.size() != values.getHeight()) {
+      throw new IllegalArgumentException("There must be a row of values for each key");
+    }
+    if (notFoundValues.size() != values.getWidth()) {
+      throw new IllegalArgumentException("The not found row must have the width of the values");
+    }
+    this.lookUpKey = lookUpKey;
+    this.keys = keys;
+    this.values = values;
+    this.notFoundValues = notFoundValues;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    return builder.par(par -> {
+      int maxBitLength = par.getBasicNumericContext().getMaxBitLength();
+      List<DRes<SInt>> indicators = new ArrayList<>(keys.size());
+      for (BigInteger key : keys) {
+        indicators.add(Comparison.using(par)
+            .compareZero(par.numeric().sub(lookUpKey, key), maxBitLength));
+      }
+      return () -> indicators;
+    }).par((par, indicators) -> {
+      List<DRes<SInt>> result = new ArrayList<>(values.getWidth());
+      for (int i = 0; i < values.getWidth(); i++) {
+        BigInteger notFound = notFoundValues.get(i);
+        List<BigInteger> differences = new ArrayList<>(values.getHeight());
+        for (BigInteger value : values.getColumn(i)) {
+          differences.add(value.subtract(notFound));
+        }
+        result.add(par.seq(seq -> seq.numeric().add(notFound,
+            AdvancedNumeric.using(seq).innerProductWithPublicPart(differences, indicators))));
+      }
+      return () -> result;
+    });
+  }
+}
@@ -0,0 +1,31 @@
+package dk.alexandra.fresco.lib.common.collections.oram;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import java.util.List;
+
+/**
+ * A position map which is scanned in full on each lookup, by expanding the bits of the index to a
+ * unit vector and taking the inner product with the positions.
+ */
+class LinearPositionMap implements PositionMap {
+
+  private final List<DRes<SInt>> positions;
+  private final int indexBitLength;
+
+  LinearPositionMap(List<DRes<SInt>> positions) {
+    this.positions = positions;
+    this.indexBitLength = Integer.numberOfTrailingZeros(positions.size());
+  }
+
+  @Override
+  public Computation<SInt, ProtocolBuilderNumeric> lookUp(DRes<SInt> index) {
+    return builder -> builder
+        .seq(seq -> AdvancedNumeric.using(seq).toBits(index, indexBitLength))
+        .seq((seq, bits) -> seq.seq(new UnitVector(bits)))
+        .seq((seq, unitVector) -> AdvancedNumeric.using(seq).innerProduct(unitVector, positions));
+  }
+}
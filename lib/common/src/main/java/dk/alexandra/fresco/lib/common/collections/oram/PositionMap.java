@@ -0,0 +1,42 @@
+package dk.alexandra.fresco.lib.common.collections.oram;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.List;
+
+/**
+ * The secret position map of a {@link SquareRootOram}, mapping the index of each row to its
+ * position in the shuffled physical array.
+ */
+interface PositionMap {
+
+  /**
+   * Above this size position maps are stored recursively in another ORAM.
+   */
+  int LINEAR_THRESHOLD = 64;
+
+  /**
+   * Creates a position map holding the given positions.
+   *
+   * @param positions the position of each index. The number of positions must be a power of two.
+   * @return a new position map
+   */
+  static PositionMap create(List<DRes<SInt>> positions) {
+    if (positions.size() <= LINEAR_THRESHOLD) {
+      return new LinearPositionMap(positions);
+    } else {
+      return new RecursivePositionMap(positions);
+    }
+  }
+
+  /**
+   * Looks up the position of a secret index.
+   *
+   * @param index the index
+   * @return a computation returning the position of the index
+   */
+  Computation<SInt, ProtocolBuilderNumeric> lookUp(DRes<SInt> index);
+
+}
@@ -0,0 +1,45 @@
+package dk.alexandra.fresco.lib.common.collections.oram;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.collections.Matrix;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import java.util.List;
+
+/**
+ * A position map stored in a smaller {@link SquareRootOram}, with {@link #BLOCK_SIZE} positions in
+ * each row. The high bits of an index select the row and the low bits the position within it.
+ */
+class RecursivePositionMap implements PositionMap {
+
+  static final int BLOCK_SIZE = 8;
+  private static final int BLOCK_BIT_LENGTH = Integer.numberOfTrailingZeros(BLOCK_SIZE);
+
+  private final SquareRootOram blocks;
+  private final int indexBitLength;
+
+  RecursivePositionMap(List<DRes<SInt>> positions) {
+    this.indexBitLength = Integer.numberOfTrailingZeros(positions.size());
+    this.blocks = new SquareRootOram(new Matrix<>(positions.size() / BLOCK_SIZE, BLOCK_SIZE,
+        (row, column) -> positions.get(row * BLOCK_SIZE + column)));
+  }
+
+  @Override
+  public Computation<SInt, ProtocolBuilderNumeric> lookUp(DRes<SInt> index) {
+    return builder -> builder
+        .seq(seq -> AdvancedNumeric.using(seq).toBits(index, indexBitLength))
+        .seq((seq, bits) -> seq.par(par -> {
+          DRes<List<DRes<SInt>>> block = par.seq(inner -> inner.seq(blocks.read(
+              AdvancedNumeric.using(inner)
+                  .bitsToInteger(bits.subList(BLOCK_BIT_LENGTH, indexBitLength)))));
+          DRes<List<DRes<SInt>>> unitVector =
+              par.seq(new UnitVector(bits.subList(0, BLOCK_BIT_LENGTH)));
+          return () -> new Pair<>(unitVector.out(), block.out());
+        }))
+        .seq((seq, unitVectorAndBlock) -> AdvancedNumeric.using(seq)
+            .innerProduct(unitVectorAndBlock.getFirst(), unitVectorAndBlock.getSecond()));
+  }
+}
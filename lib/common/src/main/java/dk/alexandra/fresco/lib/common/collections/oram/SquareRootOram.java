@@ -0,0 +1,331 @@
+package dk.alexandra.fresco.lib.common.collections.oram;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.collections.Collections;
+import dk.alexandra.fresco.lib.common.collections.Matrix;
+import dk.alexandra.fresco.lib.common.compare.Comparison;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An oblivious RAM over the rows of a secret matrix, allowing rows to be read and written at secret
+ * indices at a sublinear amortised cost.
+ * <p>
+ * This is the square-root ORAM of Zahur et al. (<i>Revisiting Square-Root ORAM</i>, S&amp;P 2016)
+ * adapted to secret sharing. The rows are kept in a shuffled <i>physical</i> array along with a
+ * number of dummy rows, and a secret <i>position map</i> tells where each row is. An access first
+ * scans a small stash of the rows accessed since the last shuffle. If the row is not in the stash
+ * its position is opened and the row is fetched from the physical array, otherwise the position of
+ * a fresh dummy row is opened instead. Either way the opened positions are distinct and uniformly
+ * random, so they reveal nothing about the indices. After <i>period</i> accesses the stash is
+ * written back and the physical array is reshuffled using {@link Collections#shuffle(DRes)}. The
+ * position map is itself stored in a smaller ORAM holding several positions per row, until it is
+ * small enough to be scanned linearly.
+ * </p>
+ * <p>
+ * With the default period of about &radic;n, an access costs O(&radic;n) equality tests on
+ * indices of log n bits plus a lookup in the position map, and the reshuffle costs
+ * O(n log n) multiplications per party amortised over &radic;n accesses.
+ * </p>
+ * <p>
+ * The ORAM is stateful: accesses must be sequenced, i.e., an access must not be built in parallel
+ * with another access to the same ORAM. Whether an access is a read or a write is public, and
+ * indices must be in the range [0, size), which is not checked.
+ * </p>
+ */
+public class SquareRootOram {
+
+  private final int size;
+  private final int width;
+  private final int period;
+  private final int physicalSize;
+  private final int indexBitLength;
+  // the physical array; the first column of each row is the index of the row
+  private List<List<DRes<SInt>>> physical;
+  private PositionMap positionMap;
+  private final List<DRes<SInt>> stashIndices;
+  private final List<List<DRes<SInt>>> stashRows;
+  private final List<Integer> openedPositions;
+  private int accessCount;
+  // the rows before the first shuffle
+  private final List<List<DRes<SInt>>> initialRows;
+
+  /**
+   * Constructs a new ORAM holding the rows of a matrix, using a period of about the square root of
+   * the number of rows.
+   *
+   * @param values the initial rows
+   */
+  public SquareRootOram(Matrix<DRes<SInt>> values) {
+    this(values, defaultPeriod(values.getHeight()));
+  }
+
+  /**
+   * Constructs a new ORAM holding the rows of a matrix.
+   * <p>
+   * No protocols are run until the first access, which shuffles the rows.
+   * </p>
+   *
+   * @param values the initial rows
+   * @param period the number of accesses between reshuffles
+   */
+  public SquareRootOram(Matrix<DRes<SInt>> values, int period) {
+    if (values.getHeight() < 1) {
+      throw new IllegalArgumentException("The ORAM must hold at least one row");
+    }
+    if (period < 1) {
+      throw new IllegalArgumentException("The period must be positive");
+    }
+    this.size = values.getHeight();
+    this.width = values.getWidth();
+    this.period = period;
+    this.physicalSize = nextPowerOfTwo(size + period);
+    this.indexBitLength = Integer.numberOfTrailingZeros(physicalSize);
+    this.physical = null;
+    this.stashIndices = new ArrayList<>(period);
+    this.stashRows = new ArrayList<>(period);
+    this.openedPositions = new ArrayList<>(period);
+    this.initialRows = new ArrayList<>(values.getRows());
+    // an empty epoch, such that the first access shuffles the rows
+    this.accessCount = period;
+  }
+
+  /**
+   * Returns the number of rows in the ORAM.
+   *
+   * @return the number of rows
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the number of values in each row.
+   *
+   * @return the width of the rows
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Returns the number of accesses between reshuffles.
+   *
+   * @return the period
+   */
+  public int getPeriod() {
+    return period;
+  }
+
+  /**
+   * Reads the row at a secret index.
+   *
+   * @param index the index of the row, which must be in the range [0, size)
+   * @return a computation returning the row
+   */
+  public Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> read(DRes<SInt> index) {
+    return builder -> access(builder, index, null);
+  }
+
+  /**
+   * Writes a row at a secret index.
+   *
+   * @param index the index of the row, which must be in the range [0, size)
+   * @param row the new values of the row
+   * @return a computation writing the row
+   */
+  public Computation<Void, ProtocolBuilderNumeric> write(DRes<SInt> index,
+      List<DRes<SInt>> row) {
+    if (row.size() != width) {
+      throw new IllegalArgumentException(
+          "The row must have " + width + " values but had " + row.size());
+    }
+    return builder -> builder.seq(seq -> access(seq, index, row)).seq((seq, ignored) -> null);
+  }
+
+  private DRes<List<DRes<SInt>>> access(ProtocolBuilderNumeric builder, DRes<SInt> index,
+      List<DRes<SInt>> newRow) {
+    return builder.seq(seq -> {
+      if (accessCount == period) {
+        return reshuffle(seq);
+      }
+      return null;
+    }).seq((seq, ignored) -> seq.par(par -> {
+      List<DRes<SInt>> matches = new ArrayList<>(stashIndices.size());
+      for (DRes<SInt> stashIndex : stashIndices) {
+        matches.add(Comparison.using(par).equals(stashIndex, index, indexBitLength));
+      }
+      return () -> matches;
+    })).seq((seq, matches) -> {
+      Numeric numeric = seq.numeric();
+      DRes<SInt> found;
+      DRes<SInt> target;
+      if (matches.isEmpty()) {
+        found = numeric.known(0);
+        target = index;
+      } else {
+        found = AdvancedNumeric.using(seq).sum(matches);
+        // if the row is already in the stash, fetch a fresh dummy row instead
+        DRes<SInt> dummy = numeric.known(size + accessCount);
+        target = numeric.add(index, numeric.mult(found, numeric.sub(dummy, index)));
+      }
+      DRes<BigInteger> position = seq.seq(positionMap.lookUp(target))
+          .seq((inner, secretPosition) -> inner.numeric().open(secretPosition));
+      return seq.seq(inner -> {
+        int openedPosition = position.out().intValueExact();
+        List<DRes<SInt>> fetched = physical.get(openedPosition).subList(1, width + 1);
+        if (newRow == null) {
+          return read(inner, matches, found, target, openedPosition, fetched);
+        } else {
+          return write(inner, matches, found, target, openedPosition, fetched, newRow);
+        }
+      });
+    });
+  }
+
+  private DRes<List<DRes<SInt>>> read(ProtocolBuilderNumeric builder, List<DRes<SInt>> matches,
+      DRes<SInt> found, DRes<SInt> target, int position, List<DRes<SInt>> fetched) {
+    List<List<DRes<SInt>>> stash = new ArrayList<>(stashRows);
+    addToStash(target, fetched, position);
+    if (stash.isEmpty()) {
+      return () -> new ArrayList<>(fetched);
+    }
+    return builder.par(par -> {
+      List<DRes<SInt>> result = new ArrayList<>(width);
+      for (int i = 0; i < width; i++) {
+        List<DRes<SInt>> column = new ArrayList<>(stash.size());
+        for (List<DRes<SInt>> row : stash) {
+          column.add(row.get(i));
+        }
+        DRes<SInt> value = fetched.get(i);
+        result.add(par.seq(seq -> {
+          Numeric numeric = seq.numeric();
+          // at most one match, so the inner product is the stashed value or zero
+          DRes<SInt> stashed = AdvancedNumeric.using(seq).innerProduct(matches, column);
+          return numeric.add(value,
+              numeric.mult(found, numeric.sub(stashed, value)));
+        }));
+      }
+      return () -> result;
+    });
+  }
+
+  private DRes<List<DRes<SInt>>> write(ProtocolBuilderNumeric builder, List<DRes<SInt>> matches,
+      DRes<SInt> found, DRes<SInt> target, int position, List<DRes<SInt>> fetched,
+      List<DRes<SInt>> newRow) {
+    return builder.par(par -> {
+      for (int j = 0; j < matches.size(); j++) {
+        DRes<SInt> match = matches.get(j);
+        List<DRes<SInt>> oldRow = stashRows.get(j);
+        List<DRes<SInt>> updated = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+          DRes<SInt> old = oldRow.get(i);
+          DRes<SInt> value = newRow.get(i);
+          updated.add(par.seq(seq -> seq.numeric().add(old,
+              seq.numeric().mult(match, seq.numeric().sub(value, old)))));
+        }
+        stashRows.set(j, updated);
+      }
+      // the fetched row is a dummy if the row was found in the stash
+      List<DRes<SInt>> appended;
+      if (matches.isEmpty()) {
+        appended = new ArrayList<>(newRow);
+      } else {
+        appended = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+          DRes<SInt> value = newRow.get(i);
+          DRes<SInt> dummyValue = fetched.get(i);
+          appended.add(par.seq(seq -> seq.numeric().add(value,
+              seq.numeric().mult(found, seq.numeric().sub(dummyValue, value)))));
+        }
+      }
+      addToStash(target, appended, position);
+      return () -> null;
+    });
+  }
+
+  private void addToStash(DRes<SInt> index, List<DRes<SInt>> row, int position) {
+    stashIndices.add(index);
+    stashRows.add(row);
+    openedPositions.add(position);
+    accessCount++;
+  }
+
+  private DRes<Void> reshuffle(ProtocolBuilderNumeric builder) {
+    return builder.seq(seq -> {
+      Numeric numeric = seq.numeric();
+      List<List<DRes<SInt>>> rows;
+      if (physical == null) {
+        // dummy rows are given the indices following the real rows
+        rows = new ArrayList<>(physicalSize);
+        for (int i = 0; i < physicalSize; i++) {
+          List<DRes<SInt>> row = new ArrayList<>(width + 1);
+          row.add(numeric.known(i));
+          if (i < size) {
+            row.addAll(initialRows.get(i));
+          } else {
+            for (int j = 0; j < width; j++) {
+              row.add(numeric.known(0));
+            }
+          }
+          rows.add(row);
+        }
+      } else {
+        // write the stash back to where it was fetched from
+        rows = new ArrayList<>(physical);
+        for (int i = 0; i < openedPositions.size(); i++) {
+          List<DRes<SInt>> row = new ArrayList<>(width + 1);
+          row.add(stashIndices.get(i));
+          row.addAll(stashRows.get(i));
+          rows.set(openedPositions.get(i), row);
+        }
+      }
+      stashIndices.clear();
+      stashRows.clear();
+      openedPositions.clear();
+      Matrix<DRes<SInt>> matrix = new Matrix<>(physicalSize, width + 1,
+          i -> new ArrayList<>(rows.get(i)));
+      return Collections.using(seq).shuffle(() -> matrix);
+    }).seq((seq, shuffled) -> {
+      physical = new ArrayList<>(shuffled.getRows());
+      // shuffle the indices along with their positions once more, such that the indices can be
+      // opened to build the position map without revealing the positions
+      Numeric numeric = seq.numeric();
+      Matrix<DRes<SInt>> indexedPositions = new Matrix<>(physicalSize, 2,
+          (row, column) -> column == 0 ? physical.get(row).get(0) : numeric.known(row));
+      return Collections.using(seq).shuffle(() -> indexedPositions);
+    }).seq((seq, shuffled) -> {
+      Collections collections = Collections.using(seq);
+      DRes<List<DRes<BigInteger>>> indices = collections.openList(() -> shuffled.getColumn(0));
+      return () -> {
+        List<DRes<SInt>> positions = new ArrayList<>(physicalSize);
+        for (int i = 0; i < physicalSize; i++) {
+          positions.add(null);
+        }
+        List<DRes<BigInteger>> opened = indices.out();
+        for (int i = 0; i < physicalSize; i++) {
+          positions.set(opened.get(i).out().intValueExact(), shuffled.getRow(i).get(1));
+        }
+        return positions;
+      };
+    }).seq((seq, positions) -> {
+      positionMap = PositionMap.create(positions);
+      accessCount = 0;
+      return null;
+    });
+  }
+
+  private static int defaultPeriod(int size) {
+    return Math.max(1, (int) Math.ceil(Math.sqrt(size)));
+  }
+
+  private static int nextPowerOfTwo(int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+}
@@ -0,0 +1,52 @@
+package dk.alexandra.fresco.lib.common.collections.oram;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Expands the bits of a secret number <i>x</i> of <i>k</i> bits to a vector of length
+ * <i>2<sup>k</sup></i> which is one at index <i>x</i> and zero elsewhere.
+ * <p>
+ * The vector is built a bit at a time, starting from the most significant bit, splitting each
+ * entry <i>e</i> into <i>e(1 - b)</i> and <i>eb</i>. This takes <i>k</i> rounds and less than
+ * <i>2<sup>k</sup></i> multiplications in total.
+ * </p>
+ */
+class UnitVector implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<DRes<SInt>> bits;
+
+  /**
+   * Constructs a new unit vector computation.
+   *
+   * @param bits the bits of the number with the least significant bit first
+   */
+  UnitVector(List<DRes<SInt>> bits) {
+    this.bits = bits;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    List<DRes<SInt>> initial = Collections.singletonList(builder.numeric().known(1));
+    DRes<List<DRes<SInt>>> vector = () -> initial;
+    for (int i = bits.size() - 1; i >= 0; i--) {
+      DRes<SInt> bit = bits.get(i);
+      DRes<List<DRes<SInt>>> previous = vector;
+      vector = builder.par(par -> {
+        List<DRes<SInt>> next = new ArrayList<>(previous.out().size() * 2);
+        for (DRes<SInt> entry : previous.out()) {
+          DRes<SInt> high = par.numeric().mult(entry, bit);
+          next.add(par.seq(seq -> seq.numeric().sub(entry, high)));
+          next.add(high);
+        }
+        return () -> next;
+      });
+    }
+    return vector;
+  }
+}
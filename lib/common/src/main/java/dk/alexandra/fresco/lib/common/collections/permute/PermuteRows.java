@@ -2,11 +2,13 @@ package dk.alexandra.fresco.lib.common.collections.permute;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.value.SInt;
-import dk.alexandra.fresco.lib.common.collections.Collections;
 import dk.alexandra.fresco.lib.common.collections.Matrix;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.List;
 
 public class PermuteRows implements Computation<Matrix<DRes<SInt>>, ProtocolBuilderNumeric> {
 
@@ -104,42 +106,76 @@ public class PermuteRows implements Computation<Matrix<DRes<SInt>>, ProtocolBuil
     }
 
     // non-empty input, i.e., main protocol
-    return builder.seq(seq -> {
-      Collections collections = Collections.using(seq);
-      if (isPermProvider) {
-        return collections.closeMatrix(wutils.setControlBits(idxPerm), permProviderPid);
-      } else {
-        return collections.closeMatrix(numSwapperRows, numSwapperCols, permProviderPid);
-      }
+    return builder.par(par -> {
+      // input all control bits at once
+      Numeric numeric = par.numeric();
+      Matrix<BigInteger> bits = isPermProvider ? wutils.setControlBits(idxPerm) : null;
+      Matrix<DRes<SInt>> closed = new Matrix<>(numSwapperRows, numSwapperCols,
+          (row, col) -> numeric.input(bits == null ? null : bits.getRow(row).get(col),
+              permProviderPid));
+      return () -> closed;
     }).seq((seq, bits) -> {
       // set control bits
       cbits = bits;
       // initiate loop
-      return new IterationState(0, values);
-    }).whileLoop((state) -> state.round < numRounds - 1, (seq, state) -> {
-      Collections collections = Collections.using(seq);
-
-      // apply swapper gates for this round
-      DRes<Matrix<DRes<SInt>>> swapped =
-          collections.swapNeighborsIf(() -> cbits.getColumn(state.round), state.intermediate);
-      // re-arrange values for next round (based solely on waksman network topology)
-      // this is NOT input-dependent!
-      return new IterationState(state.round + 1, () -> reroute(swapped.out(), numRows, numCols,
-          numSwapperRows, numSwapperCols, state.round));
-    }).seq((seq, state) -> {
-      Collections collections = Collections.using(seq);
-      // Apply last column of swapper gates
-      return collections.swapNeighborsIf(() -> cbits.getColumn(state.round),
-          state.intermediate);
-    });
+      return new IterationState(0, valuesOut);
+    }).whileLoop((state) -> state.round < numRounds, (seq, state) -> {
+      Matrix<DRes<SInt>> rows = state.intermediate;
+      List<DRes<SInt>> conditions = cbits.getColumn(state.round);
+      // apply a full layer of swapper gates with a single multiplication per pair of cells, i.e.,
+      // top + c(bottom - top) and bottom - c(bottom - top)
+      return seq.par(par -> {
+        Numeric numeric = par.numeric();
+        List<DRes<SInt>> differences = new ArrayList<>(numRows / 2 * numCols);
+        for (int i = 0; i < numRows; i += 2) {
+          List<DRes<SInt>> top = rows.getRow(i);
+          List<DRes<SInt>> bottom = rows.getRow(i + 1);
+          for (int j = 0; j < numCols; j++) {
+            differences.add(numeric.sub(bottom.get(j), top.get(j)));
+          }
+        }
+        return () -> differences;
+      }).par((par, differences) -> {
+        Numeric numeric = par.numeric();
+        List<DRes<SInt>> products = new ArrayList<>(differences.size());
+        for (int i = 0; i < differences.size(); i++) {
+          products.add(numeric.mult(conditions.get(i / numCols), differences.get(i)));
+        }
+        return () -> products;
+      }).par((par, products) -> {
+        Numeric numeric = par.numeric();
+        ArrayList<ArrayList<DRes<SInt>>> swapped = new ArrayList<>(numRows);
+        for (int i = 0; i < numRows; i += 2) {
+          List<DRes<SInt>> top = rows.getRow(i);
+          List<DRes<SInt>> bottom = rows.getRow(i + 1);
+          ArrayList<DRes<SInt>> newTop = new ArrayList<>(numCols);
+          ArrayList<DRes<SInt>> newBottom = new ArrayList<>(numCols);
+          for (int j = 0; j < numCols; j++) {
+            DRes<SInt> product = products.get(i / 2 * numCols + j);
+            newTop.add(numeric.add(top.get(j), product));
+            newBottom.add(numeric.sub(bottom.get(j), product));
+          }
+          swapped.add(newTop);
+          swapped.add(newBottom);
+        }
+        Matrix<DRes<SInt>> result = new Matrix<>(numRows, numCols, swapped);
+        // re-arrange values for next round (based solely on waksman network topology)
+        // this is NOT input-dependent!
+        if (state.round < numRounds - 1) {
+          result = reroute(result, numRows, numCols, numSwapperRows, numSwapperCols,
+              state.round);
+        }
+        return new IterationState(state.round + 1, result);
+      });
+    }).seq((seq, state) -> () -> state.intermediate);
   }
 
   private static final class IterationState implements DRes<IterationState> {
 
     private final int round;
-    private final DRes<Matrix<DRes<SInt>>> intermediate;
+    private final Matrix<DRes<SInt>> intermediate;
 
-    private IterationState(int round, DRes<Matrix<DRes<SInt>>> intermediate) {
+    private IterationState(int round, Matrix<DRes<SInt>> intermediate) {
       this.round = round;
       this.intermediate = intermediate;
     }
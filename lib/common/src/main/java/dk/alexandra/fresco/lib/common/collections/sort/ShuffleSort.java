@@ -0,0 +1,206 @@
+package dk.alexandra.fresco.lib.common.collections.sort;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.collections.Collections;
+import dk.alexandra.fresco.lib.common.collections.Matrix;
+import dk.alexandra.fresco.lib.common.compare.Comparison;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts a list of key/value pairs in descending order by first shuffling it and then running a
+ * quicksort on opened comparisons.
+ * <p>
+ * Once the list has been obliviously shuffled using {@link Collections#shuffle(DRes)}, the result
+ * of comparing two of its elements reveals nothing about the input, as long as all keys are
+ * distinct. To ensure this, each key <i>k</i> at index <i>i</i> is extended to <i>k2<sup>l</sup> +
+ * i</i>, where <i>2<sup>l</sup></i> is the size of the list rounded up to a power of two, so ties
+ * are broken by the index. The keys must therefore have at most {@code maxBitLength - l} bits.
+ * Since the keys are secret this is not checked, and larger keys are sorted incorrectly. The
+ * quicksort compares all elements of all partitions to their pivots in parallel, so it takes an
+ * expected O(log n) rounds of comparisons and O(n log n) comparisons in total, compared to the
+ * O(n log<sup>2</sup> n) comparisons and swaps of {@link OddEvenMerge}. The shuffle requires the
+ * list to be padded to a power of two with dummy elements, which are identified by opening a flag
+ * after the shuffle.
+ * </p>
+ * <p>
+ * The resulting order of elements with equal keys is deterministic: the element which came last
+ * in the input comes first.
+ * </p>
+ */
+public class ShuffleSort implements
+    Computation<List<Pair<DRes<SInt>, List<DRes<SInt>>>>, ProtocolBuilderNumeric> {
+
+  // columns of the shuffled matrix
+  private static final int DUMMY = 0;
+  private static final int UNIQUE_KEY = 1;
+  private static final int KEY = 2;
+  private static final int PAYLOAD = 3;
+
+  private final List<Pair<DRes<SInt>, List<DRes<SInt>>>> input;
+
+  /**
+   * Constructs a new shuffle sort.
+   *
+   * @param input the key/value pairs to sort. All values must have the same length.
+   */
+  public ShuffleSort(List<Pair<DRes<SInt>, List<DRes<SInt>>>> input) {
+    // Verify that the payloads all have the same size, to avoid leaking info based on this
+    input.forEach(current -> {
+      if (current.getSecond().size() != input.get(0).getSecond().size()) {
+        throw new IllegalArgumentException(
+            "All payload lists must have equal length to avoid leaking info");
+      }
+    });
+    this.input = input;
+  }
+
+  @Override
+  public DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> buildComputation(
+      ProtocolBuilderNumeric builder) {
+    final int size = input.size();
+    if (size < 2) {
+      return () -> input;
+    }
+    final int payloadSize = input.get(0).getSecond().size();
+    final int height = Integer.highestOneBit(size - 1) << 1;
+    final int indexBits = Integer.numberOfTrailingZeros(height);
+    if (indexBits >= builder.getBasicNumericContext().getMaxBitLength()) {
+      throw new IllegalArgumentException("The list is too long to be sorted with keys of at most "
+          + builder.getBasicNumericContext().getMaxBitLength() + " bits");
+    }
+    final BigInteger shift = BigInteger.ONE.shiftLeft(indexBits);
+    return builder.seq(seq -> {
+      Numeric numeric = seq.numeric();
+      Matrix<DRes<SInt>> rows = new Matrix<>(height, PAYLOAD + payloadSize, i -> {
+        ArrayList<DRes<SInt>> row = new ArrayList<>(PAYLOAD + payloadSize);
+        if (i < size) {
+          DRes<SInt> key = input.get(i).getFirst();
+          row.add(numeric.known(0));
+          row.add(numeric.add(BigInteger.valueOf(i), numeric.mult(shift, key)));
+          row.add(key);
+          row.addAll(input.get(i).getSecond());
+        } else {
+          row.add(numeric.known(1));
+          for (int j = DUMMY + 1; j < PAYLOAD + payloadSize; j++) {
+            row.add(numeric.known(0));
+          }
+        }
+        return row;
+      });
+      return Collections.using(seq).shuffle(() -> rows);
+    }).seq((seq, shuffled) -> {
+      DRes<List<DRes<BigInteger>>> dummies =
+          Collections.using(seq).openList(() -> shuffled.getColumn(DUMMY));
+      return () -> {
+        List<Integer> real = new ArrayList<>(size);
+        for (int i = 0; i < height; i++) {
+          if (dummies.out().get(i).out().signum() == 0) {
+            real.add(i);
+          }
+        }
+        List<List<Integer>> blocks = new ArrayList<>(1);
+        blocks.add(real);
+        return new IterationState(shuffled, blocks);
+      };
+    }).whileLoop(state -> !state.isSorted(), (seq, state) -> seq.par(par -> {
+      // compare each element of each unsorted block to the first element of the block
+      List<List<DRes<BigInteger>>> comparisons = new ArrayList<>(state.blocks.size());
+      for (List<Integer> block : state.blocks) {
+        List<DRes<BigInteger>> blockComparisons = new ArrayList<>(block.size());
+        if (block.size() > 1) {
+          DRes<SInt> pivot = state.uniqueKey(block.get(0));
+          for (int i = 1; i < block.size(); i++) {
+            DRes<SInt> other = state.uniqueKey(block.get(i));
+            blockComparisons.add(par.seq(inner -> inner.numeric()
+                .open(Comparison.using(inner).compareLT(pivot, other))));
+          }
+        }
+        comparisons.add(blockComparisons);
+      }
+      return () -> comparisons;
+    }).seq((seq2, comparisons) -> state.partition(comparisons)))
+        .seq((seq, state) -> {
+          List<Pair<DRes<SInt>, List<DRes<SInt>>>> sorted = new ArrayList<>(size);
+          for (List<Integer> block : state.blocks) {
+            for (int index : block) {
+              List<DRes<SInt>> row = state.rows.getRow(index);
+              sorted.add(new Pair<>(row.get(KEY), new ArrayList<>(row.subList(PAYLOAD,
+                  row.size()))));
+            }
+          }
+          return () -> sorted;
+        });
+  }
+
+  private static final class IterationState implements DRes<IterationState> {
+
+    private final Matrix<DRes<SInt>> rows;
+    // consecutive blocks of row indices, such that every element of a block is larger than the
+    // elements of the following blocks
+    private final List<List<Integer>> blocks;
+
+    private IterationState(Matrix<DRes<SInt>> rows, List<List<Integer>> blocks) {
+      this.rows = rows;
+      this.blocks = blocks;
+    }
+
+    private DRes<SInt> uniqueKey(int index) {
+      return rows.getRow(index).get(UNIQUE_KEY);
+    }
+
+    private boolean isSorted() {
+      for (List<Integer> block : blocks) {
+        if (block.size() > 1) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Splits each unsorted block into the elements larger than the pivot, the pivot and the
+     * elements smaller than the pivot.
+     */
+    private IterationState partition(List<List<DRes<BigInteger>>> comparisons) {
+      List<List<Integer>> next = new ArrayList<>();
+      for (int i = 0; i < blocks.size(); i++) {
+        List<Integer> block = blocks.get(i);
+        if (block.size() > 1) {
+          List<Integer> larger = new ArrayList<>();
+          List<Integer> smaller = new ArrayList<>();
+          for (int j = 1; j < block.size(); j++) {
+            if (comparisons.get(i).get(j - 1).out().signum() != 0) {
+              larger.add(block.get(j));
+            } else {
+              smaller.add(block.get(j));
+            }
+          }
+          addIfNotEmpty(next, larger);
+          next.add(block.subList(0, 1));
+          addIfNotEmpty(next, smaller);
+        } else {
+          next.add(block);
+        }
+      }
+      return new IterationState(rows, next);
+    }
+
+    private static void addIfNotEmpty(List<List<Integer>> blocks, List<Integer> block) {
+      if (!block.isEmpty()) {
+        blocks.add(block);
+      }
+    }
+
+    @Override
+    public IterationState out() {
+      return this;
+    }
+  }
+}
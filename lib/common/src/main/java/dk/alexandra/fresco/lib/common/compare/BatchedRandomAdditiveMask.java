@@ -0,0 +1,45 @@
+package dk.alexandra.fresco.lib.common.compare;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a number of random additive masks at once, as {@link RandomAdditiveMask} but with all
+ * masks requested from the preprocessed values in a single call.
+ */
+public class BatchedRandomAdditiveMask implements
+    Computation<List<AdvancedNumeric.RandomAdditiveMask>, ProtocolBuilderNumeric> {
+
+  private final int noOfMasks;
+  private final int noOfBits;
+
+  /**
+   * Constructs a new {@link BatchedRandomAdditiveMask}.
+   *
+   * @param noOfMasks the number of masks to generate
+   * @param noOfBits the number of bits in each mask
+   */
+  public BatchedRandomAdditiveMask(int noOfMasks, int noOfBits) {
+    this.noOfMasks = noOfMasks;
+    this.noOfBits = noOfBits;
+  }
+
+  @Override
+  public DRes<List<AdvancedNumeric.RandomAdditiveMask>> buildComputation(
+      ProtocolBuilderNumeric builder) {
+    return builder.seq(seq -> seq.preprocessedValues().getSolvedBits(noOfMasks, noOfBits))
+        .seq((seq, solvedBits) -> {
+          List<AdvancedNumeric.RandomAdditiveMask> masks = new ArrayList<>(noOfMasks);
+          for (Pair<DRes<SInt>, List<DRes<SInt>>> mask : solvedBits) {
+            masks.add(new AdvancedNumeric.RandomAdditiveMask(mask.getSecond(), mask.getFirst()));
+          }
+          return () -> masks;
+        });
+  }
+}
@@ -59,6 +59,26 @@ public interface Comparison extends ComputationDirectory {
    */
   DRes<SInt> equals(DRes<SInt> x, DRes<SInt> y);
 
+  /**
+   * Computes x<sub>i</sub> == y<sub>i</sub> for all pairs of inputs. All equality tests are done
+   * together, such that the masked values are opened in a single round and the rounds of the
+   * zero tests are shared.
+   *
+   * @param xs the first inputs
+   * @param ys the second inputs, of the same size as {@code xs}
+   * @param bitlength the amount of bits to do the equality tests on. Must be less than or equal to
+   * the max bitlength allowed
+   * @return A deferred result computing the list of x'<sub>i</sub> == y'<sub>i</sub>, where
+   * x'<sub>i</sub> and y'<sub>i</sub> represent the {@code bitlength} least significant bits of
+   * x<sub>i</sub>, respectively y<sub>i</sub>. Each result will be either [1] (true) or [0] (false).
+   */
+  DRes<List<DRes<SInt>>> equals(List<DRes<SInt>> xs, List<DRes<SInt>> ys, int bitlength);
+
+  /**
+   * Call to {@link #equals(List, List, int)} checking equality of all bits.
+   */
+  DRes<List<DRes<SInt>>> equals(List<DRes<SInt>> xs, List<DRes<SInt>> ys);
+
   /**
    * Computes if x &le; y.
    *
@@ -86,6 +106,29 @@ public interface Comparison extends ComputationDirectory {
     return compareLT(x, y, Algorithm.LOG_ROUNDS);
   }
 
+  /**
+   * Computes if x<sub>i</sub> &lt; y<sub>i</sub> for all pairs of inputs. All comparisons are done
+   * together, such that the masked values are opened in a single round and the rounds of the
+   * carry circuits are shared.
+   *
+   * @param xs the first inputs
+   * @param ys the second inputs, of the same size as {@code xs}
+   * @return A deferred result computing the list of x<sub>i</sub> &lt; y<sub>i</sub>. Each result
+   * will be either [1] (true) or [0] (false).
+   */
+  DRes<List<DRes<SInt>>> compareLT(List<DRes<SInt>> xs, List<DRes<SInt>> ys);
+
+  /**
+   * Computes if x<sub>i</sub> &le; y<sub>i</sub> for all pairs of inputs, as x<sub>i</sub> - 1
+   * &lt; y<sub>i</sub> using {@link #compareLT(List, List)}.
+   *
+   * @param xs the first inputs
+   * @param ys the second inputs, of the same size as {@code xs}
+   * @return A deferred result computing the list of x<sub>i</sub> &le; y<sub>i</sub>. Each result
+   * will be either [1] (true) or [0] (false).
+   */
+  DRes<List<DRes<SInt>>> compareLEQ(List<DRes<SInt>> xs, List<DRes<SInt>> ys);
+
   /**
    * Computes if the bit decomposition of an open value is less than the bit decomposition of a
    * secret value.
@@ -128,6 +171,19 @@ public interface Comparison extends ComputationDirectory {
    */
   DRes<SInt> compareZero(DRes<SInt> x, int bitlength, Algorithm algorithm);
 
+  /**
+   * Test for equality with zero for a list of bitLength-bit numbers, opening all masked values in
+   * a single round.
+   *
+   * @param xs the values to test against zero
+   * @param bitlength the amount of bits to do the zero-tests on. Must be less than or equal to the
+   * modulus bitlength
+   * @return A deferred result computing the list of x'<sub>i</sub> == 0 where x'<sub>i</sub> is the
+   * {@code bitlength} least significant bits of x<sub>i</sub>. Each result will be either [1]
+   * (true) or [0] (false)
+   */
+  DRes<List<DRes<SInt>>> compareZero(List<DRes<SInt>> xs, int bitlength);
+
   /**
    * Computes the index of the minimum element in a list and the element itself. <p>The index is
    * expressed as a list of bits where all bits are 0 except for the bit at the index of the minimum
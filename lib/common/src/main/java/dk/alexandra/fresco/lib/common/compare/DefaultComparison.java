@@ -6,15 +6,18 @@ import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.compare.lt.BatchedLessThanZero;
 import dk.alexandra.fresco.lib.common.compare.lt.BitLessThanOpen;
 import dk.alexandra.fresco.lib.common.compare.lt.Carry;
 import dk.alexandra.fresco.lib.common.compare.lt.LessThanOrEquals;
 import dk.alexandra.fresco.lib.common.compare.lt.LessThanZero;
 import dk.alexandra.fresco.lib.common.compare.min.ArgMin;
+import dk.alexandra.fresco.lib.common.compare.zerotest.BatchedZeroTest;
 import dk.alexandra.fresco.lib.common.compare.zerotest.ZeroTestConstRounds;
 import dk.alexandra.fresco.lib.common.compare.zerotest.ZeroTestLogRounds;
 import dk.alexandra.fresco.lib.common.util.SIntPair;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -53,6 +56,17 @@ public class DefaultComparison implements Comparison {
     return equals(x, y, maxBitLength);
   }
 
+  @Override
+  public DRes<List<DRes<SInt>>> equals(List<DRes<SInt>> xs, List<DRes<SInt>> ys,
+      int bitlength) {
+    return compareZero(differences(xs, ys), bitlength);
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> equals(List<DRes<SInt>> xs, List<DRes<SInt>> ys) {
+    return equals(xs, ys, maxBitLength);
+  }
+
   @Override
   public DRes<SInt> compareLEQ(DRes<SInt> x, DRes<SInt> y) {
     return compareLT(builder.numeric().sub(x, 1), y);
@@ -74,6 +88,26 @@ public class DefaultComparison implements Comparison {
     }
   }
 
+  @Override
+  public DRes<List<DRes<SInt>>> compareLT(List<DRes<SInt>> xs, List<DRes<SInt>> ys) {
+    if (builder.getBasicNumericContext().getStatisticalSecurityParam() + maxBitLength > builder
+        .getBasicNumericContext().getModulus().bitLength()) {
+      throw new IllegalArgumentException(
+          "The max bitlength plus the statistical security parameter overflows the size of the modulus.");
+    }
+    return builder.seq(new BatchedLessThanZero(differences(xs, ys)));
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> compareLEQ(List<DRes<SInt>> xs, List<DRes<SInt>> ys) {
+    Numeric numeric = builder.numeric();
+    List<DRes<SInt>> decremented = new ArrayList<>(xs.size());
+    for (DRes<SInt> x : xs) {
+      decremented.add(numeric.sub(x, 1));
+    }
+    return compareLT(decremented, ys);
+  }
+
   @Override
   public DRes<SInt> compareLTBits(BigInteger openValue, DRes<List<DRes<SInt>>> secretBits) {
     return builder.seq(new BitLessThanOpen(openValue, secretBits));
@@ -107,9 +141,34 @@ public class DefaultComparison implements Comparison {
     }
   }
 
+  @Override
+  public DRes<List<DRes<SInt>>> compareZero(List<DRes<SInt>> xs, int bitlength) {
+    if (bitlength > builder.getBasicNumericContext().getMaxBitLength()) {
+      throw new IllegalArgumentException("The bitlength is more than allowed for elements.");
+    }
+    if (builder.getBasicNumericContext().getStatisticalSecurityParam()
+        + bitlength > builder.getBasicNumericContext().getModulus().bitLength()) {
+      throw new IllegalArgumentException(
+          "The max bitlength plus the statistical security parameter overflows the size of the modulus.");
+    }
+    return builder.seq(new BatchedZeroTest(xs, bitlength));
+  }
+
   @Override
   public DRes<Pair<List<DRes<SInt>>, SInt>> argMin(List<DRes<SInt>> xs) {
     return builder.seq(new ArgMin(xs));
   }
 
+  private List<DRes<SInt>> differences(List<DRes<SInt>> xs, List<DRes<SInt>> ys) {
+    if (xs.size() != ys.size()) {
+      throw new IllegalArgumentException("The lists to compare must have the same size");
+    }
+    Numeric numeric = builder.numeric();
+    List<DRes<SInt>> differences = new ArrayList<>(xs.size());
+    for (int i = 0; i < xs.size(); i++) {
+      differences.add(numeric.sub(xs.get(i), ys.get(i)));
+    }
+    return differences;
+  }
+
 }
@@ -2,22 +2,22 @@ package dk.alexandra.fresco.lib.common.compare;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.Computation;
-import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
-import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
-import java.math.BigInteger;
-import java.util.ArrayList;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
 import java.util.List;
 
+/**
+ * Generates a random additive mask using {@link PreprocessedValues#getSolvedBits(int, int)}, such
+ * that protocol suites with preprocessed masks can supply it directly.
+ */
 public class RandomAdditiveMask implements
     Computation<AdvancedNumeric.RandomAdditiveMask, ProtocolBuilderNumeric> {
 
   private final int noOfBits;
 
-  private List<DRes<SInt>> bits;
-  private DRes<SInt> value;
-
   public RandomAdditiveMask(int noOfBits) {
     this.noOfBits = noOfBits;
   }
@@ -25,19 +25,10 @@ public class RandomAdditiveMask implements
   @Override
   public DRes<AdvancedNumeric.RandomAdditiveMask> buildComputation(
       ProtocolBuilderNumeric builder) {
-    Numeric numericBuilder = builder.numeric();
-    bits = new ArrayList<>();
-    for (int i = 0; i < noOfBits; i++) {
-      DRes<SInt> randomBit = numericBuilder.randomBit();
-      bits.add(randomBit);
-    }
-
-    MiscBigIntegerGenerators oIntGenerators = new MiscBigIntegerGenerators(builder.getBasicNumericContext().getModulus());
-    AdvancedNumeric advancedNumeric = AdvancedNumeric.using(builder);
-    List<BigInteger> twoPows = oIntGenerators.getTwoPowersList(noOfBits);
-    value = advancedNumeric.innerProductWithPublicPart(twoPows, bits);
-    return () -> new AdvancedNumeric.RandomAdditiveMask(
-        bits,
-        value.out());
+    return builder.seq(seq -> seq.preprocessedValues().getSolvedBits(1, noOfBits))
+        .seq((seq, masks) -> {
+          Pair<DRes<SInt>, List<DRes<SInt>>> mask = masks.get(0);
+          return () -> new AdvancedNumeric.RandomAdditiveMask(mask.getSecond(), mask.getFirst());
+        });
   }
 }
@@ -0,0 +1,124 @@
+package dk.alexandra.fresco.lib.common.compare.lt;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Given a list of known values a<sub>i</sub> and secret values b<sub>i</sub> represented as bits,
+ * computes a<sub>i</sub> &lt;? b<sub>i</sub> for all i.
+ * <p>
+ * This computes the same as {@link BitLessThanOpen} for each pair, i.e., the carry out of a +
+ * not(b) + 1, but the carry circuits of all pairs are evaluated together, such that each level of
+ * the carry tree is a single parallel block of multiplications.
+ * </p>
+ */
+public class BatchedBitLessThanOpen implements
+    Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<BigInteger> openValues;
+  private final List<List<DRes<SInt>>> secretBits;
+
+  /**
+   * Constructs new {@link BatchedBitLessThanOpen}.
+   *
+   * @param openValues the known values
+   * @param secretBits the bits of the secret values, least significant bit first. All values must
+   *     have the same number of bits.
+   */
+  public BatchedBitLessThanOpen(List<BigInteger> openValues,
+      List<List<DRes<SInt>>> secretBits) {
+    if (openValues.size() != secretBits.size()) {
+      throw new IllegalArgumentException("Number of open and secret values must be the same");
+    }
+    this.openValues = openValues;
+    this.secretBits = secretBits;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    if (openValues.isEmpty()) {
+      return () -> new ArrayList<>();
+    }
+    return builder.par(par -> {
+      // propagate and generate bits of a + not(b), least significant first, with the carry-in
+      // folded into the generate bit of the least significant position
+      Numeric numeric = par.numeric();
+      List<List<CarryPair>> pairs = new ArrayList<>(openValues.size());
+      for (int i = 0; i < openValues.size(); i++) {
+        BigInteger open = openValues.get(i);
+        List<DRes<SInt>> bits = secretBits.get(i);
+        List<CarryPair> valuePairs = new ArrayList<>(bits.size());
+        for (int j = 0; j < bits.size(); j++) {
+          DRes<SInt> negated = numeric.sub(BigInteger.ONE, bits.get(j));
+          if (open.testBit(j)) {
+            // a = 1: propagate is not(not(b)) = b, generate is not(b)
+            valuePairs.add(new CarryPair(bits.get(j), j == 0 ? numeric.known(1) : negated));
+          } else {
+            // a = 0: propagate is not(b), generate is 0
+            valuePairs.add(new CarryPair(negated, j == 0 ? negated : numeric.known(0)));
+          }
+        }
+        pairs.add(valuePairs);
+      }
+      return () -> pairs;
+    }).whileLoop(pairs -> pairs.get(0).size() > 1, (seq, pairs) -> seq.par(par -> {
+      // combine neighbouring pairs: (p, g) = (p_high * p_low, g_high + p_high * g_low)
+      Numeric numeric = par.numeric();
+      List<List<DRes<SInt>>> products = new ArrayList<>(pairs.size());
+      for (List<CarryPair> valuePairs : pairs) {
+        List<DRes<SInt>> valueProducts = new ArrayList<>(valuePairs.size());
+        for (int j = 0; j + 1 < valuePairs.size(); j += 2) {
+          CarryPair low = valuePairs.get(j);
+          CarryPair high = valuePairs.get(j + 1);
+          valueProducts.add(numeric.mult(high.propagate, low.propagate));
+          valueProducts.add(numeric.mult(high.propagate, low.generate));
+        }
+        products.add(valueProducts);
+      }
+      return () -> products;
+    }).par((par, products) -> {
+      Numeric numeric = par.numeric();
+      List<List<CarryPair>> next = new ArrayList<>(pairs.size());
+      for (int i = 0; i < pairs.size(); i++) {
+        List<CarryPair> valuePairs = pairs.get(i);
+        List<DRes<SInt>> valueProducts = products.get(i);
+        List<CarryPair> combined = new ArrayList<>((valuePairs.size() + 1) / 2);
+        for (int j = 0; j + 1 < valuePairs.size(); j += 2) {
+          CarryPair high = valuePairs.get(j + 1);
+          combined.add(new CarryPair(valueProducts.get(j),
+              numeric.add(high.generate, valueProducts.get(j + 1))));
+        }
+        if (valuePairs.size() % 2 != 0) {
+          combined.add(valuePairs.get(valuePairs.size() - 1));
+        }
+        next.add(combined);
+      }
+      return () -> next;
+    })).par((par, pairs) -> {
+      // a < b if and only if a + not(b) + 1 does not carry out
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> result = new ArrayList<>(pairs.size());
+      for (List<CarryPair> valuePairs : pairs) {
+        result.add(numeric.sub(BigInteger.ONE, valuePairs.get(0).generate));
+      }
+      return () -> result;
+    });
+  }
+
+  private static final class CarryPair {
+
+    private final DRes<SInt> propagate;
+    private final DRes<SInt> generate;
+
+    private CarryPair(DRes<SInt> propagate, DRes<SInt> generate) {
+      this.propagate = propagate;
+      this.generate = generate;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package dk.alexandra.fresco.lib.common.compare.lt;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.compare.BatchedRandomAdditiveMask;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric.RandomAdditiveMask;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Given a list of secret values a<sub>i</sub>, computes a<sub>i</sub> &lt;? 0 for all i.
+ * <p>
+ * This is the protocol of {@link LessThanZero}, evaluated for all values together: the random
+ * masks are generated by a single {@link BatchedRandomAdditiveMask}, all masked values are opened
+ * in the same round and the bitwise comparisons are done by a single {@link
+ * BatchedBitLessThanOpen}.
+ * </p>
+ */
+public class BatchedLessThanZero implements
+    Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<DRes<SInt>> inputs;
+
+  /**
+   * Constructs new {@link BatchedLessThanZero}.
+   *
+   * @param inputs inputs to compare to 0
+   */
+  public BatchedLessThanZero(List<DRes<SInt>> inputs) {
+    this.inputs = inputs;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    final int maxBitlength = builder.getBasicNumericContext().getMaxBitLength();
+    final int statisticalSecurity = builder.getBasicNumericContext()
+        .getStatisticalSecurityParam();
+    final int m = maxBitlength - 1;
+    final BigInteger twoToM = BigInteger.ONE.shiftLeft(m);
+    if (inputs.isEmpty()) {
+      return () -> new ArrayList<>();
+    }
+    return builder.seq(new BatchedRandomAdditiveMask(inputs.size(),
+        maxBitlength + statisticalSecurity)).par((par, masks) -> {
+      // the lower m bits of each mask, and the opened masked values 2^m + input + r
+      AdvancedNumeric advancedNumeric = AdvancedNumeric.using(par);
+      List<RandomAdditiveMask> lowMasks = new ArrayList<>(inputs.size());
+      List<DRes<BigInteger>> opened = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        RandomAdditiveMask mask = masks.get(i);
+        List<DRes<SInt>> lowBits = mask.bits.subList(0, m);
+        lowMasks.add(new RandomAdditiveMask(lowBits, advancedNumeric.bitsToInteger(lowBits)));
+        DRes<SInt> input = inputs.get(i);
+        opened.add(par.seq(seq -> {
+          Numeric numeric = seq.numeric();
+          return numeric.open(numeric.add(twoToM, numeric.add(input, mask.value)));
+        }));
+      }
+      return () -> new Pair<>(lowMasks, opened);
+    }).seq((seq, maskedInputs) -> {
+      List<RandomAdditiveMask> lowMasks = maskedInputs.getFirst();
+      List<BigInteger> lowOpened = new ArrayList<>(inputs.size());
+      List<List<DRes<SInt>>> lowBits = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        lowOpened.add(maskedInputs.getSecond().get(i).out().mod(twoToM));
+        lowBits.add(lowMasks.get(i).bits);
+      }
+      DRes<List<DRes<SInt>>> underflows = seq.seq(
+          new BatchedBitLessThanOpen(lowOpened, lowBits));
+      return seq.par(par -> {
+        // input mod 2^m = c' - r' + 2^m * u, and the sign is -(input - input mod 2^m) / 2^m
+        BigInteger twoToMinusM = twoToM.modInverse(par.getBasicNumericContext().getModulus());
+        List<DRes<SInt>> result = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+          DRes<SInt> input = inputs.get(i);
+          DRes<SInt> lowMask = lowMasks.get(i).value;
+          BigInteger open = lowOpened.get(i);
+          DRes<SInt> underflow = underflows.out().get(i);
+          result.add(par.seq(inner -> {
+            Numeric numeric = inner.numeric();
+            DRes<SInt> inputMod2m = numeric.add(numeric.mult(twoToM, underflow),
+                numeric.sub(open, lowMask));
+            DRes<SInt> difference = numeric.sub(input, inputMod2m);
+            return numeric.sub(BigInteger.ZERO, numeric.mult(twoToMinusM, difference));
+          }));
+        }
+        return () -> result;
+      });
+    });
+  }
+}
@@ -0,0 +1,115 @@
+package dk.alexandra.fresco.lib.common.compare.zerotest;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.compare.BatchedRandomAdditiveMask;
+import dk.alexandra.fresco.lib.common.math.AdvancedNumeric.RandomAdditiveMask;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Given a list of secret values a<sub>i</sub>, computes a<sub>i</sub> =? 0 for the lowest
+ * <i>bitlength</i> bits of all a<sub>i</sub>.
+ * <p>
+ * This is the protocol of {@link ZeroTestLogRounds}, evaluated for all values together: the random
+ * masks are generated by a single {@link BatchedRandomAdditiveMask}, all masked values are opened
+ * in the same round and each level of the OR trees over the differing bits is computed for all
+ * values in a single round of multiplications.
+ * </p>
+ */
+public class BatchedZeroTest implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<DRes<SInt>> inputs;
+  private final int bitlength;
+
+  /**
+   * Constructs new {@link BatchedZeroTest}.
+   *
+   * @param inputs inputs to compare to 0
+   * @param bitlength the number of bits of the inputs to consider
+   */
+  public BatchedZeroTest(List<DRes<SInt>> inputs, int bitlength) {
+    this.inputs = inputs;
+    this.bitlength = bitlength;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    final int statisticalSecurity = builder.getBasicNumericContext().getStatisticalSecurityParam();
+    final BigInteger twoToBitlength = BigInteger.ONE.shiftLeft(bitlength);
+    if (inputs.isEmpty()) {
+      return () -> new ArrayList<>();
+    }
+    return builder.seq(new BatchedRandomAdditiveMask(inputs.size(),
+        bitlength + statisticalSecurity)).par((par, masks) -> {
+      // open c = 2^bitlength + input + r for all inputs
+      List<DRes<BigInteger>> opened = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        DRes<SInt> input = inputs.get(i);
+        DRes<SInt> mask = masks.get(i).value;
+        opened.add(par.seq(seq -> {
+          Numeric numeric = seq.numeric();
+          return numeric.open(numeric.add(twoToBitlength, numeric.add(input, mask)));
+        }));
+      }
+      return () -> new Pair<>(masks, opened);
+    }).par((par, maskedInputs) -> {
+      // the bits where c and r differ, which are all zero iff the input is zero
+      Numeric numeric = par.numeric();
+      List<List<DRes<SInt>>> differences = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        RandomAdditiveMask mask = maskedInputs.getFirst().get(i);
+        BigInteger open = maskedInputs.getSecond().get(i).out();
+        List<DRes<SInt>> inputDifferences = new ArrayList<>(bitlength);
+        for (int j = 0; j < bitlength; j++) {
+          DRes<SInt> bit = mask.bits.get(j);
+          inputDifferences.add(open.testBit(j) ? numeric.sub(BigInteger.ONE, bit) : bit);
+        }
+        differences.add(inputDifferences);
+      }
+      return () -> differences;
+    }).whileLoop(differences -> differences.get(0).size() > 1, (seq, differences) -> seq.par(par -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> products = new ArrayList<>();
+      for (List<DRes<SInt>> inputDifferences : differences) {
+        for (int j = 0; j + 1 < inputDifferences.size(); j += 2) {
+          products.add(numeric.mult(inputDifferences.get(j), inputDifferences.get(j + 1)));
+        }
+      }
+      return () -> products;
+    }).par((par, products) -> {
+      // a OR b = a + b - ab
+      List<List<DRes<SInt>>> next = new ArrayList<>(differences.size());
+      int product = 0;
+      for (List<DRes<SInt>> inputDifferences : differences) {
+        List<DRes<SInt>> inputNext = new ArrayList<>((inputDifferences.size() + 1) / 2);
+        for (int j = 0; j + 1 < inputDifferences.size(); j += 2) {
+          DRes<SInt> left = inputDifferences.get(j);
+          DRes<SInt> right = inputDifferences.get(j + 1);
+          DRes<SInt> both = products.get(product++);
+          inputNext.add(par.seq(inner -> {
+            Numeric numeric = inner.numeric();
+            return numeric.sub(numeric.add(left, right), both);
+          }));
+        }
+        if (inputDifferences.size() % 2 == 1) {
+          inputNext.add(inputDifferences.get(inputDifferences.size() - 1));
+        }
+        next.add(inputNext);
+      }
+      return () -> next;
+    })).par((par, ors) -> {
+      Numeric numeric = par.numeric();
+      List<DRes<SInt>> result = new ArrayList<>(inputs.size());
+      for (List<DRes<SInt>> or : ors) {
+        result.add(numeric.sub(BigInteger.ONE, or.get(0)));
+      }
+      return () -> result;
+    });
+  }
+}
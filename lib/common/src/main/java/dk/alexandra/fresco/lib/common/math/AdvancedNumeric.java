@@ -195,13 +195,31 @@ public interface AdvancedNumeric extends ComputationDirectory {
    * Compute the truncation of a secret input. The result will in most cases be equal to <code>input
    * &gt;&gt; shifts</code> , but may be one larger. {@link #rightShift(DRes)} gives the exact result, but
    * is slower to compute.
+   * <p>
+   * The input must have at most <i>min(maxBitLength, m - s)</i> bits, where <i>m</i> is one less
+   * than the bit length of the modulus and <i>s</i> is the statistical security parameter. For
+   * SPDZ2k, which opens values modulo 2<sup>k</sup>, this means at most <i>k - s</i> bits. Larger
+   * inputs give a wrong result with non-negligible probability.
+   * </p>
    *
    * @param input  A secret input
    * @param shifts The number of shifts
    * @return input &gt;&gt; shifts OR (input &gt;&gt; shifts) + 1.
+   * @throws IllegalArgumentException if <i>m - s</i> is less than one
    */
   DRes<SInt> truncate(DRes<SInt> input, int shifts);
 
+  /**
+   * Compute the truncation of a list of secret inputs as in {@link #truncate(DRes, int)}. All
+   * inputs are truncated in a single round of openings. The inputs are subject to the same bound
+   * on their bit length.
+   *
+   * @param inputs The secret inputs
+   * @param shifts The number of shifts
+   * @return A list where each element is input &gt;&gt; shifts OR (input &gt;&gt; shifts) + 1.
+   */
+  DRes<List<DRes<SInt>>> truncate(List<DRes<SInt>> inputs, int shifts);
+
   /**
    * Computes the bit length of the input.
    *
@@ -12,6 +12,7 @@ import dk.alexandra.fresco.lib.common.math.integer.conditional.SwapIf;
 import dk.alexandra.fresco.lib.common.math.integer.binary.IntegerToBitsLogRounds;
 import dk.alexandra.fresco.lib.common.math.integer.ProductSIntList;
 import dk.alexandra.fresco.lib.common.math.integer.SumSIntList;
+import dk.alexandra.fresco.lib.common.math.integer.binary.BatchedTruncate;
 import dk.alexandra.fresco.lib.common.math.integer.binary.BitLength;
 import dk.alexandra.fresco.lib.common.math.integer.binary.NormalizeSInt;
 import dk.alexandra.fresco.lib.common.math.integer.binary.RightShift;
@@ -137,7 +138,13 @@ public class DefaultAdvancedNumeric implements AdvancedNumeric {
   @Override
   public DRes<SInt> truncate(DRes<SInt> input, int shifts) {
     return builder.seq(new Truncate(input, shifts,
-        builder.getBasicNumericContext().getMaxBitLength()));
+        Truncate.maxInputBitLength(builder.getBasicNumericContext())));
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> truncate(List<DRes<SInt>> inputs, int shifts) {
+    return builder.seq(new BatchedTruncate(inputs, shifts,
+        Truncate.maxInputBitLength(builder.getBasicNumericContext())));
   }
 
   @Override
@@ -0,0 +1,69 @@
+package dk.alexandra.fresco.lib.common.math.integer.binary;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Truncates a list of values as in {@link Truncate}, so each result is either the input shifted a
+ * number of positions to the right or one larger.
+ * <p>
+ * All truncation pairs are requested from the preprocessed values at once, and all masked inputs
+ * are opened in the same round, so the whole list is truncated in a single round of openings.
+ * The inputs are subject to the same bound on their bit length as in {@link Truncate}.
+ * </p>
+ */
+public class BatchedTruncate implements Computation<List<DRes<SInt>>, ProtocolBuilderNumeric> {
+
+  private final List<DRes<SInt>> inputs;
+  private final int shifts;
+  private final int maxBitLength;
+
+  public BatchedTruncate(List<DRes<SInt>> inputs, int shifts, int maxBitLength) {
+    this.inputs = inputs;
+    this.shifts = shifts;
+    this.maxBitLength = maxBitLength;
+  }
+
+  @Override
+  public DRes<List<DRes<SInt>>> buildComputation(ProtocolBuilderNumeric builder) {
+    int maskBitLength = Truncate.maskBitLength(builder.getBasicNumericContext(), maxBitLength);
+    if (inputs.isEmpty()) {
+      return () -> new ArrayList<>();
+    }
+    if (shifts >= maxBitLength) {
+      return builder.par(par -> {
+        List<DRes<SInt>> zeros = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+          zeros.add(par.numeric().known(0));
+        }
+        return () -> zeros;
+      });
+    }
+    return builder.seq(seq -> seq.preprocessedValues().getTruncationPairs(inputs.size(),
+        maskBitLength, shifts)
+    ).par((par, pairs) -> {
+      List<Pair<DRes<BigInteger>, DRes<SInt>>> masked = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        DRes<SInt> input = inputs.get(i);
+        Pair<DRes<SInt>, DRes<SInt>> pair = pairs.get(i);
+        DRes<BigInteger> open = par.seq(seq ->
+            seq.numeric().open(seq.numeric().add(input, pair.getFirst())));
+        masked.add(new Pair<>(open, pair.getSecond()));
+      }
+      return () -> masked;
+    }).par((par, masked) -> {
+      List<DRes<SInt>> result = new ArrayList<>(masked.size());
+      for (Pair<DRes<BigInteger>, DRes<SInt>> maskedInput : masked) {
+        BigInteger mShifted = maskedInput.getFirst().out().shiftRight(shifts);
+        result.add(par.numeric().sub(mShifted, maskedInput.getSecond()));
+      }
+      return () -> result;
+    });
+  }
+}
@@ -5,8 +5,7 @@ import dk.alexandra.fresco.framework.builder.Computation;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
-import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
-import dk.alexandra.fresco.lib.common.math.AdvancedNumeric.RandomAdditiveMask;
+import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
 import java.math.BigInteger;
 
 /**
@@ -18,6 +17,18 @@ import java.math.BigInteger;
  * The protocol is similar to protocol 3.1 in Catrina O., Saxena A. (2010) Secure Computation with
  * Fixed-Point Numbers. In: Sion R. (eds) Financial Cryptography and Data Security. FC 2010. Lecture
  * Notes in Computer Science, vol 6052. Springer, Berlin, Heidelberg.
+ * <p>
+ * The mask r and r &gt;&gt; shifts are taken from a truncation pair, see {@link
+ * dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues#getTruncationPairs(int, int,
+ * int)}, so if the protocol suite supplies these from
+ * preprocessing, the truncation costs a single opening. Use {@link BatchedTruncate} to truncate
+ * many values at once.
+ * <p>
+ * The mask r has <i>maxBitLength + s</i> bits, where <i>s</i> is the statistical security
+ * parameter. The masked input is only guaranteed not to wrap around the modulus if r has fewer bits
+ * than the modulus, so the input must have at most <i>m - s</i> bits, where <i>m</i> is one less
+ * than the bit length of the modulus. For SPDZ2k, which opens values modulo 2<sup>k</sup>, this
+ * is <i>k - s</i> bits. See {@link #maxInputBitLength(BasicNumericContext)}.
  */
 public class Truncate implements Computation<SInt, ProtocolBuilderNumeric> {
 
@@ -32,8 +43,36 @@ public class Truncate implements Computation<SInt, ProtocolBuilderNumeric> {
     this.shifts = shifts;
   }
 
+  /**
+   * Returns the largest bit length of the inputs which can be truncated using the given context,
+   * which is the smaller of the max bit length and <i>m - s</i>, where <i>m</i> is one less than
+   * the bit length of the modulus and <i>s</i> is the statistical security parameter.
+   *
+   * @param context the context of the protocol suite
+   * @return the largest bit length of the inputs
+   */
+  public static int maxInputBitLength(BasicNumericContext context) {
+    return Math.min(context.getMaxBitLength(),
+        context.getModulus().bitLength() - 1 - context.getStatisticalSecurityParam());
+  }
+
+  /**
+   * Returns the bit length of the masks used to truncate inputs of the given bit length.
+   *
+   * @throws IllegalArgumentException if the masks would not be smaller than the modulus
+   */
+  static int maskBitLength(BasicNumericContext context, int maxBitLength) {
+    int maskBitLength = maxBitLength + context.getStatisticalSecurityParam();
+    if (maxBitLength < 1 || maskBitLength >= context.getModulus().bitLength()) {
+      throw new IllegalArgumentException("Can not truncate inputs of " + maxBitLength
+          + " bits, since masks of " + maskBitLength + " bits do not fit below the modulus");
+    }
+    return maskBitLength;
+  }
+
   @Override
   public DRes<SInt> buildComputation(ProtocolBuilderNumeric builder) {
+    int maskBitLength = maskBitLength(builder.getBasicNumericContext(), maxBitLength);
     if (shifts >= maxBitLength) {
       return builder.numeric().known(0);
     }
@@ -41,40 +80,26 @@ public class Truncate implements Computation<SInt, ProtocolBuilderNumeric> {
     return builder.seq(seq -> {
 
       /*
-       * Generate random additive mask of the same length as the input + some extra to avoid
-       * leakage.
+       * Get a truncation pair (r, r >> shifts) where r has the same length as the input + some
+       * extra to avoid leakage.
        */
-      return AdvancedNumeric.using(seq)
-          .additiveMask(maxBitLength + builder.getBasicNumericContext().getStatisticalSecurityParam());
+      return seq.preprocessedValues().getTruncationPairs(1, maskBitLength, shifts);
 
-    }).seq((seq, randomAdditiveMask) -> {
+    }).seq((seq, pairs) -> {
 
-      DRes<SInt> result = seq.numeric().add(input, randomAdditiveMask.value);
+      Pair<DRes<SInt>, DRes<SInt>> pair = pairs.get(0);
+      DRes<SInt> result = seq.numeric().add(input, pair.getFirst());
       DRes<BigInteger> open = seq.numeric().open(result);
-      return Pair.lazy(open, randomAdditiveMask);
+      return Pair.lazy(open, pair.getSecond());
 
     }).seq((seq, maskedInput) -> {
 
-      BigInteger masked = maskedInput.getFirst().out();
-      RandomAdditiveMask mask = maskedInput.getSecond();
-
-      /*
-       * rBottom = r (mod 2^shifts).
-       */
-      final DRes<SInt> rBottom = AdvancedNumeric.using(seq)
-          .bitsToInteger(mask.bits.subList(0, shifts));
-
-      BigInteger inverse =
-          BigInteger.ONE.shiftLeft(shifts).modInverse(seq.getBasicNumericContext().getModulus());
-      DRes<SInt> rTop = seq.numeric().sub(mask.value, rBottom);
-
       /*
-       * rTop is r with the last shifts bits set to zero, and it is hence divisible by 2^shifts, so
-       * multiplying with the inverse in the field corresponds to shifting.
+       * (input + r) >> shifts - (r >> shifts) is the result, unless adding the lowest shifts bits
+       * of the input and r causes a carry, in which case it is one too large.
        */
-      DRes<SInt> rShifted = seq.numeric().mult(inverse, rTop);
-      BigInteger mShifted = masked.shiftRight(shifts);
-      return seq.numeric().sub(mShifted, rShifted);
+      BigInteger mShifted = maskedInput.getFirst().out().shiftRight(shifts);
+      return seq.numeric().sub(mShifted, maskedInput.getSecond());
     });
   }
 }
@@ -11,7 +11,10 @@ import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
 import org.junit.Assert;
 
 public class SearchingTests {
@@ -63,4 +66,98 @@ public class SearchingTests {
       };
     }
   }
+
+  public static class TestOneHotLookUp<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          final int PAIRS = 10;
+          final int COLUMNS = 2;
+          final int MAXVALUE = 20000;
+          final int NOTFOUND = MAXVALUE;
+          Random rand = new Random(0);
+          int[][] values = new int[PAIRS][COLUMNS];
+          for (int i = 0; i < PAIRS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+              values[i][j] = rand.nextInt(MAXVALUE);
+            }
+          }
+          // look up every key and one key which is not present
+          for (int i = 0; i <= PAIRS; i++) {
+            final int counter = i;
+            Application<List<BigInteger>, ProtocolBuilderNumeric> app = producer -> {
+              Numeric numeric = producer.numeric();
+              List<DRes<SInt>> sKeys = new ArrayList<>(PAIRS);
+              for (int j = 0; j < PAIRS; j++) {
+                sKeys.add(numeric.known(BigInteger.valueOf(j)));
+              }
+              Matrix<DRes<SInt>> sValues = new Matrix<>(PAIRS, COLUMNS,
+                  (row, column) -> numeric.known(BigInteger.valueOf(values[row][column])));
+              List<DRes<SInt>> notFound = new ArrayList<>(COLUMNS);
+              for (int j = 0; j < COLUMNS; j++) {
+                notFound.add(numeric.known(BigInteger.valueOf(NOTFOUND)));
+              }
+              DRes<SInt> key = numeric.known(BigInteger.valueOf(counter));
+              return producer.seq(new OneHotLookUp(key, sKeys, sValues, notFound))
+                  .seq((seq, out) -> {
+                    List<DRes<BigInteger>> opened = new ArrayList<>(out.size());
+                    for (DRes<SInt> value : out) {
+                      opened.add(seq.numeric().open(value));
+                    }
+                    return () -> opened.stream().map(DRes::out)
+                        .collect(Collectors.toList());
+                  });
+            };
+            List<BigInteger> result = runApplication(app);
+            for (int j = 0; j < COLUMNS; j++) {
+              int expected = i < PAIRS ? values[i][j] : NOTFOUND;
+              Assert.assertEquals("Checking value index " + i, expected, result.get(j).intValue());
+            }
+          }
+        }
+      };
+    }
+  }
+
+  public static class TestPublicTableLookUp<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          List<BigInteger> keys = Arrays.asList(BigInteger.valueOf(3), BigInteger.valueOf(17),
+              BigInteger.valueOf(42), BigInteger.valueOf(100));
+          Matrix<BigInteger> values = new Matrix<>(keys.size(), 2,
+              (row, column) -> BigInteger.valueOf(1000 * row + column));
+          List<BigInteger> notFound = Arrays.asList(BigInteger.valueOf(7), BigInteger.valueOf(8));
+          List<BigInteger> lookUps = new ArrayList<>(keys);
+          lookUps.add(BigInteger.valueOf(5));
+          for (int i = 0; i < lookUps.size(); i++) {
+            final BigInteger lookUp = lookUps.get(i);
+            Application<List<BigInteger>, ProtocolBuilderNumeric> app = producer -> {
+              DRes<SInt> key = producer.numeric().input(lookUp, 1);
+              return producer.seq(new PublicTableLookUp(key, keys, values, notFound))
+                  .seq((seq, out) -> {
+                    List<DRes<BigInteger>> opened = new ArrayList<>(out.size());
+                    for (DRes<SInt> value : out) {
+                      opened.add(seq.numeric().open(value));
+                    }
+                    return () -> opened.stream().map(DRes::out)
+                        .collect(Collectors.toList());
+                  });
+            };
+            List<BigInteger> result = runApplication(app);
+            List<BigInteger> expected = i < keys.size() ? values.getRow(i) : notFound;
+            Assert.assertEquals("Checking key " + lookUp, expected, result);
+          }
+        }
+      };
+    }
+  }
 }
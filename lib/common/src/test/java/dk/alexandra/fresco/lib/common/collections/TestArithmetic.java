@@ -3,8 +3,11 @@ package dk.alexandra.fresco.lib.common.collections;
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.common.collections.SearchingTests.TestLinearLookUp;
+import dk.alexandra.fresco.lib.common.collections.SearchingTests.TestOneHotLookUp;
+import dk.alexandra.fresco.lib.common.collections.SearchingTests.TestPublicTableLookUp;
 import dk.alexandra.fresco.lib.common.collections.io.CloseListTests;
 import dk.alexandra.fresco.lib.common.collections.io.CloseMatrixTests;
+import dk.alexandra.fresco.lib.common.collections.oram.SquareRootOramTests.TestSquareRootOram;
 import dk.alexandra.fresco.lib.common.collections.permute.PermuteRows;
 import dk.alexandra.fresco.lib.common.collections.permute.PermuteRowsTests;
 import dk.alexandra.fresco.lib.common.collections.shuffle.ShuffleRowsTests;
@@ -12,6 +15,7 @@ import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests;
 import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests.TestKeyedCompareAndSwap;
 import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests.TestOddEvenMergeSort;
 import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests.TestOddEvenMergeSortDifferentValueLength;
+import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests.TestShuffleSort;
 import dk.alexandra.fresco.suite.dummy.arithmetic.AbstractDummyArithmeticTest;
 import java.util.ArrayList;
 import org.junit.Test;
@@ -45,6 +49,26 @@ public class TestArithmetic extends AbstractDummyArithmeticTest {
     runTest(new TestLinearLookUp<>(), new TestParameters());
   }
 
+  @Test
+  public void test_square_root_oram() {
+    runTest(new TestSquareRootOram<>(10, 2, 3, 20), new TestParameters());
+  }
+
+  @Test
+  public void test_square_root_oram_recursive_position_map() {
+    runTest(new TestSquareRootOram<>(100, 1, 10, 25), new TestParameters().numParties(3));
+  }
+
+  @Test
+  public void test_one_hot_lookup() {
+    runTest(new TestOneHotLookUp<>(), new TestParameters());
+  }
+
+  @Test
+  public void test_public_table_lookup() {
+    runTest(new TestPublicTableLookUp<>(), new TestParameters());
+  }
+
   @Test
   public void test_permute_empty_rows() {
     runTest(PermuteRowsTests.permuteEmptyRows(), new TestParameters().numParties(2));
@@ -87,6 +111,21 @@ public class TestArithmetic extends AbstractDummyArithmeticTest {
     runTest(new TestOddEvenMergeSort<>(), new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_shuffle_sort_large_list_2_parties() {
+    runTest(new TestShuffleSort<>(83, 4, 8), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_shuffle_sort_2_parties() {
+    runTest(new TestShuffleSort<>(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_shuffle_sort_many_ties_3_parties() {
+    runTest(new TestShuffleSort<>(40, 2, 2), new TestParameters().numParties(3));
+  }
+
   @Test(expected = RuntimeException.class)
   public void test_Uneven_Odd_Even_Merge_sort_leak_list_length() {
     runTest(new TestOddEvenMergeSortDifferentValueLength<>(), new TestParameters().numParties(2));
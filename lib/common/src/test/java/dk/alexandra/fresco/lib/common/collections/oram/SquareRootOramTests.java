@@ -0,0 +1,105 @@
+package dk.alexandra.fresco.lib.common.collections.oram;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.lib.common.collections.Collections;
+import dk.alexandra.fresco.lib.common.collections.Matrix;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class SquareRootOramTests {
+
+  /**
+   * Runs a random sequence of reads and writes against a {@link SquareRootOram} and checks that
+   * all reads agree with a plain array.
+   */
+  public static class TestSquareRootOram<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private final int size;
+    private final int width;
+    private final int period;
+    private final int accesses;
+
+    public TestSquareRootOram(int size, int width, int period, int accesses) {
+      this.size = size;
+      this.width = width;
+      this.period = period;
+      this.accesses = accesses;
+    }
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        @Override
+        public void test() throws Exception {
+          Random rand = new Random(42);
+          Matrix<BigInteger> initial = new Matrix<>(size, width,
+              (row, column) -> BigInteger.valueOf(rand.nextInt(1000)));
+          List<BigInteger[]> plain = new ArrayList<>(size);
+          for (List<BigInteger> row : initial.getRows()) {
+            plain.add(row.toArray(new BigInteger[width]));
+          }
+          int[] indices = new int[accesses];
+          boolean[] isWrite = new boolean[accesses];
+          List<List<BigInteger>> written = new ArrayList<>(accesses);
+          List<List<BigInteger>> expected = new ArrayList<>();
+          for (int i = 0; i < accesses; i++) {
+            // favour a few indices to make sure rows are found in the stash
+            indices[i] = rand.nextBoolean() ? rand.nextInt(Math.min(3, size))
+                : rand.nextInt(size);
+            isWrite[i] = rand.nextInt(3) == 0;
+            List<BigInteger> row = new ArrayList<>(width);
+            for (int j = 0; j < width; j++) {
+              row.add(BigInteger.valueOf(rand.nextInt(1000)));
+            }
+            written.add(row);
+            if (isWrite[i]) {
+              plain.set(indices[i], row.toArray(new BigInteger[width]));
+            } else {
+              List<BigInteger> current = new ArrayList<>(width);
+              java.util.Collections.addAll(current, plain.get(indices[i]));
+              expected.add(current);
+            }
+          }
+
+          Application<List<List<BigInteger>>, ProtocolBuilderNumeric> app = producer -> {
+            Numeric numeric = producer.numeric();
+            SquareRootOram oram = new SquareRootOram(
+                new Matrix<>(size, width, (row, column) -> numeric.known(initial.getRow(row)
+                    .get(column))), period);
+            List<DRes<List<DRes<BigInteger>>>> reads = new ArrayList<>();
+            for (int i = 0; i < accesses; i++) {
+              DRes<SInt> index = numeric.input(BigInteger.valueOf(indices[i]), 1);
+              if (isWrite[i]) {
+                List<DRes<SInt>> row = written.get(i).stream().map(numeric::known)
+                    .collect(Collectors.toList());
+                producer.seq(oram.write(index, row));
+              } else {
+                DRes<List<DRes<SInt>>> row = producer.seq(oram.read(index));
+                reads.add(producer.seq(seq -> Collections.using(seq).openList(row)));
+              }
+            }
+            return () -> reads.stream()
+                .map(row -> row.out().stream().map(DRes::out).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+          };
+          List<List<BigInteger>> actual = runApplication(app);
+          assertEquals(expected, actual);
+        }
+      };
+    }
+  }
+}
@@ -4,6 +4,7 @@ import dk.alexandra.fresco.framework.Application;
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
 import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.Computation;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
@@ -17,6 +18,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -28,15 +30,24 @@ public class NumericSortingTests {
       extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
 
     private final int size, payloadSize, bitlength;
+    private final Function<List<Pair<DRes<SInt>, List<DRes<SInt>>>>,
+        Computation<List<Pair<DRes<SInt>, List<DRes<SInt>>>>, ProtocolBuilderNumeric>> sorter;
 
     public TestOddEvenMergeSort() {
       this(7, 0, 5);
     }
 
     public TestOddEvenMergeSort(int size, int payloadSize, int bitlength) {
+      this(size, payloadSize, bitlength, OddEvenMerge::numeric);
+    }
+
+    TestOddEvenMergeSort(int size, int payloadSize, int bitlength,
+        Function<List<Pair<DRes<SInt>, List<DRes<SInt>>>>,
+            Computation<List<Pair<DRes<SInt>, List<DRes<SInt>>>>, ProtocolBuilderNumeric>> sorter) {
       this.size = size;
       this.payloadSize = payloadSize;
       this.bitlength = bitlength;
+      this.sorter = sorter;
     }
 
     @Override
@@ -58,7 +69,7 @@ public class NumericSortingTests {
                   new Pair<>(builder.known(pair.getFirst()), pair.getSecond().stream().map(builder::known).collect(Collectors.toList()))).collect(
                     Collectors.toList());
 
-                return Collections.using(seq).sort(unsortedShared);
+                return seq.seq(sorter.apply(unsortedShared));
               }).seq((seq, sorted) -> {
                 Numeric builder = seq.numeric();
                 List<Pair<DRes<BigInteger>, List<DRes<BigInteger>>>> opened = new ArrayList<>();
@@ -100,6 +111,23 @@ public class NumericSortingTests {
     }
   }
 
+  /**
+   * Runs the tests of {@link TestOddEvenMergeSort} on {@link Collections#shuffleSort(List)}, which
+   * uses {@link ShuffleSort}.
+   */
+  public static class TestShuffleSort<ResourcePoolT extends ResourcePool>
+      extends TestOddEvenMergeSort<ResourcePoolT> {
+
+    public TestShuffleSort() {
+      this(7, 0, 5);
+    }
+
+    public TestShuffleSort(int size, int payloadSize, int bitlength) {
+      super(size, payloadSize, bitlength,
+          unsorted -> builder -> Collections.using(builder).shuffleSort(unsorted));
+    }
+  }
+
   public static class TestOddEvenMergeSortDifferentValueLength<ResourcePoolT extends ResourcePool>
       extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
 
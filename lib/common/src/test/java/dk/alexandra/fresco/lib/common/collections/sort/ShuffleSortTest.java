@@ -0,0 +1,23 @@
+package dk.alexandra.fresco.lib.common.collections.sort;
+
+import static org.mockito.Mockito.mock;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ShuffleSortTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDifferentValueLengths() {
+    DRes<SInt> value = mock(DRes.class);
+    List<Pair<DRes<SInt>, List<DRes<SInt>>>> input = new ArrayList<>();
+    input.add(new Pair<>(value, Arrays.asList(value)));
+    input.add(new Pair<>(value, Arrays.asList(value, value)));
+    new ShuffleSort(input);
+  }
+}
@@ -19,6 +19,7 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import org.junit.Assert;
 
@@ -229,6 +230,81 @@ public class CompareTests {
     }
   }
 
+  /**
+   * Compares a list of pairs, including edge cases and equal values, using the list versions of
+   * less than, less than or equals and equality, and checks the results against the comparisons of
+   * the plain values.
+   */
+  public static class TestCompareLists<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+
+        private final List<BigInteger> xs = new ArrayList<>();
+        private final List<BigInteger> ys = new ArrayList<>();
+
+        private void addPair(BigInteger x, BigInteger y) {
+          xs.add(x);
+          ys.add(y);
+        }
+
+        @Override
+        public void test() throws Exception {
+          Application<List<List<BigInteger>>, ProtocolBuilderNumeric> app = builder -> {
+            // Reserve upper half for negative values
+            int maxBitLength = builder.getBasicNumericContext().getMaxBitLength() - 1;
+            BigInteger max = BigInteger.ONE.shiftLeft(maxBitLength);
+            addPair(max.subtract(BigInteger.ONE), max);
+            addPair(max, BigInteger.ONE);
+            addPair(max, max);
+            addPair(BigInteger.valueOf(-3), BigInteger.valueOf(-1));
+            addPair(BigInteger.valueOf(-1), BigInteger.valueOf(-3));
+            addPair(BigInteger.valueOf(-3), BigInteger.ZERO);
+            addPair(BigInteger.ZERO, BigInteger.ZERO);
+            addPair(BigInteger.valueOf(-5), BigInteger.valueOf(-5));
+            Random random = new Random(42);
+            for (int i = 0; i < 20; i++) {
+              BigInteger x = new BigInteger(maxBitLength, random).subtract(max.shiftRight(1));
+              addPair(x, random.nextBoolean() ? x
+                  : new BigInteger(maxBitLength, random).subtract(max.shiftRight(1)));
+            }
+            Numeric input = builder.numeric();
+            List<DRes<SInt>> secretXs = xs.stream().map(input::known)
+                .collect(Collectors.toList());
+            List<DRes<SInt>> secretYs = ys.stream().map(input::known)
+                .collect(Collectors.toList());
+            Comparison comparison = Comparison.using(builder);
+            List<DRes<List<DRes<SInt>>>> results = Arrays.asList(
+                comparison.compareLT(secretXs, secretYs),
+                comparison.compareLEQ(secretXs, secretYs),
+                comparison.equals(secretXs, secretYs));
+            return builder.seq(seq -> {
+              Collections collections = Collections.using(seq);
+              List<DRes<List<DRes<BigInteger>>>> opened = results.stream()
+                  .map(collections::openList).collect(Collectors.toList());
+              return () -> opened.stream()
+                  .map(list -> list.out().stream().map(DRes::out).collect(Collectors.toList()))
+                  .collect(Collectors.toList());
+            });
+          };
+          List<List<BigInteger>> output = runApplication(app);
+          for (int i = 0; i < xs.size(); i++) {
+            int comparison = xs.get(i).compareTo(ys.get(i));
+            Assert.assertEquals(toBigInteger(comparison < 0), output.get(0).get(i));
+            Assert.assertEquals(toBigInteger(comparison <= 0), output.get(1).get(i));
+            Assert.assertEquals(toBigInteger(comparison == 0), output.get(2).get(i));
+          }
+        }
+      };
+    }
+
+    private static BigInteger toBigInteger(boolean value) {
+      return value ? BigInteger.ONE : BigInteger.ZERO;
+    }
+  }
+
   /**
    * Compares the two numbers 3/5 and -6/-10 and checks that they are equal. Also checks that 3/5 != -6/10
    */
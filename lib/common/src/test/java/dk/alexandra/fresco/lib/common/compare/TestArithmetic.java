@@ -16,6 +16,11 @@ public class TestArithmetic extends AbstractDummyArithmeticTest {
     runTest(new CompareTests.TestCompareLTEdgeCases<>(), new TestParameters());
   }
 
+  @Test
+  public void testCompareLists() {
+    runTest(new CompareTests.TestCompareLists<>(), new TestParameters());
+  }
+
   @Test
   public void test_compareEQ_Sequential() {
     runTest(new CompareTests.TestCompareEQ<>(), new TestParameters());
@@ -144,6 +144,17 @@ public class TestArithmetic extends AbstractDummyArithmeticTest {
     runTest(new BinaryOperationsTests.TestTruncation<>(), new TestParameters().numParties(2));
   }
 
+  @Test
+  public void test_truncation_list() {
+    runTest(new BinaryOperationsTests.TestTruncationList<>(), new TestParameters().numParties(2));
+  }
+
+  @Test
+  public void test_truncation_near_bound() {
+    runTest(new BinaryOperationsTests.TestTruncationNearBound<>(),
+        new TestParameters().numParties(2));
+  }
+
   @Test
   public void test_truncation_trivial() {
     runTest(new BinaryOperationsTests.TestTruncationTrivial<>(), new TestParameters().numParties(2));
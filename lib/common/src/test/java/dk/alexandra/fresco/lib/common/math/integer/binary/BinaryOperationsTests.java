@@ -13,6 +13,7 @@ import dk.alexandra.fresco.lib.common.collections.Collections;
 import dk.alexandra.fresco.lib.common.math.AdvancedNumeric;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -218,6 +219,138 @@ public class BinaryOperationsTests {
     }
   }
 
+  public static class TestTruncationList<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      List<BigInteger> openInputs = Stream.of(0, 1, 123, 1234, 12345, 123456, -1, -1234, -123456)
+          .map(BigInteger::valueOf).collect(Collectors.toList());
+      int shifts = 5;
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          Application<List<BigInteger>, ProtocolBuilderNumeric> app = builder -> builder
+              .seq(producer -> {
+                // negative inputs are given by their representative modulo the modulus
+                BigInteger modulus = producer.getBasicNumericContext().getModulus();
+                List<DRes<SInt>> closed =
+                    openInputs.stream().map(x -> producer.numeric().known(x.mod(modulus)))
+                        .collect(Collectors.toList());
+                return AdvancedNumeric.using(producer).truncate(closed, shifts);
+              }).seq((producer, result) -> {
+                List<DRes<BigInteger>> opened =
+                    result.stream().map(producer.numeric()::open).collect(Collectors.toList());
+                return () -> opened.stream().map(DRes::out)
+                    .map(producer.getBasicNumericContext().getFieldDefinition()::convertToSigned)
+                    .collect(Collectors.toList());
+              });
+          List<BigInteger> output = runApplication(app);
+
+          Assert.assertEquals(openInputs.size(), output.size());
+          for (int i = 0; i < output.size(); i++) {
+            BigInteger expected = openInputs.get(i).shiftRight(shifts);
+            BigInteger difference = output.get(i).subtract(expected);
+            Assert.assertTrue(difference.equals(BigInteger.ONE)
+                || difference.equals(BigInteger.ZERO));
+          }
+        }
+      };
+    }
+  }
+
+  /**
+   * Truncates inputs with as many bits as allowed by {@link
+   * Truncate#maxInputBitLength(dk.alexandra.fresco.lib.field.integer.BasicNumericContext)}.
+   */
+  public static class TestTruncationNearBound<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    private static final int REPETITIONS = 25;
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          List<BigInteger> inputs = new ArrayList<>();
+          Application<Pair<Integer, List<BigInteger>>, ProtocolBuilderNumeric> app =
+              builder -> builder.seq(producer -> {
+                int bitLength = Truncate.maxInputBitLength(producer.getBasicNumericContext());
+                BigInteger bound = BigInteger.ONE.shiftLeft(bitLength);
+                inputs.addAll(Stream.of(bound.subtract(BigInteger.ONE), bound.shiftRight(1),
+                    bound.shiftRight(1).negate(), bound.subtract(BigInteger.ONE).negate())
+                    .collect(Collectors.toList()));
+                int shifts = bitLength / 2;
+                // negative inputs are given by their representative modulo the modulus
+                BigInteger modulus = producer.getBasicNumericContext().getModulus();
+                List<DRes<SInt>> closed = new ArrayList<>();
+                for (int i = 0; i < REPETITIONS; i++) {
+                  for (BigInteger input : inputs) {
+                    closed.add(producer.numeric().known(input.mod(modulus)));
+                  }
+                }
+                DRes<List<DRes<SInt>>> result = AdvancedNumeric.using(producer)
+                    .truncate(closed, shifts);
+                return () -> new Pair<>(shifts, result.out());
+              }).seq((producer, result) -> {
+                List<DRes<BigInteger>> opened = result.getSecond().stream()
+                    .map(producer.numeric()::open).collect(Collectors.toList());
+                return () -> new Pair<>(result.getFirst(), opened.stream().map(DRes::out)
+                    .map(producer.getBasicNumericContext().getFieldDefinition()::convertToSigned)
+                    .collect(Collectors.toList()));
+              });
+          Pair<Integer, List<BigInteger>> output = runApplication(app);
+
+          int shifts = output.getFirst();
+          Assert.assertEquals(REPETITIONS * inputs.size(), output.getSecond().size());
+          for (int i = 0; i < output.getSecond().size(); i++) {
+            BigInteger expected = inputs.get(i % inputs.size()).shiftRight(shifts);
+            BigInteger difference = output.getSecond().get(i).subtract(expected);
+            Assert.assertTrue(difference.equals(BigInteger.ONE)
+                || difference.equals(BigInteger.ZERO));
+          }
+        }
+      };
+    }
+  }
+
+  /**
+   * Checks that truncation is rejected if the modulus leaves no room for the statistical security
+   * parameter above the inputs.
+   */
+  public static class TestTruncationUnsupported<ResourcePoolT extends ResourcePool>
+      extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
+
+    @Override
+    public TestThread<ResourcePoolT, ProtocolBuilderNumeric> next() {
+      return new TestThread<ResourcePoolT, ProtocolBuilderNumeric>() {
+        @Override
+        public void test() throws Exception {
+          Application<Void, ProtocolBuilderNumeric> app = producer -> {
+            int bitLength = Truncate.maxInputBitLength(producer.getBasicNumericContext());
+            Assert.assertTrue(bitLength < 1);
+            DRes<SInt> input = producer.numeric().known(BigInteger.ONE);
+            try {
+              new Truncate(input, 1, 1).buildComputation(producer);
+              Assert.fail("Should throw exception when inputs can not be masked");
+            } catch (IllegalArgumentException e) {
+              // This should happen
+            }
+            try {
+              new BatchedTruncate(Arrays.asList(input), 1, 1).buildComputation(producer);
+              Assert.fail("Should throw exception when inputs can not be masked");
+            } catch (IllegalArgumentException e) {
+              // This should happen
+            }
+            return () -> null;
+          };
+          runApplication(app);
+        }
+      };
+    }
+  }
+
   public static class TestTruncationTrivial<ResourcePoolT extends ResourcePool>
       extends TestThreadFactory<ResourcePoolT, ProtocolBuilderNumeric> {
 
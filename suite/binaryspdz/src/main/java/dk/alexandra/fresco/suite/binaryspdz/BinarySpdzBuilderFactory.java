@@ -0,0 +1,67 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.binary.Binary;
+import dk.alexandra.fresco.framework.builder.binary.BuilderFactoryBinary;
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzAndProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzInputProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzKnownProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzNotProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzOutputSingleProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzOutputToAllProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzRandomBitProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzXorProtocol;
+
+/**
+ * Basic binary operations for the binary Spdz protocol suite.
+ */
+class BinarySpdzBuilderFactory implements BuilderFactoryBinary {
+
+  @Override
+  public Binary createBinary(ProtocolBuilderBinary builder) {
+    return new Binary() {
+
+      @Override
+      public DRes<SBool> known(boolean known) {
+        return builder.append(new BinarySpdzKnownProtocol(known));
+      }
+
+      @Override
+      public DRes<SBool> input(boolean in, int inputter) {
+        return builder.append(new BinarySpdzInputProtocol(in, inputter));
+      }
+
+      @Override
+      public DRes<SBool> randomBit() {
+        return builder.append(new BinarySpdzRandomBitProtocol());
+      }
+
+      @Override
+      public DRes<Boolean> open(DRes<SBool> toOpen) {
+        return builder.append(new BinarySpdzOutputToAllProtocol(toOpen));
+      }
+
+      @Override
+      public DRes<Boolean> open(DRes<SBool> toOpen, int towardsPartyId) {
+        return builder.append(new BinarySpdzOutputSingleProtocol(toOpen, towardsPartyId));
+      }
+
+      @Override
+      public DRes<SBool> and(DRes<SBool> left, DRes<SBool> right) {
+        return builder.append(new BinarySpdzAndProtocol(left, right));
+      }
+
+      @Override
+      public DRes<SBool> xor(DRes<SBool> left, DRes<SBool> right) {
+        return builder.append(new BinarySpdzXorProtocol(left, right));
+      }
+
+      @Override
+      public DRes<SBool> not(DRes<SBool> in) {
+        return builder.append(new BinarySpdzNotProtocol(in));
+      }
+    };
+  }
+}
@@ -0,0 +1,153 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.tools.commitment.HashBasedCommitment;
+import dk.alexandra.fresco.tools.commitment.HashBasedCommitmentSerializer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Batched check of the MACs of a list of opened bits.
+ *
+ * <p>The parties first toss a joint seed using commitments. From the seed each opened bit
+ * <i>x<sub>j</sub></i> gets a random coefficient vector <i>&rho;<sub>j</sub></i> of the length of
+ * the MAC key. Each party <i>i</i> then computes <i>&sigma;<sub>i</sub> = &oplus;<sub>j</sub>
+ * &rho;<sub>j</sub> &and; m<sub>i,j</sub> &oplus; (&oplus;<sub>j</sub> x<sub>j</sub> &rho;<sub>j
+ * </sub>) &and; &Delta;<sub>i</sub></i>, where <i>m<sub>i,j</sub></i> is its share of the MAC of
+ * <i>x<sub>j</sub></i> and <i>&Delta;<sub>i</sub></i> its share of the key. The <i>&sigma;<sub>i
+ * </sub></i> are exchanged using commitments, and the check passes if they XOR to zero.</p>
+ *
+ * <p>The coefficients are bitwise, so the check costs only XORs and ANDs of bytes. An error in a
+ * single bit of a MAC is caught with probability 1/2 for every bit position, and opening a wrong
+ * value requires guessing the key, which over the random coefficients succeeds with probability at
+ * most <i>(3/4)<sup>&kappa;</sup></i> for a key of <i>&kappa;</i> bits.</p>
+ */
+public class BinarySpdzMacCheck {
+
+  private static final int SEED_BYTES = 32;
+  private final int noOfParties;
+  private final Network network;
+  private final Drbg localDrbg;
+  private final MessageDigest digest;
+  private final HashBasedCommitmentSerializer serializer;
+
+  /**
+   * Creates a new MAC check.
+   *
+   * @param noOfParties the number of parties
+   * @param network the network to run the check on
+   * @param localDrbg source of this party's local randomness
+   */
+  public BinarySpdzMacCheck(int noOfParties, Network network, Drbg localDrbg) {
+    this.noOfParties = noOfParties;
+    this.network = network;
+    this.localDrbg = localDrbg;
+    this.digest = ExceptionConverter.safe(
+        () -> MessageDigest.getInstance("SHA-256"),
+        "Configuration error, SHA-256 is needed for binary Spdz");
+    this.serializer = new HashBasedCommitmentSerializer();
+  }
+
+  /**
+   * Checks the MACs of a list of opened values.
+   *
+   * @param shares this party's shares of the opened values
+   * @param opened the opened values
+   * @param keyShare this party's share of the MAC key
+   * @throws MaliciousException if the check fails
+   */
+  public void check(List<BinarySpdzSBool> shares, List<Boolean> opened,
+      StrictBitVector keyShare) {
+    if (shares.size() != opened.size()) {
+      throw new IllegalArgumentException("The amount of shares and opened values must be equal");
+    }
+    int macBytes = keyShare.getSize() / Byte.SIZE;
+    byte[] seed = new byte[SEED_BYTES];
+    localDrbg.nextBytes(seed);
+    byte[] jointSeed = xorAll(commitAndOpen(seed));
+    byte[] coefficients = new byte[shares.size() * macBytes];
+    new AesCtrDrbg(jointSeed).nextBytes(coefficients);
+    byte[] sigma = new byte[macBytes];
+    byte[] openedCoefficients = new byte[macBytes];
+    for (int j = 0; j < shares.size(); j++) {
+      byte[] mac = shares.get(j).getMac().toByteArray();
+      boolean value = opened.get(j);
+      int offset = j * macBytes;
+      for (int k = 0; k < macBytes; k++) {
+        sigma[k] ^= coefficients[offset + k] & mac[k];
+        if (value) {
+          openedCoefficients[k] ^= coefficients[offset + k];
+        }
+      }
+    }
+    byte[] key = keyShare.toByteArray();
+    for (int k = 0; k < macBytes; k++) {
+      sigma[k] ^= openedCoefficients[k] & key[k];
+    }
+    byte[] sum = xorAll(commitAndOpen(sigma));
+    for (byte b : sum) {
+      if (b != 0) {
+        throw new MaliciousException("Mac check failed");
+      }
+    }
+  }
+
+  /**
+   * Distributes a value to all parties by first committing to it, so no party can choose its value
+   * based on the others.
+   */
+  private List<byte[]> commitAndOpen(byte[] value) {
+    HashBasedCommitment commitment = new HashBasedCommitment();
+    byte[] opening = commitment.commit(localDrbg, value);
+    network.sendToAll(serializer.serialize(commitment));
+    List<byte[]> commitments = network.receiveFromAll();
+    if (noOfParties > 2) {
+      validateBroadcast(commitments);
+    }
+    network.sendToAll(opening);
+    List<byte[]> openings = network.receiveFromAll();
+    List<byte[]> values = new ArrayList<>(noOfParties);
+    for (int i = 0; i < noOfParties; i++) {
+      byte[] other = serializer.deserialize(commitments.get(i)).open(openings.get(i));
+      if (other.length != value.length) {
+        throw new MaliciousException("Committed value has the wrong length");
+      }
+      values.add(other);
+    }
+    return values;
+  }
+
+  /**
+   * Checks that all parties received the same messages by comparing digests of them.
+   */
+  private void validateBroadcast(List<byte[]> messages) {
+    for (byte[] message : messages) {
+      digest.update(message);
+    }
+    byte[] ownDigest = digest.digest();
+    network.sendToAll(ownDigest);
+    for (byte[] otherDigest : network.receiveFromAll()) {
+      if (!Arrays.equals(ownDigest, otherDigest)) {
+        throw new MaliciousException("Broadcast validation failed");
+      }
+    }
+  }
+
+  private static byte[] xorAll(List<byte[]> values) {
+    byte[] res = new byte[values.get(0).length];
+    for (byte[] value : values) {
+      for (int i = 0; i < res.length; i++) {
+        res[i] ^= value[i];
+      }
+    }
+    return res;
+  }
+}
@@ -0,0 +1,43 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.builder.binary.BuilderFactoryBinary;
+import dk.alexandra.fresco.suite.ProtocolSuiteBinary;
+
+/**
+ * A binary protocol suite in the style of Spdz, secure against a dishonest majority of malicious
+ * parties. Bits are XOR shared and authenticated by XOR shared MACs under a global MAC key, so
+ * XOR and NOT are local operations. AND gates consume multiplication triples, e.g., produced by
+ * the bit triple generation in {@link dk.alexandra.fresco.tools.bitTriples.BitTriple} (see {@link
+ * dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzBitTripleDataSupplier}).
+ *
+ * <p>All values opened during the evaluation are MAC checked in batches by the round
+ * synchronization of the suite, at the latest before a value is revealed (see {@link
+ * BinarySpdzRoundSynchronization}).</p>
+ */
+public class BinarySpdzProtocolSuite implements ProtocolSuiteBinary<BinarySpdzResourcePool> {
+
+  private final int openValueThreshold;
+
+  /**
+   * Creates a new suite.
+   *
+   * @param openValueThreshold number of opened values to accumulate before forcing a MAC check
+   */
+  public BinarySpdzProtocolSuite(int openValueThreshold) {
+    this.openValueThreshold = openValueThreshold;
+  }
+
+  public BinarySpdzProtocolSuite() {
+    this(BinarySpdzRoundSynchronization.DEFAULT_VALUE_THRESHOLD);
+  }
+
+  @Override
+  public BuilderFactoryBinary init(BinarySpdzResourcePool resourcePool) {
+    return new BinarySpdzBuilderFactory();
+  }
+
+  @Override
+  public RoundSynchronization<BinarySpdzResourcePool> createRoundSynchronization() {
+    return new BinarySpdzRoundSynchronization(openValueThreshold);
+  }
+}
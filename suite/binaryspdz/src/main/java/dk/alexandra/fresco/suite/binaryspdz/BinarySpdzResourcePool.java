@@ -0,0 +1,41 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzDataSupplier;
+import java.security.MessageDigest;
+
+/**
+ * The resource pool for binary Spdz. Represents the resources used for one invocation of the
+ * binary Spdz protocol suite.
+ */
+public interface BinarySpdzResourcePool extends ResourcePool {
+
+  /**
+   * Gets the message digest for this protocol suite invocation.
+   *
+   * @return the message digest
+   */
+  MessageDigest getMessageDigest();
+
+  /**
+   * Gets the DRBG of this party, used for the local randomness of the MAC check.
+   *
+   * @return An instance of a DRBG.
+   */
+  Drbg getRandomGenerator();
+
+  /**
+   * Returns instance of {@link OpenedValueStore} which tracks all opened, unchecked values.
+   */
+  OpenedValueStore<BinarySpdzSBool, Boolean> getOpenedValueStore();
+
+  /**
+   * Returns instance of {@link BinarySpdzDataSupplier} which provides pre-processed material such
+   * as multiplication triples.
+   */
+  BinarySpdzDataSupplier getDataSupplier();
+
+}
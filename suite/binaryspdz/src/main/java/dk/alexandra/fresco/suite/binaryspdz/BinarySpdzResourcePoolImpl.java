@@ -0,0 +1,60 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzDataSupplier;
+import java.security.MessageDigest;
+
+public class BinarySpdzResourcePoolImpl extends ResourcePoolImpl implements
+    BinarySpdzResourcePool {
+
+  private final MessageDigest messageDigest;
+  private final OpenedValueStore<BinarySpdzSBool, Boolean> openedValueStore;
+  private final BinarySpdzDataSupplier dataSupplier;
+  private final Drbg drbg;
+
+  /**
+   * Construct a ResourcePool implementation suitable for the binary Spdz protocol suite.
+   *
+   * @param myId The id of the party
+   * @param noOfPlayers The amount of parties
+   * @param openedValueStore Store for maintaining opened values for later mac check
+   * @param dataSupplier Pre-processing material supplier
+   * @param drbg Source of this party's local randomness
+   */
+  public BinarySpdzResourcePoolImpl(int myId, int noOfPlayers,
+      OpenedValueStore<BinarySpdzSBool, Boolean> openedValueStore,
+      BinarySpdzDataSupplier dataSupplier, Drbg drbg) {
+    super(myId, noOfPlayers);
+    this.openedValueStore = openedValueStore;
+    this.dataSupplier = dataSupplier;
+    this.drbg = drbg;
+    this.messageDigest = ExceptionConverter.safe(
+        () -> MessageDigest.getInstance("SHA-256"),
+        "Configuration error, SHA-256 is needed for binary Spdz");
+  }
+
+  @Override
+  public MessageDigest getMessageDigest() {
+    return messageDigest;
+  }
+
+  @Override
+  public Drbg getRandomGenerator() {
+    return drbg;
+  }
+
+  @Override
+  public OpenedValueStore<BinarySpdzSBool, Boolean> getOpenedValueStore() {
+    return openedValueStore;
+  }
+
+  @Override
+  public BinarySpdzDataSupplier getDataSupplier() {
+    return dataSupplier;
+  }
+
+}
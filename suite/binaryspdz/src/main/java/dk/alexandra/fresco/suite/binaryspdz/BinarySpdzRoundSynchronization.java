@@ -0,0 +1,118 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.NativeProtocol;
+import dk.alexandra.fresco.framework.ProtocolCollection;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.OpenedValueStore;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.ProtocolSuite.RoundSynchronization;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzAndProtocol;
+import dk.alexandra.fresco.suite.binaryspdz.gates.BinarySpdzOutputProtocol;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The round synchronization of binary Spdz. It opens the AND gates of each batch together and MAC
+ * checks the opened values.
+ *
+ * <p>Before a batch is evaluated, the shares of <i>e</i> and <i>d</i> of all AND gates in the
+ * batch are bit-packed into a single message per party, instead of one message per gate. Opened
+ * values are MAC checked before a batch containing an output gate, after such a batch, when more
+ * than a threshold of values have been opened and at the end of the evaluation.</p>
+ */
+public class BinarySpdzRoundSynchronization
+    implements RoundSynchronization<BinarySpdzResourcePool> {
+
+  static final int DEFAULT_VALUE_THRESHOLD = 1000000;
+  private final int openValueThreshold;
+  private boolean isCheckRequired = false;
+
+  /**
+   * Creates new {@link BinarySpdzRoundSynchronization}.
+   *
+   * @param openValueThreshold number of open values we accumulating before forcing mac-check (the
+   *     mac-check will always run if there are output gates but in order to reduce memory usage we
+   *     will run the mac-check even when there are no output gates yet but the threshold is
+   *     exceeded)
+   */
+  public BinarySpdzRoundSynchronization(int openValueThreshold) {
+    this.openValueThreshold = openValueThreshold;
+  }
+
+  public BinarySpdzRoundSynchronization() {
+    this(DEFAULT_VALUE_THRESHOLD);
+  }
+
+  protected void doMacCheck(BinarySpdzResourcePool resourcePool, Network network) {
+    Pair<List<BinarySpdzSBool>, List<Boolean>> values =
+        resourcePool.getOpenedValueStore().popValues();
+    BinarySpdzMacCheck macCheck = new BinarySpdzMacCheck(resourcePool.getNoOfParties(), network,
+        resourcePool.getRandomGenerator());
+    macCheck.check(values.getFirst(), values.getSecond(),
+        resourcePool.getDataSupplier().getSecretSharedKey());
+  }
+
+  @Override
+  public void finishedBatch(int gatesEvaluated, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    OpenedValueStore<BinarySpdzSBool, Boolean> store = resourcePool.getOpenedValueStore();
+    if (isCheckRequired || store.exceedsThreshold(openValueThreshold)) {
+      doMacCheck(resourcePool, network);
+      isCheckRequired = false;
+    }
+  }
+
+  @Override
+  public void finishedEval(BinarySpdzResourcePool resourcePool, Network network) {
+    if (resourcePool.getOpenedValueStore().hasPendingValues()) {
+      doMacCheck(resourcePool, network);
+    }
+  }
+
+  @Override
+  public void beforeBatch(ProtocolCollection<BinarySpdzResourcePool> protocols,
+      BinarySpdzResourcePool resourcePool, Network network) {
+    List<BinarySpdzAndProtocol> ands = new ArrayList<>();
+    isCheckRequired = false;
+    for (NativeProtocol<?, BinarySpdzResourcePool> protocol : protocols) {
+      if (protocol instanceof BinarySpdzAndProtocol) {
+        ands.add((BinarySpdzAndProtocol) protocol);
+      } else if (protocol instanceof BinarySpdzOutputProtocol) {
+        isCheckRequired = true;
+      }
+    }
+    if (isCheckRequired && resourcePool.getOpenedValueStore().hasPendingValues()) {
+      doMacCheck(resourcePool, network);
+    }
+    if (!ands.isEmpty()) {
+      openAnds(ands, resourcePool, network);
+    }
+  }
+
+  private void openAnds(List<BinarySpdzAndProtocol> ands, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    int size = (2 * ands.size() + Byte.SIZE - 1) / Byte.SIZE * Byte.SIZE;
+    StrictBitVector myShares = new StrictBitVector(size);
+    for (int i = 0; i < ands.size(); i++) {
+      BinarySpdzAndProtocol and = ands.get(i);
+      and.prepare(resourcePool);
+      myShares.setBit(2 * i, and.getEpsilonShare(), false);
+      myShares.setBit(2 * i + 1, and.getDeltaShare(), false);
+    }
+    network.sendToAll(myShares.toByteArray());
+    StrictBitVector opened = new StrictBitVector(size);
+    for (byte[] shares : network.receiveFromAll()) {
+      if (shares.length != size / Byte.SIZE) {
+        throw new MaliciousException("Received an unexpected amount of shares");
+      }
+      opened.xor(new StrictBitVector(shares));
+    }
+    for (int i = 0; i < ands.size(); i++) {
+      ands.get(i).setOpenedValues(opened.getBit(2 * i, false), opened.getBit(2 * i + 1, false),
+          resourcePool);
+    }
+  }
+}
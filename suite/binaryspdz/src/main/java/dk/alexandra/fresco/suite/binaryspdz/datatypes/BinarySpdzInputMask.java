@@ -0,0 +1,38 @@
+package dk.alexandra.fresco.suite.binaryspdz.datatypes;
+
+/**
+ * An input mask for player_i is a random bit r shared among parties so that only player_i knows
+ * the real value r.
+ */
+public class BinarySpdzInputMask {
+
+  private final BinarySpdzSBool mask;
+  private final Boolean realValue;
+
+  public BinarySpdzInputMask(BinarySpdzSBool mask, Boolean realValue) {
+    this.mask = mask;
+    this.realValue = realValue;
+  }
+
+  public BinarySpdzInputMask(BinarySpdzSBool mask) {
+    this(mask, null);
+  }
+
+  public BinarySpdzSBool getMask() {
+    return mask;
+  }
+
+  /**
+   * Gets the real value of the mask.
+   *
+   * @return For the player that owns this input mask, the real value of the mask. Otherwise null.
+   */
+  public Boolean getRealValue() {
+    return realValue;
+  }
+
+  @Override
+  public String toString() {
+    return "BinarySpdzInputMask [mask=" + mask + ", realValue=" + realValue + "]";
+  }
+}
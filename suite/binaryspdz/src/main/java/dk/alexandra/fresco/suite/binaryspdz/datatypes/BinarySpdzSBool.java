@@ -0,0 +1,103 @@
+package dk.alexandra.fresco.suite.binaryspdz.datatypes;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.framework.value.SBool;
+
+/**
+ * Binary Spdz-specific representation of a secret bit. A bit <i>x</i> is XOR shared among the
+ * parties and authenticated by a MAC <i>x &middot; &Delta;</i>, which is also XOR shared, where
+ * <i>&Delta;</i> is the XOR of the parties' shares of the MAC key.
+ *
+ * <p>Instances are immutable, the MAC share is never modified after construction.</p>
+ */
+public class BinarySpdzSBool implements SBool {
+
+  private final boolean share;
+  private final StrictBitVector mac;
+
+  /**
+   * Create a BinarySpdzSBool containing a share and a mac.
+   *
+   * @param share The share
+   * @param mac The share of the mac
+   */
+  public BinarySpdzSBool(boolean share, StrictBitVector mac) {
+    this.share = share;
+    this.mac = mac;
+  }
+
+  /**
+   * Creates this party's share of a public value. Party 1 holds the value as its share and every
+   * party holds its share of the MAC key as its share of the MAC if the value is 1.
+   *
+   * @param value The public value
+   * @param keyShare This party's share of the MAC key
+   * @param myId The id of this party
+   * @return A share of the value
+   */
+  public static BinarySpdzSBool known(boolean value, StrictBitVector keyShare, int myId) {
+    return new BinarySpdzSBool(myId == 1 && value,
+        value ? copy(keyShare) : new StrictBitVector(keyShare.getSize()));
+  }
+
+  public boolean getShare() {
+    return share;
+  }
+
+  public StrictBitVector getMac() {
+    return mac;
+  }
+
+  /**
+   * XORs two {@link BinarySpdzSBool} instances.
+   *
+   * @param other The value to XOR with
+   * @return The XOR
+   */
+  public BinarySpdzSBool xor(BinarySpdzSBool other) {
+    StrictBitVector mac = copy(this.mac);
+    mac.xor(other.mac);
+    return new BinarySpdzSBool(share ^ other.share, mac);
+  }
+
+  /**
+   * XORs a public value to this {@link BinarySpdzSBool}.
+   *
+   * @param value The public value
+   * @param keyShare This party's share of the MAC key
+   * @param myId The id of this party (used to determine if this call was made by party 1 or not)
+   * @return The XOR
+   */
+  public BinarySpdzSBool xorKnown(boolean value, StrictBitVector keyShare, int myId) {
+    if (!value) {
+      return this;
+    }
+    StrictBitVector mac = copy(this.mac);
+    mac.xor(keyShare);
+    return new BinarySpdzSBool(myId == 1 ? !share : share, mac);
+  }
+
+  /**
+   * ANDs this {@link BinarySpdzSBool} with a public value.
+   *
+   * @param value The public value
+   * @return The AND
+   */
+  public BinarySpdzSBool and(boolean value) {
+    return value ? this : new BinarySpdzSBool(false, new StrictBitVector(mac.getSize()));
+  }
+
+  @Override
+  public BinarySpdzSBool out() {
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "BinarySpdzSBool [share=" + share + ", mac=" + mac + "]";
+  }
+
+  private static StrictBitVector copy(StrictBitVector vector) {
+    return new StrictBitVector(vector.toByteArray());
+  }
+}
@@ -0,0 +1,41 @@
+package dk.alexandra.fresco.suite.binaryspdz.datatypes;
+
+/**
+ * A multiplication triple of secret bits <i>a</i>, <i>b</i> and <i>c = a &middot; b</i>.
+ */
+public class BinarySpdzTriple {
+
+  private final BinarySpdzSBool a;
+  private final BinarySpdzSBool b;
+  private final BinarySpdzSBool c;
+
+  /**
+   * Creates a new triple.
+   *
+   * @param a The first factor
+   * @param b The second factor
+   * @param c The product
+   */
+  public BinarySpdzTriple(BinarySpdzSBool a, BinarySpdzSBool b, BinarySpdzSBool c) {
+    this.a = a;
+    this.b = b;
+    this.c = c;
+  }
+
+  public BinarySpdzSBool getA() {
+    return a;
+  }
+
+  public BinarySpdzSBool getB() {
+    return b;
+  }
+
+  public BinarySpdzSBool getC() {
+    return c;
+  }
+
+  @Override
+  public String toString() {
+    return "BinarySpdzTriple [a=" + a + ", b=" + b + ", c=" + c + "]";
+  }
+}
@@ -0,0 +1,119 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzTriple;
+
+/**
+ * AND of two secret bits <i>x</i> and <i>y</i> using a triple <i>(a, b, c)</i>. The parties open
+ * <i>e = x &oplus; a</i> and <i>d = y &oplus; b</i> and compute <i>x &middot; y = c &oplus; e
+ * &middot; b &oplus; d &middot; a &oplus; e &middot; d</i>.
+ *
+ * <p>When evaluated by a {@link dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator}
+ * the round synchronization of the suite opens <i>e</i> and <i>d</i> of all AND gates of a batch
+ * at once in a single bit-packed message (see {@link #prepare} and {@link #setOpenedValues}), in
+ * which case this protocol completes without further communication. Otherwise the gate is opened
+ * on its own.</p>
+ */
+public class BinarySpdzAndProtocol extends BinarySpdzNativeProtocol<SBool> {
+
+  private final DRes<SBool> left;
+  private final DRes<SBool> right;
+  private BinarySpdzTriple triple;
+  private BinarySpdzSBool epsilon;
+  private BinarySpdzSBool delta;
+  private BinarySpdzSBool out;
+
+  public BinarySpdzAndProtocol(DRes<SBool> left, DRes<SBool> right) {
+    this.left = left;
+    this.right = right;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    if (out != null) {
+      // already opened as part of a batch
+      return EvaluationStatus.IS_DONE;
+    }
+    if (round == 0) {
+      prepare(resourcePool);
+      StrictBitVector shares = new StrictBitVector(Byte.SIZE);
+      shares.setBit(0, epsilon.getShare(), false);
+      shares.setBit(1, delta.getShare(), false);
+      network.sendToAll(shares.toByteArray());
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      boolean e = false;
+      boolean d = false;
+      for (byte[] buffer : network.receiveFromAll()) {
+        if (buffer.length != 1) {
+          throw new MaliciousException("Received an unexpected amount of shares");
+        }
+        StrictBitVector shares = new StrictBitVector(buffer);
+        e ^= shares.getBit(0, false);
+        d ^= shares.getBit(1, false);
+      }
+      setOpenedValues(e, d, resourcePool);
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  /**
+   * Takes the triple of this gate and computes this party's shares of <i>e = x &oplus; a</i> and
+   * <i>d = y &oplus; b</i>.
+   *
+   * @param resourcePool the resource pool supplying the triple
+   */
+  public void prepare(BinarySpdzResourcePool resourcePool) {
+    this.triple = resourcePool.getDataSupplier().getNextTriple();
+    this.epsilon = ((BinarySpdzSBool) left.out()).xor(triple.getA());
+    this.delta = ((BinarySpdzSBool) right.out()).xor(triple.getB());
+  }
+
+  /**
+   * Gets this party's share of <i>e = x &oplus; a</i>. Only available after {@link #prepare}.
+   *
+   * @return the share
+   */
+  public boolean getEpsilonShare() {
+    return epsilon.getShare();
+  }
+
+  /**
+   * Gets this party's share of <i>d = y &oplus; b</i>. Only available after {@link #prepare}.
+   *
+   * @return the share
+   */
+  public boolean getDeltaShare() {
+    return delta.getShare();
+  }
+
+  /**
+   * Computes the output of this gate from the opened values of <i>e</i> and <i>d</i>, and stores
+   * them for the next MAC check.
+   *
+   * @param e the opened value of <i>x &oplus; a</i>
+   * @param d the opened value of <i>y &oplus; b</i>
+   * @param resourcePool the resource pool used
+   */
+  public void setOpenedValues(boolean e, boolean d, BinarySpdzResourcePool resourcePool) {
+    this.out = triple.getC()
+        .xor(triple.getB().and(e))
+        .xor(triple.getA().and(d))
+        .xorKnown(e && d, resourcePool.getDataSupplier().getSecretSharedKey(),
+            resourcePool.getMyId());
+    resourcePool.getOpenedValueStore().pushOpenedValue(epsilon, e);
+    resourcePool.getOpenedValueStore().pushOpenedValue(delta, d);
+  }
+
+  @Override
+  public SBool out() {
+    return out;
+  }
+}
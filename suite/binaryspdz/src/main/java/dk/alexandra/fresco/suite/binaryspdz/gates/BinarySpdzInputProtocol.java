@@ -0,0 +1,72 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.network.serializers.BooleanSerializer;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzInputMask;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+/**
+ * Inputs a bit using an input mask <i>r</i> known to the inputter. The inputter broadcasts <i>x
+ * &oplus; r</i> and the parties XOR it to their shares of the mask. With more than two parties
+ * the broadcast is validated by echoing a digest of the received value.
+ */
+public class BinarySpdzInputProtocol extends BinarySpdzNativeProtocol<SBool> {
+
+  private final boolean input;
+  private final int inputter;
+  private BinarySpdzInputMask inputMask;
+  private boolean valueMasked;
+  private byte[] digest;
+  private BinarySpdzSBool out;
+
+  public BinarySpdzInputProtocol(boolean input, int inputter) {
+    this.input = input;
+    this.inputter = inputter;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    int myId = resourcePool.getMyId();
+    if (round == 0) {
+      this.inputMask = resourcePool.getDataSupplier().getNextInputMask(inputter);
+      if (myId == inputter) {
+        boolean bcValue = input ^ inputMask.getRealValue();
+        network.sendToAll(new byte[]{BooleanSerializer.toBytes(bcValue)});
+      }
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else if (round == 1) {
+      byte[] receivedBytes = network.receive(inputter);
+      if (receivedBytes.length != 1) {
+        throw new MaliciousException("Received an unexpected amount of masked input bits");
+      }
+      this.valueMasked = BooleanSerializer.fromBytes(receivedBytes[0]);
+      if (resourcePool.getNoOfParties() <= 2) {
+        // With two parties there is no one to send a different value to
+        return done(resourcePool);
+      }
+      this.digest =
+          sendBroadcastValidation(resourcePool.getMessageDigest(), network, receivedBytes);
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      if (!receiveBroadcastValidation(network, digest)) {
+        throw new MaliciousException("Broadcast digests did not match");
+      }
+      return done(resourcePool);
+    }
+  }
+
+  private EvaluationStatus done(BinarySpdzResourcePool resourcePool) {
+    this.out = inputMask.getMask().xorKnown(valueMasked,
+        resourcePool.getDataSupplier().getSecretSharedKey(), resourcePool.getMyId());
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public SBool out() {
+    return out;
+  }
+}
@@ -0,0 +1,29 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+public class BinarySpdzKnownProtocol extends BinarySpdzNativeProtocol<SBool> {
+
+  private final boolean value;
+  private BinarySpdzSBool out;
+
+  public BinarySpdzKnownProtocol(boolean value) {
+    this.value = value;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    out = BinarySpdzSBool.known(value, resourcePool.getDataSupplier().getSecretSharedKey(),
+        resourcePool.getMyId());
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public SBool out() {
+    return out;
+  }
+}
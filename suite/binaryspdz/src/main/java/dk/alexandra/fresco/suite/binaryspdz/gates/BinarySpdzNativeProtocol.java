@@ -0,0 +1,29 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.NativeProtocol;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+
+public abstract class BinarySpdzNativeProtocol<OutputT> implements
+    NativeProtocol<OutputT, BinarySpdzResourcePool> {
+
+  byte[] sendBroadcastValidation(MessageDigest dig, Network network, byte[] b) {
+    dig.update(b);
+    byte[] digest = dig.digest();
+    dig.reset();
+    network.sendToAll(digest);
+    return digest;
+  }
+
+  boolean receiveBroadcastValidation(Network network, byte[] digest) {
+    boolean validated = true;
+    List<byte[]> digests = network.receiveFromAll();
+    for (byte[] d : digests) {
+      validated = validated && Arrays.equals(d, digest);
+    }
+    return validated;
+  }
+}
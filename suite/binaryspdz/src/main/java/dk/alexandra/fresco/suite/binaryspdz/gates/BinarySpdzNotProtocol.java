@@ -0,0 +1,30 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+public class BinarySpdzNotProtocol extends BinarySpdzNativeProtocol<SBool> {
+
+  private final DRes<SBool> in;
+  private BinarySpdzSBool out;
+
+  public BinarySpdzNotProtocol(DRes<SBool> in) {
+    this.in = in;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    out = ((BinarySpdzSBool) in.out()).xorKnown(true,
+        resourcePool.getDataSupplier().getSecretSharedKey(), resourcePool.getMyId());
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public SBool out() {
+    return out;
+  }
+}
@@ -0,0 +1,9 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+/**
+ * Marker interface for protocols revealing a value, before which all opened values must have
+ * been MAC checked.
+ */
+public interface BinarySpdzOutputProtocol {
+
+}
@@ -0,0 +1,58 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.network.serializers.BooleanSerializer;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzInputMask;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+/**
+ * Opens a bit towards a single party by publicly opening it masked with an input mask known only
+ * to that party.
+ */
+public class BinarySpdzOutputSingleProtocol extends BinarySpdzNativeProtocol<Boolean>
+    implements BinarySpdzOutputProtocol {
+
+  private final DRes<SBool> in;
+  private final int targetPlayer;
+  private BinarySpdzInputMask mask;
+  private BinarySpdzSBool inXorMask;
+  private Boolean out;
+
+  public BinarySpdzOutputSingleProtocol(DRes<SBool> in, int targetPlayer) {
+    this.in = in;
+    this.targetPlayer = targetPlayer;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    if (round == 0) {
+      this.mask = resourcePool.getDataSupplier().getNextInputMask(targetPlayer);
+      this.inXorMask = ((BinarySpdzSBool) in.out()).xor(mask.getMask());
+      network.sendToAll(new byte[]{BooleanSerializer.toBytes(inXorMask.getShare())});
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      boolean openedVal = false;
+      for (byte[] buffer : network.receiveFromAll()) {
+        if (buffer.length != 1) {
+          throw new MaliciousException("Received an unexpected amount of shares");
+        }
+        openedVal ^= BooleanSerializer.fromBytes(buffer[0]);
+      }
+      resourcePool.getOpenedValueStore().pushOpenedValue(inXorMask, openedVal);
+      if (targetPlayer == resourcePool.getMyId()) {
+        this.out = openedVal ^ mask.getRealValue();
+      }
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  @Override
+  public Boolean out() {
+    return out;
+  }
+}
@@ -0,0 +1,46 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.network.serializers.BooleanSerializer;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+public class BinarySpdzOutputToAllProtocol extends BinarySpdzNativeProtocol<Boolean>
+    implements BinarySpdzOutputProtocol {
+
+  private final DRes<SBool> in;
+  private Boolean out;
+
+  public BinarySpdzOutputToAllProtocol(DRes<SBool> in) {
+    this.in = in;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    BinarySpdzSBool share = (BinarySpdzSBool) in.out();
+    if (round == 0) {
+      network.sendToAll(new byte[]{BooleanSerializer.toBytes(share.getShare())});
+      return EvaluationStatus.HAS_MORE_ROUNDS;
+    } else {
+      boolean openedVal = false;
+      for (byte[] buffer : network.receiveFromAll()) {
+        if (buffer.length != 1) {
+          throw new MaliciousException("Received an unexpected amount of shares");
+        }
+        openedVal ^= BooleanSerializer.fromBytes(buffer[0]);
+      }
+      resourcePool.getOpenedValueStore().pushOpenedValue(share, openedVal);
+      this.out = openedVal;
+      return EvaluationStatus.IS_DONE;
+    }
+  }
+
+  @Override
+  public Boolean out() {
+    return out;
+  }
+}
@@ -0,0 +1,23 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+public class BinarySpdzRandomBitProtocol extends BinarySpdzNativeProtocol<SBool> {
+
+  private BinarySpdzSBool out;
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    out = resourcePool.getDataSupplier().getNextRandomBit();
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public SBool out() {
+    return out;
+  }
+}
@@ -0,0 +1,31 @@
+package dk.alexandra.fresco.suite.binaryspdz.gates;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzResourcePool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+
+public class BinarySpdzXorProtocol extends BinarySpdzNativeProtocol<SBool> {
+
+  private final DRes<SBool> left;
+  private final DRes<SBool> right;
+  private BinarySpdzSBool out;
+
+  public BinarySpdzXorProtocol(DRes<SBool> left, DRes<SBool> right) {
+    this.left = left;
+    this.right = right;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, BinarySpdzResourcePool resourcePool,
+      Network network) {
+    out = ((BinarySpdzSBool) left.out()).xor((BinarySpdzSBool) right.out());
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public SBool out() {
+    return out;
+  }
+}
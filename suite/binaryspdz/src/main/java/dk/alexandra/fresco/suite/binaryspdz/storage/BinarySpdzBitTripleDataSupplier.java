@@ -0,0 +1,266 @@
+package dk.alexandra.fresco.suite.binaryspdz.storage;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.BinarySpdzMacCheck;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzInputMask;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzTriple;
+import dk.alexandra.fresco.tools.bitTriples.BitTriple;
+import dk.alexandra.fresco.tools.bitTriples.BitTripleResourcePool;
+import dk.alexandra.fresco.tools.bitTriples.cointossing.CoinTossingMpc;
+import dk.alexandra.fresco.tools.bitTriples.elements.AuthenticatedElement;
+import dk.alexandra.fresco.tools.bitTriples.elements.MultiplicationTriple;
+import dk.alexandra.fresco.tools.bitTriples.prg.BytePrgImpl;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link BinarySpdzDataSupplier} producing its material with {@link BitTriple} in the
+ * background.
+ *
+ * <p>Triples are generated in batches on a background thread using a network dedicated to this
+ * supplier. The next batch is started as soon as the buffered triples fall below half a batch, so
+ * the evaluation normally does not wait for triples. As all parties consume material in the same
+ * order, the batches are started at the same points by all parties and the background thread runs
+ * the same sequence of jobs at every party. The MAC key is this party's key share used for the
+ * triples.</p>
+ *
+ * <p>Random bits are the authenticated factors of triples. An input mask for party <i>j</i> is a
+ * random bit whose shares are sent to <i>j</i>. The masks are privately opened in batches
+ * together with <i>s</i> extra random bits, where <i>s</i> is the statistical security parameter.
+ * After the shares are sent, the parties toss coins to get random linear combinations of the masks,
+ * each added to one of the extra bits. These are opened publicly and MAC checked, and <i>j</i>
+ * checks that they match the values it reconstructed, which catches wrong shares except with
+ * probability <i>2<sup>-s</sup></i>.</p>
+ */
+public class BinarySpdzBitTripleDataSupplier implements BinarySpdzDataSupplier, Closeable {
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+  private final BitTripleResourcePool resourcePool;
+  private final Network network;
+  private final int batchSize;
+  private final StrictBitVector macKeyShareLeft;
+  private final StrictBitVector keyShare;
+  private final ExecutorService executor;
+  private final ArrayDeque<BinarySpdzTriple> triples;
+  private final ArrayDeque<BinarySpdzSBool> randomBits;
+  private final Map<Integer, ArrayDeque<BinarySpdzInputMask>> inputMasks;
+  private BitTriple bitTriple;
+  private Future<List<BinarySpdzTriple>> pendingTriples;
+
+  /**
+   * Creates a new supplier. The setup of the triple generation and the first batch of triples are
+   * started in the background right away. Must be created by all parties.
+   *
+   * @param resourcePool the resource pool of the triple generation
+   * @param network the network to use. Must not be used by anything else, in particular not by the
+   *     evaluation using this supplier
+   * @param batchSize the number of triples to generate per batch
+   */
+  public BinarySpdzBitTripleDataSupplier(BitTripleResourcePool resourcePool, Network network,
+      int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.resourcePool = resourcePool;
+    this.network = network;
+    this.batchSize = batchSize;
+    int kappa = resourcePool.getComputationalSecurityBitParameter();
+    this.macKeyShareLeft = resourcePool.getLocalSampler().getNext(kappa);
+    this.keyShare = resourcePool.getLocalSampler().getNext(kappa);
+    this.triples = new ArrayDeque<>();
+    this.randomBits = new ArrayDeque<>();
+    this.inputMasks = new HashMap<>();
+    for (int i = 1; i <= resourcePool.getNoOfParties(); i++) {
+      inputMasks.put(i, new ArrayDeque<>());
+    }
+    this.executor = Executors.newSingleThreadExecutor(r -> {
+      Thread thread = new Thread(r, "BitTripleSupplier-" + THREAD_COUNTER.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.pendingTriples = executor.submit(this::generateTriples);
+  }
+
+  @Override
+  public BinarySpdzTriple getNextTriple() {
+    if (triples.isEmpty()) {
+      if (pendingTriples == null) {
+        pendingTriples = executor.submit(this::generateTriples);
+      }
+      triples.addAll(await(pendingTriples));
+      pendingTriples = null;
+    }
+    BinarySpdzTriple triple = triples.poll();
+    if (pendingTriples == null && triples.size() < batchSize / 2) {
+      pendingTriples = executor.submit(this::generateTriples);
+    }
+    return triple;
+  }
+
+  @Override
+  public BinarySpdzInputMask getNextInputMask(int towardPlayerId) {
+    ArrayDeque<BinarySpdzInputMask> masks = inputMasks.get(towardPlayerId);
+    if (masks.isEmpty()) {
+      int checks = resourcePool.getStatisticalSecurityByteParameter();
+      List<BinarySpdzSBool> bits = new ArrayList<>(batchSize + checks);
+      for (int i = 0; i < batchSize + checks; i++) {
+        bits.add(getNextRandomBit());
+      }
+      masks.addAll(await(executor.submit(() -> openMasks(towardPlayerId, bits, batchSize))));
+    }
+    return masks.poll();
+  }
+
+  @Override
+  public BinarySpdzSBool getNextRandomBit() {
+    if (randomBits.isEmpty()) {
+      BinarySpdzTriple triple = getNextTriple();
+      randomBits.add(triple.getA());
+      randomBits.add(triple.getB());
+    }
+    return randomBits.poll();
+  }
+
+  @Override
+  public StrictBitVector getSecretSharedKey() {
+    return keyShare;
+  }
+
+  /**
+   * Shuts down the background thread. Does not close the network.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private List<BinarySpdzTriple> generateTriples() {
+    if (bitTriple == null) {
+      bitTriple = new BitTriple(resourcePool, network, macKeyShareLeft, keyShare);
+    }
+    List<MultiplicationTriple> generated = bitTriple.getTriples(batchSize);
+    List<BinarySpdzTriple> res = new ArrayList<>(generated.size());
+    for (MultiplicationTriple triple : generated) {
+      res.add(new BinarySpdzTriple(toSBool(triple.getLeft()), toSBool(triple.getRight()),
+          toSBool(triple.getProduct())));
+    }
+    return res;
+  }
+
+  /**
+   * Privately opens the first <i>count</i> bits towards a party, using the remaining bits to check
+   * the opening.
+   */
+  private List<BinarySpdzInputMask> openMasks(int towardPlayerId, List<BinarySpdzSBool> bits,
+      int count) {
+    int myId = resourcePool.getMyId();
+    int checks = bits.size() - count;
+    // Send the shares of all bits to the receiver
+    StrictBitVector values = toShareVector(bits);
+    if (myId == towardPlayerId) {
+      for (int i = 1; i <= resourcePool.getNoOfParties(); i++) {
+        if (i != myId) {
+          values.xor(receiveShares(i, values.getSize()));
+        }
+      }
+    } else {
+      network.send(towardPlayerId, values.toByteArray());
+    }
+    // Open random combinations of the masks, each hidden by a check bit
+    StrictBitVector seed = new CoinTossingMpc(resourcePool, network)
+        .generateJointSeed(resourcePool.getPrgSeedBitLength());
+    StrictBitVector coefficients = new BytePrgImpl(seed).getNext(roundUp(checks * count));
+    List<BinarySpdzSBool> combinations = new ArrayList<>(checks);
+    for (int t = 0; t < checks; t++) {
+      BinarySpdzSBool combination = bits.get(count + t);
+      for (int l = 0; l < count; l++) {
+        if (coefficients.getBit(t * count + l, false)) {
+          combination = combination.xor(bits.get(l));
+        }
+      }
+      combinations.add(combination);
+    }
+    StrictBitVector opened = toShareVector(combinations);
+    network.sendToAll(opened.toByteArray());
+    opened = new StrictBitVector(opened.getSize());
+    for (int i = 1; i <= resourcePool.getNoOfParties(); i++) {
+      opened.xor(receiveShares(i, opened.getSize()));
+    }
+    List<Boolean> openedCombinations = new ArrayList<>(checks);
+    for (int t = 0; t < checks; t++) {
+      openedCombinations.add(opened.getBit(t, false));
+    }
+    new BinarySpdzMacCheck(resourcePool.getNoOfParties(), network,
+        resourcePool.getRandomGenerator()).check(combinations, openedCombinations, keyShare);
+    List<BinarySpdzInputMask> masks = new ArrayList<>(count);
+    if (myId == towardPlayerId) {
+      for (int t = 0; t < checks; t++) {
+        boolean combination = values.getBit(count + t, false);
+        for (int l = 0; l < count; l++) {
+          combination ^= coefficients.getBit(t * count + l, false) && values.getBit(l, false);
+        }
+        if (combination != openedCombinations.get(t)) {
+          throw new MaliciousException("Shares of input masks were inconsistent");
+        }
+      }
+      for (int l = 0; l < count; l++) {
+        masks.add(new BinarySpdzInputMask(bits.get(l), values.getBit(l, false)));
+      }
+    } else {
+      for (int l = 0; l < count; l++) {
+        masks.add(new BinarySpdzInputMask(bits.get(l)));
+      }
+    }
+    return masks;
+  }
+
+  private StrictBitVector receiveShares(int partyId, int size) {
+    byte[] shares = network.receive(partyId);
+    if (shares.length != size / Byte.SIZE) {
+      throw new MaliciousException("Received an unexpected amount of shares");
+    }
+    return new StrictBitVector(shares);
+  }
+
+  private static StrictBitVector toShareVector(List<BinarySpdzSBool> bits) {
+    StrictBitVector shares = new StrictBitVector(roundUp(bits.size()));
+    for (int i = 0; i < bits.size(); i++) {
+      shares.setBit(i, bits.get(i).getShare(), false);
+    }
+    return shares;
+  }
+
+  private static BinarySpdzSBool toSBool(AuthenticatedElement element) {
+    return new BinarySpdzSBool(element.getBit(), element.getMac());
+  }
+
+  private static int roundUp(int amount) {
+    return (amount + Byte.SIZE - 1) / Byte.SIZE * Byte.SIZE;
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException("Generating preprocessed material failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for preprocessed material", e);
+    }
+  }
+}
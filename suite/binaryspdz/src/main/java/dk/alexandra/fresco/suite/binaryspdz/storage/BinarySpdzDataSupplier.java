@@ -0,0 +1,42 @@
+package dk.alexandra.fresco.suite.binaryspdz.storage;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzInputMask;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzTriple;
+
+/**
+ * Supplies the preprocessed material of the binary Spdz protocol suite. All material must be
+ * authenticated under the MAC key returned by {@link #getSecretSharedKey()}.
+ */
+public interface BinarySpdzDataSupplier {
+
+  /**
+   * Supplies the next triple.
+   *
+   * @return the next new triple
+   */
+  BinarySpdzTriple getNextTriple();
+
+  /**
+   * Supplies the next input mask for a given input player.
+   *
+   * @param towardPlayerId the id of the input player
+   * @return the appropriate input mask
+   */
+  BinarySpdzInputMask getNextInputMask(int towardPlayerId);
+
+  /**
+   * Supplies the next random bit.
+   *
+   * @return the next new random bit
+   */
+  BinarySpdzSBool getNextRandomBit();
+
+  /**
+   * Returns the player's share of the MAC key. This is never to be send to anyone else!
+   *
+   * @return a share of the key
+   */
+  StrictBitVector getSecretSharedKey();
+}
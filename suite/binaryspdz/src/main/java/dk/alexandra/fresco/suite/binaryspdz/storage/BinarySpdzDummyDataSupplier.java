@@ -0,0 +1,81 @@
+package dk.alexandra.fresco.suite.binaryspdz.storage;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzInputMask;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzTriple;
+import java.util.Random;
+
+/**
+ * Insecure implementation of {@link BinarySpdzDataSupplier} for testing. All parties draw the
+ * values and their sharing from a random generator with the same, fixed seed, and each party
+ * computes its share of the MAC of a value <i>x</i> as <i>x</i> times its own share of the key.
+ */
+public class BinarySpdzDummyDataSupplier implements BinarySpdzDataSupplier {
+
+  private final int myId;
+  private final int noOfParties;
+  private final StrictBitVector keyShare;
+  private final Random random;
+
+  /**
+   * Creates a new dummy supplier.
+   *
+   * @param myId the id of this party
+   * @param noOfParties the number of parties
+   * @param keyShare this party's share of the MAC key
+   */
+  public BinarySpdzDummyDataSupplier(int myId, int noOfParties, StrictBitVector keyShare) {
+    this.myId = myId;
+    this.noOfParties = noOfParties;
+    this.keyShare = keyShare;
+    this.random = new Random(42);
+  }
+
+  @Override
+  public BinarySpdzTriple getNextTriple() {
+    boolean a = random.nextBoolean();
+    boolean b = random.nextBoolean();
+    return new BinarySpdzTriple(share(a), share(b), share(a && b));
+  }
+
+  @Override
+  public BinarySpdzInputMask getNextInputMask(int towardPlayerId) {
+    boolean value = random.nextBoolean();
+    BinarySpdzSBool mask = share(value);
+    if (myId == towardPlayerId) {
+      return new BinarySpdzInputMask(mask, value);
+    } else {
+      return new BinarySpdzInputMask(mask);
+    }
+  }
+
+  @Override
+  public BinarySpdzSBool getNextRandomBit() {
+    return share(random.nextBoolean());
+  }
+
+  @Override
+  public StrictBitVector getSecretSharedKey() {
+    return keyShare;
+  }
+
+  private BinarySpdzSBool share(boolean value) {
+    boolean myShare = false;
+    boolean sum = false;
+    for (int i = 1; i < noOfParties; i++) {
+      boolean share = random.nextBoolean();
+      sum ^= share;
+      if (i == myId) {
+        myShare = share;
+      }
+    }
+    if (myId == noOfParties) {
+      myShare = value ^ sum;
+    }
+    StrictBitVector mac = value
+        ? new StrictBitVector(keyShare.toByteArray())
+        : new StrictBitVector(keyShare.getSize());
+    return new BinarySpdzSBool(myShare, mac);
+  }
+}
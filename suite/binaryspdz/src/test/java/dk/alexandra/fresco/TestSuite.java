@@ -0,0 +1,21 @@
+package dk.alexandra.fresco;
+
+import dk.alexandra.fresco.suite.binaryspdz.TestBinarySpdz;
+import dk.alexandra.fresco.suite.binaryspdz.TestBinarySpdzMacCheck;
+import dk.alexandra.fresco.suite.binaryspdz.storage.TestBinarySpdzBitTripleDataSupplier;
+import org.junit.experimental.categories.Categories;
+import org.junit.experimental.categories.Categories.ExcludeCategory;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Categories.class)
+@Suite.SuiteClasses({
+    //Binary Spdz protocol suite
+    TestBinarySpdz.class,
+    TestBinarySpdzMacCheck.class,
+    TestBinarySpdzBitTripleDataSupplier.class
+})
+@ExcludeCategory(IntegrationTest.class)
+public class TestSuite {
+  //nothing
+}
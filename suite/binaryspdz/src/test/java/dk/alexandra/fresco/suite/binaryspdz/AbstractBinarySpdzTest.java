@@ -0,0 +1,115 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.ProtocolEvaluator;
+import dk.alexandra.fresco.framework.TestThreadRunner;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadConfiguration;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkUtil;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.OpenedValueStoreImpl;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzBitTripleDataSupplier;
+import dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzDataSupplier;
+import dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzDummyDataSupplier;
+import dk.alexandra.fresco.tools.bitTriples.BitTripleResourcePoolImpl;
+import dk.alexandra.fresco.tools.bitTriples.BitTripleSecurityParameters;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+
+/**
+ * Abstract class which handles a lot of boiler plate testing code. This makes running a single
+ * test using different parameters quite easy.
+ */
+public abstract class AbstractBinarySpdzTest {
+
+  protected enum PreprocessingStrategy {
+    DUMMY, BIT_TRIPLES
+  }
+
+  private static final int KEY_LENGTH = 128;
+  private static final int TRIPLE_BATCH_SIZE = 63;
+  private final List<Closeable> preprocessingResources =
+      Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Closes the networks and threads of the preprocessing.
+   */
+  @After
+  public void closePreprocessing() throws IOException {
+    for (Closeable closeable : preprocessingResources) {
+      closeable.close();
+    }
+    preprocessingResources.clear();
+  }
+
+  protected void runTest(
+      TestThreadFactory<BinarySpdzResourcePool, ProtocolBuilderBinary> f,
+      PreprocessingStrategy preprocessingStrategy, int noOfParties) {
+    List<Integer> ports = NetworkUtil.getFreePorts(2 * noOfParties);
+    Map<Integer, NetworkConfiguration> netConf =
+        NetworkUtil.getNetworkConfigurations(ports.subList(0, noOfParties));
+    Map<Integer, NetworkConfiguration> preprocessingNetConf =
+        NetworkUtil.getNetworkConfigurations(ports.subList(noOfParties, 2 * noOfParties));
+    Map<Integer, TestThreadConfiguration<BinarySpdzResourcePool, ProtocolBuilderBinary>> conf =
+        new HashMap<>();
+    for (int playerId : netConf.keySet()) {
+      BinarySpdzProtocolSuite protocolSuite = new BinarySpdzProtocolSuite();
+      BatchEvaluationStrategy<BinarySpdzResourcePool> batchEvaluationStrategy =
+          EvaluationStrategy.SEQUENTIAL_BATCHED.getStrategy();
+      ProtocolEvaluator<BinarySpdzResourcePool> evaluator =
+          new BatchedProtocolEvaluator<>(batchEvaluationStrategy, protocolSuite);
+      SecureComputationEngine<BinarySpdzResourcePool, ProtocolBuilderBinary> sce =
+          new SecureComputationEngineImpl<>(protocolSuite, evaluator);
+      NetworkConfiguration partyNetConf = netConf.get(playerId);
+      NetworkConfiguration partyPreprocessingNetConf = preprocessingNetConf.get(playerId);
+      TestThreadConfiguration<BinarySpdzResourcePool, ProtocolBuilderBinary> ttc =
+          new TestThreadConfiguration<>(sce,
+              () -> createResourcePool(playerId, noOfParties, preprocessingStrategy,
+                  partyPreprocessingNetConf),
+              () -> new SocketNetwork(partyNetConf));
+      conf.put(playerId, ttc);
+    }
+    TestThreadRunner.run(f, conf);
+  }
+
+  private BinarySpdzResourcePool createResourcePool(int myId, int noOfParties,
+      PreprocessingStrategy preprocessingStrategy, NetworkConfiguration preprocessingNetConf) {
+    BinarySpdzDataSupplier supplier;
+    if (preprocessingStrategy == PreprocessingStrategy.DUMMY) {
+      byte[] seed = new byte[32];
+      seed[0] = (byte) myId;
+      StrictBitVector keyShare = new StrictBitVector(KEY_LENGTH, new AesCtrDrbg(seed));
+      supplier = new BinarySpdzDummyDataSupplier(myId, noOfParties, keyShare);
+    } else {
+      CloseableNetwork network = new SocketNetwork(preprocessingNetConf);
+      preprocessingResources.add(0, network);
+      BitTripleSecurityParameters parameters = new BitTripleSecurityParameters(16, 64, 16);
+      byte[] seed = new byte[parameters.getPrgSeedBitLength() / Byte.SIZE];
+      seed[0] = (byte) myId;
+      BitTripleResourcePoolImpl resourcePool = new BitTripleResourcePoolImpl(myId, noOfParties,
+          1, AesCtrDrbgFactory.fromDerivedSeed(seed), parameters);
+      BinarySpdzBitTripleDataSupplier bitTripleSupplier =
+          new BinarySpdzBitTripleDataSupplier(resourcePool, network, TRIPLE_BATCH_SIZE);
+      preprocessingResources.add(0, bitTripleSupplier);
+      supplier = bitTripleSupplier;
+    }
+    return new BinarySpdzResourcePoolImpl(myId, noOfParties, new OpenedValueStoreImpl<>(),
+        supplier, new AesCtrDrbg());
+  }
+}
@@ -0,0 +1,125 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThread;
+import dk.alexandra.fresco.framework.TestThreadRunner.TestThreadFactory;
+import dk.alexandra.fresco.framework.builder.binary.Binary;
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.lib.bool.BasicBooleanTests;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestBinarySpdz extends AbstractBinarySpdzTest {
+
+  @Test
+  public void testInput() {
+    runTest(new BasicBooleanTests.TestInput<>(true), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testInputDifferentSender() {
+    runTest(new BasicBooleanTests.TestInputDifferentSender<>(true), PreprocessingStrategy.DUMMY,
+        2);
+  }
+
+  @Test
+  public void testXor() {
+    runTest(new BasicBooleanTests.TestXOR<>(true), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testAnd() {
+    runTest(new BasicBooleanTests.TestAND<>(true), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testNot() {
+    runTest(new BasicBooleanTests.TestNOT<>(true), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testRandomBit() {
+    runTest(new BasicBooleanTests.TestRandomBit<>(true), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testBasicProtocols() {
+    runTest(new BasicBooleanTests.TestBasicProtocols<>(true), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testManyAnds() {
+    runTest(new BasicBooleanTests.TestMultipleAnds<>(true, 2000), PreprocessingStrategy.DUMMY,
+        2);
+  }
+
+  @Test
+  public void testAndTruthTable() {
+    runTest(new TestAndTruthTable(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testBasicProtocolsThreeParties() {
+    runTest(new BasicBooleanTests.TestBasicProtocols<>(true), PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Test
+  public void testAndTruthTableThreeParties() {
+    runTest(new TestAndTruthTable(), PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Test
+  public void testBasicProtocolsBitTriples() {
+    runTest(new BasicBooleanTests.TestBasicProtocols<>(true), PreprocessingStrategy.BIT_TRIPLES,
+        2);
+  }
+
+  @Test
+  public void testAndTruthTableBitTriples() {
+    runTest(new TestAndTruthTable(), PreprocessingStrategy.BIT_TRIPLES, 2);
+  }
+
+  /**
+   * Computes AND and XOR of all combinations of inputs of party 1 and 2, opening the ANDs to party
+   * 2 only and the XORs to all.
+   */
+  private static class TestAndTruthTable
+      extends TestThreadFactory<BinarySpdzResourcePool, ProtocolBuilderBinary> {
+
+    @Override
+    public TestThread<BinarySpdzResourcePool, ProtocolBuilderBinary> next() {
+      return new TestThread<BinarySpdzResourcePool, ProtocolBuilderBinary>() {
+        @Override
+        public void test() throws Exception {
+          boolean[] left = {false, false, true, true};
+          boolean[] right = {false, true, false, true};
+          Application<List<Boolean>, ProtocolBuilderBinary> app = producer -> producer.seq(seq -> {
+            Binary builder = seq.binary();
+            List<DRes<Boolean>> list = new ArrayList<>();
+            for (int i = 0; i < left.length; i++) {
+              DRes<SBool> x = builder.input(left[i], 1);
+              DRes<SBool> y = builder.input(right[i], 2);
+              list.add(builder.open(builder.and(x, y), 2));
+              list.add(builder.open(builder.xor(x, y)));
+            }
+            return () -> list;
+          }).seq((seq, list) -> () -> list.stream().map(DRes::out).collect(Collectors.toList()));
+          List<Boolean> outs = runApplication(app);
+          for (int i = 0; i < left.length; i++) {
+            if (conf.getMyId() == 2) {
+              Assert.assertEquals(left[i] && right[i], outs.get(2 * i));
+            } else {
+              Assert.assertNull(outs.get(2 * i));
+            }
+            Assert.assertEquals(left[i] ^ right[i], outs.get(2 * i + 1));
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package dk.alexandra.fresco.suite.binaryspdz;
+
+import static org.junit.Assert.assertTrue;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkUtil;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.storage.BinarySpdzDummyDataSupplier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestBinarySpdzMacCheck {
+
+  private static final int KEY_LENGTH = 64;
+  private static final int AMOUNT = 100;
+  private ExecutorService executor;
+
+  @Before
+  public void setup() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Runs the MAC check of random bits for all parties, letting party 1 modify its view before.
+   */
+  private List<Future<Void>> runCheck(int noOfParties, boolean flipValue, boolean flipMac) {
+    Map<Integer, NetworkConfiguration> netConf =
+        NetworkUtil.getNetworkConfigurations(NetworkUtil.getFreePorts(noOfParties));
+    List<List<BinarySpdzSBool>> shares = new ArrayList<>();
+    List<StrictBitVector> keyShares = new ArrayList<>();
+    for (int myId = 1; myId <= noOfParties; myId++) {
+      byte[] seed = new byte[32];
+      seed[0] = (byte) myId;
+      StrictBitVector keyShare = new StrictBitVector(KEY_LENGTH, new AesCtrDrbg(seed));
+      BinarySpdzDummyDataSupplier supplier =
+          new BinarySpdzDummyDataSupplier(myId, noOfParties, keyShare);
+      List<BinarySpdzSBool> partyShares = new ArrayList<>();
+      for (int i = 0; i < AMOUNT; i++) {
+        partyShares.add(supplier.getNextRandomBit());
+      }
+      shares.add(partyShares);
+      keyShares.add(keyShare);
+    }
+    List<Boolean> opened = new ArrayList<>();
+    for (int i = 0; i < AMOUNT; i++) {
+      boolean value = false;
+      for (List<BinarySpdzSBool> partyShares : shares) {
+        value ^= partyShares.get(i).getShare();
+      }
+      opened.add(value);
+    }
+    List<Future<Void>> futures = new ArrayList<>();
+    for (int myId = 1; myId <= noOfParties; myId++) {
+      List<BinarySpdzSBool> partyShares = new ArrayList<>(shares.get(myId - 1));
+      List<Boolean> partyOpened = new ArrayList<>(opened);
+      if (myId == 1 && flipValue) {
+        partyOpened.set(AMOUNT / 2, !opened.get(AMOUNT / 2));
+      }
+      if (myId == 1 && flipMac) {
+        BinarySpdzSBool share = partyShares.get(AMOUNT / 2);
+        // An error in a single bit is only caught with probability 1/2, so flip all bits
+        StrictBitVector mac = new StrictBitVector(share.getMac().toByteArray());
+        for (int i = 0; i < KEY_LENGTH; i++) {
+          mac.setBit(i, !mac.getBit(i, false), false);
+        }
+        partyShares.set(AMOUNT / 2, new BinarySpdzSBool(share.getShare(), mac));
+      }
+      NetworkConfiguration partyNetConf = netConf.get(myId);
+      StrictBitVector keyShare = keyShares.get(myId - 1);
+      Callable<Void> task = () -> {
+        try (CloseableNetwork network = new SocketNetwork(partyNetConf)) {
+          new BinarySpdzMacCheck(noOfParties, network, new AesCtrDrbg())
+              .check(partyShares, partyOpened, keyShare);
+        }
+        return null;
+      };
+      futures.add(executor.submit(task));
+    }
+    return futures;
+  }
+
+  private static void assertAllFail(List<Future<Void>> futures) throws InterruptedException {
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof MaliciousException);
+        continue;
+      }
+      throw new AssertionError("Mac check passed");
+    }
+  }
+
+  @Test
+  public void testCheckPasses() throws Exception {
+    for (Future<Void> future : runCheck(2, false, false)) {
+      future.get();
+    }
+  }
+
+  @Test
+  public void testCheckPassesThreeParties() throws Exception {
+    for (Future<Void> future : runCheck(3, false, false)) {
+      future.get();
+    }
+  }
+
+  @Test
+  public void testWrongValueFails() throws Exception {
+    assertAllFail(runCheck(2, true, false));
+  }
+
+  @Test
+  public void testWrongMacFails() throws Exception {
+    assertAllFail(runCheck(2, false, true));
+  }
+
+  @Test
+  public void testWrongMacFailsThreeParties() throws Exception {
+    assertAllFail(runCheck(3, false, true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDifferentSizes() {
+    new BinarySpdzMacCheck(2, null, new AesCtrDrbg()).check(new ArrayList<>(),
+        Collections.singletonList(true), new StrictBitVector(KEY_LENGTH));
+  }
+}
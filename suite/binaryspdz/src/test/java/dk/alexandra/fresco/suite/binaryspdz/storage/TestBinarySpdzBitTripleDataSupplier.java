@@ -0,0 +1,153 @@
+package dk.alexandra.fresco.suite.binaryspdz.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkUtil;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzInputMask;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzSBool;
+import dk.alexandra.fresco.suite.binaryspdz.datatypes.BinarySpdzTriple;
+import dk.alexandra.fresco.tools.bitTriples.BitTripleResourcePoolImpl;
+import dk.alexandra.fresco.tools.bitTriples.BitTripleSecurityParameters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestBinarySpdzBitTripleDataSupplier {
+
+  private static final int TRIPLES = 150;
+  private static final int BITS = 50;
+  private static final int MASKS = 20;
+  private ExecutorService executor;
+
+  @Before
+  public void setup() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private static class PartyMaterial {
+
+    StrictBitVector keyShare;
+    List<BinarySpdzTriple> triples = new ArrayList<>();
+    List<BinarySpdzSBool> bits = new ArrayList<>();
+    List<BinarySpdzInputMask> masks = new ArrayList<>();
+  }
+
+  private PartyMaterial runParty(int myId, int noOfParties, NetworkConfiguration netConf)
+      throws Exception {
+    BitTripleSecurityParameters parameters = new BitTripleSecurityParameters(16, 64, 16);
+    byte[] seed = new byte[parameters.getPrgSeedBitLength() / Byte.SIZE];
+    seed[0] = (byte) myId;
+    BitTripleResourcePoolImpl resourcePool = new BitTripleResourcePoolImpl(myId, noOfParties, 1,
+        AesCtrDrbgFactory.fromDerivedSeed(seed), parameters);
+    try (CloseableNetwork network = new SocketNetwork(netConf);
+        BinarySpdzBitTripleDataSupplier supplier =
+            new BinarySpdzBitTripleDataSupplier(resourcePool, network, 63)) {
+      PartyMaterial material = new PartyMaterial();
+      material.keyShare = supplier.getSecretSharedKey();
+      // Interleave the kinds of material as an evaluation would
+      for (int i = 0; i < TRIPLES; i++) {
+        material.triples.add(supplier.getNextTriple());
+        if (i < BITS) {
+          material.bits.add(supplier.getNextRandomBit());
+        }
+        if (i < MASKS) {
+          material.masks.add(supplier.getNextInputMask(1 + i % noOfParties));
+        }
+      }
+      return material;
+    }
+  }
+
+  private List<PartyMaterial> run(int noOfParties) throws Exception {
+    Map<Integer, NetworkConfiguration> netConf =
+        NetworkUtil.getNetworkConfigurations(NetworkUtil.getFreePorts(noOfParties));
+    List<Future<PartyMaterial>> futures = new ArrayList<>();
+    for (int myId = 1; myId <= noOfParties; myId++) {
+      int id = myId;
+      futures.add(executor.submit(() -> runParty(id, noOfParties, netConf.get(id))));
+    }
+    List<PartyMaterial> res = new ArrayList<>();
+    for (Future<PartyMaterial> future : futures) {
+      res.add(future.get());
+    }
+    return res;
+  }
+
+  /**
+   * Reconstructs a shared bit and checks that its MAC is valid.
+   */
+  private static boolean open(List<PartyMaterial> materials,
+      Function<PartyMaterial, BinarySpdzSBool> getter) {
+    boolean value = false;
+    StrictBitVector mac = new StrictBitVector(materials.get(0).keyShare.getSize());
+    StrictBitVector key = new StrictBitVector(mac.getSize());
+    for (PartyMaterial material : materials) {
+      BinarySpdzSBool share = getter.apply(material);
+      value ^= share.getShare();
+      mac.xor(share.getMac());
+      key.xor(material.keyShare);
+    }
+    assertEquals(value ? key : new StrictBitVector(mac.getSize()), mac);
+    return value;
+  }
+
+  private void verify(List<PartyMaterial> materials) {
+    for (int i = 0; i < TRIPLES; i++) {
+      int index = i;
+      boolean a = open(materials, m -> m.triples.get(index).getA());
+      boolean b = open(materials, m -> m.triples.get(index).getB());
+      boolean c = open(materials, m -> m.triples.get(index).getC());
+      assertEquals(a && b, c);
+    }
+    for (int i = 0; i < BITS; i++) {
+      int index = i;
+      open(materials, m -> m.bits.get(index));
+    }
+    for (int i = 0; i < MASKS; i++) {
+      int index = i;
+      boolean value = open(materials, m -> m.masks.get(index).getMask());
+      int owner = 1 + i % materials.size();
+      for (int j = 1; j <= materials.size(); j++) {
+        Boolean realValue = materials.get(j - 1).masks.get(i).getRealValue();
+        if (j == owner) {
+          assertEquals(value, realValue);
+        } else {
+          assertNull(realValue);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTwoParties() throws Exception {
+    verify(run(2));
+  }
+
+  @Test
+  public void testThreeParties() throws Exception {
+    verify(run(3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalBatchSize() {
+    new BinarySpdzBitTripleDataSupplier(null, null, 0);
+  }
+}
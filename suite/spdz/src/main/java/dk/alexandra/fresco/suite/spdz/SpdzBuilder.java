@@ -5,6 +5,7 @@ import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzAddProtocol;
@@ -20,6 +21,7 @@ import dk.alexandra.fresco.suite.spdz.gates.SpdzSubtractProtocol;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzSubtractProtocolKnownLeft;
 import dk.alexandra.fresco.suite.spdz.gates.SpdzSubtractProtocolKnownRight;
 import java.math.BigInteger;
+import java.util.List;
 
 /**
  * Basic native builder for the SPDZ protocol suite.
@@ -39,10 +41,33 @@ public class SpdzBuilder implements BuilderFactoryNumeric {
 
   @Override
   public PreprocessedValues createPreprocessedValues(ProtocolBuilderNumeric protocolBuilder) {
-    return pipeLength -> {
-      SpdzExponentiationPipeProtocol spdzExpPipeProtocol =
-          new SpdzExponentiationPipeProtocol(pipeLength);
-      return protocolBuilder.append(spdzExpPipeProtocol);
+    return new PreprocessedValues() {
+      @Override
+      public DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength) {
+        SpdzExponentiationPipeProtocol spdzExpPipeProtocol =
+            new SpdzExponentiationPipeProtocol(pipeLength);
+        return protocolBuilder.append(spdzExpPipeProtocol);
+      }
+
+      @Override
+      public DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> getSolvedBits(int noOfMasks,
+          int noOfBits) {
+        if (noOfBits < 1) {
+          throw new IllegalArgumentException("Can not create a random value of less than 1 bit");
+        }
+        return protocolBuilder.append(new SpdzSolvedBitsProtocol(noOfMasks, noOfBits));
+      }
+
+      @Override
+      public DRes<List<Pair<DRes<SInt>, DRes<SInt>>>> getTruncationPairs(int noOfPairs,
+          int noOfBits, int shifts) {
+        if (shifts < 0 || shifts >= noOfBits) {
+          throw new IllegalArgumentException(
+              "The number of shifts must be non-negative and less than the number of bits");
+        }
+        return protocolBuilder.append(
+            new SpdzTruncationPairsProtocol(noOfPairs, noOfBits, shifts));
+      }
     };
   }
 
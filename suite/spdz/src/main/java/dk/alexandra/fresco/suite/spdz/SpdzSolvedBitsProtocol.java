@@ -0,0 +1,42 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSolvedBits;
+import dk.alexandra.fresco.suite.spdz.gates.SpdzNativeProtocol;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fetches a number of preprocessed random values and their bits from the data supplier in a
+ * single native protocol.
+ */
+public class SpdzSolvedBitsProtocol extends
+    SpdzNativeProtocol<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> {
+
+  private final int noOfMasks;
+  private final int noOfBits;
+  private List<Pair<DRes<SInt>, List<DRes<SInt>>>> result;
+
+  public SpdzSolvedBitsProtocol(int noOfMasks, int noOfBits) {
+    this.noOfMasks = noOfMasks;
+    this.noOfBits = noOfBits;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, SpdzResourcePool resourcePool, Network network) {
+    this.result = new ArrayList<>(noOfMasks);
+    for (int i = 0; i < noOfMasks; i++) {
+      SpdzSolvedBits solvedBits = resourcePool.getDataSupplier().getNextSolvedBits(noOfBits);
+      this.result.add(new Pair<>(solvedBits.getValue(), new ArrayList<>(solvedBits.getBits())));
+    }
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public List<Pair<DRes<SInt>, List<DRes<SInt>>>> out() {
+    return result;
+  }
+}
@@ -0,0 +1,45 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
+import dk.alexandra.fresco.suite.spdz.gates.SpdzNativeProtocol;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fetches a number of preprocessed truncation pairs from the data supplier in a single native
+ * protocol.
+ */
+public class SpdzTruncationPairsProtocol extends
+    SpdzNativeProtocol<List<Pair<DRes<SInt>, DRes<SInt>>>> {
+
+  private final int noOfPairs;
+  private final int noOfBits;
+  private final int shifts;
+  private List<Pair<DRes<SInt>, DRes<SInt>>> result;
+
+  public SpdzTruncationPairsProtocol(int noOfPairs, int noOfBits, int shifts) {
+    this.noOfPairs = noOfPairs;
+    this.noOfBits = noOfBits;
+    this.shifts = shifts;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, SpdzResourcePool resourcePool, Network network) {
+    this.result = new ArrayList<>(noOfPairs);
+    for (int i = 0; i < noOfPairs; i++) {
+      SpdzTruncationPair pair =
+          resourcePool.getDataSupplier().getNextTruncationPair(noOfBits, shifts);
+      this.result.add(new Pair<>(pair.getValue(), pair.getShifted()));
+    }
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public List<Pair<DRes<SInt>, DRes<SInt>>> out() {
+    return result;
+  }
+}
@@ -0,0 +1,76 @@
+package dk.alexandra.fresco.suite.spdz.datatypes;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A random value r shared together with shares of its bits r<sub>i</sub>, such that r =
+ * &Sigma; 2<sup>i</sup>r<sub>i</sub>.
+ */
+public class SpdzSolvedBits implements Serializable {
+
+  private static final long serialVersionUID = 2932813434245127146L;
+
+  private final SpdzSInt value;
+  private final List<SpdzSInt> bits;
+
+  /**
+   * Construct a new SpdzSolvedBits.
+   *
+   * @param value the random value r
+   * @param bits the bits of r, least significant bit first
+   */
+  public SpdzSolvedBits(SpdzSInt value, List<SpdzSInt> bits) {
+    this.value = value;
+    this.bits = bits;
+  }
+
+  /**
+   * Creates solved bits from shares of random bits, computing the value locally.
+   *
+   * @param bits the random bits, least significant bit first
+   * @param definition the field the shares are defined over
+   * @return the solved bits
+   */
+  public static SpdzSolvedBits fromBits(List<SpdzSInt> bits, FieldDefinition definition) {
+    return new SpdzSolvedBits(recombine(bits, definition), bits);
+  }
+
+  /**
+   * Returns a truncation pair (r, r &gt;&gt; shifts) of the value r. Since r &gt;&gt; shifts is a
+   * weighted sum of the top bits of r, it is computed locally.
+   *
+   * @param shifts the number of shifts, which must be less than the number of bits
+   * @param definition the field the shares are defined over
+   * @return the truncation pair
+   */
+  public SpdzTruncationPair getTruncationPair(int shifts, FieldDefinition definition) {
+    return new SpdzTruncationPair(value, recombine(bits.subList(shifts, bits.size()), definition));
+  }
+
+  private static SpdzSInt recombine(List<SpdzSInt> bits, FieldDefinition definition) {
+    SpdzSInt sum = bits.get(0);
+    FieldElement twoPower = definition.createElement(1);
+    FieldElement two = definition.createElement(2);
+    for (int i = 1; i < bits.size(); i++) {
+      twoPower = twoPower.multiply(two);
+      sum = sum.add(bits.get(i).multiply(twoPower));
+    }
+    return sum;
+  }
+
+  public SpdzSInt getValue() {
+    return value;
+  }
+
+  public List<SpdzSInt> getBits() {
+    return bits;
+  }
+
+  @Override
+  public String toString() {
+    return "SpdzSolvedBits [value=" + value + ", bits=" + bits + "]";
+  }
+}
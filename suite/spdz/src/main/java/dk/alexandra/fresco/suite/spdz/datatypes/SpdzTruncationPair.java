@@ -0,0 +1,38 @@
+package dk.alexandra.fresco.suite.spdz.datatypes;
+
+import java.io.Serializable;
+
+/**
+ * A random value r shared together with r &gt;&gt; d for some number of shifts d.
+ */
+public class SpdzTruncationPair implements Serializable {
+
+  private static final long serialVersionUID = -3471392838722184620L;
+
+  private final SpdzSInt value;
+  private final SpdzSInt shifted;
+
+  /**
+   * Construct a new SpdzTruncationPair.
+   *
+   * @param value the random value r
+   * @param shifted the value r &gt;&gt; d
+   */
+  public SpdzTruncationPair(SpdzSInt value, SpdzSInt shifted) {
+    this.value = value;
+    this.shifted = shifted;
+  }
+
+  public SpdzSInt getValue() {
+    return value;
+  }
+
+  public SpdzSInt getShifted() {
+    return shifted;
+  }
+
+  @Override
+  public String toString() {
+    return "SpdzTruncationPair [value=" + value + ", shifted=" + shifted + "]";
+  }
+}
@@ -5,7 +5,9 @@ import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.lib.common.compare.zerotest.ZeroTestBruteforce;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSolvedBits;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
 
 public interface SpdzDataSupplier {
 
@@ -41,6 +43,24 @@ public interface SpdzDataSupplier {
    */
   SpdzSInt getNextBit();
 
+  /**
+   * Supplies the next random value of the given bit length together with its bits.
+   *
+   * @param noOfBits the number of bits of the random value
+   * @return the next new random value and its bits, least significant bit first
+   */
+  SpdzSolvedBits getNextSolvedBits(int noOfBits);
+
+  /**
+   * Supplies the next truncation pair, i.e. a random value r of the given bit length together
+   * with r &gt;&gt; shifts.
+   *
+   * @param noOfBits the number of bits of the random value
+   * @param shifts the number of positions to shift the random value
+   * @return the next new truncation pair
+   */
+  SpdzTruncationPair getNextTruncationPair(int noOfBits, int shifts);
+
   /**
    * The field definition used for this instance of SPDZ.
    *
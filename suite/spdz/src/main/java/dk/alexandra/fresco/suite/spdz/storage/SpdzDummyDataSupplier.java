@@ -6,10 +6,14 @@ import dk.alexandra.fresco.framework.util.ArithmeticDummyDataSupplier;
 import dk.alexandra.fresco.framework.util.ModularReductionAlgorithm;
 import dk.alexandra.fresco.framework.util.MultiplicationTripleShares;
 import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.TruncationPairShares;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSolvedBits;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 
 public class SpdzDummyDataSupplier implements SpdzDataSupplier {
@@ -69,6 +73,28 @@ public class SpdzDummyDataSupplier implements SpdzDataSupplier {
     return toSpdzSInt(supplier.getRandomBitShare());
   }
 
+  @Override
+  public SpdzSolvedBits getNextSolvedBits(int noOfBits) {
+    BigInteger openValue = BigInteger.ZERO;
+    BigInteger share = BigInteger.ZERO;
+    List<SpdzSInt> bits = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      Pair<BigInteger, BigInteger> raw = supplier.getRandomBitShare();
+      openValue = openValue.add(raw.getFirst().shiftLeft(i));
+      share = share.add(raw.getSecond().shiftLeft(i));
+      bits.add(toSpdzSInt(raw));
+    }
+    BigInteger modulus = fieldDefinition.getModulus();
+    Pair<BigInteger, BigInteger> value = new Pair<>(openValue.mod(modulus), share.mod(modulus));
+    return new SpdzSolvedBits(toSpdzSInt(value), bits);
+  }
+
+  @Override
+  public SpdzTruncationPair getNextTruncationPair(int noOfBits, int shifts) {
+    TruncationPairShares raw = supplier.getTruncationPairShares(noOfBits, shifts);
+    return new SpdzTruncationPair(toSpdzSInt(raw.getValue()), toSpdzSInt(raw.getShifted()));
+  }
+
   @Override
   public FieldDefinition getFieldDefinition() {
     return fieldDefinition;
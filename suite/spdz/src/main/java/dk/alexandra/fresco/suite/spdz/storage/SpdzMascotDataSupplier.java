@@ -7,7 +7,9 @@ import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSolvedBits;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
 import dk.alexandra.fresco.suite.spdz.preprocessing.MascotFormatConverter;
 import dk.alexandra.fresco.tools.mascot.Mascot;
 import dk.alexandra.fresco.tools.mascot.MascotResourcePoolImpl;
@@ -20,7 +22,9 @@ import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrgImpl;
 import dk.alexandra.fresco.tools.ot.otextension.RotList;
 import java.security.SecureRandom;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -170,6 +174,27 @@ public class SpdzMascotDataSupplier implements SpdzDataSupplier {
     return MascotFormatConverter.toSpdzSInt(randomBits.pop());
   }
 
+  @Override
+  public SpdzSolvedBits getNextSolvedBits(int noOfBits) {
+    ensureInitialized();
+    if (randomBits.size() < noOfBits) {
+      logger.trace("Getting another bit batch");
+      randomBits.addAll(mascot.getRandomBits(Math.max(batchSize, noOfBits - randomBits.size())));
+      logger.trace("Got another bit batch");
+    }
+    // the value is computed locally from the authenticated bits
+    List<SpdzSInt> bits = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      bits.add(MascotFormatConverter.toSpdzSInt(randomBits.pop()));
+    }
+    return SpdzSolvedBits.fromBits(bits, fieldDefinition);
+  }
+
+  @Override
+  public SpdzTruncationPair getNextTruncationPair(int noOfBits, int shifts) {
+    return getNextSolvedBits(noOfBits).getTruncationPair(shifts, fieldDefinition);
+  }
+
   @Override
   public FieldDefinition getFieldDefinition() {
     return fieldDefinition;
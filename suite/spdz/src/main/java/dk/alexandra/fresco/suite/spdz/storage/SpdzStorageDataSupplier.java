@@ -7,8 +7,12 @@ import dk.alexandra.fresco.framework.sce.resources.storage.StreamedStorage;
 import dk.alexandra.fresco.framework.sce.resources.storage.exceptions.NoMoreElementsException;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSolvedBits;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -131,6 +135,21 @@ public class SpdzStorageDataSupplier implements SpdzDataSupplier {
     return bit;
   }
 
+  @Override
+  public SpdzSolvedBits getNextSolvedBits(int noOfBits) {
+    // the storage has no separate stream for these, so they are composed from the stored bits
+    List<SpdzSInt> bits = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      bits.add(getNextBit());
+    }
+    return SpdzSolvedBits.fromBits(bits, getFieldDefinition());
+  }
+
+  @Override
+  public SpdzTruncationPair getNextTruncationPair(int noOfBits, int shifts) {
+    return getNextSolvedBits(noOfBits).getTruncationPair(shifts, getFieldDefinition());
+  }
+
   @Override
   public FieldDefinition getFieldDefinition() {
     if (this.definition != null) {
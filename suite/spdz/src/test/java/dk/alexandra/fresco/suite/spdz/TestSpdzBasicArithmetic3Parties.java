@@ -1,5 +1,7 @@
 package dk.alexandra.fresco.suite.spdz;
 
+import dk.alexandra.fresco.framework.builder.numeric.SolvedBitsTests;
+import dk.alexandra.fresco.framework.builder.numeric.TruncationPairsTests;
 import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import dk.alexandra.fresco.suite.dummy.arithmetic.BasicArithmeticTests;
 import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
@@ -59,6 +61,28 @@ public class TestSpdzBasicArithmetic3Parties extends AbstractSpdzTest {
         PreprocessingStrategy.DUMMY, 3);
   }
 
+  @Test
+  public void testSolvedBits() {
+    runTest(new SolvedBitsTests.TestSolvedBits<>(), PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Test
+  public void testSolvedBitsMascot() {
+    runTest(new SolvedBitsTests.TestSolvedBits<>(), EvaluationStrategy.SEQUENTIAL_BATCHED,
+        PreprocessingStrategy.MASCOT, 3, 16, 16, 16);
+  }
+
+  @Test
+  public void testTruncationPairs() {
+    runTest(new TruncationPairsTests.TestTruncationPairs<>(), PreprocessingStrategy.DUMMY, 3);
+  }
+
+  @Test
+  public void testTruncationPairsMascot() {
+    runTest(new TruncationPairsTests.TestTruncationPairs<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED, PreprocessingStrategy.MASCOT, 3, 16, 16, 16);
+  }
+
   @Test
   public void testInputFromAllMascot() {
     runTest(new BasicArithmeticTests.TestInputFromAll<>(), EvaluationStrategy.SEQUENTIAL_BATCHED,
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.suite.spdz;
 
 import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests.TestOddEvenMergeSort;
+import dk.alexandra.fresco.lib.common.collections.sort.NumericSortingTests.TestShuffleSort;
 import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
 import org.junit.Test;
 
@@ -17,4 +18,10 @@ public class TestSpdzSorting extends AbstractSpdzTest {
     runTest(new TestOddEvenMergeSort<>(83, 4, 8),
         PreprocessingStrategy.DUMMY, 2);
   }
+
+  @Test
+  public void test_Shuffle_Sort() {
+    runTest(new TestShuffleSort<>(83, 4, 8),
+        PreprocessingStrategy.DUMMY, 2);
+  }
 }
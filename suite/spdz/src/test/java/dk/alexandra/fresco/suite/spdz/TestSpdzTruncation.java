@@ -0,0 +1,25 @@
+package dk.alexandra.fresco.suite.spdz;
+
+import dk.alexandra.fresco.lib.common.math.integer.binary.BinaryOperationsTests.TestTruncation;
+import dk.alexandra.fresco.lib.common.math.integer.binary.BinaryOperationsTests.TestTruncationList;
+import dk.alexandra.fresco.lib.common.math.integer.binary.BinaryOperationsTests.TestTruncationNearBound;
+import dk.alexandra.fresco.suite.spdz.configuration.PreprocessingStrategy;
+import org.junit.Test;
+
+public class TestSpdzTruncation extends AbstractSpdzTest {
+
+  @Test
+  public void testTruncationTwoParties() {
+    runTest(new TestTruncation<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testTruncationListTwoParties() {
+    runTest(new TestTruncationList<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+
+  @Test
+  public void testTruncationNearBoundTwoParties() {
+    runTest(new TestTruncationNearBound<>(), PreprocessingStrategy.DUMMY, 2);
+  }
+}
@@ -0,0 +1,46 @@
+package dk.alexandra.fresco.suite.spdz.datatypes;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class TestSpdzSolvedBits {
+
+  private final BigIntegerFieldDefinition definition = new BigIntegerFieldDefinition(
+      ModulusFinder.findSuitableModulus(16));
+
+  @Test
+  public void testFromBits() {
+    SpdzSolvedBits solvedBits = SpdzSolvedBits.fromBits(bits(1, 0, 1, 1, 0, 1), definition);
+    assertEquals(BigInteger.valueOf(45), value(solvedBits.getValue()));
+    assertEquals(6, solvedBits.getBits().size());
+  }
+
+  @Test
+  public void testGetTruncationPair() {
+    SpdzSolvedBits solvedBits = SpdzSolvedBits.fromBits(bits(1, 0, 1, 1, 0, 1), definition);
+    SpdzTruncationPair pair = solvedBits.getTruncationPair(2, definition);
+    assertEquals(BigInteger.valueOf(45), value(pair.getValue()));
+    assertEquals(BigInteger.valueOf(11), value(pair.getShifted()));
+    assertEquals(BigInteger.ONE, value(solvedBits.getTruncationPair(5, definition).getShifted()));
+  }
+
+  private List<SpdzSInt> bits(int... bits) {
+    List<SpdzSInt> shares = new ArrayList<>(bits.length);
+    for (int bit : bits) {
+      shares.add(new SpdzSInt(definition.createElement(bit), definition.createElement(bit)));
+    }
+    return shares;
+  }
+
+  private BigInteger value(SpdzSInt share) {
+    BigInteger value = definition.convertToUnsigned(share.getShare());
+    assertEquals(value, definition.convertToUnsigned(share.getMac()));
+    return value;
+  }
+}
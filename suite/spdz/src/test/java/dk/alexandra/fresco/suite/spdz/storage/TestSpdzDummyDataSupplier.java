@@ -12,7 +12,9 @@ import dk.alexandra.fresco.framework.util.ModulusFinder;
 import dk.alexandra.fresco.framework.util.TransposeUtils;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSolvedBits;
 import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTruncationPair;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -130,6 +132,65 @@ public class TestSpdzDummyDataSupplier {
     }
   }
 
+  private void testGetNextSolvedBits(int noOfParties, FieldDefinition definition) {
+    // use as many bits as fit in the field so the value does not wrap around
+    int noOfBits = definition.getModulus().bitLength() - 1;
+    List<SpdzDummyDataSupplier> suppliers = setupSuppliers(noOfParties, definition);
+    FieldElement macKey = getMacKeyFromSuppliers(suppliers, definition);
+    List<SpdzSolvedBits> solvedBits = new ArrayList<>(noOfParties);
+    for (SpdzDummyDataSupplier supplier : suppliers) {
+      solvedBits.add(supplier.getNextSolvedBits(noOfBits));
+    }
+    BigInteger expected = BigInteger.ZERO;
+    for (int i = 0; i < noOfBits; i++) {
+      List<SpdzSInt> bitShares = new ArrayList<>(noOfParties);
+      for (SpdzSolvedBits partySolvedBits : solvedBits) {
+        bitShares.add(partySolvedBits.getBits().get(i));
+      }
+      SpdzSInt recombined = recombine(bitShares);
+      assertMacCorrect(definition, recombined, macKey);
+      BigInteger bit = definition.convertToUnsigned(recombined.getShare());
+      assertTrue("Value not a bit " + bit,
+          bit.equals(BigInteger.ZERO) || bit.equals(BigInteger.ONE));
+      expected = expected.add(bit.shiftLeft(i));
+    }
+    SpdzSInt recombined = recombine(solvedBits.stream().map(SpdzSolvedBits::getValue)
+        .collect(Collectors.toList()));
+    assertMacCorrect(definition, recombined, macKey);
+    assertEquals(expected, definition.convertToUnsigned(recombined.getShare()));
+  }
+
+  private void testGetNextSolvedBits(int noOfParties) {
+    for (FieldDefinition field : fields) {
+      testGetNextSolvedBits(noOfParties, field);
+    }
+  }
+
+  private void testGetNextTruncationPair(int noOfParties, FieldDefinition definition) {
+    int noOfBits = definition.getModulus().bitLength() - 1;
+    int shifts = noOfBits / 3;
+    List<SpdzDummyDataSupplier> suppliers = setupSuppliers(noOfParties, definition);
+    FieldElement macKey = getMacKeyFromSuppliers(suppliers, definition);
+    List<SpdzTruncationPair> pairs = new ArrayList<>(noOfParties);
+    for (SpdzDummyDataSupplier supplier : suppliers) {
+      pairs.add(supplier.getNextTruncationPair(noOfBits, shifts));
+    }
+    SpdzSInt value = recombine(pairs.stream().map(SpdzTruncationPair::getValue)
+        .collect(Collectors.toList()));
+    SpdzSInt shifted = recombine(pairs.stream().map(SpdzTruncationPair::getShifted)
+        .collect(Collectors.toList()));
+    assertMacCorrect(definition, value, macKey);
+    assertMacCorrect(definition, shifted, macKey);
+    assertEquals(definition.convertToUnsigned(value.getShare()).shiftRight(shifts),
+        definition.convertToUnsigned(shifted.getShare()));
+  }
+
+  private void testGetNextTruncationPair(int noOfParties) {
+    for (FieldDefinition field : fields) {
+      testGetNextTruncationPair(noOfParties, field);
+    }
+  }
+
   private void testGetNextRandomFieldElement(int noOfParties, FieldDefinition definition) {
     List<SpdzDummyDataSupplier> suppliers = setupSuppliers(noOfParties, definition);
     FieldElement macKey = getMacKeyFromSuppliers(suppliers, definition);
@@ -208,6 +269,20 @@ public class TestSpdzDummyDataSupplier {
     testGetNextBit(5);
   }
 
+  @Test
+  public void testGetNextSolvedBits() {
+    testGetNextSolvedBits(2);
+    testGetNextSolvedBits(3);
+    testGetNextSolvedBits(5);
+  }
+
+  @Test
+  public void testGetNextTruncationPair() {
+    testGetNextTruncationPair(2);
+    testGetNextTruncationPair(3);
+    testGetNextTruncationPair(5);
+  }
+
   @Test
   public void testGetNextRandomFieldElement() {
     testGetNextRandomFieldElement(2);
@@ -2,8 +2,11 @@ package dk.alexandra.fresco.suite.spdz2k;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.numeric.BuilderFactoryNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.DefaultPreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.PreprocessedValues;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.value.SInt;
 import dk.alexandra.fresco.lib.field.integer.BasicNumericContext;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
@@ -17,8 +20,11 @@ import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kOutputSinglePart
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kOutputToAllProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kRandomBitProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kRandomElementProtocol;
+import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kSolvedBitsProtocol;
 import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kSubtractFromKnownProtocol;
+import dk.alexandra.fresco.suite.spdz2k.protocols.natives.Spdz2kTruncationPairsProtocol;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -42,6 +48,41 @@ public class Spdz2kBuilder<PlainT extends CompUInt<?, ?, PlainT>> implements
     return numericContext;
   }
 
+  @Override
+  public PreprocessedValues createPreprocessedValues(ProtocolBuilderNumeric builder) {
+    return new PreprocessedValues() {
+      @Override
+      public DRes<List<DRes<SInt>>> getExponentiationPipe(int pipeLength) {
+        return new DefaultPreprocessedValues(builder).getExponentiationPipe(pipeLength);
+      }
+
+      @Override
+      public DRes<List<Pair<DRes<SInt>, List<DRes<SInt>>>>> getSolvedBits(int noOfMasks,
+          int noOfBits) {
+        if (noOfBits < 1) {
+          throw new IllegalArgumentException("Can not create a random value of less than 1 bit");
+        }
+        return builder.append(new Spdz2kSolvedBitsProtocol<>(noOfMasks, noOfBits));
+      }
+
+      @Override
+      public DRes<List<Pair<DRes<SInt>, DRes<SInt>>>> getTruncationPairs(int noOfPairs,
+          int noOfBits, int shifts) {
+        // values are opened modulo 2^k, so any bits of r above the k lowest would not cancel out
+        // in r >> shifts
+        if (noOfBits > factory.getLowBitLength()) {
+          throw new IllegalArgumentException(
+              "Can not create a random value of more than " + factory.getLowBitLength() + " bits");
+        }
+        if (shifts < 0 || shifts >= noOfBits) {
+          throw new IllegalArgumentException(
+              "The number of shifts must be non-negative and less than the number of bits");
+        }
+        return builder.append(new Spdz2kTruncationPairsProtocol<>(noOfPairs, noOfBits, shifts));
+      }
+    };
+  }
+
   @Override
   public Numeric createNumeric(ProtocolBuilderNumeric builder) {
     return new Numeric() {
@@ -0,0 +1,20 @@
+package dk.alexandra.fresco.suite.spdz2k;
+
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt64;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntConverter64;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.UInt32;
+
+/**
+ * Protocol suite using {@link CompUInt64} as the underlying plain-value type.
+ *
+ * <p>Computes over 32-bit values with 32 bits of statistical security. Since every plain value fits
+ * in a single long, this instantiation is considerably cheaper than {@link Spdz2kProtocolSuiteK64}
+ * for workloads that do not need more than 32 bits.</p>
+ */
+public class Spdz2kProtocolSuiteK32 extends Spdz2kProtocolSuite<UInt32, UInt32, CompUInt64> {
+
+  public Spdz2kProtocolSuiteK32() {
+    super(new CompUIntConverter64());
+  }
+
+}
@@ -0,0 +1,163 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import java.math.BigInteger;
+
+/**
+ * Unsigned 64-bit integer composed of two 32-bit halves. <p>Since the entire composite value fits
+ * in a single primitive long, all arithmetic is native two's complement arithmetic with wrap-around
+ * mod 2^64. Note that this class is NOT SAFE to instantiate with negative values.</p>
+ */
+public class CompUInt64 implements CompUInt<UInt32, UInt32, CompUInt64> {
+
+  private final long value;
+
+  /**
+   * Creates new {@link CompUInt64}. <p>Do <b>not</b> pad bytes by default.</p>
+   *
+   * @param bytes bytes interpreted in big-endian order.
+   */
+  public CompUInt64(byte[] bytes) {
+    this(bytes, false);
+  }
+
+  /**
+   * Creates new {@link CompUInt64}.
+   *
+   * @param bytes bytes interpreted in big-endian order.
+   * @param requiresPadding indicates if the bytes need to be padded up to 8 bytes.
+   */
+  public CompUInt64(byte[] bytes, boolean requiresPadding) {
+    byte[] padded = requiresPadding ? CompUInt.pad(bytes, 64) : bytes;
+    if (padded.length == 4) {
+      // we are instantiating from the least significant bits only
+      this.value = UInt.toUnLong(toInt(padded));
+    } else {
+      this.value = toLong(padded);
+    }
+  }
+
+  /**
+   * Creates new {@link CompUInt64} from {@link BigInteger}.
+   */
+  public CompUInt64(BigInteger value) {
+    this(value.toByteArray(), true);
+  }
+
+  CompUInt64(UInt32 value) {
+    this(value.toLong());
+  }
+
+  CompUInt64(long value) {
+    this.value = value;
+  }
+
+  @Override
+  public CompUInt64 add(CompUInt64 other) {
+    return new CompUInt64(value + other.value);
+  }
+
+  @Override
+  public CompUInt64 multiply(CompUInt64 other) {
+    return new CompUInt64(value * other.value);
+  }
+
+  @Override
+  public CompUInt64 subtract(CompUInt64 other) {
+    return new CompUInt64(value - other.value);
+  }
+
+  @Override
+  public CompUInt64 negateUInt() {
+    return new CompUInt64(-value);
+  }
+
+  @Override
+  public boolean isZero() {
+    return value == 0;
+  }
+
+  @Override
+  public BigInteger toBigInteger() {
+    return new BigInteger(1, toByteArray());
+  }
+
+  @Override
+  public UInt32 getLeastSignificant() {
+    return new UInt32(toInt());
+  }
+
+  @Override
+  public UInt32 getMostSignificant() {
+    return new UInt32((int) (value >>> 32));
+  }
+
+  @Override
+  public UInt32 getLeastSignificantAsHigh() {
+    return getLeastSignificant();
+  }
+
+  @Override
+  public long toLong() {
+    return value;
+  }
+
+  @Override
+  public int toInt() {
+    return (int) value;
+  }
+
+  @Override
+  public CompUInt64 shiftLowIntoHigh() {
+    return new CompUInt64(value << 32);
+  }
+
+  @Override
+  public int getLowBitLength() {
+    return 32;
+  }
+
+  @Override
+  public int getHighBitLength() {
+    return 32;
+  }
+
+  @Override
+  public String toString() {
+    return toBigInteger().toString();
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    byte[] bytes = new byte[8];
+    long current = value;
+    for (int i = bytes.length - 1; i >= 0; i--) {
+      bytes[i] = (byte) (current & 0xFF);
+      current >>>= 8;
+    }
+    return bytes;
+  }
+
+  static BigInteger extractValue(FieldElement element) {
+    return ((CompUInt64) element).toBigInteger();
+  }
+
+  private static long toLong(byte[] bytes) {
+    return (bytes[7] & 0xFFL)
+        | (bytes[6] & 0xFFL) << 8
+        | (bytes[5] & 0xFFL) << 16
+        | (bytes[4] & 0xFFL) << 24
+        | (bytes[3] & 0xFFL) << 32
+        | (bytes[2] & 0xFFL) << 40
+        | (bytes[1] & 0xFFL) << 48
+        | (bytes[0] & 0xFFL) << 56;
+  }
+
+  private static int toInt(byte[] bytes) {
+    return (bytes[3] & 0xFF)
+        | (bytes[2] & 0xFF) << 8
+        | (bytes[1] & 0xFF) << 16
+        | (bytes[0] & 0xFF) << 24;
+  }
+
+}
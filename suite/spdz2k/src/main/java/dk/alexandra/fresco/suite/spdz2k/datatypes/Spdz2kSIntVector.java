@@ -0,0 +1,228 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A vector of authenticated, secret-shared elements over <i>Z<sub>2<sup>128</sup></sub></i>,
+ * stored as parallel primitive arrays. <p>Each share and mac share is represented by a high and a
+ * low 64-bit word, so local linear operations run without allocating a {@link CompUInt128} per
+ * element and operation. All operations marked as in-place modify this vector and return it to
+ * allow chaining.</p>
+ */
+public class Spdz2kSIntVector {
+
+  private final long[] shareHigh;
+  private final long[] shareLow;
+  private final long[] macHigh;
+  private final long[] macLow;
+
+  /**
+   * Creates a {@link Spdz2kSIntVector} of given size with all shares and mac shares set to 0.
+   */
+  public Spdz2kSIntVector(int size) {
+    this.shareHigh = new long[size];
+    this.shareLow = new long[size];
+    this.macHigh = new long[size];
+    this.macLow = new long[size];
+  }
+
+  /**
+   * Creates a {@link Spdz2kSIntVector} from a list of authenticated elements.
+   */
+  public Spdz2kSIntVector(List<Spdz2kSInt<CompUInt128>> elements) {
+    this(elements.size());
+    for (int i = 0; i < elements.size(); i++) {
+      set(i, elements.get(i));
+    }
+  }
+
+  /**
+   * Returns the number of elements in this vector.
+   */
+  public int size() {
+    return shareLow.length;
+  }
+
+  /**
+   * Returns the element at index as {@link Spdz2kSInt}.
+   */
+  public Spdz2kSInt<CompUInt128> get(int index) {
+    return new Spdz2kSInt<>(
+        toCompUInt(shareHigh[index], shareLow[index]),
+        toCompUInt(macHigh[index], macLow[index]));
+  }
+
+  /**
+   * Overwrites the element at index.
+   */
+  public void set(int index, Spdz2kSInt<CompUInt128> element) {
+    CompUInt128 share = element.getShare();
+    CompUInt128 macShare = element.getMacShare();
+    shareHigh[index] = share.getMostSignificant().toLong();
+    shareLow[index] = share.toLong();
+    macHigh[index] = macShare.getMostSignificant().toLong();
+    macLow[index] = macShare.toLong();
+  }
+
+  /**
+   * Converts this vector to a list of {@link Spdz2kSInt}.
+   */
+  public List<Spdz2kSInt<CompUInt128>> toList() {
+    List<Spdz2kSInt<CompUInt128>> elements = new ArrayList<>(size());
+    for (int i = 0; i < size(); i++) {
+      elements.add(get(i));
+    }
+    return elements;
+  }
+
+  /**
+   * Adds other to this, element-wise and in-place.
+   */
+  public Spdz2kSIntVector addInPlace(Spdz2kSIntVector other) {
+    checkSize(other);
+    for (int i = 0; i < shareLow.length; i++) {
+      long low = shareLow[i] + other.shareLow[i];
+      shareHigh[i] += other.shareHigh[i] + carry(low, shareLow[i]);
+      shareLow[i] = low;
+      low = macLow[i] + other.macLow[i];
+      macHigh[i] += other.macHigh[i] + carry(low, macLow[i]);
+      macLow[i] = low;
+    }
+    return this;
+  }
+
+  /**
+   * Subtracts other from this, element-wise and in-place.
+   */
+  public Spdz2kSIntVector subtractInPlace(Spdz2kSIntVector other) {
+    checkSize(other);
+    for (int i = 0; i < shareLow.length; i++) {
+      long low = shareLow[i] - other.shareLow[i];
+      shareHigh[i] -= other.shareHigh[i] + borrow(shareLow[i], other.shareLow[i]);
+      shareLow[i] = low;
+      low = macLow[i] - other.macLow[i];
+      macHigh[i] -= other.macHigh[i] + borrow(macLow[i], other.macLow[i]);
+      macLow[i] = low;
+    }
+    return this;
+  }
+
+  /**
+   * Multiplies every element of this by a public scalar, in-place.
+   */
+  public Spdz2kSIntVector multiplyInPlace(CompUInt128 scalar) {
+    long scalarHigh = scalar.getMostSignificant().toLong();
+    long scalarLow = scalar.toLong();
+    for (int i = 0; i < shareLow.length; i++) {
+      shareHigh[i] = productHigh(shareHigh[i], shareLow[i], scalarHigh, scalarLow);
+      shareLow[i] *= scalarLow;
+      macHigh[i] = productHigh(macHigh[i], macLow[i], scalarHigh, scalarLow);
+      macLow[i] *= scalarLow;
+    }
+    return this;
+  }
+
+  /**
+   * Computes <i>this + scalar * other</i>, element-wise and in-place.
+   */
+  public Spdz2kSIntVector multiplyAccumulate(Spdz2kSIntVector other, CompUInt128 scalar) {
+    checkSize(other);
+    long scalarHigh = scalar.getMostSignificant().toLong();
+    long scalarLow = scalar.toLong();
+    for (int i = 0; i < shareLow.length; i++) {
+      long high = productHigh(other.shareHigh[i], other.shareLow[i], scalarHigh, scalarLow);
+      long low = other.shareLow[i] * scalarLow;
+      long sum = shareLow[i] + low;
+      shareHigh[i] += high + carry(sum, low);
+      shareLow[i] = sum;
+      high = productHigh(other.macHigh[i], other.macLow[i], scalarHigh, scalarLow);
+      low = other.macLow[i] * scalarLow;
+      sum = macLow[i] + low;
+      macHigh[i] += high + carry(sum, low);
+      macLow[i] = sum;
+    }
+    return this;
+  }
+
+  /**
+   * Computes the inner product of this and a vector of public values. <p>This is a purely local
+   * operation, the result is an authenticated share of the inner product.</p>
+   */
+  public Spdz2kSInt<CompUInt128> innerProduct(List<CompUInt128> publicValues) {
+    if (publicValues.size() != size()) {
+      throw new IllegalArgumentException(
+          "Vectors must have same size but were " + size() + " and " + publicValues.size());
+    }
+    long accShareHigh = 0;
+    long accShareLow = 0;
+    long accMacHigh = 0;
+    long accMacLow = 0;
+    for (int i = 0; i < shareLow.length; i++) {
+      CompUInt128 value = publicValues.get(i);
+      long valueHigh = value.getMostSignificant().toLong();
+      long valueLow = value.toLong();
+      long low = shareLow[i] * valueLow;
+      long sum = accShareLow + low;
+      accShareHigh += productHigh(shareHigh[i], shareLow[i], valueHigh, valueLow)
+          + carry(sum, low);
+      accShareLow = sum;
+      low = macLow[i] * valueLow;
+      sum = accMacLow + low;
+      accMacHigh += productHigh(macHigh[i], macLow[i], valueHigh, valueLow) + carry(sum, low);
+      accMacLow = sum;
+    }
+    return new Spdz2kSInt<>(toCompUInt(accShareHigh, accShareLow),
+        toCompUInt(accMacHigh, accMacLow));
+  }
+
+  private void checkSize(Spdz2kSIntVector other) {
+    if (other.size() != size()) {
+      throw new IllegalArgumentException(
+          "Vectors must have same size but were " + size() + " and " + other.size());
+    }
+  }
+
+  /**
+   * Returns the high word of the product of two 128-bit values, mod 2<sup>128</sup>.
+   */
+  static long productHigh(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+    return unsignedMultiplyHigh(leftLow, rightLow) + leftHigh * rightLow + leftLow * rightHigh;
+  }
+
+  /**
+   * Returns the upper 64 bits of the unsigned 128-bit product of two longs. <p>Equivalent to
+   * {@code Math.multiplyHigh} corrected for unsigned operands, which is not available in Java
+   * 8.</p>
+   */
+  static long unsignedMultiplyHigh(long left, long right) {
+    long leftLow = left & 0xffffffffL;
+    long leftHigh = left >>> 32;
+    long rightLow = right & 0xffffffffL;
+    long rightHigh = right >>> 32;
+    long lowLow = leftLow * rightLow;
+    long highLow = leftHigh * rightLow;
+    long lowHigh = leftLow * rightHigh;
+    long cross = (lowLow >>> 32) + (highLow & 0xffffffffL) + (lowHigh & 0xffffffffL);
+    return leftHigh * rightHigh + (highLow >>> 32) + (lowHigh >>> 32) + (cross >>> 32);
+  }
+
+  /**
+   * Returns 1 if computing sum overflowed, i.e., if sum is unsigned smaller than an operand.
+   */
+  private static long carry(long sum, long operand) {
+    return Long.compareUnsigned(sum, operand) < 0 ? 1 : 0;
+  }
+
+  /**
+   * Returns 1 if computing left - right underflows.
+   */
+  private static long borrow(long left, long right) {
+    return Long.compareUnsigned(left, right) < 0 ? 1 : 0;
+  }
+
+  private static CompUInt128 toCompUInt(long high, long low) {
+    return new CompUInt128(high, (int) (low >>> 32), (int) low);
+  }
+
+}
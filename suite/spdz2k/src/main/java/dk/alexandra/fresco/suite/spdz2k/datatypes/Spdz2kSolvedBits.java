@@ -0,0 +1,67 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+import java.util.List;
+
+/**
+ * A random value r shared together with shares of its bits r<sub>i</sub>, such that r =
+ * &Sigma; 2<sup>i</sup>r<sub>i</sub>.
+ */
+public class Spdz2kSolvedBits<PlainT extends CompUInt<?, ?, PlainT>> {
+
+  private final Spdz2kSInt<PlainT> value;
+  private final List<Spdz2kSInt<PlainT>> bits;
+
+  public Spdz2kSolvedBits(Spdz2kSInt<PlainT> value, List<Spdz2kSInt<PlainT>> bits) {
+    this.value = value;
+    this.bits = bits;
+  }
+
+  /**
+   * Creates solved bits from shares of random bits, computing the value locally.
+   *
+   * @param bits the random bits, least significant bit first
+   * @param factory the factory of the plain values
+   * @return the solved bits
+   */
+  public static <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kSolvedBits<PlainT> fromBits(
+      List<Spdz2kSInt<PlainT>> bits, CompUIntFactory<PlainT> factory) {
+    return new Spdz2kSolvedBits<>(recombine(bits, factory), bits);
+  }
+
+  /**
+   * Returns a truncation pair (r, r &gt;&gt; shifts) of the value r. Since r &gt;&gt; shifts is a
+   * weighted sum of the top bits of r, it is computed locally.
+   *
+   * @param shifts the number of shifts, which must be less than the number of bits
+   * @param factory the factory of the plain values
+   * @return the truncation pair
+   */
+  public Spdz2kTruncationPair<PlainT> getTruncationPair(int shifts,
+      CompUIntFactory<PlainT> factory) {
+    return new Spdz2kTruncationPair<>(value, recombine(bits.subList(shifts, bits.size()), factory));
+  }
+
+  private static <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kSInt<PlainT> recombine(
+      List<Spdz2kSInt<PlainT>> bits, CompUIntFactory<PlainT> factory) {
+    Spdz2kSInt<PlainT> sum = bits.get(0);
+    PlainT twoPower = factory.createElement(1);
+    PlainT two = factory.createElement(2);
+    for (int i = 1; i < bits.size(); i++) {
+      twoPower = twoPower.multiply(two);
+      sum = sum.add(bits.get(i).multiply(twoPower));
+    }
+    return sum;
+  }
+
+  public Spdz2kSInt<PlainT> getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the bits of the value, least significant bit first.
+   */
+  public List<Spdz2kSInt<PlainT>> getBits() {
+    return bits;
+  }
+
+}
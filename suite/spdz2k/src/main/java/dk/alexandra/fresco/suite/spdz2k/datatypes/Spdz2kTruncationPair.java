@@ -0,0 +1,27 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+/**
+ * A random value r shared together with r &gt;&gt; d for some number of shifts d.
+ */
+public class Spdz2kTruncationPair<PlainT extends CompUInt<?, ?, PlainT>> {
+
+  private final Spdz2kSInt<PlainT> value;
+  private final Spdz2kSInt<PlainT> shifted;
+
+  public Spdz2kTruncationPair(Spdz2kSInt<PlainT> value, Spdz2kSInt<PlainT> shifted) {
+    this.value = value;
+    this.shifted = shifted;
+  }
+
+  public Spdz2kSInt<PlainT> getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the value shifted to the right.
+   */
+  public Spdz2kSInt<PlainT> getShifted() {
+    return shifted;
+  }
+
+}
@@ -0,0 +1,111 @@
+package dk.alexandra.fresco.suite.spdz2k.preprocessing;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Exposes the full ring <i>Z<sub>2<sup>k + s</sup></sub></i> underlying a {@link CompUIntFactory}
+ * as a {@link FieldDefinition}.
+ *
+ * <p>A {@link CompUIntFactory} deliberately only exposes the k least significant bits of its
+ * elements since the top s bits carry no information in the online phase. The MASCOT sub-protocols
+ * however must compute on the entire composite value, so this class reports the composite modulus,
+ * bit length and bit decomposition instead. Elements created by this class are the same {@link
+ * PlainT} instances the online phase uses, so no conversion is needed when handing over
+ * pre-processed material.</p>
+ *
+ * @param <PlainT> the type representing ring elements
+ */
+public class CompUIntRingDefinition<PlainT extends CompUInt<?, ?, PlainT>>
+    implements FieldDefinition {
+
+  private final CompUIntFactory<PlainT> factory;
+  private final BigInteger modulus;
+  private final BigInteger modulusHalf;
+
+  /**
+   * Creates new {@link CompUIntRingDefinition}.
+   *
+   * @param factory factory for creating ring elements
+   */
+  public CompUIntRingDefinition(CompUIntFactory<PlainT> factory) {
+    this.factory = factory;
+    this.modulus = BigInteger.ONE.shiftLeft(factory.getCompositeBitLength());
+    this.modulusHalf = modulus.shiftRight(1);
+  }
+
+  @Override
+  public PlainT createElement(long value) {
+    return createElement(BigInteger.valueOf(value));
+  }
+
+  @Override
+  public PlainT createElement(String value) {
+    return createElement(new BigInteger(value));
+  }
+
+  @Override
+  public PlainT createElement(BigInteger value) {
+    return factory.createElement(value.mod(modulus));
+  }
+
+  @Override
+  public BigInteger getModulus() {
+    return modulus;
+  }
+
+  @Override
+  public int getBitLength() {
+    return factory.getCompositeBitLength();
+  }
+
+  @Override
+  public StrictBitVector convertToBitVector(FieldElement fieldElement) {
+    return new StrictBitVector(cast(fieldElement).toByteArray());
+  }
+
+  @Override
+  public BigInteger convertToUnsigned(FieldElement value) {
+    return cast(value).toBigInteger();
+  }
+
+  @Override
+  public BigInteger convertToSigned(BigInteger asUnsigned) {
+    if (asUnsigned.compareTo(modulusHalf) >= 0) {
+      return asUnsigned.subtract(modulus);
+    } else {
+      return asUnsigned;
+    }
+  }
+
+  @Override
+  public byte[] serialize(FieldElement object) {
+    return factory.serialize(object);
+  }
+
+  @Override
+  public byte[] serialize(List<FieldElement> objects) {
+    return factory.serialize(objects);
+  }
+
+  @Override
+  public PlainT deserialize(byte[] bytes) {
+    return factory.deserialize(bytes);
+  }
+
+  @Override
+  public List<FieldElement> deserializeList(byte[] bytes) {
+    return factory.deserializeList(bytes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private PlainT cast(FieldElement element) {
+    return (PlainT) element;
+  }
+
+}
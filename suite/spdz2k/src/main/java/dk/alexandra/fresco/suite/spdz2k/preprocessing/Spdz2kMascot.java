@@ -0,0 +1,203 @@
+package dk.alexandra.fresco.suite.spdz2k.preprocessing;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.builder.numeric.Addable;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.tools.mascot.MascotResourcePool;
+import dk.alexandra.fresco.tools.mascot.cointossing.CoinTossingMpc;
+import dk.alexandra.fresco.tools.mascot.elgen.ElementGeneration;
+import dk.alexandra.fresco.tools.mascot.field.AuthenticatedElement;
+import dk.alexandra.fresco.tools.mascot.field.InputMask;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+import dk.alexandra.fresco.tools.mascot.online.OnlinePhase;
+import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrg;
+import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrgImpl;
+import dk.alexandra.fresco.tools.mascot.triple.TripleGeneration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * OT-based pre-processing for SPDZ2k, i.e., over the ring <i>Z<sub>2<sup>k + s</sup></sub></i>.
+ *
+ * <p>Runs the MASCOT sub-protocols (COPE based authentication, OT based multiplication, combine
+ * and sacrifice) over the composite ring exposed by {@link CompUIntRingDefinition}. All
+ * arithmetic in those sub-protocols is ring arithmetic. The guarantees each step gives over the
+ * ring follow the analysis of SPDZ2k
+ * (<a href="https://eprint.iacr.org/2018/482.pdf">https://eprint.iacr.org/2018/482.pdf</a>):</p>
+ *
+ * <ul>
+ * <li>Mac check: the check of MASCOT is the batched mac check of SPDZ2k. It takes a random
+ * linear combination of the opened values and their macs and verifies it on all k + s bits. If
+ * some opened value is wrong modulo <i>2<sup>k</sup></i>, the check passes with probability at
+ * most <i>2<sup>-s + log(s + 1)</sup></i>. Opened values are therefore correct on the k least
+ * significant bits, and the top s bits, which carry no information, are not relied on.</li>
+ * <li>Combine: a linear combination over the ring is only uniformly random if one of its
+ * coefficients is a unit. The combination coefficients are therefore drawn through {@link
+ * UnitCoefficientPrg}, which makes the first coefficient of each combination odd. The combined
+ * left factor and its sacrifice copy are then uniformly random, so opening <i>x - a</i> in the
+ * online phase, or <i>t * a - a'</i> in the sacrifice, reveals nothing.</li>
+ * <li>Sacrifice: the parties open <i>&rho; = t * a - a'</i> and check that <i>&sigma; = t * c - c'
+ * - &rho; * b</i> opens to zero. An error <i>e</i> on <i>c</i> and <i>e'</i> on <i>c'</i> gives
+ * <i>&sigma; = t * e - e'</i>, and by the mac check this must be zero modulo
+ * <i>2<sup>k</sup></i>. For an error whose least significant set bit is bit v, this happens for
+ * a uniformly random t with probability <i>2<sup>-(k - v)</sup></i>. Errors on the k - s least
+ * significant bits are therefore caught except with probability <i>2<sup>-s</sup></i>. Errors
+ * on higher bits are caught with lower probability, since the opening of &sigma; is only
+ * authenticated modulo <i>2<sup>k</sup></i>. SPDZ2k closes this gap by authenticating the
+ * sacrifice modulo <i>2<sup>k + 2s</sup></i>, which needs a wider ring than the one backing the
+ * online phase.</li>
+ * </ul>
+ *
+ * <p>The only MASCOT step that does not carry over to rings is the conversion of random elements
+ * to random bits, which relies on square roots in a prime field. Random bits are instead generated
+ * by letting every party input a random bit, verifying that each input <i>b</i> satisfies <i>b *
+ * (b - 1) = 0</i>, and combining the inputs with authenticated XORs.</p>
+ *
+ * @param <PlainT> the type representing ring elements
+ */
+public class Spdz2kMascot<PlainT extends CompUInt<?, ?, PlainT>> {
+
+  private final TripleGeneration tripleGeneration;
+  private final ElementGeneration elementGeneration;
+  private final OnlinePhase onlinePhase;
+  private final MascotResourcePool resourcePool;
+
+  /**
+   * Creates new {@link Spdz2kMascot}.
+   *
+   * @param resourcePool MASCOT resources, the field definition of which must be a {@link
+   *     CompUIntRingDefinition}
+   * @param network network to run pre-processing over
+   * @param macKeyShare this party's share of the mac key
+   */
+  public Spdz2kMascot(MascotResourcePool resourcePool, Network network, PlainT macKeyShare) {
+    if (!(resourcePool.getFieldDefinition() instanceof CompUIntRingDefinition)) {
+      throw new IllegalArgumentException("SPDZ2k pre-processing requires a ring definition");
+    }
+    this.resourcePool = resourcePool;
+    // agree on joint seed
+    StrictBitVector jointSeed = new CoinTossingMpc(resourcePool, network)
+        .generateJointSeed(resourcePool.getPrgSeedLength());
+    FieldElementPrg jointSampler = new FieldElementPrgImpl(jointSeed,
+        resourcePool.getFieldDefinition());
+    this.elementGeneration =
+        new ElementGeneration(resourcePool, network, macKeyShare, jointSampler);
+    this.tripleGeneration = new TripleGeneration(resourcePool, network, elementGeneration,
+        new UnitCoefficientPrg(jointSampler, resourcePool.getFieldDefinition()));
+    this.onlinePhase = new OnlinePhase(resourcePool, tripleGeneration, elementGeneration,
+        macKeyShare);
+  }
+
+  /**
+   * Generates a batch of multiplication triples.
+   *
+   * @param numTriples number of triples in batch
+   * @return multiplication triples
+   */
+  public List<MultiplicationTriple> getTriples(int numTriples) {
+    return tripleGeneration.triple(numTriples);
+  }
+
+  /**
+   * Creates random authenticated elements.
+   *
+   * @param numElements number of elements to create
+   * @return random authenticated elements
+   */
+  public List<AuthenticatedElement> getRandomElements(int numElements) {
+    List<FieldElement> randomElements = resourcePool.getLocalSampler().getNext(numElements);
+    return Addable.sumRows(elementGeneration.inputFromAll(randomElements));
+  }
+
+  /**
+   * Generates random input masks.
+   *
+   * @param maskerId the party that knows the plain mask
+   * @param numMasks number of masks to generate
+   * @return input masks
+   */
+  public List<InputMask> getInputMasks(Integer maskerId, int numMasks) {
+    if (maskerId.equals(resourcePool.getMyId())) {
+      List<FieldElement> randomMasks = resourcePool.getLocalSampler().getNext(numMasks);
+      List<AuthenticatedElement> authenticated = elementGeneration.input(randomMasks);
+      return IntStream.range(0, numMasks)
+          .mapToObj(idx -> new InputMask(randomMasks.get(idx), authenticated.get(idx)))
+          .collect(Collectors.toList());
+    } else {
+      return elementGeneration.input(maskerId, numMasks).stream().map(InputMask::new)
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Generates random authenticated bits.
+   *
+   * @param numBits number of bits to generate
+   * @return random bits
+   */
+  public List<AuthenticatedElement> getRandomBits(int numBits) {
+    List<List<AuthenticatedElement>> perPartyBits = inputRandomBits(numBits);
+    validateBits(perPartyBits);
+    List<AuthenticatedElement> combined = perPartyBits.get(0);
+    for (List<AuthenticatedElement> bits : perPartyBits.subList(1, perPartyBits.size())) {
+      combined = xor(combined, bits);
+    }
+    onlinePhase.triggerMacCheck();
+    return combined;
+  }
+
+  /**
+   * Lets every party input a batch of private, random bits.
+   */
+  private List<List<AuthenticatedElement>> inputRandomBits(int numBits) {
+    FieldDefinition definition = resourcePool.getFieldDefinition();
+    byte[] randomBytes = new byte[numBits];
+    resourcePool.getRandomGenerator().nextBytes(randomBytes);
+    List<FieldElement> bits = new ArrayList<>(numBits);
+    for (byte randomByte : randomBytes) {
+      bits.add(definition.createElement(randomByte & 1));
+    }
+    return elementGeneration.inputFromAll(bits);
+  }
+
+  /**
+   * Checks that every input is a bit by opening <i>b * (b - 1)</i>, which is zero for honest
+   * inputs and therefore reveals nothing.
+   */
+  private void validateBits(List<List<AuthenticatedElement>> perPartyBits) {
+    List<AuthenticatedElement> allBits = perPartyBits.stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+    List<AuthenticatedElement> squares = onlinePhase.multiply(allBits, allBits);
+    List<AuthenticatedElement> differences = IntStream.range(0, allBits.size())
+        .mapToObj(idx -> squares.get(idx).subtract(allBits.get(idx)))
+        .collect(Collectors.toList());
+    List<FieldElement> opened = onlinePhase.open(differences);
+    onlinePhase.triggerMacCheck();
+    for (FieldElement difference : opened) {
+      if (!difference.isZero()) {
+        throw new MaliciousException("Party input value which is not a bit");
+      }
+    }
+  }
+
+  /**
+   * Computes <i>[a] + [b] - 2 * [a * b]</i> for each pair of authenticated bits.
+   */
+  private List<AuthenticatedElement> xor(List<AuthenticatedElement> left,
+      List<AuthenticatedElement> right) {
+    FieldElement two = resourcePool.getFieldDefinition().createElement(2);
+    List<AuthenticatedElement> products = onlinePhase.multiply(left, right);
+    return IntStream.range(0, left.size())
+        .mapToObj(idx -> left.get(idx).add(right.get(idx))
+            .subtract(products.get(idx).multiply(two)))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,72 @@
+package dk.alexandra.fresco.suite.spdz2k.preprocessing;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.tools.mascot.field.AuthenticatedElement;
+import dk.alexandra.fresco.tools.mascot.field.InputMask;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+
+/**
+ * Converts material produced by {@link Spdz2kMascot} to SPDZ2k datatypes. <p>Since {@link
+ * Spdz2kMascot} runs over a {@link CompUIntRingDefinition} all underlying elements already are
+ * {@link PlainT} instances and conversion amounts to re-wrapping.</p>
+ */
+public class Spdz2kMascotFormatConverter {
+
+  private Spdz2kMascotFormatConverter() {
+  }
+
+  /**
+   * Converts single {@link AuthenticatedElement} to {@link Spdz2kSInt}.
+   *
+   * @param element authenticated element
+   * @return spdz2k element
+   */
+  public static <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kSInt<PlainT> toSpdz2kSInt(
+      AuthenticatedElement element) {
+    PlainT share = cast(element.getShare());
+    PlainT mac = cast(element.getMac());
+    return new Spdz2kSInt<>(share, mac);
+  }
+
+  /**
+   * Converts single {@link MultiplicationTriple} to {@link Spdz2kTriple}.
+   *
+   * @param triple triple to convert
+   * @return converted triple
+   */
+  public static <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kTriple<PlainT> toSpdz2kTriple(
+      MultiplicationTriple triple) {
+    Spdz2kSInt<PlainT> a = toSpdz2kSInt(triple.getLeft());
+    Spdz2kSInt<PlainT> b = toSpdz2kSInt(triple.getRight());
+    Spdz2kSInt<PlainT> c = toSpdz2kSInt(triple.getProduct());
+    return new Spdz2kTriple<>(a, b, c);
+  }
+
+  /**
+   * Converts single {@link InputMask} to {@link Spdz2kInputMask}.
+   *
+   * @param mask to convert
+   * @return converted mask
+   */
+  public static <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kInputMask<PlainT> toSpdz2kInputMask(
+      InputMask mask) {
+    FieldElement openMask = mask.getOpenValue();
+    Spdz2kSInt<PlainT> maskShare = toSpdz2kSInt(mask.getMaskShare());
+    if (openMask == null) {
+      return new Spdz2kInputMask<>(maskShare);
+    } else {
+      PlainT openValue = cast(openMask);
+      return new Spdz2kInputMask<>(maskShare, openValue);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <PlainT extends CompUInt<?, ?, PlainT>> PlainT cast(FieldElement element) {
+    return (PlainT) element;
+  }
+
+}
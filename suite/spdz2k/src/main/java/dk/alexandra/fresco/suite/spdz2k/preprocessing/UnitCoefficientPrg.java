@@ -0,0 +1,67 @@
+package dk.alexandra.fresco.suite.spdz2k.preprocessing;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrg;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A joint sampler for the combine step of triple generation over <i>Z<sub>2<sup>k +
+ * s</sup></sub></i>.
+ *
+ * <p>Single elements and lists are passed on unchanged from the underlying sampler. Every row of
+ * a matrix however holds the coefficients of one linear combination of candidate triples, and the
+ * first coefficient of each row is made odd. In a field any non-zero coefficient will do, but in
+ * the ring a combination <i>&Sigma; r<sub>j</sub> * a<sub>j</sub></i> in which every
+ * <i>r<sub>j</sub></i> is divisible by <i>2<sup>t</sup></i> has its t least significant bits fixed
+ * to zero. An odd coefficient is a unit, so the combination is uniformly random whenever the
+ * corresponding candidate is.</p>
+ *
+ * <p>Since the modification is deterministic, all parties keep sampling the same values.</p>
+ */
+class UnitCoefficientPrg implements FieldElementPrg {
+
+  private final FieldElementPrg sampler;
+  private final FieldDefinition definition;
+
+  /**
+   * Creates new {@link UnitCoefficientPrg}.
+   *
+   * @param sampler the underlying joint sampler
+   * @param definition the ring the sampler samples from
+   */
+  UnitCoefficientPrg(FieldElementPrg sampler, FieldDefinition definition) {
+    this.sampler = sampler;
+    this.definition = definition;
+  }
+
+  @Override
+  public FieldElement getNext() {
+    return sampler.getNext();
+  }
+
+  @Override
+  public List<FieldElement> getNext(int numSamples) {
+    return sampler.getNext(numSamples);
+  }
+
+  @Override
+  public List<List<FieldElement>> getNext(int numRows, int numCols) {
+    List<List<FieldElement>> sampled = sampler.getNext(numRows, numCols);
+    List<List<FieldElement>> combinations = new ArrayList<>(numRows);
+    for (List<FieldElement> row : sampled) {
+      List<FieldElement> coefficients = new ArrayList<>(row);
+      if (!coefficients.isEmpty()) {
+        coefficients.set(0, toUnit(coefficients.get(0)));
+      }
+      combinations.add(coefficients);
+    }
+    return combinations;
+  }
+
+  private FieldElement toUnit(FieldElement coefficient) {
+    return definition.createElement(definition.convertToUnsigned(coefficient).setBit(0));
+  }
+
+}
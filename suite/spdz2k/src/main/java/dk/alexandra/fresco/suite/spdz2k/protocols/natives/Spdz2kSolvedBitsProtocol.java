@@ -0,0 +1,45 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.natives;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSolvedBits;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native protocol for fetching a number of random values and their bits from the data supplier.
+ */
+public class Spdz2kSolvedBitsProtocol<PlainT extends CompUInt<?, ?, PlainT>>
+    extends Spdz2kNativeProtocol<List<Pair<DRes<SInt>, List<DRes<SInt>>>>, PlainT> {
+
+  private final int noOfMasks;
+  private final int noOfBits;
+  private List<Pair<DRes<SInt>, List<DRes<SInt>>>> masks;
+
+  public Spdz2kSolvedBitsProtocol(int noOfMasks, int noOfBits) {
+    this.noOfMasks = noOfMasks;
+    this.noOfBits = noOfBits;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
+      Network network) {
+    masks = new ArrayList<>(noOfMasks);
+    for (int i = 0; i < noOfMasks; i++) {
+      Spdz2kSolvedBits<PlainT> solvedBits =
+          resourcePool.getDataSupplier().getNextSolvedBits(noOfBits);
+      masks.add(new Pair<>(solvedBits.getValue(), new ArrayList<>(solvedBits.getBits())));
+    }
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public List<Pair<DRes<SInt>, List<DRes<SInt>>>> out() {
+    return masks;
+  }
+
+}
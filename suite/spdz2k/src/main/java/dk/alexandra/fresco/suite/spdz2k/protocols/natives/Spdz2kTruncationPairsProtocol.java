@@ -0,0 +1,47 @@
+package dk.alexandra.fresco.suite.spdz2k.protocols.natives;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native protocol for fetching a number of truncation pairs from the data supplier.
+ */
+public class Spdz2kTruncationPairsProtocol<PlainT extends CompUInt<?, ?, PlainT>>
+    extends Spdz2kNativeProtocol<List<Pair<DRes<SInt>, DRes<SInt>>>, PlainT> {
+
+  private final int noOfPairs;
+  private final int noOfBits;
+  private final int shifts;
+  private List<Pair<DRes<SInt>, DRes<SInt>>> pairs;
+
+  public Spdz2kTruncationPairsProtocol(int noOfPairs, int noOfBits, int shifts) {
+    this.noOfPairs = noOfPairs;
+    this.noOfBits = noOfBits;
+    this.shifts = shifts;
+  }
+
+  @Override
+  public EvaluationStatus evaluate(int round, Spdz2kResourcePool<PlainT> resourcePool,
+      Network network) {
+    pairs = new ArrayList<>(noOfPairs);
+    for (int i = 0; i < noOfPairs; i++) {
+      Spdz2kTruncationPair<PlainT> pair =
+          resourcePool.getDataSupplier().getNextTruncationPair(noOfBits, shifts);
+      pairs.add(new Pair<>(pair.getValue(), pair.getShifted()));
+    }
+    return EvaluationStatus.IS_DONE;
+  }
+
+  @Override
+  public List<Pair<DRes<SInt>, DRes<SInt>>> out() {
+    return pairs;
+  }
+
+}
@@ -3,11 +3,14 @@ package dk.alexandra.fresco.suite.spdz2k.resource.storage;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSolvedBits;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
 
 /**
  * Interface for a supplier of pre-processing material. <p>Material includes random elements shares,
- * random bit shares, and multiplication triple shares.</p>
+ * random bit shares, random values with shares of their bits, truncation pairs, and
+ * multiplication triple shares.</p>
  */
 public interface Spdz2kDataSupplier<T extends CompUInt<?, ?, T>> {
 
@@ -31,6 +34,17 @@ public interface Spdz2kDataSupplier<T extends CompUInt<?, ?, T>> {
    */
   Spdz2kSInt<T> getNextBitShare();
 
+  /**
+   * Supplies the next random value of the given bit length together with its bits.
+   */
+  Spdz2kSolvedBits<T> getNextSolvedBits(int noOfBits);
+
+  /**
+   * Supplies the next truncation pair, i.e. a random value r of the given bit length together with
+   * r &gt;&gt; shifts.
+   */
+  Spdz2kTruncationPair<T> getNextTruncationPair(int noOfBits, int shifts);
+
   /**
    * Returns the player's share of the mac key.
    */
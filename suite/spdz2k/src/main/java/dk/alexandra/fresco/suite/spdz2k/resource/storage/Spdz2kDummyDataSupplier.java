@@ -3,12 +3,17 @@ package dk.alexandra.fresco.suite.spdz2k.resource.storage;
 import dk.alexandra.fresco.framework.util.ArithmeticDummyDataSupplier;
 import dk.alexandra.fresco.framework.util.MultiplicationTripleShares;
 import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.TruncationPairShares;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSolvedBits;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Insecure implementation of {@link Spdz2kDataSupplier}. <p>This class deterministically generates
@@ -57,6 +62,29 @@ public class Spdz2kDummyDataSupplier<
     return toSpdz2kSInt(supplier.getRandomBitShare());
   }
 
+  @Override
+  public Spdz2kSolvedBits<PlainT> getNextSolvedBits(int noOfBits) {
+    BigInteger openValue = BigInteger.ZERO;
+    BigInteger share = BigInteger.ZERO;
+    List<Spdz2kSInt<PlainT>> bits = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      Pair<BigInteger, BigInteger> raw = supplier.getRandomBitShare();
+      openValue = openValue.add(raw.getFirst().shiftLeft(i));
+      share = share.add(raw.getSecond().shiftLeft(i));
+      bits.add(toSpdz2kSInt(raw));
+    }
+    BigInteger modulus = BigInteger.ONE.shiftLeft(factory.getCompositeBitLength());
+    Pair<BigInteger, BigInteger> value = new Pair<>(openValue.mod(modulus), share.mod(modulus));
+    return new Spdz2kSolvedBits<>(toSpdz2kSInt(value), bits);
+  }
+
+  @Override
+  public Spdz2kTruncationPair<PlainT> getNextTruncationPair(int noOfBits, int shifts) {
+    TruncationPairShares raw = supplier.getTruncationPairShares(noOfBits, shifts);
+    return new Spdz2kTruncationPair<>(toSpdz2kSInt(raw.getValue()),
+        toSpdz2kSInt(raw.getShifted()));
+  }
+
   @Override
   public PlainT getSecretSharedKey() {
     return secretSharedKey;
@@ -0,0 +1,187 @@
+package dk.alexandra.fresco.suite.spdz2k.resource.storage;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSolvedBits;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
+import dk.alexandra.fresco.suite.spdz2k.preprocessing.CompUIntRingDefinition;
+import dk.alexandra.fresco.suite.spdz2k.preprocessing.Spdz2kMascot;
+import dk.alexandra.fresco.suite.spdz2k.preprocessing.Spdz2kMascotFormatConverter;
+import dk.alexandra.fresco.tools.mascot.MascotResourcePoolImpl;
+import dk.alexandra.fresco.tools.mascot.MascotSecurityParameters;
+import dk.alexandra.fresco.tools.mascot.field.AuthenticatedElement;
+import dk.alexandra.fresco.tools.mascot.field.InputMask;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A data supplier based on OT-based pre-processing over <i>Z<sub>2<sup>k + s</sup></sub></i>.
+ * Uses concrete implementation {@link Spdz2kMascot}. <p>Material is generated lazily in batches of
+ * a fixed size and buffered until consumed.</p>
+ */
+public class Spdz2kMascotDataSupplier<PlainT extends CompUInt<?, ?, PlainT>> implements
+    Spdz2kDataSupplier<PlainT> {
+
+  private static final Logger logger = LoggerFactory.getLogger(Spdz2kMascotDataSupplier.class);
+  private final int myId;
+  private final int instanceId;
+  private final int numberOfPlayers;
+  private final Supplier<Network> tripleNetwork;
+  private final CompUIntFactory<PlainT> factory;
+  private final PlainT macKeyShare;
+
+  private final ArrayDeque<MultiplicationTriple> triples;
+  private final Map<Integer, ArrayDeque<InputMask>> masks;
+  private final ArrayDeque<AuthenticatedElement> randomElements;
+  private final ArrayDeque<AuthenticatedElement> randomBits;
+  private final int prgSeedLength;
+  private final int batchSize;
+  private final Drbg drbg;
+  private final Map<Integer, RotList> seedOts;
+  private Spdz2kMascot<PlainT> mascot;
+
+  /**
+   * Creates {@link Spdz2kMascotDataSupplier}.
+   *
+   * @param myId this party's id
+   * @param numberOfPlayers number of players
+   * @param instanceId identifier used to distinguish parallel instances of pre-processing
+   * @param tripleNetwork network supplier for network to be used by pre-processing
+   * @param factory factory for ring elements
+   * @param prgSeedLength bit length of prg
+   * @param batchSize batch size in which pre-processed material is generated
+   * @param macKeyShare mac key share
+   * @param seedOts pre-computed base OTs
+   * @param drbg source of randomness
+   */
+  public Spdz2kMascotDataSupplier(int myId, int numberOfPlayers, int instanceId,
+      Supplier<Network> tripleNetwork, CompUIntFactory<PlainT> factory, int prgSeedLength,
+      int batchSize, PlainT macKeyShare, Map<Integer, RotList> seedOts, Drbg drbg) {
+    this.myId = myId;
+    this.numberOfPlayers = numberOfPlayers;
+    this.instanceId = instanceId;
+    this.tripleNetwork = tripleNetwork;
+    this.factory = factory;
+    this.triples = new ArrayDeque<>();
+    this.masks = new HashMap<>();
+    for (int partyId = 1; partyId <= numberOfPlayers; partyId++) {
+      masks.put(partyId, new ArrayDeque<>());
+    }
+    this.randomElements = new ArrayDeque<>();
+    this.randomBits = new ArrayDeque<>();
+    this.prgSeedLength = prgSeedLength;
+    this.batchSize = batchSize;
+    this.macKeyShare = macKeyShare;
+    this.seedOts = seedOts;
+    this.drbg = drbg;
+  }
+
+  /**
+   * Creates instance of {@link Spdz2kMascotDataSupplier} with default parameters.
+   */
+  public static <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kMascotDataSupplier<PlainT>
+  createSimpleSupplier(int myId, int numberOfPlayers, Supplier<Network> tripleNetwork,
+      CompUIntFactory<PlainT> factory, Map<Integer, RotList> seedOts, Drbg drbg,
+      PlainT macKeyShare) {
+    int prgSeedLength = 256;
+    return new Spdz2kMascotDataSupplier<>(myId, numberOfPlayers, 1, tripleNetwork, factory,
+        prgSeedLength, 16, macKeyShare, seedOts, drbg);
+  }
+
+  @Override
+  public Spdz2kTriple<PlainT> getNextTripleShares() {
+    ensureInitialized();
+    if (triples.isEmpty()) {
+      logger.trace("Getting another triple batch");
+      triples.addAll(mascot.getTriples(batchSize));
+      logger.trace("Got another triple batch");
+    }
+    return Spdz2kMascotFormatConverter.toSpdz2kTriple(triples.pop());
+  }
+
+  @Override
+  public Spdz2kInputMask<PlainT> getNextInputMask(int towardPlayerId) {
+    ensureInitialized();
+    ArrayDeque<InputMask> inputMasks = masks.get(towardPlayerId);
+    if (inputMasks.isEmpty()) {
+      logger.trace("Getting another mask batch");
+      inputMasks.addAll(mascot.getInputMasks(towardPlayerId, batchSize));
+      logger.trace("Got another mask batch");
+    }
+    return Spdz2kMascotFormatConverter.toSpdz2kInputMask(inputMasks.pop());
+  }
+
+  @Override
+  public Spdz2kSInt<PlainT> getNextBitShare() {
+    ensureInitialized();
+    if (randomBits.isEmpty()) {
+      logger.trace("Getting another bit batch");
+      randomBits.addAll(mascot.getRandomBits(batchSize));
+      logger.trace("Got another bit batch");
+    }
+    return Spdz2kMascotFormatConverter.toSpdz2kSInt(randomBits.pop());
+  }
+
+  @Override
+  public Spdz2kSolvedBits<PlainT> getNextSolvedBits(int noOfBits) {
+    ensureInitialized();
+    if (randomBits.size() < noOfBits) {
+      logger.trace("Getting another bit batch");
+      randomBits.addAll(mascot.getRandomBits(Math.max(batchSize, noOfBits - randomBits.size())));
+      logger.trace("Got another bit batch");
+    }
+    // the value is computed locally from the authenticated bits
+    List<Spdz2kSInt<PlainT>> bits = new ArrayList<>(noOfBits);
+    for (int i = 0; i < noOfBits; i++) {
+      bits.add(Spdz2kMascotFormatConverter.toSpdz2kSInt(randomBits.pop()));
+    }
+    return Spdz2kSolvedBits.fromBits(bits, factory);
+  }
+
+  @Override
+  public Spdz2kTruncationPair<PlainT> getNextTruncationPair(int noOfBits, int shifts) {
+    return getNextSolvedBits(noOfBits).getTruncationPair(shifts, factory);
+  }
+
+  @Override
+  public PlainT getSecretSharedKey() {
+    return macKeyShare;
+  }
+
+  @Override
+  public Spdz2kSInt<PlainT> getNextRandomElementShare() {
+    ensureInitialized();
+    if (randomElements.isEmpty()) {
+      logger.trace("Getting another random element batch");
+      randomElements.addAll(mascot.getRandomElements(batchSize));
+      logger.trace("Got another random element batch");
+    }
+    return Spdz2kMascotFormatConverter.toSpdz2kSInt(randomElements.pop());
+  }
+
+  private void ensureInitialized() {
+    if (mascot != null) {
+      return;
+    }
+    int numCandidatesPerTriple = 3;
+    CompUIntRingDefinition<PlainT> ringDefinition = new CompUIntRingDefinition<>(factory);
+    mascot = new Spdz2kMascot<>(
+        new MascotResourcePoolImpl(myId, numberOfPlayers, instanceId, drbg, seedOts,
+            new MascotSecurityParameters(ringDefinition.getBitLength(), prgSeedLength,
+                numCandidatesPerTriple), ringDefinition), tripleNetwork.get(), macKeyShare);
+  }
+
+}
@@ -1,5 +1,7 @@
 package dk.alexandra.fresco.suite.spdz2k;
 
+import dk.alexandra.fresco.framework.builder.numeric.SolvedBitsTests;
+import dk.alexandra.fresco.framework.builder.numeric.TruncationPairsTests;
 import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import dk.alexandra.fresco.lib.common.collections.io.CloseListTests.TestCloseAndOpenList;
 import dk.alexandra.fresco.suite.dummy.arithmetic.BasicArithmeticTests;
@@ -108,6 +110,17 @@ public abstract class Spdz2kTestSuite<Spdz2kResourcePoolT extends Spdz2kResource
         EvaluationStrategy.SEQUENTIAL_BATCHED);
   }
 
+  @Test
+  public void testSolvedBits() {
+    runTest(new SolvedBitsTests.TestSolvedBits<>(), EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testTruncationPairs() {
+    runTest(new TruncationPairsTests.TestTruncationPairs<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
   @Test
   public void testOutputToSingleParty() {
     runTest(new BasicArithmeticTests.TestOutputToSingleParty<>(),
@@ -1,7 +1,9 @@
 package dk.alexandra.fresco.suite.spdz2k;
 
 import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.lib.common.math.integer.binary.BinaryOperationsTests;
 import dk.alexandra.fresco.suite.ProtocolSuiteNumeric;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
@@ -11,6 +13,7 @@ import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePoolImpl;
 import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDummyDataSupplier;
 import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kOpenedValueStoreImpl;
 import java.util.function.Supplier;
+import org.junit.Test;
 
 public class TestSpdz2kBasicArithmetic128 extends Spdz2kTestSuite<Spdz2kResourcePool<CompUInt128>> {
 
@@ -34,4 +37,22 @@ public class TestSpdz2kBasicArithmetic128 extends Spdz2kTestSuite<Spdz2kResource
     return new Spdz2kProtocolSuiteK64();
   }
 
+  @Test
+  public void testTruncation() {
+    runTest(new BinaryOperationsTests.TestTruncation<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testTruncationList() {
+    runTest(new BinaryOperationsTests.TestTruncationList<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+  @Test
+  public void testTruncationNearBound() {
+    runTest(new BinaryOperationsTests.TestTruncationNearBound<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
 }
@@ -0,0 +1,47 @@
+package dk.alexandra.fresco.suite.spdz2k;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.lib.common.math.integer.binary.BinaryOperationsTests;
+import dk.alexandra.fresco.suite.ProtocolSuiteNumeric;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt64;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt64Factory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePool;
+import dk.alexandra.fresco.suite.spdz2k.resource.Spdz2kResourcePoolImpl;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kDummyDataSupplier;
+import dk.alexandra.fresco.suite.spdz2k.resource.storage.Spdz2kOpenedValueStoreImpl;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+public class TestSpdz2kBasicArithmetic64 extends Spdz2kTestSuite<Spdz2kResourcePool<CompUInt64>> {
+
+  @Override
+  protected Spdz2kResourcePool<CompUInt64> createResourcePool(int playerId, int noOfParties,
+      Supplier<Network> networkSupplier) {
+    CompUIntFactory<CompUInt64> factory = new CompUInt64Factory();
+    Spdz2kResourcePool<CompUInt64> resourcePool =
+        new Spdz2kResourcePoolImpl<>(
+            playerId,
+            noOfParties, null,
+            new Spdz2kOpenedValueStoreImpl<>(),
+            new Spdz2kDummyDataSupplier<>(playerId, noOfParties, factory.createRandom(), factory),
+            factory);
+    resourcePool.initializeJointRandomness(networkSupplier, AesCtrDrbg::new, 32);
+    return resourcePool;
+  }
+
+  @Override
+  protected ProtocolSuiteNumeric<Spdz2kResourcePool<CompUInt64>> createProtocolSuite() {
+    return new Spdz2kProtocolSuiteK32();
+  }
+
+  @Test
+  public void testTruncationUnsupported() {
+    // k = 32 is less than the statistical security parameter, so there is no room for masks
+    runTest(new BinaryOperationsTests.TestTruncationUnsupported<>(),
+        EvaluationStrategy.SEQUENTIAL_BATCHED);
+  }
+
+}
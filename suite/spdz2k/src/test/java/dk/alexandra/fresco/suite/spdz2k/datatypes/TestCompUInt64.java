@@ -0,0 +1,151 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.Test;
+
+public class TestCompUInt64 {
+
+  private final BigInteger two = BigInteger.valueOf(2);
+  private final BigInteger twoTo32 = BigInteger.ONE.shiftLeft(32);
+  private final BigInteger twoTo64 = BigInteger.ONE.shiftLeft(64);
+
+  @Test
+  public void testConstruct() {
+    assertEquals(
+        BigInteger.ZERO,
+        new CompUInt64(BigInteger.ZERO).toBigInteger()
+    );
+    assertEquals(
+        new BigInteger("42"),
+        new CompUInt64(new BigInteger("42")).toBigInteger()
+    );
+    assertEquals(
+        twoTo32.subtract(BigInteger.ONE),
+        new CompUInt64(twoTo32.subtract(BigInteger.ONE)).toBigInteger()
+    );
+    assertEquals(
+        twoTo32.add(BigInteger.ONE),
+        new CompUInt64(twoTo32.add(BigInteger.ONE)).toBigInteger()
+    );
+    assertEquals(
+        twoTo64.subtract(BigInteger.ONE),
+        new CompUInt64(twoTo64.subtract(BigInteger.ONE)).toBigInteger()
+    );
+  }
+
+  @Test
+  public void testConstructFromLowBytes() {
+    byte[] bytes = new byte[]{(byte) 0xFF, 0x01, 0x02, 0x03};
+    CompUInt64 uint = new CompUInt64(bytes);
+    assertEquals(new BigInteger(1, bytes), uint.toBigInteger());
+    assertTrue(uint.getMostSignificant().isZero());
+  }
+
+  @Test
+  public void testAdd() {
+    assertEquals(
+        two,
+        new CompUInt64(1).add(new CompUInt64(1)).toBigInteger()
+    );
+    assertEquals(
+        twoTo32,
+        new CompUInt64(twoTo32.subtract(BigInteger.ONE)).add(new CompUInt64(1)).toBigInteger()
+    );
+    assertEquals(
+        BigInteger.ZERO,
+        new CompUInt64(twoTo64.subtract(BigInteger.ONE)).add(new CompUInt64(1)).toBigInteger()
+    );
+  }
+
+  @Test
+  public void testMultiply() {
+    assertEquals(
+        BigInteger.ZERO,
+        new CompUInt64(1024).multiply(new CompUInt64(0)).toBigInteger()
+    );
+    assertEquals(
+        new BigInteger("294"),
+        new CompUInt64(42).multiply(new CompUInt64(7)).toBigInteger()
+    );
+    assertEquals(
+        new BigInteger("42").multiply(twoTo64.subtract(BigInteger.ONE)).mod(twoTo64),
+        new CompUInt64(42)
+            .multiply(new CompUInt64(twoTo64.subtract(BigInteger.ONE)))
+            .toBigInteger()
+    );
+    assertEquals(
+        twoTo32.multiply(twoTo32.add(BigInteger.TEN)).mod(twoTo64),
+        new CompUInt64(twoTo32)
+            .multiply(new CompUInt64(twoTo32.add(BigInteger.TEN)))
+            .toBigInteger()
+    );
+  }
+
+  @Test
+  public void testNegateAndSubtract() {
+    assertEquals(
+        BigInteger.ZERO,
+        new CompUInt64(0).negateUInt().toBigInteger()
+    );
+    assertEquals(
+        twoTo64.subtract(two),
+        new CompUInt64(2).negateUInt().toBigInteger()
+    );
+    assertEquals(
+        twoTo64.subtract(BigInteger.ONE),
+        new CompUInt64(1).subtract(new CompUInt64(2)).toBigInteger()
+    );
+  }
+
+  @Test
+  public void testHighAndLow() {
+    CompUInt64 uint = new CompUInt64(twoTo32.multiply(BigInteger.valueOf(5)).add(BigInteger.TEN));
+    assertEquals(5, uint.getMostSignificant().toInt());
+    assertEquals(10, uint.getLeastSignificant().toInt());
+    assertEquals(10, uint.getLeastSignificantAsHigh().toInt());
+    assertEquals(twoTo32.multiply(BigInteger.TEN), uint.shiftLowIntoHigh().toBigInteger());
+  }
+
+  @Test
+  public void testToByteArray() {
+    byte[] bytes = new byte[8];
+    new Random(1).nextBytes(bytes);
+    UInt<CompUInt64> uint = new CompUInt64(bytes);
+    assertArrayEquals(bytes, uint.toByteArray());
+  }
+
+  @Test
+  public void testToByteArrayWithPadding() {
+    UInt<CompUInt64> uint = new CompUInt64(new byte[]{0x42}, true);
+    byte[] expected = new byte[8];
+    expected[expected.length - 1] = 0x42;
+    assertArrayEquals(expected, uint.toByteArray());
+  }
+
+  @Test
+  public void testGetBitLength() {
+    CompUInt64 uint = new CompUInt64(1);
+    assertEquals(64, uint.getBitLength());
+    assertEquals(32, uint.getHighBitLength());
+    assertEquals(32, uint.getLowBitLength());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPadIllegal() {
+    new CompUInt64(new byte[50], true);
+  }
+
+  @Test
+  public void testIsZero() {
+    assertTrue(new CompUInt64(0).isZero());
+    assertFalse(new CompUInt64(1).isZero());
+    assertFalse(new CompUInt64(1L << 32).isZero());
+  }
+
+}
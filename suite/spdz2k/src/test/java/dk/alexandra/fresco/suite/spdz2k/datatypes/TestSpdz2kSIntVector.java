@@ -0,0 +1,154 @@
+package dk.alexandra.fresco.suite.spdz2k.datatypes;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSpdz2kSIntVector {
+
+  private static final int SIZE = 100;
+  private final Random random = new Random(42);
+  private List<Spdz2kSInt<CompUInt128>> left;
+  private List<Spdz2kSInt<CompUInt128>> right;
+
+  @Before
+  public void setUp() {
+    left = randomElements(SIZE);
+    right = randomElements(SIZE);
+    // include edge cases for carries
+    CompUInt128 max = new CompUInt128(BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE));
+    CompUInt128 lowMax = new CompUInt128(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE));
+    left.set(0, new Spdz2kSInt<>(max, lowMax));
+    right.set(0, new Spdz2kSInt<>(max, lowMax));
+  }
+
+  @Test
+  public void testRoundTrip() {
+    assertElementsEqual(left, new Spdz2kSIntVector(left).toList());
+  }
+
+  @Test
+  public void testAddInPlace() {
+    List<Spdz2kSInt<CompUInt128>> expected = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      expected.add(left.get(i).add(right.get(i)));
+    }
+    Spdz2kSIntVector actual = new Spdz2kSIntVector(left)
+        .addInPlace(new Spdz2kSIntVector(right));
+    assertElementsEqual(expected, actual.toList());
+  }
+
+  @Test
+  public void testSubtractInPlace() {
+    List<Spdz2kSInt<CompUInt128>> expected = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      expected.add(left.get(i).subtract(right.get(i)));
+    }
+    Spdz2kSIntVector actual = new Spdz2kSIntVector(left)
+        .subtractInPlace(new Spdz2kSIntVector(right));
+    assertElementsEqual(expected, actual.toList());
+  }
+
+  @Test
+  public void testMultiplyInPlace() {
+    CompUInt128 scalar = randomUInt();
+    List<Spdz2kSInt<CompUInt128>> expected = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      expected.add(left.get(i).multiply(scalar));
+    }
+    Spdz2kSIntVector actual = new Spdz2kSIntVector(left).multiplyInPlace(scalar);
+    assertElementsEqual(expected, actual.toList());
+  }
+
+  @Test
+  public void testMultiplyAccumulate() {
+    CompUInt128 scalar = randomUInt();
+    List<Spdz2kSInt<CompUInt128>> expected = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      expected.add(left.get(i).add(right.get(i).multiply(scalar)));
+    }
+    Spdz2kSIntVector actual = new Spdz2kSIntVector(left)
+        .multiplyAccumulate(new Spdz2kSIntVector(right), scalar);
+    assertElementsEqual(expected, actual.toList());
+  }
+
+  @Test
+  public void testInnerProduct() {
+    List<CompUInt128> publicValues = new ArrayList<>();
+    Spdz2kSInt<CompUInt128> expected = new Spdz2kSInt<>(
+        new CompUInt128(BigInteger.ZERO), new CompUInt128(BigInteger.ZERO));
+    for (int i = 0; i < SIZE; i++) {
+      CompUInt128 value = randomUInt();
+      publicValues.add(value);
+      expected = expected.add(left.get(i).multiply(value));
+    }
+    Spdz2kSInt<CompUInt128> actual = new Spdz2kSIntVector(left).innerProduct(publicValues);
+    assertElementEquals(expected, actual);
+  }
+
+  @Test
+  public void testUnsignedMultiplyHigh() {
+    for (int i = 0; i < 1000; i++) {
+      long a = random.nextLong();
+      long b = random.nextLong();
+      BigInteger expected = new BigInteger(1, longToBytes(a))
+          .multiply(new BigInteger(1, longToBytes(b)))
+          .shiftRight(64);
+      assertEquals(expected.longValue(), Spdz2kSIntVector.unsignedMultiplyHigh(a, b));
+    }
+    assertEquals(-2L, Spdz2kSIntVector.unsignedMultiplyHigh(-1L, -1L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddDifferentSizes() {
+    new Spdz2kSIntVector(2).addInPlace(new Spdz2kSIntVector(3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInnerProductDifferentSizes() {
+    new Spdz2kSIntVector(2).innerProduct(new ArrayList<>());
+  }
+
+  private List<Spdz2kSInt<CompUInt128>> randomElements(int size) {
+    List<Spdz2kSInt<CompUInt128>> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      elements.add(new Spdz2kSInt<>(randomUInt(), randomUInt()));
+    }
+    return elements;
+  }
+
+  private CompUInt128 randomUInt() {
+    byte[] bytes = new byte[16];
+    random.nextBytes(bytes);
+    return new CompUInt128(bytes);
+  }
+
+  private static byte[] longToBytes(long value) {
+    byte[] bytes = new byte[8];
+    for (int i = 7; i >= 0; i--) {
+      bytes[i] = (byte) value;
+      value >>>= 8;
+    }
+    return bytes;
+  }
+
+  private static void assertElementsEqual(List<Spdz2kSInt<CompUInt128>> expected,
+      List<Spdz2kSInt<CompUInt128>> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertElementEquals(expected.get(i), actual.get(i));
+    }
+  }
+
+  private static void assertElementEquals(Spdz2kSInt<CompUInt128> expected,
+      Spdz2kSInt<CompUInt128> actual) {
+    assertEquals(expected.getShare().toBigInteger(), actual.getShare().toBigInteger());
+    assertEquals(expected.getMacShare().toBigInteger(), actual.getMacShare().toBigInteger());
+  }
+
+}
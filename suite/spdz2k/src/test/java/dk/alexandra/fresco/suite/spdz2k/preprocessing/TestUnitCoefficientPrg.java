@@ -0,0 +1,39 @@
+package dk.alexandra.fresco.suite.spdz2k.preprocessing;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.Test;
+
+public class TestUnitCoefficientPrg {
+
+  private final CompUIntRingDefinition<CompUInt128> definition =
+      new CompUIntRingDefinition<>(new CompUInt128Factory());
+  private final UnitCoefficientPrg prg =
+      new UnitCoefficientPrg(() -> definition.createElement(4), definition);
+
+  @Test
+  public void testFirstCoefficientOfEveryRowIsOdd() {
+    List<List<FieldElement>> rows = prg.getNext(5, 3);
+    assertEquals(5, rows.size());
+    for (List<FieldElement> row : rows) {
+      assertEquals(3, row.size());
+      assertEquals(BigInteger.valueOf(5), definition.convertToUnsigned(row.get(0)));
+      assertEquals(BigInteger.valueOf(4), definition.convertToUnsigned(row.get(1)));
+      assertEquals(BigInteger.valueOf(4), definition.convertToUnsigned(row.get(2)));
+    }
+  }
+
+  @Test
+  public void testSingleSamplesAreUnchanged() {
+    assertEquals(BigInteger.valueOf(4), definition.convertToUnsigned(prg.getNext()));
+    for (FieldElement element : prg.getNext(3)) {
+      assertEquals(BigInteger.valueOf(4), definition.convertToUnsigned(element));
+    }
+  }
+
+}
@@ -8,7 +8,9 @@ import static org.junit.Assert.assertFalse;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSolvedBits;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128;
 import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
 import java.math.BigInteger;
@@ -46,6 +48,53 @@ public class TestSpdz2kDummyDataSupplier {
     assertMacCorrect(recombined, macKey);
   }
 
+  private void testGetNextSolvedBits(int noOfParties, int noOfBits) {
+    List<Spdz2kDataSupplier<CompUInt128>> suppliers = setupSuppliers(noOfParties);
+    CompUInt128 macKey = getMacKeyFromSuppliers(suppliers);
+    List<Spdz2kSolvedBits<CompUInt128>> solvedBits = new ArrayList<>(noOfParties);
+    for (Spdz2kDataSupplier<CompUInt128> supplier : suppliers) {
+      solvedBits.add(supplier.getNextSolvedBits(noOfBits));
+    }
+    BigInteger expected = BigInteger.ZERO;
+    for (int i = 0; i < noOfBits; i++) {
+      List<Spdz2kSInt<CompUInt128>> shares = new ArrayList<>(noOfParties);
+      for (Spdz2kSolvedBits<CompUInt128> partySolvedBits : solvedBits) {
+        shares.add(partySolvedBits.getBits().get(i));
+      }
+      Spdz2kSInt<CompUInt128> recombined = recombine(shares);
+      BigInteger asBitInt = recombined.getShare().toBigInteger();
+      assertTrue("Not a bit " + asBitInt,
+          asBitInt.equals(BigInteger.ZERO) || asBitInt.equals(BigInteger.ONE));
+      assertMacCorrect(recombined, macKey);
+      expected = expected.add(asBitInt.shiftLeft(i));
+    }
+    List<Spdz2kSInt<CompUInt128>> shares = new ArrayList<>(noOfParties);
+    for (Spdz2kSolvedBits<CompUInt128> partySolvedBits : solvedBits) {
+      shares.add(partySolvedBits.getValue());
+    }
+    Spdz2kSInt<CompUInt128> recombined = recombine(shares);
+    assertMacCorrect(recombined, macKey);
+    assertEquals(expected, recombined.getShare().toBigInteger());
+  }
+
+  private void testGetNextTruncationPair(int noOfParties, int noOfBits, int shifts) {
+    List<Spdz2kDataSupplier<CompUInt128>> suppliers = setupSuppliers(noOfParties);
+    CompUInt128 macKey = getMacKeyFromSuppliers(suppliers);
+    List<Spdz2kSInt<CompUInt128>> values = new ArrayList<>(noOfParties);
+    List<Spdz2kSInt<CompUInt128>> shiftedValues = new ArrayList<>(noOfParties);
+    for (Spdz2kDataSupplier<CompUInt128> supplier : suppliers) {
+      Spdz2kTruncationPair<CompUInt128> pair = supplier.getNextTruncationPair(noOfBits, shifts);
+      values.add(pair.getValue());
+      shiftedValues.add(pair.getShifted());
+    }
+    Spdz2kSInt<CompUInt128> value = recombine(values);
+    Spdz2kSInt<CompUInt128> shifted = recombine(shiftedValues);
+    assertMacCorrect(value, macKey);
+    assertMacCorrect(shifted, macKey);
+    assertEquals(value.getShare().toBigInteger().shiftRight(shifts),
+        shifted.getShare().toBigInteger());
+  }
+
   private void testGetInputMask(int noOfParties, int towardParty) {
     List<Spdz2kDataSupplier<CompUInt128>> suppliers = setupSuppliers(noOfParties);
     CompUInt128 macKey = getMacKeyFromSuppliers(suppliers);
@@ -94,6 +143,20 @@ public class TestSpdz2kDummyDataSupplier {
     testGetNextBitShare(5);
   }
 
+  @Test
+  public void testGetNextSolvedBits() {
+    testGetNextSolvedBits(2, 1);
+    testGetNextSolvedBits(3, 32);
+    testGetNextSolvedBits(5, 64);
+  }
+
+  @Test
+  public void testGetNextTruncationPair() {
+    testGetNextTruncationPair(2, 1, 0);
+    testGetNextTruncationPair(3, 32, 16);
+    testGetNextTruncationPair(5, 64, 63);
+  }
+
   @Test
   public void testGetInputMask() {
     List<Integer> partyNumbers = Arrays.asList(2, 3, 5);
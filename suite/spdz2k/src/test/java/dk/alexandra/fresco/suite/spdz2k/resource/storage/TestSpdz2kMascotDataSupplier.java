@@ -0,0 +1,220 @@
+package dk.alexandra.fresco.suite.spdz2k.resource.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkUtil;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt128Factory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUInt64Factory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.CompUIntFactory;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kInputMask;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSInt;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kSolvedBits;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTriple;
+import dk.alexandra.fresco.suite.spdz2k.datatypes.Spdz2kTruncationPair;
+import dk.alexandra.fresco.tools.ot.base.DummyOt;
+import dk.alexandra.fresco.tools.ot.base.Ot;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+public class TestSpdz2kMascotDataSupplier {
+
+  private static final int PRG_SEED_LENGTH = 256;
+  private static final int NO_OF_SOLVED_BITS = 20;
+  private static final int TRUNCATION_SHIFTS = 8;
+
+  @Test
+  public void testMaterialTwoParties128() {
+    testMaterial(2, CompUInt128Factory::new);
+  }
+
+  @Test
+  public void testMaterialThreeParties128() {
+    testMaterial(3, CompUInt128Factory::new);
+  }
+
+  @Test
+  public void testMaterialTwoParties64() {
+    testMaterial(2, CompUInt64Factory::new);
+  }
+
+  private <PlainT extends CompUInt<?, ?, PlainT>> void testMaterial(int noOfParties,
+      Supplier<CompUIntFactory<PlainT>> factorySupplier) {
+    List<Material<PlainT>> material = runParties(noOfParties, factorySupplier);
+    PlainT macKey = material.stream()
+        .map(m -> m.macKeyShare)
+        .reduce(PlainT::add).get();
+
+    Spdz2kTriple<PlainT> triple = recombineTriples(material);
+    assertMacCorrect(triple.getLeft(), macKey);
+    assertMacCorrect(triple.getRight(), macKey);
+    assertMacCorrect(triple.getProduct(), macKey);
+    assertEquals(
+        triple.getLeft().getShare().multiply(triple.getRight().getShare()).toBigInteger(),
+        triple.getProduct().getShare().toBigInteger());
+
+    Spdz2kSInt<PlainT> element = recombine(material, m -> m.randomElement);
+    assertMacCorrect(element, macKey);
+
+    Spdz2kSInt<PlainT> bit = recombine(material, m -> m.bit);
+    BigInteger bitValue = bit.getShare().toBigInteger();
+    assertTrue("Not a bit " + bitValue,
+        bitValue.equals(BigInteger.ZERO) || bitValue.equals(BigInteger.ONE));
+    assertMacCorrect(bit, macKey);
+
+    BigInteger expected = BigInteger.ZERO;
+    for (int i = 0; i < NO_OF_SOLVED_BITS; i++) {
+      final int index = i;
+      Spdz2kSInt<PlainT> solvedBit = recombine(material, m -> m.solvedBits.getBits().get(index));
+      BigInteger solvedBitValue = solvedBit.getShare().toBigInteger();
+      assertTrue("Not a bit " + solvedBitValue,
+          solvedBitValue.equals(BigInteger.ZERO) || solvedBitValue.equals(BigInteger.ONE));
+      assertMacCorrect(solvedBit, macKey);
+      expected = expected.add(solvedBitValue.shiftLeft(i));
+    }
+    Spdz2kSInt<PlainT> solvedValue = recombine(material, m -> m.solvedBits.getValue());
+    assertMacCorrect(solvedValue, macKey);
+    assertEquals(expected, solvedValue.getShare().toBigInteger());
+
+    Spdz2kSInt<PlainT> truncationValue = recombine(material, m -> m.truncationPair.getValue());
+    Spdz2kSInt<PlainT> truncationShifted =
+        recombine(material, m -> m.truncationPair.getShifted());
+    assertMacCorrect(truncationValue, macKey);
+    assertMacCorrect(truncationShifted, macKey);
+    assertEquals(truncationValue.getShare().toBigInteger().shiftRight(TRUNCATION_SHIFTS),
+        truncationShifted.getShare().toBigInteger());
+
+    Spdz2kSInt<PlainT> mask = recombine(material, m -> m.inputMask.getMaskShare());
+    assertMacCorrect(mask, macKey);
+    for (int i = 1; i < noOfParties; i++) {
+      assertNull(material.get(i).inputMask.getOpenValue());
+    }
+    assertEquals(material.get(0).inputMask.getOpenValue().toBigInteger(),
+        mask.getShare().toBigInteger());
+  }
+
+  private <PlainT extends CompUInt<?, ?, PlainT>> List<Material<PlainT>> runParties(
+      int noOfParties, Supplier<CompUIntFactory<PlainT>> factorySupplier) {
+    Map<Integer, NetworkConfiguration> netConf =
+        NetworkUtil.getNetworkConfigurations(noOfParties);
+    ExecutorService executor = Executors.newFixedThreadPool(noOfParties);
+    List<Callable<Material<PlainT>>> tasks = new ArrayList<>(noOfParties);
+    for (int myId = 1; myId <= noOfParties; myId++) {
+      NetworkConfiguration conf = netConf.get(myId);
+      tasks.add(() -> runParty(conf, factorySupplier.get()));
+    }
+    List<Material<PlainT>> material = new ArrayList<>(noOfParties);
+    List<Future<Material<PlainT>>> futures = ExceptionConverter.safe(
+        () -> executor.invokeAll(tasks), "Failed to run parties");
+    for (Future<Material<PlainT>> future : futures) {
+      material.add(ExceptionConverter.safe(future::get, "Party failed"));
+    }
+    executor.shutdown();
+    return material;
+  }
+
+  private <PlainT extends CompUInt<?, ?, PlainT>> Material<PlainT> runParty(
+      NetworkConfiguration conf, CompUIntFactory<PlainT> factory) throws Exception {
+    int myId = conf.getMyId();
+    int noOfParties = conf.noOfParties();
+    try (CloseableNetwork network = new SocketNetwork(conf)) {
+      Drbg drbg = getDrbg(myId);
+      Map<Integer, RotList> seedOts = getSeedOts(myId, noOfParties, drbg, network);
+      PlainT macKeyShare = factory.createRandom();
+      Spdz2kDataSupplier<PlainT> supplier = Spdz2kMascotDataSupplier.createSimpleSupplier(
+          myId, noOfParties, () -> network, factory, seedOts, drbg, macKeyShare);
+      Material<PlainT> material = new Material<>();
+      material.macKeyShare = supplier.getSecretSharedKey();
+      material.triple = supplier.getNextTripleShares();
+      material.randomElement = supplier.getNextRandomElementShare();
+      material.bit = supplier.getNextBitShare();
+      material.inputMask = supplier.getNextInputMask(1);
+      material.solvedBits = supplier.getNextSolvedBits(NO_OF_SOLVED_BITS);
+      material.truncationPair =
+          supplier.getNextTruncationPair(NO_OF_SOLVED_BITS, TRUNCATION_SHIFTS);
+      return material;
+    }
+  }
+
+  private Drbg getDrbg(int myId) {
+    byte[] seed = new byte[PRG_SEED_LENGTH / 8];
+    new Random(myId).nextBytes(seed);
+    return AesCtrDrbgFactory.fromDerivedSeed(seed);
+  }
+
+  private Map<Integer, RotList> getSeedOts(int myId, int noOfParties, Drbg drbg,
+      Network network) {
+    Map<Integer, RotList> seedOts = new HashMap<>();
+    for (int otherId = 1; otherId <= noOfParties; otherId++) {
+      if (myId != otherId) {
+        Ot ot = new DummyOt(otherId, network);
+        RotList currentSeedOts = new RotList(drbg, PRG_SEED_LENGTH);
+        if (myId < otherId) {
+          currentSeedOts.send(ot);
+          currentSeedOts.receive(ot);
+        } else {
+          currentSeedOts.receive(ot);
+          currentSeedOts.send(ot);
+        }
+        seedOts.put(otherId, currentSeedOts);
+      }
+    }
+    return seedOts;
+  }
+
+  private <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kSInt<PlainT> recombine(
+      List<Material<PlainT>> material,
+      Function<Material<PlainT>, Spdz2kSInt<PlainT>> getter) {
+    return material.stream().map(getter).reduce(Spdz2kSInt::add).get();
+  }
+
+  private <PlainT extends CompUInt<?, ?, PlainT>> Spdz2kTriple<PlainT> recombineTriples(
+      List<Material<PlainT>> material) {
+    return new Spdz2kTriple<>(
+        recombine(material, m -> m.triple.getLeft()),
+        recombine(material, m -> m.triple.getRight()),
+        recombine(material, m -> m.triple.getProduct()));
+  }
+
+  private <PlainT extends CompUInt<?, ?, PlainT>> void assertMacCorrect(
+      Spdz2kSInt<PlainT> recombined, PlainT macKey) {
+    assertArrayEquals(
+        macKey.multiply(recombined.getShare()).toByteArray(),
+        recombined.getMacShare().toByteArray()
+    );
+  }
+
+  private static class Material<PlainT extends CompUInt<?, ?, PlainT>> {
+
+    private PlainT macKeyShare;
+    private Spdz2kTriple<PlainT> triple;
+    private Spdz2kSInt<PlainT> randomElement;
+    private Spdz2kSInt<PlainT> bit;
+    private Spdz2kInputMask<PlainT> inputMask;
+    private Spdz2kSolvedBits<PlainT> solvedBits;
+    private Spdz2kTruncationPair<PlainT> truncationPair;
+  }
+
+}
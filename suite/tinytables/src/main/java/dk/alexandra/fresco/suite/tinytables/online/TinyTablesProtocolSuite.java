@@ -1,22 +1,31 @@
 package dk.alexandra.fresco.suite.tinytables.online;
 
 import dk.alexandra.fresco.framework.BuilderFactory;
+import dk.alexandra.fresco.framework.NativeProtocol;
+import dk.alexandra.fresco.framework.ProtocolCollection;
 import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.RegularBitVector;
 import dk.alexandra.fresco.suite.ProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElementVector;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesANDProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesCloseProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesNOTProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesOpenToAllProtocol;
 import dk.alexandra.fresco.suite.tinytables.online.protocols.TinyTablesXORProtocol;
 import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproProtocolSuite;
-import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorage;
+import dk.alexandra.fresco.suite.tinytables.storage.MappedTinyTablesStorage;
+import dk.alexandra.fresco.suite.tinytables.storage.StreamingTinyTablesStorage;
+import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesOnlineStorage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,7 +54,7 @@ public class TinyTablesProtocolSuite
     implements ProtocolSuite<ResourcePoolImpl, ProtocolBuilderBinary> {
 
   private final File tinyTablesFile;
-  private TinyTablesStorage storage;
+  private TinyTablesOnlineStorage storage;
   private static volatile Map<Integer, TinyTablesProtocolSuite> instances = new HashMap<>();
   private static final Logger logger = LoggerFactory.getLogger(TinyTablesProtocolSuite.class);
 
@@ -58,29 +67,98 @@ public class TinyTablesProtocolSuite
     instances.put(id, this);
   }
 
+  /**
+   * Creates a protocol suite reading TinyTables from the given storage instead of a file. Used
+   * with a {@link StreamingTinyTablesStorage} to run the online phase concurrently with the
+   * preprocessing phase.
+   *
+   * @param id the id of this party
+   * @param storage storage holding the TinyTables
+   */
+  public TinyTablesProtocolSuite(int id, TinyTablesOnlineStorage storage) {
+    this.tinyTablesFile = null;
+    this.storage = storage;
+    instances.put(id, this);
+  }
+
   @Override
   public BuilderFactory<ProtocolBuilderBinary> init(ResourcePoolImpl resourcePool) {
-    this.storage =
-        ExceptionConverter.safe(() -> loadTinyTables(tinyTablesFile), "Unable to load TinyTables");
+    if (tinyTablesFile != null) {
+      this.storage = ExceptionConverter.safe(() -> loadTinyTables(tinyTablesFile),
+          "Unable to load TinyTables");
+    }
     BuilderFactory<ProtocolBuilderBinary> b = new TinyTablesBuilderFactory();
     return b;
   }
 
-  private TinyTablesStorage loadTinyTables(File file) throws IOException, ClassNotFoundException {
+  private TinyTablesOnlineStorage loadTinyTables(File file)
+      throws IOException, ClassNotFoundException {
+    if (MappedTinyTablesStorage.isCompactFormat(file)) {
+      logger.info("Mapping TinyTables from " + file);
+      return MappedTinyTablesStorage.open(file);
+    }
+    // Fall back to the legacy format of a serialized storage object
     FileInputStream fin = new FileInputStream(file);
     ObjectInputStream is = new ObjectInputStream(fin);
     logger.info("Loading TinyTabels from " + file);
-    TinyTablesStorage storage = (TinyTablesStorage) is.readObject();
+    TinyTablesOnlineStorage storage = (TinyTablesOnlineStorage) is.readObject();
     is.close();
     return storage;
   }
 
-  public TinyTablesStorage getStorage() {
+  public TinyTablesOnlineStorage getStorage() {
     return this.storage;
   }
 
   @Override
   public RoundSynchronization<ResourcePoolImpl> createRoundSynchronization() {
-    return new DummyRoundSynchronization<>();
+    return new OnlineRoundSync();
+  }
+
+  /**
+   * Opens all AND gates of a batch before the batch is evaluated. Each party looks up its share
+   * of every gate, and the shares are exchanged as a single bit-packed {@link
+   * TinyTablesElementVector} instead of one message per gate.
+   */
+  private class OnlineRoundSync implements RoundSynchronization<ResourcePoolImpl> {
+
+    @Override
+    public void beforeBatch(ProtocolCollection<ResourcePoolImpl> protocols,
+        ResourcePoolImpl resourcePool, Network network) {
+      List<TinyTablesANDProtocol> ands = new ArrayList<>();
+      for (NativeProtocol<?, ResourcePoolImpl> protocol : protocols) {
+        if (protocol instanceof TinyTablesANDProtocol) {
+          ands.add((TinyTablesANDProtocol) protocol);
+        }
+      }
+      if (ands.isEmpty()) {
+        return;
+      }
+      TinyTablesElementVector myShares = new TinyTablesElementVector(ands.size());
+      for (int i = 0; i < ands.size(); i++) {
+        myShares.setShare(i, ands.get(i).lookUp(storage).getShare());
+      }
+      network.sendToAll(myShares.payload());
+      List<byte[]> payloads = network.receiveFromAll();
+      TinyTablesElementVector[] allShares = new TinyTablesElementVector[payloads.size()];
+      for (int i = 0; i < payloads.size(); i++) {
+        allShares[i] = new TinyTablesElementVector(payloads.get(i), ands.size());
+      }
+      RegularBitVector opened = TinyTablesElementVector.open(allShares);
+      for (int i = 0; i < ands.size(); i++) {
+        ands.get(i).setOpenedValue(opened.getBit(i));
+      }
+    }
+
+    @Override
+    public void finishedBatch(int gatesEvaluated, ResourcePoolImpl resourcePool,
+        Network network) {
+      // Ignore
+    }
+
+    @Override
+    public void finishedEval(ResourcePoolImpl resourcePool, Network network) {
+      // Ignore
+    }
   }
 }
@@ -9,6 +9,7 @@ import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
 import dk.alexandra.fresco.suite.tinytables.online.TinyTablesProtocolSuite;
 import dk.alexandra.fresco.suite.tinytables.online.datatypes.TinyTablesSBool;
+import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesOnlineStorage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -29,6 +30,13 @@ import java.util.Objects;
  * Both players now add their share with the other players share to get the masked value of the
  * output wire.
  * </p>
+ * <p>
+ * When evaluated by a {@link dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator}
+ * the round synchronization of {@link TinyTablesProtocolSuite} opens all AND gates of a batch at
+ * once using a single bit-packed message (see {@link #lookUp} and {@link #setOpenedValue}), in
+ * which case this protocol completes without further communication. Otherwise the gate is opened
+ * on its own.
+ * </p>
  *
  * @author Jonas Lindstrøm (jonas.lindstrom@alexandra.dk)
  */
@@ -48,12 +56,12 @@ public class TinyTablesANDProtocol extends TinyTablesProtocol<SBool> {
   public EvaluationStatus evaluate(int round, ResourcePoolImpl resourcePool, Network network) {
     TinyTablesProtocolSuite ps = TinyTablesProtocolSuite.getInstance(resourcePool.getMyId());
 
+    if (out != null) {
+      // already opened as part of a batch
+      return EvaluationStatus.IS_DONE;
+    }
     if (round == 0) {
-      TinyTable tinyTable = Objects.requireNonNull(ps.getStorage().getTinyTable(id),
-          "Unable to find TinyTable for gate with id " + id);
-      TinyTablesElement myShare = tinyTable.getValue(((TinyTablesSBool) inLeft.out()).getValue(),
-          ((TinyTablesSBool) inRight.out()).getValue());
-
+      TinyTablesElement myShare = lookUp(ps.getStorage());
       network.sendToAll(new byte[]{BooleanSerializer.toBytes(myShare.getShare())});
       return EvaluationStatus.HAS_MORE_ROUNDS;
     } else {
@@ -68,6 +76,30 @@ public class TinyTablesANDProtocol extends TinyTablesProtocol<SBool> {
     }
   }
 
+  /**
+   * Looks up this party's share of the masked output in the TinyTable of this gate, using the
+   * masked values of the input wires.
+   *
+   * @param storage the storage holding the TinyTables
+   * @return this party's share of the masked output
+   */
+  public TinyTablesElement lookUp(TinyTablesOnlineStorage storage) {
+    TinyTable tinyTable = Objects.requireNonNull(storage.getTinyTable(id),
+        "Unable to find TinyTable for gate with id " + id);
+    return tinyTable.getValue(((TinyTablesSBool) inLeft.out()).getValue(),
+        ((TinyTablesSBool) inRight.out()).getValue());
+  }
+
+  /**
+   * Sets the masked output of this gate after it has been opened by other means than {@link
+   * #evaluate}.
+   *
+   * @param open the opened masked output
+   */
+  public void setOpenedValue(boolean open) {
+    this.out = TinyTablesSBool.getInstance(TinyTablesElement.getInstance(open));
+  }
+
   @Override
   public SBool out() {
     return out;
@@ -11,8 +11,9 @@ import dk.alexandra.fresco.suite.tinytables.ot.TinyTablesOt;
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproANDProtocol;
 import dk.alexandra.fresco.suite.tinytables.prepro.protocols.TinyTablesPreproProtocol;
 import dk.alexandra.fresco.suite.tinytables.storage.BatchTinyTablesTripleProvider;
+import dk.alexandra.fresco.suite.tinytables.storage.CompactTinyTablesStorage;
+import dk.alexandra.fresco.suite.tinytables.storage.StreamingTinyTablesStorage;
 import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorage;
-import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesStorageImpl;
 import dk.alexandra.fresco.suite.tinytables.storage.TinyTablesTripleProvider;
 import dk.alexandra.fresco.suite.tinytables.util.TinyTablesTripleGenerator;
 import dk.alexandra.fresco.suite.tinytables.util.Util;
@@ -22,9 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -40,6 +39,8 @@ public class TinyTablesPreproResourcePool extends ResourcePoolImpl {
   private final Drng drng;
   private final List<TinyTablesPreproANDProtocol> unprocessedAnds;
   private final TinyTablesStorage storage;
+  private final CompactTinyTablesStorage compactStorage;
+  private final StreamingTinyTablesStorage streamingStorage;
   private final File tinyTablesFile;
   private final Supplier<TinyTablesTripleProvider> supplier;
   private TinyTablesTripleProvider tinyTablesTripleProvider;
@@ -51,15 +52,44 @@ public class TinyTablesPreproResourcePool extends ResourcePoolImpl {
    * @param myId The ID of the MPC party.
    * @param baseOt OT functionality for the base OTs
    * @param drbg Secure bit randomness generator
-   * @param otBatchSize The amount of OTs to preprocess in a batch
+   * @param otBatchSize The amount of OTs to preprocess in a batch. Not used since triples are
+   *     generated directly from batches of random OTs
    * @param tinyTablesFile file for data
    */
   public TinyTablesPreproResourcePool(int myId, TinyTablesOt baseOt, Drbg drbg,
       int computationalSecurity, int statisticalSecurity,
       int otBatchSize, File tinyTablesFile, Supplier<Network> network) {
+    this(myId, baseOt, drbg, computationalSecurity, statisticalSecurity,
+        new CompactTinyTablesStorage(), null, tinyTablesFile, network);
+  }
+
+  /**
+   * Creates a resource pool which hands the TinyTables over to an online phase running
+   * concurrently instead of storing them in a file. The TinyTables are published to the given
+   * storage each time a batch of them has been computed.
+   *
+   * @param myId The ID of the MPC party.
+   * @param baseOt OT functionality for the base OTs
+   * @param drbg Secure bit randomness generator
+   * @param streamingStorage storage shared with the online phase
+   * @param network supplier of a network which is not used by the online phase
+   */
+  public TinyTablesPreproResourcePool(int myId, TinyTablesOt baseOt, Drbg drbg,
+      int computationalSecurity, int statisticalSecurity,
+      StreamingTinyTablesStorage streamingStorage, Supplier<Network> network) {
+    this(myId, baseOt, drbg, computationalSecurity, statisticalSecurity, null, streamingStorage,
+        null, network);
+  }
+
+  private TinyTablesPreproResourcePool(int myId, TinyTablesOt baseOt, Drbg drbg,
+      int computationalSecurity, int statisticalSecurity,
+      CompactTinyTablesStorage compactStorage, StreamingTinyTablesStorage streamingStorage,
+      File tinyTablesFile, Supplier<Network> network) {
     super(myId, 2);
     this.unprocessedAnds = Collections.synchronizedList(new ArrayList<>());
-    this.storage = new TinyTablesStorageImpl();
+    this.compactStorage = compactStorage;
+    this.streamingStorage = streamingStorage;
+    this.storage = compactStorage != null ? compactStorage : streamingStorage;
     this.tinyTablesFile = tinyTablesFile;
     this.drng = new DrngImpl(drbg);
     this.supplier = () -> {
@@ -81,10 +111,7 @@ public class TinyTablesPreproResourcePool extends ResourcePoolImpl {
       ct.initialize(network.get());
       // Setup the OT extension
       RotFactory rotFactory = new RotFactory(otExtRes, network.get());
-      BristolOtFactory otFactory = new BristolOtFactory(rotFactory, otExtRes, network.get(),
-          otBatchSize);
-      TinyTablesTripleGenerator generator =
-          new TinyTablesTripleGenerator(getMyId(), getDrng(), otFactory);
+      TinyTablesTripleGenerator generator = new TinyTablesTripleGenerator(getMyId(), rotFactory);
       return new BatchTinyTablesTripleProvider(generator, TRIP_BATCH_SIZE);
     };
   }
@@ -157,28 +184,34 @@ public class TinyTablesPreproResourcePool extends ResourcePoolImpl {
     }
 
     this.unprocessedAnds.clear();
+    if (streamingStorage != null) {
+      // all gates evaluated so far now have their TinyTables
+      streamingStorage.publish();
+    }
   }
 
   public void closeEvaluation() {
     if (tinyTablesTripleProvider != null) {
       tinyTablesTripleProvider.close();
     }
+    if (streamingStorage != null) {
+      streamingStorage.finish();
+      return;
+    }
     /*
      * Store the TinyTables to a file.
      */
     ExceptionConverter.safe(() -> {
-      storeTinyTables(storage, tinyTablesFile);
+      storeTinyTables(compactStorage, tinyTablesFile);
       LOGGER.info("TinyTables stored to {}", tinyTablesFile);
       return null;
     }, "Failed to store TinyTables");
   }
 
-  private void storeTinyTables(TinyTablesStorage tinyTablesStorage, File file) throws IOException {
+  private void storeTinyTables(CompactTinyTablesStorage tinyTablesStorage, File file)
+      throws IOException {
     file.createNewFile();
-    try (FileOutputStream fout = new FileOutputStream(file);
-      ObjectOutputStream oos = new ObjectOutputStream(fout)) {
-      oos.writeObject(tinyTablesStorage);
-    }
+    tinyTablesStorage.writeTo(file);
   }
 
   public TinyTablesStorage getStorage() {
@@ -1,10 +1,15 @@
 package dk.alexandra.fresco.suite.tinytables.storage;
 
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesTriple;
 import dk.alexandra.fresco.suite.tinytables.util.TinyTablesTripleGenerator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +18,9 @@ import org.slf4j.LoggerFactory;
  * and when a batch is used up a new batch is generated using the provided generator. The triples
  * are kept in memory and discarded when the program is closed.
  *
+ * <p>Optionally the next batch is generated on a background thread once half of the current batch
+ * has been used. Since the generator communicates with the other party, this requires that the
+ * generator has a network of its own, which is not used by the calling thread.</p>
  */
 public class BatchTinyTablesTripleProvider implements TinyTablesTripleProvider {
 
@@ -20,23 +28,62 @@ public class BatchTinyTablesTripleProvider implements TinyTablesTripleProvider {
   private Queue<TinyTablesTriple> triples = new ConcurrentLinkedQueue<>();
   private TinyTablesTripleGenerator generator;
   private int batchSize;
+  private final ExecutorService refillExecutor;
+  private Future<List<TinyTablesTriple>> pendingBatch;
 
   public BatchTinyTablesTripleProvider(TinyTablesTripleGenerator generator, int batchSize) {
+    this(generator, batchSize, false);
+  }
+
+  /**
+   * Creates a new provider.
+   *
+   * @param generator generator for new batches of triples
+   * @param batchSize the number of triples to generate in each batch
+   * @param backgroundRefill if true the next batch is generated on a background thread. The
+   *     generator must then use a network which is not used elsewhere.
+   */
+  public BatchTinyTablesTripleProvider(TinyTablesTripleGenerator generator, int batchSize,
+      boolean backgroundRefill) {
     this.generator = generator;
     this.batchSize = batchSize;
+    if (backgroundRefill) {
+      this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TinyTables-triple-refill");
+        thread.setDaemon(true);
+        return thread;
+      });
+    } else {
+      this.refillExecutor = null;
+    }
     generateNewTriples();
   }
 
   @Override
   public synchronized TinyTablesTriple getNextTriple() {
     if (triples.isEmpty()) {
-      generateNewTriples();
+      if (pendingBatch != null) {
+        logger.trace("Waiting for background batch of triples");
+        addTriples(ExceptionConverter.safe(pendingBatch::get, "Failed to generate triples"));
+        pendingBatch = null;
+      } else {
+        generateNewTriples();
+      }
+    }
+    TinyTablesTriple triple = triples.poll();
+    // The refill is triggered by the number of triples used, so both parties trigger it at the
+    // same point
+    if (refillExecutor != null && pendingBatch == null && triples.size() <= batchSize / 2) {
+      pendingBatch = refillExecutor.submit(() -> generator.generate(batchSize));
     }
-    return triples.poll();
+    return triple;
   }
 
   private void generateNewTriples() {
-    List<TinyTablesTriple> newTriples = generator.generate(batchSize);
+    addTriples(generator.generate(batchSize));
+  }
+
+  private void addTriples(List<TinyTablesTriple> newTriples) {
     for (TinyTablesTriple triple : newTriples) {
       triples.offer(triple);
     }
@@ -44,7 +91,12 @@ public class BatchTinyTablesTripleProvider implements TinyTablesTripleProvider {
 
   @Override
   public void close() {
-
+    if (refillExecutor != null) {
+      // let a pending batch finish since the other party will be running it as well
+      refillExecutor.shutdown();
+      ExceptionConverter.safe(() -> refillExecutor.awaitTermination(1, TimeUnit.MINUTES),
+          "Interrupted while waiting for background triple generation");
+    }
   }
 
 }
@@ -0,0 +1,109 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A {@link TinyTablesStorage} which keeps all data in a single byte array indexed by protocol id.
+ *
+ * <p>Each id takes up one byte: The four lowest bits hold the entries of a {@link TinyTable} in
+ * the order <i>(0,0), (0,1), (1,0), (1,1)</i>, the fifth bit holds a mask share and the two
+ * following bits indicate whether a table or a mask share has been stored for the id. The storage
+ * can be written to a file using {@link #writeTo(File)} and read back using {@link
+ * MappedTinyTablesStorage}. The file consists of a header with a magic number and the number of
+ * ids, followed by the bytes for each id.</p>
+ */
+public class CompactTinyTablesStorage implements TinyTablesStorage {
+
+  static final int MAGIC = 0x54544231;
+  static final int HEADER_LENGTH = 2 * Integer.BYTES;
+  static final int MASK_BIT = 0x10;
+  static final int HAS_TABLE = 0x20;
+  static final int HAS_MASK = 0x40;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private byte[] gates = new byte[INITIAL_CAPACITY];
+  private int size;
+
+  @Override
+  public synchronized void storeTinyTable(int id, TinyTable table) {
+    ensureCapacity(id);
+    gates[id] = (byte) (gates[id] & ~0x0F | encodeTable(table) | HAS_TABLE);
+  }
+
+  @Override
+  public synchronized TinyTable getTinyTable(int id) {
+    return id < size ? decodeTable(gates[id]) : null;
+  }
+
+  @Override
+  public synchronized void storeMaskShare(int id, TinyTablesElement r) {
+    ensureCapacity(id);
+    gates[id] = (byte) (gates[id] & ~MASK_BIT | (r.getShare() ? MASK_BIT : 0) | HAS_MASK);
+  }
+
+  @Override
+  public synchronized TinyTablesElement getMaskShare(int id) {
+    return id < size ? decodeMask(gates[id]) : null;
+  }
+
+  /**
+   * Writes the content of this storage to a file.
+   *
+   * @param file the file to write to
+   * @throws IOException if writing to the file fails
+   */
+  public synchronized void writeTo(File file) throws IOException {
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(size);
+      out.write(gates, 0, size);
+    }
+  }
+
+  private void ensureCapacity(int id) {
+    if (id >= gates.length) {
+      gates = Arrays.copyOf(gates, Math.max(id + 1, 2 * gates.length));
+    }
+    size = Math.max(size, id + 1);
+  }
+
+  static int encodeTable(TinyTable table) {
+    TinyTablesElement zero = TinyTablesElement.getInstance(false);
+    TinyTablesElement one = TinyTablesElement.getInstance(true);
+    return bit(table.getValue(zero, zero), 0)
+        | bit(table.getValue(zero, one), 1)
+        | bit(table.getValue(one, zero), 2)
+        | bit(table.getValue(one, one), 3);
+  }
+
+  static TinyTable decodeTable(byte encoded) {
+    if ((encoded & HAS_TABLE) == 0) {
+      return null;
+    }
+    TinyTablesElement[] values = new TinyTablesElement[4];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = TinyTablesElement.getInstance((encoded >>> i & 1) == 1);
+    }
+    return new TinyTable(values);
+  }
+
+  static TinyTablesElement decodeMask(byte encoded) {
+    if ((encoded & HAS_MASK) == 0) {
+      return null;
+    }
+    return TinyTablesElement.getInstance((encoded & MASK_BIT) != 0);
+  }
+
+  private static int bit(TinyTablesElement element, int position) {
+    return element.getShare() ? 1 << position : 0;
+  }
+
+}
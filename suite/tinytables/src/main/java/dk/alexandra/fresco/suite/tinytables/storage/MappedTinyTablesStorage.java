@@ -0,0 +1,88 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only {@link TinyTablesOnlineStorage} backed by a memory-mapped file written by {@link
+ * CompactTinyTablesStorage#writeTo(File)}.
+ *
+ * <p>Nothing is read up front, the operating system pages in the file as gates are looked up.
+ * Since protocol ids are assigned in evaluation order, this means that the file is read roughly
+ * sequentially during the online phase.</p>
+ */
+public class MappedTinyTablesStorage implements TinyTablesOnlineStorage {
+
+  private final ByteBuffer gates;
+  private final int size;
+
+  private MappedTinyTablesStorage(ByteBuffer gates, int size) {
+    this.gates = gates;
+    this.size = size;
+  }
+
+  /**
+   * Memory-maps a file written by {@link CompactTinyTablesStorage#writeTo(File)}.
+   *
+   * @param file the file to map
+   * @return a storage reading from the file
+   * @throws IOException if the file cannot be read or is not in the expected format
+   */
+  public static MappedTinyTablesStorage open(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      long length = channel.size();
+      if (length < CompactTinyTablesStorage.HEADER_LENGTH) {
+        throw new IOException("File too short to contain TinyTables: " + file);
+      }
+      if (length > Integer.MAX_VALUE) {
+        throw new IOException("TinyTables file too large to be mapped: " + file);
+      }
+      ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, length);
+      if (buffer.getInt() != CompactTinyTablesStorage.MAGIC) {
+        throw new IOException("Not a compact TinyTables file: " + file);
+      }
+      int size = buffer.getInt();
+      if (size != length - CompactTinyTablesStorage.HEADER_LENGTH) {
+        throw new IOException("Truncated TinyTables file: " + file);
+      }
+      // the mapping remains valid after the channel is closed
+      return new MappedTinyTablesStorage(buffer.slice(), size);
+    }
+  }
+
+  /**
+   * Checks whether a file starts with the header written by {@link
+   * CompactTinyTablesStorage#writeTo(File)}.
+   *
+   * @param file the file to check
+   * @return true if the file is in the compact format
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isCompactFormat(File file) throws IOException {
+    if (file.length() < CompactTinyTablesStorage.HEADER_LENGTH) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      return in.readInt() == CompactTinyTablesStorage.MAGIC;
+    }
+  }
+
+  @Override
+  public TinyTable getTinyTable(int id) {
+    return id < size ? CompactTinyTablesStorage.decodeTable(gates.get(id)) : null;
+  }
+
+  @Override
+  public TinyTablesElement getMaskShare(int id) {
+    return id < size ? CompactTinyTablesStorage.decodeMask(gates.get(id)) : null;
+  }
+
+}
@@ -0,0 +1,204 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A {@link TinyTablesStorage} handing TinyTables from a preprocessing phase to an online phase
+ * running concurrently, e.g., in two threads of the same process.
+ *
+ * <p>The preprocessing phase stores tables and mask shares as usual and calls {@link #publish()}
+ * whenever everything stored so far is complete. The stored values are then handed over as one
+ * chunk through a bounded queue, so the preprocessing phase blocks if it gets too far ahead. When
+ * the preprocessing is done it must call {@link #finish()}.</p>
+ *
+ * <p>The online phase looks up values as usual, blocking until the chunk containing the requested
+ * id arrives. Only the most recent chunks are retained, relying on the fact that the two phases
+ * evaluate protocols in the same order. For the same reason a lookup reads at most as many new
+ * chunks as are retained: if the id is not found by then, it has either been evicted or was never
+ * published in order, and the lookup fails with an {@link IllegalStateException}. Values are
+ * encoded as in {@link CompactTinyTablesStorage}.</p>
+ */
+public class StreamingTinyTablesStorage implements TinyTablesStorage {
+
+  private static final int DEFAULT_RETAINED_CHUNKS = 2;
+  private static final Chunk END = new Chunk(new int[0], new byte[0]);
+
+  private final BlockingQueue<Chunk> chunks;
+  private final int retainedChunks;
+  private final Object producerLock = new Object();
+  private final Object consumerLock = new Object();
+
+  // Producer state
+  private int[] pendingIds = new int[1024];
+  private byte[] pendingValues = new byte[1024];
+  private int pendingCount;
+
+  // Consumer state
+  private final Deque<Chunk> retained = new ArrayDeque<>();
+  private final BitSet evicted = new BitSet();
+  private boolean finished;
+
+  /**
+   * Creates a new storage.
+   *
+   * @param capacity the maximum number of published chunks waiting to be used by the online phase
+   */
+  public StreamingTinyTablesStorage(int capacity) {
+    this(capacity, DEFAULT_RETAINED_CHUNKS);
+  }
+
+  /**
+   * Creates a new storage.
+   *
+   * @param capacity the maximum number of published chunks waiting to be used by the online phase
+   * @param retainedChunks the number of chunks the online phase keeps available for lookups
+   */
+  public StreamingTinyTablesStorage(int capacity, int retainedChunks) {
+    if (retainedChunks < 1) {
+      throw new IllegalArgumentException("At least one chunk must be retained");
+    }
+    this.chunks = new ArrayBlockingQueue<>(capacity);
+    this.retainedChunks = retainedChunks;
+  }
+
+  @Override
+  public void storeTinyTable(int id, TinyTable table) {
+    store(id, CompactTinyTablesStorage.encodeTable(table) | CompactTinyTablesStorage.HAS_TABLE);
+  }
+
+  @Override
+  public void storeMaskShare(int id, TinyTablesElement r) {
+    store(id, (r.getShare() ? CompactTinyTablesStorage.MASK_BIT : 0)
+        | CompactTinyTablesStorage.HAS_MASK);
+  }
+
+  @Override
+  public TinyTable getTinyTable(int id) {
+    return CompactTinyTablesStorage.decodeTable(lookUp(id));
+  }
+
+  @Override
+  public TinyTablesElement getMaskShare(int id) {
+    return CompactTinyTablesStorage.decodeMask(lookUp(id));
+  }
+
+  /**
+   * Hands everything stored since the last call over to the online phase. Blocks if the online
+   * phase is too far behind.
+   */
+  public void publish() {
+    Chunk chunk;
+    synchronized (producerLock) {
+      if (pendingCount == 0) {
+        return;
+      }
+      chunk = Chunk.sorted(Arrays.copyOf(pendingIds, pendingCount),
+          Arrays.copyOf(pendingValues, pendingCount));
+      pendingCount = 0;
+    }
+    put(chunk);
+  }
+
+  /**
+   * Publishes any remaining values and signals that the preprocessing phase is done.
+   */
+  public void finish() {
+    publish();
+    put(END);
+  }
+
+  private void store(int id, int encoded) {
+    synchronized (producerLock) {
+      if (pendingCount == pendingIds.length) {
+        pendingIds = Arrays.copyOf(pendingIds, 2 * pendingCount);
+        pendingValues = Arrays.copyOf(pendingValues, 2 * pendingCount);
+      }
+      pendingIds[pendingCount] = id;
+      pendingValues[pendingCount] = (byte) encoded;
+      pendingCount++;
+    }
+  }
+
+  private void put(Chunk chunk) {
+    ExceptionConverter.safe(() -> {
+      chunks.put(chunk);
+      return null;
+    }, "Interrupted while publishing TinyTables");
+  }
+
+  private byte lookUp(int id) {
+    synchronized (consumerLock) {
+      for (Chunk chunk : retained) {
+        int index = Arrays.binarySearch(chunk.ids, id);
+        if (index >= 0) {
+          return chunk.values[index];
+        }
+      }
+      for (int read = 0; read < retainedChunks && !finished; read++) {
+        Chunk next = ExceptionConverter.safe(chunks::take,
+            "Interrupted while waiting for TinyTables");
+        if (next == END) {
+          finished = true;
+        } else {
+          retain(next);
+          int index = Arrays.binarySearch(next.ids, id);
+          if (index >= 0) {
+            return next.values[index];
+          }
+        }
+      }
+      if (id >= 0 && evicted.get(id)) {
+        throw new IllegalStateException("TinyTables for id " + id
+            + " have been evicted, the online phase is more than " + retainedChunks
+            + " chunks behind");
+      }
+      throw new IllegalStateException("No TinyTables were published for id " + id
+          + (finished ? "" : " in the next " + retainedChunks + " chunks"));
+    }
+  }
+
+  private void retain(Chunk chunk) {
+    retained.addLast(chunk);
+    if (retained.size() > retainedChunks) {
+      for (int evictedId : retained.removeFirst().ids) {
+        evicted.set(evictedId);
+      }
+    }
+  }
+
+  private static class Chunk {
+
+    private final int[] ids;
+    private final byte[] values;
+
+    private Chunk(int[] ids, byte[] values) {
+      this.ids = ids;
+      this.values = values;
+    }
+
+    /**
+     * Creates a chunk sorted by id to allow binary search.
+     */
+    private static Chunk sorted(int[] ids, byte[] values) {
+      long[] entries = new long[ids.length];
+      for (int i = 0; i < ids.length; i++) {
+        entries[i] = (long) ids[i] << Byte.SIZE | values[i] & 0xFF;
+      }
+      Arrays.sort(entries);
+      for (int i = 0; i < entries.length; i++) {
+        ids[i] = (int) (entries[i] >>> Byte.SIZE);
+        values[i] = (byte) entries[i];
+      }
+      return new Chunk(ids, values);
+    }
+  }
+
+}
@@ -1,11 +1,16 @@
 package dk.alexandra.fresco.suite.tinytables.storage;
 
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
 
+/**
+ * The data needed by the online phase: read access to the TinyTables and mask
+ * shares stored during preprocessing.
+ */
 public interface TinyTablesOnlineStorage {
 
 	public TinyTable getTinyTable(int id);
-	
-	public boolean getShare(int id);
-	
+
+	public TinyTablesElement getMaskShare(int id);
+
 }
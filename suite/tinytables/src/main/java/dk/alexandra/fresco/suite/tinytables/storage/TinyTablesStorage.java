@@ -2,7 +2,6 @@ package dk.alexandra.fresco.suite.tinytables.storage;
 
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
-import java.io.Serializable;
 
 /**
  * This class handles the data which has to be carried from the preprocessing to
@@ -11,7 +10,7 @@ import java.io.Serializable;
  * @author Jonas Lindstrøm (jonas.lindstrom@alexandra.dk)
  *
  */
-public interface TinyTablesStorage extends Serializable {
+public interface TinyTablesStorage extends TinyTablesOnlineStorage {
 
 	/**
 	 * Store a {@link TinyTable} for the protocol with the given <code>id</code>
@@ -22,8 +21,6 @@ public interface TinyTablesStorage extends Serializable {
 	 */
 	public void storeTinyTable(int id, TinyTable table);
 
-	public TinyTable getTinyTable(int id);
-
 	/**
 	 * Store a boolean for the protocol with the given ID. Can be used by a
 	 * player to store a mask that he has picked during preprocessing.
@@ -33,6 +30,4 @@ public interface TinyTablesStorage extends Serializable {
 	 */
 	public void storeMaskShare(int id, TinyTablesElement r);
 
-	public TinyTablesElement getMaskShare(int id);
-
 }
\ No newline at end of file
@@ -1,17 +1,37 @@
 package dk.alexandra.fresco.suite.tinytables.util;
 
 import dk.alexandra.fresco.framework.util.Drng;
+import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesTriple;
 import dk.alexandra.fresco.tools.ot.base.Ot;
+import dk.alexandra.fresco.tools.ot.otextension.BristolRotBatch;
+import dk.alexandra.fresco.tools.ot.otextension.OtExtensionResourcePool;
+import dk.alexandra.fresco.tools.ot.otextension.RotFactory;
+import dk.alexandra.fresco.tools.ot.otextension.RotReceiver;
+import dk.alexandra.fresco.tools.ot.otextension.RotSender;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Generates boolean multiplication triples for the TinyTables preprocessing phase.
+ *
+ * <p>The generator either runs two chosen-message OTs per triple using a generic {@link Ot}, or,
+ * when created from a {@link RotFactory}, derives the triples directly from bulk random OTs with
+ * one bit used per OT. In the latter case a random OT with messages <i>(x<sub>0</sub>,
+ * x<sub>1</sub>)</i> and choice bit <i>b</i> gives the sender a share <i>a = x<sub>0</sub> +
+ * x<sub>1</sub></i> and the parties additive shares <i>x<sub>0</sub></i> and <i>x<sub>b</sub></i>
+ * of <i>ab</i>. One batch of random OTs in each direction thus covers both cross terms of a whole
+ * batch of triples.</p>
+ */
 public class TinyTablesTripleGenerator {
 
   private final int playerId;
   private final Ot ot;
   private final Drng random;
+  private final RotFactory rotFactory;
+  private RotSender rotSender;
+  private RotReceiver rotReceiver;
 
   /**
    * Creates a new triple generator.
@@ -24,6 +44,20 @@ public class TinyTablesTripleGenerator {
     this.playerId = playerId;
     this.random = random;
     this.ot = ot;
+    this.rotFactory = null;
+  }
+
+  /**
+   * Creates a new triple generator producing triples from bulk random OTs.
+   *
+   * @param playerId the id of the player to generate triples for
+   * @param rotFactory factory for the random OT extension to use
+   */
+  public TinyTablesTripleGenerator(int playerId, RotFactory rotFactory) {
+    this.playerId = playerId;
+    this.random = null;
+    this.ot = null;
+    this.rotFactory = rotFactory;
   }
 
   /**
@@ -31,6 +65,9 @@ public class TinyTablesTripleGenerator {
    * same time and with the same amount parameter.
    */
   public List<TinyTablesTriple> generate(int amount) {
+    if (rotFactory != null) {
+      return generateFromRandomOts(amount);
+    }
 
     List<TinyTablesTriple> triples = new ArrayList<>();
 
@@ -77,4 +114,36 @@ public class TinyTablesTripleGenerator {
     }
     return triples;
   }
+
+  private List<TinyTablesTriple> generateFromRandomOts(int amount) {
+    if (rotSender == null) {
+      rotSender = rotFactory.createSender();
+      rotReceiver = rotFactory.createReceiver();
+    }
+    OtExtensionResourcePool resources = rotFactory.getResources();
+    int extensionSize = BristolRotBatch.computeExtensionSize(amount,
+        resources.getComputationalSecurityParameter(), resources.getLambdaSecurityParam());
+    // The choice bits are our shares of b
+    StrictBitVector choices = new StrictBitVector(extensionSize, resources.getRandomGenerator());
+    Pair<List<StrictBitVector>, List<StrictBitVector>> sent;
+    List<StrictBitVector> received;
+    if (playerId == 1) {
+      sent = rotSender.extend(extensionSize);
+      received = rotReceiver.extend(choices);
+    } else {
+      received = rotReceiver.extend(choices);
+      sent = rotSender.extend(extensionSize);
+    }
+    List<TinyTablesTriple> triples = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      boolean zeroMessage = sent.getFirst().get(i).getBit(0);
+      boolean a = zeroMessage ^ sent.getSecond().get(i).getBit(0);
+      // the OT extension indexes choice bits in little-endian order
+      boolean b = choices.getBit(i, false);
+      // zeroMessage and the other party's received bit are shares of a * b_other, and vice versa
+      boolean c = a & b ^ zeroMessage ^ received.get(i).getBit(0);
+      triples.add(TinyTablesTriple.fromShares(a, b, c));
+    }
+    return triples;
+  }
 }
@@ -0,0 +1,110 @@
+package dk.alexandra.fresco.suite.tinytables;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.binary.Binary;
+import dk.alexandra.fresco.framework.builder.binary.ProtocolBuilderBinary;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkUtil;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
+import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchedProtocolEvaluator;
+import dk.alexandra.fresco.framework.sce.evaluator.BatchedStrategy;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePoolImpl;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.value.SBool;
+import dk.alexandra.fresco.suite.tinytables.online.TinyTablesProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.ot.TinyTablesDummyOt;
+import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproProtocolSuite;
+import dk.alexandra.fresco.suite.tinytables.prepro.TinyTablesPreproResourcePool;
+import dk.alexandra.fresco.suite.tinytables.storage.StreamingTinyTablesStorage;
+import dk.alexandra.fresco.suite.tinytables.util.Util;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class TestStreamingTinyTables {
+
+  private static final int COMPUTATIONAL_SECURITY = 128;
+  private static final int STATISTICAL_SECURITY = 40;
+  // more than the number of AND gates after which the preprocessing publishes TinyTables
+  private static final int GATES = 2500;
+
+  @Test
+  public void testPreprocessingAndOnlineInOneRun() throws Exception {
+    Random random = new Random(1);
+    boolean[] left = new boolean[GATES];
+    boolean[] right = new boolean[GATES];
+    List<Boolean> expected = new ArrayList<>(GATES);
+    for (int i = 0; i < GATES; i++) {
+      left[i] = random.nextBoolean();
+      right[i] = random.nextBoolean();
+      expected.add(left[i] & right[i] ^ left[i]);
+    }
+    Application<List<Boolean>, ProtocolBuilderBinary> app = builder -> {
+      Binary binary = builder.binary();
+      List<DRes<Boolean>> opened = new ArrayList<>(GATES);
+      for (int i = 0; i < GATES; i++) {
+        DRes<SBool> x = binary.input(left[i], 1);
+        DRes<SBool> y = binary.input(right[i], 2);
+        opened.add(binary.open(binary.xor(binary.and(x, y), x)));
+      }
+      return () -> opened.stream().map(DRes::out).collect(Collectors.toList());
+    };
+
+    Map<Integer, NetworkConfiguration> preproConf = NetworkUtil.getNetworkConfigurations(2);
+    Map<Integer, NetworkConfiguration> onlineConf = NetworkUtil.getNetworkConfigurations(2);
+    ExecutorService parties = Executors.newFixedThreadPool(2);
+    List<Future<List<Boolean>>> results = new ArrayList<>();
+    for (int myId = 1; myId <= 2; myId++) {
+      int id = myId;
+      results.add(parties.submit(() -> runParty(id, app, preproConf.get(id),
+          onlineConf.get(id))));
+    }
+    for (Future<List<Boolean>> result : results) {
+      assertEquals(expected, result.get());
+    }
+    parties.shutdown();
+  }
+
+  private List<Boolean> runParty(int myId, Application<List<Boolean>, ProtocolBuilderBinary> app,
+      NetworkConfiguration preproConf, NetworkConfiguration onlineConf) throws Exception {
+    StreamingTinyTablesStorage storage = new StreamingTinyTablesStorage(2);
+    ExecutorService preproExecutor = Executors.newSingleThreadExecutor();
+    try (CloseableNetwork preproNetwork = new SocketNetwork(preproConf);
+        CloseableNetwork onlineNetwork = new SocketNetwork(onlineConf)) {
+      TinyTablesPreproProtocolSuite preproSuite = new TinyTablesPreproProtocolSuite();
+      SecureComputationEngine<TinyTablesPreproResourcePool, ProtocolBuilderBinary> preproSce =
+          new SecureComputationEngineImpl<>(preproSuite,
+              new BatchedProtocolEvaluator<>(new BatchedStrategy<>(), preproSuite));
+      TinyTablesPreproResourcePool preproPool = new TinyTablesPreproResourcePool(myId,
+          new TinyTablesDummyOt(Util.otherPlayerId(myId)), new AesCtrDrbg(new byte[32]),
+          COMPUTATIONAL_SECURITY, STATISTICAL_SECURITY, storage, () -> preproNetwork);
+      Future<List<Boolean>> prepro = preproExecutor.submit(
+          () -> preproSce.runApplication(app, preproPool, preproNetwork));
+
+      TinyTablesProtocolSuite onlineSuite = new TinyTablesProtocolSuite(myId, storage);
+      SecureComputationEngine<ResourcePoolImpl, ProtocolBuilderBinary> onlineSce =
+          new SecureComputationEngineImpl<>(onlineSuite,
+              new BatchedProtocolEvaluator<>(new BatchedStrategy<>(), onlineSuite));
+      List<Boolean> output = onlineSce.runApplication(app, new ResourcePoolImpl(myId, 2),
+          onlineNetwork);
+      ExceptionConverter.safe(prepro::get, "Preprocessing failed");
+      return output;
+    } finally {
+      preproExecutor.shutdown();
+    }
+  }
+
+}
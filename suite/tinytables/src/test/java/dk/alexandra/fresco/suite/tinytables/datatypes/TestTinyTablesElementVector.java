@@ -3,6 +3,7 @@ package dk.alexandra.fresco.suite.tinytables.datatypes;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
+import dk.alexandra.fresco.framework.util.RegularBitVector;
 import org.junit.Test;
 
 public class TestTinyTablesElementVector {
@@ -16,4 +17,20 @@ public class TestTinyTablesElementVector {
     }
   }
 
+  @Test
+  public void testOpen() {
+    int size = 11;
+    TinyTablesElementVector first = new TinyTablesElementVector(size);
+    TinyTablesElementVector second = new TinyTablesElementVector(size);
+    for (int i = 0; i < size; i++) {
+      first.setShare(i, i % 2 == 0);
+      second.setShare(i, i % 3 == 0);
+    }
+    TinyTablesElementVector received = new TinyTablesElementVector(second.payload(), size);
+    RegularBitVector opened = TinyTablesElementVector.open(first, received);
+    for (int i = 0; i < size; i++) {
+      assertThat(opened.getBit(i), is((i % 2 == 0) ^ (i % 3 == 0)));
+    }
+  }
+
 }
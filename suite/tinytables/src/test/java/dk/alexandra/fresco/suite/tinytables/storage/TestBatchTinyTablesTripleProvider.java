@@ -7,6 +7,7 @@ import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesTriple;
 import dk.alexandra.fresco.suite.tinytables.util.TinyTablesTripleGenerator;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 
 public class TestBatchTinyTablesTripleProvider {
@@ -30,4 +31,28 @@ public class TestBatchTinyTablesTripleProvider {
     }
   }
 
+  @Test
+  public void testNextTripleBackgroundRefill() {
+    AtomicInteger batches = new AtomicInteger();
+    TinyTablesTripleGenerator fac = new TinyTablesTripleGenerator(0, null, null) {
+
+      @Override
+      public List<TinyTablesTriple> generate(int amount) {
+        boolean share = batches.getAndIncrement() % 2 == 0;
+        List<TinyTablesTriple> triples = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+          triples.add(TinyTablesTriple.fromShares(share, share, share));
+        }
+        return triples;
+      }
+    };
+    BatchTinyTablesTripleProvider gen = new BatchTinyTablesTripleProvider(fac, 10, true);
+    for (int i = 0; i < 40; i++) {
+      boolean share = (i / 10) % 2 == 0;
+      assertThat(gen.getNextTriple(), is(TinyTablesTriple.fromShares(share, share, share)));
+    }
+    gen.close();
+    assertThat(batches.get(), is(5));
+  }
+
 }
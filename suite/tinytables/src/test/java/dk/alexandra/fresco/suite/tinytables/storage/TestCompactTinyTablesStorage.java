@@ -0,0 +1,91 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestCompactTinyTablesStorage {
+
+  private static final int GATES = 3000;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testStoreAndGet() {
+    CompactTinyTablesStorage storage = fill(new CompactTinyTablesStorage());
+    assertContent(storage);
+  }
+
+  @Test
+  public void testWriteAndMap() throws IOException {
+    File file = folder.newFile();
+    fill(new CompactTinyTablesStorage()).writeTo(file);
+    // nothing is stored for the last id
+    assertThat(file.length(), is((long) CompactTinyTablesStorage.HEADER_LENGTH + GATES - 1));
+    assertThat(MappedTinyTablesStorage.isCompactFormat(file), is(true));
+    assertContent(MappedTinyTablesStorage.open(file));
+  }
+
+  @Test
+  public void testLegacyFormatDetected() throws IOException {
+    File file = folder.newFile();
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+      out.writeObject(new TinyTablesStorageImpl());
+    }
+    assertThat(MappedTinyTablesStorage.isCompactFormat(file), is(false));
+  }
+
+  private static CompactTinyTablesStorage fill(CompactTinyTablesStorage storage) {
+    for (int id = 0; id < GATES; id++) {
+      if (id % 3 == 0) {
+        storage.storeTinyTable(id, table(id));
+      } else if (id % 3 == 1) {
+        storage.storeMaskShare(id, TinyTablesElement.getInstance(id % 2 == 0));
+      }
+    }
+    return storage;
+  }
+
+  private static void assertContent(TinyTablesOnlineStorage storage) {
+    TinyTablesElement zero = TinyTablesElement.getInstance(false);
+    TinyTablesElement one = TinyTablesElement.getInstance(true);
+    for (int id = 0; id < GATES; id++) {
+      if (id % 3 == 0) {
+        TinyTable expected = table(id);
+        TinyTable actual = storage.getTinyTable(id);
+        assertThat(actual.getValue(zero, zero), is(expected.getValue(zero, zero)));
+        assertThat(actual.getValue(zero, one), is(expected.getValue(zero, one)));
+        assertThat(actual.getValue(one, zero), is(expected.getValue(one, zero)));
+        assertThat(actual.getValue(one, one), is(expected.getValue(one, one)));
+        assertNull(storage.getMaskShare(id));
+      } else if (id % 3 == 1) {
+        assertThat(storage.getMaskShare(id), is(TinyTablesElement.getInstance(id % 2 == 0)));
+        assertNull(storage.getTinyTable(id));
+      } else {
+        assertNull(storage.getTinyTable(id));
+        assertNull(storage.getMaskShare(id));
+      }
+    }
+    assertNull(storage.getTinyTable(GATES + 1));
+  }
+
+  private static TinyTable table(int id) {
+    TinyTablesElement[] values = new TinyTablesElement[4];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = TinyTablesElement.getInstance((id >>> i & 1) == 1);
+    }
+    return new TinyTable(values);
+  }
+
+}
@@ -0,0 +1,118 @@
+package dk.alexandra.fresco.suite.tinytables.storage;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTable;
+import dk.alexandra.fresco.suite.tinytables.datatypes.TinyTablesElement;
+import org.junit.Test;
+
+public class TestStreamingTinyTablesStorage {
+
+  private static final int CHUNKS = 10;
+  private static final int CHUNK_SIZE = 100;
+
+  @Test
+  public void testProduceAndConsume() throws InterruptedException {
+    StreamingTinyTablesStorage storage = new StreamingTinyTablesStorage(1);
+    Thread producer = new Thread(() -> {
+      for (int chunk = 0; chunk < CHUNKS; chunk++) {
+        // store in reverse order within a chunk
+        for (int i = CHUNK_SIZE - 1; i >= 0; i--) {
+          int id = chunk * CHUNK_SIZE + i;
+          if (id % 2 == 0) {
+            storage.storeTinyTable(id, table(id));
+          } else {
+            storage.storeMaskShare(id, TinyTablesElement.getInstance(id % 3 == 0));
+          }
+        }
+        storage.publish();
+      }
+      storage.finish();
+    });
+    producer.start();
+    TinyTablesElement zero = TinyTablesElement.getInstance(false);
+    TinyTablesElement one = TinyTablesElement.getInstance(true);
+    for (int id = 0; id < CHUNKS * CHUNK_SIZE; id++) {
+      if (id % 2 == 0) {
+        TinyTable actual = storage.getTinyTable(id);
+        assertThat(actual.getValue(zero, zero), is(TinyTablesElement.getInstance((id & 1) == 1)));
+        assertThat(actual.getValue(one, one), is(TinyTablesElement.getInstance((id & 8) == 8)));
+      } else {
+        assertThat(storage.getMaskShare(id), is(TinyTablesElement.getInstance(id % 3 == 0)));
+      }
+    }
+    producer.join();
+  }
+
+  @Test
+  public void testNeverPublishedAfterFinish() {
+    StreamingTinyTablesStorage storage = new StreamingTinyTablesStorage(CHUNKS);
+    storage.storeTinyTable(0, table(0));
+    storage.finish();
+    assertThat(storage.getTinyTable(0).getValue(TinyTablesElement.getInstance(false),
+        TinyTablesElement.getInstance(false)), is(TinyTablesElement.getInstance(false)));
+    try {
+      storage.getTinyTable(1);
+      fail("Expected lookup to fail");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(), containsString("No TinyTables were published for id 1"));
+    }
+  }
+
+  @Test
+  public void testNeverPublishedDoesNotConsumeStream() {
+    // room for all chunks and the end marker
+    StreamingTinyTablesStorage storage = new StreamingTinyTablesStorage(CHUNKS + 1, 1);
+    for (int chunk = 0; chunk < CHUNKS; chunk++) {
+      storage.storeMaskShare(chunk, TinyTablesElement.getInstance(true));
+      storage.publish();
+    }
+    storage.finish();
+    try {
+      storage.getMaskShare(CHUNKS);
+      fail("Expected lookup to fail");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(),
+          containsString("No TinyTables were published for id " + CHUNKS + " in the next 1"));
+    }
+    // only the first chunk was read by the failed lookup
+    for (int id = 0; id < CHUNKS; id++) {
+      assertThat(storage.getMaskShare(id), is(TinyTablesElement.getInstance(true)));
+    }
+  }
+
+  @Test
+  public void testEvicted() {
+    StreamingTinyTablesStorage storage = new StreamingTinyTablesStorage(CHUNKS, 1);
+    for (int chunk = 0; chunk < 2; chunk++) {
+      storage.storeMaskShare(chunk, TinyTablesElement.getInstance(true));
+      storage.publish();
+    }
+    storage.finish();
+    assertThat(storage.getMaskShare(0), is(TinyTablesElement.getInstance(true)));
+    assertThat(storage.getMaskShare(1), is(TinyTablesElement.getInstance(true)));
+    try {
+      storage.getMaskShare(0);
+      fail("Expected lookup to fail");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(), containsString("id 0 have been evicted"));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoRetainedChunks() {
+    new StreamingTinyTablesStorage(1, 0);
+  }
+
+  private static TinyTable table(int id) {
+    TinyTablesElement[] values = new TinyTablesElement[4];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = TinyTablesElement.getInstance((id >>> i & 1) == 1);
+    }
+    return new TinyTable(values);
+  }
+
+}
@@ -83,11 +83,11 @@ public class BitTripleResourcePoolImpl extends ResourcePoolImpl implements BitTr
         new BigIntNaorPinkas(otherId, getRandomGenerator(), network);
     RotList currentSeedOts = new RotList(drbg, choices.getSize(), choices);
     if (getMyId() < otherId) {
-      currentSeedOts.send(ot);
-      currentSeedOts.receive(ot);
+      currentSeedOts.sendBatch(ot);
+      currentSeedOts.receiveBatch(ot);
     } else {
-      currentSeedOts.receive(ot);
-      currentSeedOts.send(ot);
+      currentSeedOts.receiveBatch(ot);
+      currentSeedOts.sendBatch(ot);
     }
     OtExtensionResourcePool otResources =
         new BristolOtExtensionResourcePool(
@@ -47,10 +47,9 @@ public class MacCheck {
     StrictBitVector randomElement = jointSampler.getNext(opened.getSize());
 
     //Step 5
-    boolean b = VectorOperations.sum(VectorOperations.and(randomElement, opened));
+    boolean b = VectorOperations.innerProduct(randomElement, opened);
     //Step 6
-    StrictBitVector sigma = VectorOperations
-        .sum(VectorOperations.multiply(macShares, randomElement));
+    StrictBitVector sigma = VectorOperations.sumSelected(macShares, randomElement);
     sigma.xor(VectorOperations.multiply(myMac, b));
 
     // step 7-9
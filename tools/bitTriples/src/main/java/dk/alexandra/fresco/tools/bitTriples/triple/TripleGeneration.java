@@ -4,6 +4,7 @@ import dk.alexandra.fresco.framework.MaliciousException;
 import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.util.ByteArrayHelper;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.PackedBitVector;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.tools.bitTriples.BitTripleResourcePool;
@@ -145,14 +146,17 @@ public class TripleGeneration {
       Pair<Map<Integer, List<StrictBitVector>>, Map<Integer, List<StrictBitVector>>> qsTs) {
     // Step 1
     StrictBitVector ys = resourcePool.getLocalSampler().getNext(xs.getSize());
+    // Steps 2 and 3 work on packed words, converting xs and ys only once
+    PackedBitVector packedXs = new PackedBitVector(xs);
+    PackedBitVector packedYs = new PackedBitVector(ys);
     // Step 2a
-    Map<Integer, StrictBitVector> ws = breakCorrelation(qsTs.getSecond(), null);
-    Map<Integer, StrictBitVector> v0s = breakCorrelation(qsTs.getFirst(), null);
-    Map<Integer, StrictBitVector> v1s = breakCorrelation(qsTs.getFirst(), macLeft);
+    Map<Integer, PackedBitVector> ws = breakCorrelation(qsTs.getSecond(), null);
+    Map<Integer, PackedBitVector> v0s = breakCorrelation(qsTs.getFirst(), null);
+    Map<Integer, PackedBitVector> v1s = breakCorrelation(qsTs.getFirst(), macLeft);
     // Step 2b
-    List<StrictBitVector> ns = createNewCorrelations(ys, xs, v0s, v1s, ws);
+    List<PackedBitVector> ns = createNewCorrelations(packedYs, packedXs, v0s, v1s, ws);
     // Step 3
-    StrictBitVector zs = computeZs(ns, xs, ys, v0s);
+    StrictBitVector zs = computeZs(ns, packedXs, packedYs, v0s);
 
     return new Pair<>(ys, zs);
   }
@@ -160,14 +164,14 @@ public class TripleGeneration {
   /**
    * Implements step 2a.
    */
-  private Map<Integer, StrictBitVector> breakCorrelation(
+  private Map<Integer, PackedBitVector> breakCorrelation(
       Map<Integer, List<StrictBitVector>> toBreak, StrictBitVector mac) {
-    Map<Integer, StrictBitVector> result = new HashMap<>();
+    Map<Integer, PackedBitVector> result = new HashMap<>();
     for (int j = 1; j <= resourcePool.getNoOfParties(); j++) {
       if (resourcePool.getMyId() != j) {
         // For each party
         List<StrictBitVector> listForPartyJ = toBreak.get(j);
-        StrictBitVector resultingVector = new StrictBitVector(listForPartyJ.size());
+        PackedBitVector resultingVector = new PackedBitVector(listForPartyJ.size());
         for (int h = 0; h < listForPartyJ.size(); h++) {
           // For each vector, hash to single bit.
           StrictBitVector toHash =
@@ -177,7 +181,7 @@ public class TripleGeneration {
             toHash.xor(mac);
           }
           byte[] hashed = resourcePool.getMessageDigest().digest(toHash.toByteArray());
-          resultingVector.setBit(h, ByteArrayHelper.getBit(hashed, 0), false);
+          resultingVector.setBit(h, ByteArrayHelper.getBit(hashed, 0));
         }
         result.put(j, resultingVector);
       }
@@ -189,17 +193,19 @@ public class TripleGeneration {
    * Implements step 2b.
    */
 
-  private List<StrictBitVector> createNewCorrelations(
-      StrictBitVector ys,
-      StrictBitVector xs,
-      Map<Integer, StrictBitVector> v0s,
-      Map<Integer, StrictBitVector> v1s,
-      Map<Integer, StrictBitVector> ws) {
+  private List<PackedBitVector> createNewCorrelations(
+      PackedBitVector ys,
+      PackedBitVector xs,
+      Map<Integer, PackedBitVector> v0s,
+      Map<Integer, PackedBitVector> v1s,
+      Map<Integer, PackedBitVector> ws) {
     Map<Integer, StrictBitVector> correlatedVectors = new HashMap<>();
     for (int j = 1; j <= resourcePool.getNoOfParties(); j++) {
       if (resourcePool.getMyId() != j) {
-        StrictBitVector s = VectorOperations.xor(v1s.get(j), VectorOperations.xor(ys, v0s.get(j)));
-        correlatedVectors.put(j, s);
+        PackedBitVector s = v1s.get(j).copy();
+        s.xor(ys);
+        s.xor(v0s.get(j));
+        correlatedVectors.put(j, s.toStrictBitVector());
       }
     }
     HashMap<Integer, StrictBitVector> sReceived = new HashMap<>();
@@ -228,11 +234,12 @@ public class TripleGeneration {
       }
     }
 
-    List<StrictBitVector> ns = new ArrayList<>();
+    List<PackedBitVector> ns = new ArrayList<>();
     for (int j = 1; j <= resourcePool.getNoOfParties(); j++) {
       if (resourcePool.getMyId() != j) {
-        StrictBitVector nj =
-            VectorOperations.xor(VectorOperations.and(xs, sReceived.get(j)), ws.get(j));
+        PackedBitVector nj = new PackedBitVector(sReceived.get(j));
+        nj.and(xs);
+        nj.xor(ws.get(j));
         ns.add(nj);
       }
     }
@@ -244,15 +251,20 @@ public class TripleGeneration {
    */
 
   private StrictBitVector computeZs(
-      List<StrictBitVector> ns,
-      StrictBitVector xs,
-      StrictBitVector ys,
-      Map<Integer, StrictBitVector> v0s) {
-
-    StrictBitVector u =
-        VectorOperations.xor(VectorOperations.sum(ns), VectorOperations.and(xs, ys));
-
-    return VectorOperations.xor(u, VectorOperations.sum(VectorOperations.mapToList(v0s)));
+      List<PackedBitVector> ns,
+      PackedBitVector xs,
+      PackedBitVector ys,
+      Map<Integer, PackedBitVector> v0s) {
+
+    PackedBitVector u = xs.copy();
+    u.and(ys);
+    for (PackedBitVector n : ns) {
+      u.xor(n);
+    }
+    for (PackedBitVector v0 : v0s.values()) {
+      u.xor(v0);
+    }
+    return u.toStrictBitVector();
   }
 
   /** Implements sub-protocol CheckTriples of Figure 23 */
@@ -2,6 +2,7 @@ package dk.alexandra.fresco.tools.bitTriples.utils;
 
 import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.PackedBitVector;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.tools.bitTriples.BitTripleResourcePool;
 import dk.alexandra.fresco.tools.bitTriples.prg.BytePrg;
@@ -22,7 +23,7 @@ public final class VectorOperations {
    * Checks whether the vector is zero.
    */
   public static boolean isZero(StrictBitVector vector) {
-    return vector.equals(new StrictBitVector(vector.getSize()));
+    return new PackedBitVector(vector).isZero();
   }
 
   public static StrictBitVector multiply(StrictBitVector vector, boolean bit) {
@@ -59,11 +60,35 @@ public final class VectorOperations {
   }
 
   public static boolean sum(StrictBitVector toSum) {
-    boolean accumulator = toSum.getBit(0,false);
-    for (int i = 1; i<toSum.getSize(); i++){
-      accumulator ^= toSum.getBit(i,false);
+    return new PackedBitVector(toSum).parity();
+  }
+
+  /**
+   * Computes the inner product over GF(2) of two vectors of the same size.
+   */
+  public static boolean innerProduct(StrictBitVector a, StrictBitVector b) {
+    if (a.getSize() != b.getSize()) {
+      throw new IllegalStateException("Vectors must be the same size");
+    }
+    return new PackedBitVector(a).innerProduct(new PackedBitVector(b));
+  }
+
+  /**
+   * Sums the vectors of a list whose index is set in r. Equivalent to
+   * <code>sum(multiply(list, r))</code> but without allocating a vector per element.
+   */
+  public static StrictBitVector sumSelected(List<StrictBitVector> list, StrictBitVector r) {
+    if (r.getSize() != list.size()) {
+      throw new IllegalStateException("List and vector must be the same size");
     }
-    return accumulator;
+    StrictBitVector result = new StrictBitVector(list.get(0).getSize());
+    PackedBitVector selection = new PackedBitVector(r);
+    for (int i = 0; i < list.size(); i++) {
+      if (selection.getBit(i)) {
+        result.xor(list.get(i));
+      }
+    }
+    return result;
   }
 
   public static StrictBitVector xorAtIndex(List<List<StrictBitVector>> toSum, int index) {
@@ -81,11 +106,9 @@ public final class VectorOperations {
     if (a.getSize() != b.getSize()) {
       throw new IllegalStateException("Vectors must be the same size");
     }
-    StrictBitVector result = new StrictBitVector(a.getSize());
-    for (int i = 0; i < a.getSize(); i++) {
-      result.setBit(i, a.getBit(i,false) && b.getBit(i,false),false);
-    }
-    return result;
+    PackedBitVector result = new PackedBitVector(a);
+    result.and(new PackedBitVector(b));
+    return result.toStrictBitVector();
   }
 
   /**
@@ -200,6 +200,25 @@ public class VectorOperationsTest {
     Assert.assertTrue(result.getBit(2, false));
   }
 
+  @Test
+  public void innerProductMatchesSumOfAnd() {
+    StrictBitVector arg1 = new StrictBitVector(200, drng);
+    StrictBitVector arg2 = new StrictBitVector(200, drng);
+    Assert.assertEquals(VectorOperations.sum(VectorOperations.and(arg1, arg2)),
+        VectorOperations.innerProduct(arg1, arg2));
+  }
+
+  @Test
+  public void sumSelectedMatchesSumOfMultiply() {
+    List<StrictBitVector> list = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      list.add(new StrictBitVector(24, drng));
+    }
+    StrictBitVector r = new StrictBitVector(16, drng);
+    Assert.assertEquals(VectorOperations.sum(VectorOperations.multiply(list, r)),
+        VectorOperations.sumSelected(list, r));
+  }
+
 
   @Test
   public void testSetBits() {
@@ -3,8 +3,11 @@ package dk.alexandra.fresco.tools.commitment;
 import dk.alexandra.fresco.framework.MaliciousException;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Class representing a hash-based commitment. Secure assuming that SHA-256 is a
@@ -17,6 +20,12 @@ import java.util.Arrays;
  * digest serves as the commitment itself and the opening is the randomness and
  * the message committed to.
  * </p>
+ * <p>
+ * A list of messages can be committed to as a single vector commitment using
+ * {@link #commit(Drbg, List)}, which costs a single digest and a single opening
+ * message for the whole list. Use {@link MerkleCommitment} if the messages must
+ * be opened individually.
+ * </p>
  *
  */
 public class HashBasedCommitment {
@@ -66,6 +75,32 @@ public class HashBasedCommitment {
     return openingInfo;
   }
 
+  /**
+   * Initializes the commitment to commit to a list of values at once and returns the opening
+   * information, which opens all values.
+   *
+   * @param rand
+   *          A cryptographically secure randomness generator.
+   * @param values
+   *          The elements to commit to.
+   * @return The opening information needed to open the commitment using {@link #openList(byte[])}.
+   */
+  public byte[] commit(Drbg rand, List<byte[]> values) {
+    return commit(rand, encode(values));
+  }
+
+  /**
+   * Opens a commitment to a list of values using information returned from the
+   * {@link #commit(Drbg, List)} command.
+   *
+   * @param openingInfo
+   *          The data needed to open this given commitment.
+   * @return The values that were committed to.
+   */
+  public List<byte[]> openList(byte[] openingInfo) {
+    return decode(open(openingInfo));
+  }
+
   /**
    * Opens a committed object using information returned from the {@code commit} command.
    *
@@ -113,4 +148,47 @@ public class HashBasedCommitment {
   void setCommitmentValue(byte[] commitmentValue) {
     this.commitmentVal = commitmentValue;
   }
+
+  /**
+   * Encodes a list of byte arrays as their count followed by each array prefixed by its length.
+   */
+  static byte[] encode(List<byte[]> values) {
+    int length = Integer.BYTES * (values.size() + 1);
+    for (byte[] value : values) {
+      length += value.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length).putInt(values.size());
+    for (byte[] value : values) {
+      buffer.putInt(value.length).put(value);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Decodes a list of byte arrays encoded by {@link #encode(List)}.
+   */
+  static List<byte[]> decode(byte[] encoded) {
+    ByteBuffer buffer = ByteBuffer.wrap(encoded);
+    if (buffer.remaining() < Integer.BYTES) {
+      throw new MaliciousException("The committed value is not a list.");
+    }
+    int size = buffer.getInt();
+    if (size < 0 || size > buffer.remaining() / Integer.BYTES) {
+      throw new MaliciousException("The committed value is not a list.");
+    }
+    List<byte[]> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int length = buffer.remaining() < Integer.BYTES ? -1 : buffer.getInt();
+      if (length < 0 || length > buffer.remaining()) {
+        throw new MaliciousException("The committed value is not a list.");
+      }
+      byte[] value = new byte[length];
+      buffer.get(value);
+      values.add(value);
+    }
+    if (buffer.hasRemaining()) {
+      throw new MaliciousException("The committed value is not a list.");
+    }
+    return values;
+  }
 }
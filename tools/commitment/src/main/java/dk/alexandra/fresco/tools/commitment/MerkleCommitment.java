@@ -0,0 +1,200 @@
+package dk.alexandra.fresco.tools.commitment;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class representing a vector commitment to a list of values, which can be opened one value at a
+ * time. Secure assuming that SHA-256 is a random oracle.
+ * <p>
+ * Each value is committed to as in {@link HashBasedCommitment}, i.e., hashed together with fresh
+ * randomness, and the resulting digests are the leaves of a binary hash tree, padded with zero
+ * leaves to a power of two. The commitment itself is the root of the tree along with the amount
+ * of values, so a single digest is sent no matter how many values are committed to. The opening
+ * of a single value is the value, its randomness and the sibling digests on the path to the root.
+ * Leaves and inner nodes are hashed with different prefixes, so a node can not be opened as a
+ * value.
+ * </p>
+ * <p>
+ * If all values are to be opened at once, {@link HashBasedCommitment#commit(Drbg, List)} is
+ * cheaper.
+ * </p>
+ */
+public class MerkleCommitment {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int DIGEST_LENGTH = HashBasedCommitment.DIGEST_LENGTH;
+  private static final byte LEAF_PREFIX = 0;
+  private static final byte NODE_PREFIX = 1;
+  /**
+   * The length of a serialized commitment, i.e., the amount of values and the root digest.
+   */
+  public static final int COMMITMENT_LENGTH = Integer.BYTES + DIGEST_LENGTH;
+  /**
+   * The maximum amount of values in a commitment, such that the size of the tree fits in an int.
+   */
+  public static final int MAX_SIZE = 1 << 30;
+
+  private byte[] root = null;
+  private int size;
+  private final MessageDigest digest;
+
+  /**
+   * Constructs a new commitment, not yet committed to any values.
+   */
+  public MerkleCommitment() {
+    digest = ExceptionConverter.safe(
+        () -> MessageDigest.getInstance(HASH_ALGORITHM),
+        "Missing secure, hash function which is dependent in this library");
+  }
+
+  /**
+   * Initializes the commitment to commit to a list of values and returns the opening information
+   * of each value.
+   *
+   * @param rand
+   *          A cryptographically secure randomness generator.
+   * @param values
+   *          The elements to commit to.
+   * @return The opening information needed to open each value, in the order of the values.
+   */
+  public List<byte[]> commit(Drbg rand, List<byte[]> values) {
+    if (root != null) {
+      throw new IllegalStateException("Already committed");
+    }
+    if (values.size() > MAX_SIZE) {
+      throw new IllegalArgumentException("Can not commit to more than " + MAX_SIZE + " values");
+    }
+    int depth = depth(values.size());
+    byte[][] randomness = new byte[values.size()][DIGEST_LENGTH];
+    byte[][][] tree = new byte[depth + 1][][];
+    tree[0] = new byte[1 << depth][];
+    for (int i = 0; i < tree[0].length; i++) {
+      if (i < values.size()) {
+        rand.nextBytes(randomness[i]);
+        tree[0][i] = hashLeaf(randomness[i], values.get(i));
+      } else {
+        tree[0][i] = new byte[DIGEST_LENGTH];
+      }
+    }
+    for (int level = 1; level <= depth; level++) {
+      tree[level] = new byte[tree[level - 1].length / 2][];
+      for (int i = 0; i < tree[level].length; i++) {
+        tree[level][i] = hashNode(tree[level - 1][2 * i], tree[level - 1][2 * i + 1]);
+      }
+    }
+    List<byte[]> openings = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      byte[] value = values.get(i);
+      ByteBuffer opening = ByteBuffer.allocate((depth + 1) * DIGEST_LENGTH + value.length);
+      opening.put(randomness[i]);
+      for (int level = 0, index = i; level < depth; level++, index /= 2) {
+        opening.put(tree[level][index ^ 1]);
+      }
+      opening.put(value);
+      openings.add(opening.array());
+    }
+    this.root = tree[depth][0];
+    this.size = values.size();
+    return openings;
+  }
+
+  /**
+   * Opens a single committed value using information returned from the {@code commit} command.
+   *
+   * @param index
+   *          The index of the value in the committed list.
+   * @param openingInfo
+   *          The data needed to open the value at the given index.
+   * @return The value that was committed to at the given index.
+   */
+  public byte[] open(int index, byte[] openingInfo) {
+    if (root == null) {
+      throw new IllegalStateException("No commitment to open");
+    }
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("No value committed to at index " + index);
+    }
+    int depth = depth(size);
+    if (openingInfo.length < (depth + 1) * DIGEST_LENGTH) {
+      throw new MaliciousException("The opening info is too small to be a commitment.");
+    }
+    byte[] randomness = Arrays.copyOfRange(openingInfo, 0, DIGEST_LENGTH);
+    byte[] value = Arrays.copyOfRange(openingInfo, (depth + 1) * DIGEST_LENGTH,
+        openingInfo.length);
+    byte[] node = hashLeaf(randomness, value);
+    for (int level = 0, position = index; level < depth; level++, position /= 2) {
+      int offset = (level + 1) * DIGEST_LENGTH;
+      byte[] sibling = Arrays.copyOfRange(openingInfo, offset, offset + DIGEST_LENGTH);
+      node = position % 2 == 0 ? hashNode(node, sibling) : hashNode(sibling, node);
+    }
+    if (Arrays.equals(node, root)) {
+      return value;
+    } else {
+      throw new MaliciousException("The opening info does not match the commitment.");
+    }
+  }
+
+  /**
+   * Returns the amount of values committed to.
+   *
+   * @return the amount of values
+   */
+  public int getSize() {
+    if (root == null) {
+      throw new IllegalStateException("No commitment");
+    }
+    return size;
+  }
+
+  private byte[] hashLeaf(byte[] randomness, byte[] value) {
+    digest.update(LEAF_PREFIX);
+    digest.update(randomness);
+    return digest.digest(value);
+  }
+
+  private byte[] hashNode(byte[] left, byte[] right) {
+    digest.update(NODE_PREFIX);
+    digest.update(left);
+    return digest.digest(right);
+  }
+
+  private static int depth(int size) {
+    return size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+  }
+
+  /**
+   * Returns the byte array value that is the actual commitment.
+   *
+   * @return the byte array commitment
+   */
+  byte[] getCommitmentValue() {
+    return ByteBuffer.allocate(COMMITMENT_LENGTH).putInt(size).put(root).array();
+  }
+
+  /**
+   * Sets the commitment value.
+   *
+   * @param commitmentValue
+   *          the commitment value
+   */
+  void setCommitmentValue(byte[] commitmentValue) {
+    ByteBuffer buffer = ByteBuffer.wrap(commitmentValue);
+    int committedSize = buffer.getInt();
+    if (committedSize < 0) {
+      throw new MaliciousException("The commitment has a negative size.");
+    }
+    if (committedSize > MAX_SIZE) {
+      throw new MaliciousException("The commitment has too many values.");
+    }
+    this.size = committedSize;
+    this.root = new byte[DIGEST_LENGTH];
+    buffer.get(root);
+  }
+}
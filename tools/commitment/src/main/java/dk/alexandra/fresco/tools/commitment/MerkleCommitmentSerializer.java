@@ -0,0 +1,53 @@
+package dk.alexandra.fresco.tools.commitment;
+
+import dk.alexandra.fresco.framework.network.serializers.ByteSerializer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MerkleCommitmentSerializer implements ByteSerializer<MerkleCommitment> {
+
+  @Override
+  public byte[] serialize(MerkleCommitment comm) {
+    return comm.getCommitmentValue();
+  }
+
+  @Override
+  public byte[] serialize(List<MerkleCommitment> elements) {
+    byte[] commList = new byte[elements.size() * MerkleCommitment.COMMITMENT_LENGTH];
+    for (int i = 0; i < elements.size(); i++) {
+      System.arraycopy(elements.get(i).getCommitmentValue(), 0, commList,
+          i * MerkleCommitment.COMMITMENT_LENGTH, MerkleCommitment.COMMITMENT_LENGTH);
+    }
+    return commList;
+  }
+
+  @Override
+  public MerkleCommitment deserialize(byte[] data) {
+    if (data.length != MerkleCommitment.COMMITMENT_LENGTH) {
+      throw new IllegalArgumentException(
+          "The length of the byte array to deserialize is wrong.");
+    }
+    MerkleCommitment comm = new MerkleCommitment();
+    comm.setCommitmentValue(data);
+    return comm;
+  }
+
+  @Override
+  public List<MerkleCommitment> deserializeList(byte[] data) {
+    if (data.length % MerkleCommitment.COMMITMENT_LENGTH != 0) {
+      throw new IllegalArgumentException(
+          "The length of the byte array to deserialize is wrong.");
+    }
+    int size = data.length / MerkleCommitment.COMMITMENT_LENGTH;
+    List<MerkleCommitment> res = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      byte[] commVal = new byte[MerkleCommitment.COMMITMENT_LENGTH];
+      System.arraycopy(data, i * MerkleCommitment.COMMITMENT_LENGTH,
+          commVal, 0, MerkleCommitment.COMMITMENT_LENGTH);
+      MerkleCommitment comm = new MerkleCommitment();
+      comm.setCommitmentValue(commVal);
+      res.add(comm);
+    }
+    return res;
+  }
+}
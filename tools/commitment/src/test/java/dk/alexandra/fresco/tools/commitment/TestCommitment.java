@@ -85,6 +85,26 @@ public class TestCommitment {
     assertEquals(list, deserializedList);
   }
 
+  @Test
+  public void testVectorCommitment() {
+    List<byte[]> msgs = new ArrayList<>();
+    msgs.add(new byte[]{(byte) 0x12, (byte) 0x42});
+    msgs.add(new byte[]{});
+    msgs.add(new byte[]{(byte) 0x56});
+    byte[] openInfo = comm.commit(rand, msgs);
+    List<byte[]> res = comm.openList(openInfo);
+    assertEquals(msgs.size(), res.size());
+    for (int i = 0; i < msgs.size(); i++) {
+      assertArrayEquals(msgs.get(i), res.get(i));
+    }
+  }
+
+  @Test
+  public void testEmptyVectorCommitment() {
+    byte[] openInfo = comm.commit(rand, new ArrayList<>());
+    assertTrue(comm.openList(openInfo).isEmpty());
+  }
+
   /**** NEGATIVE TESTS. ****/
   @Test
   public void testIllegalInit() {
@@ -235,4 +255,18 @@ public class TestCommitment {
     }
     assertTrue(thrown);
   }
+
+  @Test
+  public void testOpenListOfSingleValue() {
+    // A commitment to a single value which is not an encoded list
+    byte[] openInfo = comm.commit(rand, new byte[]{0x00, 0x00, 0x00, 0x02, 0x01});
+    boolean thrown = false;
+    try {
+      comm.openList(openInfo);
+    } catch (MaliciousException e) {
+      assertEquals("The committed value is not a list.", e.getMessage());
+      thrown = true;
+    }
+    assertTrue(thrown);
+  }
 }
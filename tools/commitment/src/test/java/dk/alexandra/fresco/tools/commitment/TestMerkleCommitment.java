@@ -0,0 +1,113 @@
+package dk.alexandra.fresco.tools.commitment;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestMerkleCommitment {
+
+  private MerkleCommitment comm;
+  private Drbg rand;
+
+  @Before
+  public void setup() {
+    rand = AesCtrDrbgFactory.fromDerivedSeed((byte) 0x42);
+    comm = new MerkleCommitment();
+  }
+
+  private List<byte[]> values(int size) {
+    List<byte[]> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      byte[] value = new byte[i % 5];
+      rand.nextBytes(value);
+      values.add(value);
+    }
+    return values;
+  }
+
+  /**** POSITIVE TESTS. ****/
+  @Test
+  public void testOpenEachValue() {
+    for (int size : new int[]{1, 2, 5, 8, 13}) {
+      MerkleCommitment commitment = new MerkleCommitment();
+      List<byte[]> values = values(size);
+      List<byte[]> openings = commitment.commit(rand, values);
+      assertEquals(size, openings.size());
+      for (int i = 0; i < size; i++) {
+        assertArrayEquals(values.get(i), commitment.open(i, openings.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void testSerialization() {
+    List<byte[]> values = values(6);
+    List<byte[]> openings = comm.commit(rand, values);
+    MerkleCommitmentSerializer serializer = new MerkleCommitmentSerializer();
+    MerkleCommitment received = serializer.deserialize(serializer.serialize(comm));
+    assertEquals(6, received.getSize());
+    assertArrayEquals(values.get(3), received.open(3, openings.get(3)));
+    List<MerkleCommitment> list = serializer.deserializeList(
+        serializer.serialize(Arrays.asList(comm, received)));
+    assertArrayEquals(values.get(5), list.get(1).open(5, openings.get(5)));
+  }
+
+  /**** NEGATIVE TESTS. ****/
+  @Test(expected = MaliciousException.class)
+  public void testOpenAtWrongIndex() {
+    List<byte[]> openings = comm.commit(rand, values(4));
+    comm.open(1, openings.get(2));
+  }
+
+  @Test(expected = MaliciousException.class)
+  public void testModifiedValue() {
+    List<byte[]> openings = comm.commit(rand, values(4));
+    byte[] opening = openings.get(3);
+    opening[opening.length - 1] ^= 1;
+    comm.open(3, opening);
+  }
+
+  @Test(expected = MaliciousException.class)
+  public void testTooSmallOpening() {
+    comm.commit(rand, values(4));
+    comm.open(0, new byte[HashBasedCommitment.DIGEST_LENGTH]);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testIndexOutOfBounds() {
+    List<byte[]> openings = comm.commit(rand, values(3));
+    comm.open(3, openings.get(2));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAlreadyCommitted() {
+    comm.commit(rand, values(2));
+    comm.commit(rand, values(2));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testNoCommitmentMade() {
+    comm.open(0, new byte[64]);
+  }
+
+  @Test(expected = MaliciousException.class)
+  public void testTooLargeSize() {
+    byte[] serialized = new byte[MerkleCommitment.COMMITMENT_LENGTH];
+    ByteBuffer.wrap(serialized).putInt(MerkleCommitment.MAX_SIZE + 1);
+    new MerkleCommitmentSerializer().deserialize(serialized);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongSerialization() {
+    new MerkleCommitmentSerializer().deserialize(new byte[HashBasedCommitment.DIGEST_LENGTH]);
+  }
+}
@@ -14,7 +14,6 @@ import dk.alexandra.fresco.tools.mascot.online.OnlinePhase;
 import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrg;
 import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrgImpl;
 import dk.alexandra.fresco.tools.mascot.triple.TripleGeneration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -35,10 +34,19 @@ public class Mascot {
    * Creates new {@link Mascot}.
    */
   public Mascot(MascotResourcePool resourcePool, Network network, FieldElement macKeyShare) {
-    this.resourcePool = resourcePool;
     // agree on joint seed
-    StrictBitVector jointSeed = new CoinTossingMpc(resourcePool, network)
-        .generateJointSeed(resourcePool.getPrgSeedLength());
+    this(resourcePool, network, macKeyShare, new CoinTossingMpc(resourcePool, network)
+        .generateJointSeed(resourcePool.getPrgSeedLength()));
+  }
+
+  /**
+   * Creates new {@link Mascot} from a joint seed the parties have already agreed on, for instance
+   * as one of several seeds tossed at once by {@link CoinTossingMpc#generateJointSeeds(int, int)}.
+   * The seed must not be used for anything else.
+   */
+  public Mascot(MascotResourcePool resourcePool, Network network, FieldElement macKeyShare,
+      StrictBitVector jointSeed) {
+    this.resourcePool = resourcePool;
     FieldElementPrg jointSampler = new FieldElementPrgImpl(jointSeed,
         resourcePool.getFieldDefinition());
     this.elementGeneration =
@@ -90,17 +98,8 @@ public class Mascot {
    * @return random authenticated elements
    */
   public List<AuthenticatedElement> getRandomElements(int numElements) {
-    List<List<AuthenticatedElement>> perPartyElements = new ArrayList<>(
-        resourcePool.getNoOfParties());
-    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
-      if (partyId == resourcePool.getMyId()) {
-        List<FieldElement> randomElements = resourcePool.getLocalSampler().getNext(numElements);
-        perPartyElements.add(elementGeneration.input(randomElements));
-      } else {
-        perPartyElements.add(elementGeneration.input(partyId, numElements));
-      }
-    }
-    return Addable.sumRows(perPartyElements);
+    List<FieldElement> randomElements = resourcePool.getLocalSampler().getNext(numElements);
+    return Addable.sumRows(elementGeneration.inputFromAll(randomElements));
   }
 
   /**
@@ -0,0 +1,138 @@
+package dk.alexandra.fresco.tools.mascot;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.mascot.cointossing.CoinTossingMpc;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs several independent instances of {@link Mascot} concurrently, each on its own network and
+ * thread, and merges the triples they produce into a single stream.
+ *
+ * <p>Triple generation in a single {@link Mascot} instance is sequential. This class splits each
+ * request for triples evenly between the instances, such that triple throughput scales with the
+ * amount of cores, and returns the triples of the instances one after another. All parties must
+ * use the same amount of instances and make the same sequence of requests.</p>
+ *
+ * <p>All instances use the same seed OTs. Instance <i>i</i> uses the instance ID
+ * <i>firstInstanceId + i</i>, from which the OT extension derives the PRGs it expands the seed OTs
+ * with, so the instances use independent correlations. Each instance has its own randomness
+ * generator, seeded from the given one.</p>
+ */
+public class ParallelMascot implements Closeable {
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+  private final List<Mascot> instances;
+  private final ExecutorService executor;
+
+  /**
+   * Creates new {@link ParallelMascot}, with one {@link Mascot} instance per network.
+   *
+   * @param myId this party's id
+   * @param noOfParties number of parties
+   * @param firstInstanceId the instance ID of the first instance. The following instances use the
+   *     following IDs, which must not be used by other instances in the execution
+   * @param drbg source of randomness from which the randomness of each instance is seeded
+   * @param seedOts pre-computed base OTs
+   * @param mascotSecurityParameters mascot security parameters
+   * @param fieldDefinition field used for calculations
+   * @param networks the networks to use, one per instance. The networks of the instances must
+   *     be independent of each other
+   * @param macKeyShare this party's share of the MAC key
+   */
+  public ParallelMascot(int myId, int noOfParties, int firstInstanceId, Drbg drbg,
+      Map<Integer, RotList> seedOts, MascotSecurityParameters mascotSecurityParameters,
+      FieldDefinition fieldDefinition, List<Network> networks, FieldElement macKeyShare) {
+    if (networks.isEmpty()) {
+      throw new IllegalArgumentException("At least one network is needed");
+    }
+    this.executor = Executors.newFixedThreadPool(networks.size(), r -> {
+      Thread thread = new Thread(r, "Mascot-" + THREAD_COUNTER.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    List<MascotResourcePool> resourcePools = new ArrayList<>(networks.size());
+    for (int i = 0; i < networks.size(); i++) {
+      byte[] seed = new byte[mascotSecurityParameters.getPrgSeedLength() / Byte.SIZE];
+      drbg.nextBytes(seed);
+      resourcePools.add(new MascotResourcePoolImpl(myId, noOfParties,
+          firstInstanceId + i, AesCtrDrbgFactory.fromDerivedSeed(seed), seedOts,
+          mascotSecurityParameters, fieldDefinition));
+    }
+    // toss the joint seeds of all instances at once, rather than once per instance
+    List<StrictBitVector> jointSeeds = new CoinTossingMpc(resourcePools.get(0), networks.get(0))
+        .generateJointSeeds(networks.size(), mascotSecurityParameters.getPrgSeedLength());
+    List<Callable<Mascot>> constructions = new ArrayList<>(networks.size());
+    for (int i = 0; i < networks.size(); i++) {
+      MascotResourcePool resourcePool = resourcePools.get(i);
+      Network network = networks.get(i);
+      StrictBitVector jointSeed = jointSeeds.get(i);
+      constructions.add(() -> new Mascot(resourcePool, network, macKeyShare, jointSeed));
+    }
+    this.instances = invokeAll(constructions);
+  }
+
+  /**
+   * Gets the amount of {@link Mascot} instances.
+   *
+   * @return the amount of instances
+   */
+  public int getNumberOfInstances() {
+    return instances.size();
+  }
+
+  /**
+   * Generates a batch of multiplication triples, split evenly between the instances.
+   *
+   * @param numTriples number of triples in batch
+   * @return multiplication triples
+   */
+  public List<MultiplicationTriple> getTriples(int numTriples) {
+    List<Callable<List<MultiplicationTriple>>> tasks = new ArrayList<>(instances.size());
+    for (int i = 0; i < instances.size(); i++) {
+      int share = numTriples / instances.size() + (i < numTriples % instances.size() ? 1 : 0);
+      if (share > 0) {
+        Mascot instance = instances.get(i);
+        tasks.add(() -> instance.getTriples(share));
+      }
+    }
+    List<MultiplicationTriple> triples = new ArrayList<>(numTriples);
+    for (List<MultiplicationTriple> instanceTriples : invokeAll(tasks)) {
+      triples.addAll(instanceTriples);
+    }
+    return triples;
+  }
+
+  private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+    List<Future<T>> futures = ExceptionConverter.safe(() -> executor.invokeAll(tasks),
+        "Mascot instances were interrupted");
+    List<T> res = new ArrayList<>(futures.size());
+    for (Future<T> future : futures) {
+      res.add(ExceptionConverter.safe(future::get, "Mascot instance failed"));
+    }
+    return res;
+  }
+
+  /**
+   * Shuts down the threads running the instances. Does not close the networks.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
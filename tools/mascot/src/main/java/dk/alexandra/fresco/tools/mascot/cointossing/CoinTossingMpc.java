@@ -4,6 +4,8 @@ import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.tools.mascot.MascotResourcePool;
 import dk.alexandra.fresco.tools.mascot.commit.CommitmentBasedInput;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -56,4 +58,26 @@ public class CoinTossingMpc extends CommitmentBasedInput<StrictBitVector> {
     return combine(allSeeds);
   }
 
+  /**
+   * Generates several joint seeds at once. The parties toss a single seed holding all the seeds,
+   * so all seeds take a single commitment round rather than one each.
+   *
+   * @param numSeeds number of seeds
+   * @param bitLengthSeed bit length of each seed, must be a multiple of 8
+   * @return shared seeds
+   */
+  public List<StrictBitVector> generateJointSeeds(int numSeeds, int bitLengthSeed) {
+    if (bitLengthSeed % Byte.SIZE != 0) {
+      throw new IllegalArgumentException("Seed length must be a multiple of 8");
+    }
+    byte[] joint = generateJointSeed(numSeeds * bitLengthSeed).toByteArray();
+    int byteLengthSeed = bitLengthSeed / Byte.SIZE;
+    List<StrictBitVector> seeds = new ArrayList<>(numSeeds);
+    for (int i = 0; i < numSeeds; i++) {
+      seeds.add(new StrictBitVector(
+          Arrays.copyOfRange(joint, i * byteLengthSeed, (i + 1) * byteLengthSeed)));
+    }
+    return seeds;
+  }
+
 }
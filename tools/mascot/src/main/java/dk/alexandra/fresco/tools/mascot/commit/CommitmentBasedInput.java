@@ -93,6 +93,29 @@ public abstract class CommitmentBasedInput<T> {
     return result;
   }
 
+  /**
+   * Attempts to open commitments to lists of values using opening info, will throw if opening
+   * fails.
+   *
+   * @param commitments commitments
+   * @param openings opening information
+   * @return lists of values from opened commitments
+   * @throws dk.alexandra.fresco.framework.MaliciousException if opening fails
+   */
+  protected List<List<T>> openLists(List<HashBasedCommitment> commitments,
+      List<byte[]> openings) {
+    if (commitments.size() != openings.size()) {
+      throw new IllegalArgumentException("Lists must be same size");
+    }
+    List<List<T>> result = new ArrayList<>(commitments.size());
+    for (int i = 0; i < commitments.size(); i++) {
+      HashBasedCommitment comm = commitments.get(i);
+      byte[] opening = openings.get(i);
+      result.add(serializer.deserializeList(comm.open(opening)));
+    }
+    return result;
+  }
+
   /**
    * Uses commitments to securely distribute the given value to the other parties and receive their
    * inputs.
@@ -118,6 +141,23 @@ public abstract class CommitmentBasedInput<T> {
     return open(comms, openings);
   }
 
+  /**
+   * Uses a single commitment to securely distribute a list of values to the other parties and
+   * receive their lists. This costs the same single digest and two rounds as committing to one
+   * value.
+   *
+   * @param values values to commit to
+   * @return the other parties' lists of values
+   */
+  protected List<List<T>> allCommit(List<T> values) {
+    HashBasedCommitment ownComm = new HashBasedCommitment();
+    byte[] ownOpening = ownComm
+        .commit(getResourcePool().getRandomGenerator(), serializer.serialize(values));
+    List<HashBasedCommitment> comms = distributeCommitments(ownComm);
+    List<byte[]> openings = distributeOpenings(ownOpening);
+    return openLists(comms, openings);
+  }
+
   protected MascotResourcePool getResourcePool() {
     return resourcePool;
   }
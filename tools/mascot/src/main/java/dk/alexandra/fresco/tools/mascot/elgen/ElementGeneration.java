@@ -65,6 +65,64 @@ public class ElementGeneration {
    * @return authenticated shares of inputs
    */
   public List<AuthenticatedElement> input(List<FieldElement> values) {
+    List<FieldElement> maskedValues = new ArrayList<>(1);
+    List<FieldElement> maskedMacs = new ArrayList<>(1);
+    List<AuthenticatedElement> authenticated = input(values, maskedValues, maskedMacs);
+    // perform mac-check on opened value (will throw if mac check fails) (steps 8 and 9)
+    macChecker.check(maskedValues, macKeyShare, maskedMacs);
+    return authenticated;
+  }
+
+  /**
+   * Computes this party's authenticated shares of inputter party's inputs. Implements a non-input
+   * party's side of the Input sub-protocol of Protocol 3.
+   *
+   * @param inputterId id of inputter
+   * @param numInputs number of inputs
+   * @return authenticated shares of inputs
+   */
+  public List<AuthenticatedElement> input(Integer inputterId, int numInputs) {
+    List<FieldElement> maskedValues = new ArrayList<>(1);
+    List<FieldElement> maskedMacs = new ArrayList<>(1);
+    List<AuthenticatedElement> authenticated =
+        input(inputterId, numInputs, maskedValues, maskedMacs);
+    // perform mac-check on opened value (steps 8 through 9)
+    macChecker.check(maskedValues, macKeyShare, maskedMacs);
+    return authenticated;
+  }
+
+  /**
+   * Runs the Input sub-protocol of Protocol 3 once for every party, where this party inputs the
+   * given values and every other party inputs as many values. <p>The mac checks of the inputs of
+   * all parties are run together at the end, committing to all their sigmas at once, so the
+   * inputs take a single commitment round rather than one per party.</p>
+   *
+   * @param values values to input
+   * @return authenticated shares of the inputs of each party, ordered by party id
+   */
+  public List<List<AuthenticatedElement>> inputFromAll(List<FieldElement> values) {
+    List<FieldElement> maskedValues = new ArrayList<>(resourcePool.getNoOfParties());
+    List<FieldElement> maskedMacs = new ArrayList<>(resourcePool.getNoOfParties());
+    List<List<AuthenticatedElement>> perParty = new ArrayList<>(resourcePool.getNoOfParties());
+    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
+      if (partyId == resourcePool.getMyId()) {
+        perParty.add(input(values, maskedValues, maskedMacs));
+      } else {
+        perParty.add(input(partyId, values.size(), maskedValues, maskedMacs));
+      }
+    }
+    // perform mac-check on all opened values at once (steps 8 and 9)
+    macChecker.check(maskedValues, macKeyShare, maskedMacs);
+    return perParty;
+  }
+
+  /**
+   * Input party's side of the Input sub-protocol of Protocol 3, except for the mac check. The
+   * opened, masked value and this party's share of its mac are added to the given lists, and must
+   * be checked before the shares are used.
+   */
+  private List<AuthenticatedElement> input(List<FieldElement> values,
+      List<FieldElement> maskedValues, List<FieldElement> maskedMacs) {
     // make sure we are working with an array list
     values = new ArrayList<>(values);
 
@@ -88,8 +146,9 @@ public class ElementGeneration {
     // so that we can use receiveFromAll correctly later
     network.receive(resourcePool.getMyId());
 
-    // perform mac-check on opened value (will throw if mac check fails) (steps 8 and 9)
-    runMacCheck(maskedValue, coefficients, macs);
+    // record opened value for mac-check (steps 8 and 9)
+    maskedValues.add(maskedValue);
+    maskedMacs.add(fieldElementUtils.innerProduct(macs, coefficients));
 
     // combine shares and mac shares to authenticated elements
     // (exclude mac and share of extra element) (step 10)
@@ -98,14 +157,12 @@ public class ElementGeneration {
   }
 
   /**
-   * Computes this party's authenticated shares of inputter party's inputs. Implements a non-input
-   * party's side of the Input sub-protocol of Protocol 3.
-   *
-   * @param inputterId id of inputter
-   * @param numInputs number of inputs
-   * @return authenticated shares of inputs
+   * Non-input party's side of the Input sub-protocol of Protocol 3, except for the mac check. The
+   * opened, masked value and this party's share of its mac are added to the given lists, and must
+   * be checked before the shares are used.
    */
-  public List<AuthenticatedElement> input(Integer inputterId, int numInputs) {
+  private List<AuthenticatedElement> input(Integer inputterId, int numInputs,
+      List<FieldElement> maskedValues, List<FieldElement> maskedMacs) {
     // receive shares from inputter (step 2)
     List<FieldElement> shares =
         resourcePool.getFieldDefinition().deserializeList(network.receive(inputterId));
@@ -121,8 +178,9 @@ public class ElementGeneration {
     FieldElement maskedValue =
         resourcePool.getFieldDefinition().deserialize(network.receive(inputterId));
 
-    // perform mac-check on opened value (steps 8 through 9)
-    runMacCheck(maskedValue, coefficients, macs);
+    // record opened value for mac-check (steps 8 through 9)
+    maskedValues.add(maskedValue);
+    maskedMacs.add(fieldElementUtils.innerProduct(macs, coefficients));
 
     // combine shares and mac shares to authenticated  elements
     // (exclude mac and share of extra element) (step 10)
@@ -7,6 +7,7 @@ import dk.alexandra.fresco.framework.network.Network;
 import dk.alexandra.fresco.tools.mascot.MascotResourcePool;
 import dk.alexandra.fresco.tools.mascot.commit.CommitmentBasedInput;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,4 +50,39 @@ public class MacCheck extends CommitmentBasedInput<FieldElement> {
     }
   }
 
+  /**
+   * Runs mac-check on a batch of open values, committing to all sigmas at once so that the whole
+   * batch takes a single commitment round. <br>
+   * Conceptually, checks (macShare0 + ... + macShareN) = (open) * (keyShare0 + ... + keyShareN)
+   * for each open value.
+   *
+   * @param opened the opened elements to validate
+   * @param macKeyShare this party's share of the mac key
+   * @param macShares this party's shares of the macs
+   * @throws MaliciousException if mac-check fails
+   */
+  public void check(
+      List<FieldElement> opened, FieldElement macKeyShare, List<FieldElement> macShares) {
+    if (opened.size() != macShares.size()) {
+      throw new IllegalArgumentException("Lists must be same size");
+    }
+    List<FieldElement> sigmas = new ArrayList<>(opened.size());
+    for (int i = 0; i < opened.size(); i++) {
+      sigmas.add(macShares.get(i).subtract(opened.get(i).multiply(macKeyShare)));
+    }
+    List<List<FieldElement>> allSigmas = allCommit(sigmas);
+    for (int i = 0; i < opened.size(); i++) {
+      FieldElement sigmaSum = getResourcePool().getFieldDefinition().createElement(0);
+      for (List<FieldElement> partySigmas : allSigmas) {
+        if (partySigmas.size() != opened.size()) {
+          throw new MaliciousException("Received an unexpected amount of sigmas");
+        }
+        sigmaSum = sigmaSum.add(partySigmas.get(i));
+      }
+      BigInteger outputSum = getResourcePool().getFieldDefinition().convertToUnsigned(sigmaSum);
+      if (outputSum.signum() != 0) {
+        throw new MaliciousException("Malicious mac forging detected");
+      }
+    }
+  }
 }
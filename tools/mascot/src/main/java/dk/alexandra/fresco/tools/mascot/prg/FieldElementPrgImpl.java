@@ -7,6 +7,9 @@ import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
 import dk.alexandra.fresco.framework.util.Drng;
 import dk.alexandra.fresco.framework.util.DrngImpl;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 public class FieldElementPrgImpl implements FieldElementPrg {
 
@@ -32,4 +35,37 @@ public class FieldElementPrgImpl implements FieldElementPrg {
   public FieldElement getNext() {
     return definition.createElement(drng.nextBigInteger(definition.getModulus()));
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The elements are sampled in bulk from the underlying DRNG.</p>
+   */
+  @Override
+  public List<FieldElement> getNext(int numSamples) {
+    return toElements(drng.nextBigIntegers(definition.getModulus(), numSamples), 0, numSamples);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>All elements of the matrix are sampled in bulk from the underlying DRNG.</p>
+   */
+  @Override
+  public List<List<FieldElement>> getNext(int numRows, int numCols) {
+    List<BigInteger> values = drng.nextBigIntegers(definition.getModulus(), numRows * numCols);
+    List<List<FieldElement>> sampled = new ArrayList<>(numRows);
+    for (int i = 0; i < numRows; i++) {
+      sampled.add(toElements(values, i * numCols, numCols));
+    }
+    return sampled;
+  }
+
+  private List<FieldElement> toElements(List<BigInteger> values, int from, int amount) {
+    List<FieldElement> elements = new ArrayList<>(amount);
+    for (int i = from; i < from + amount; i++) {
+      elements.add(definition.createElement(values.get(i)));
+    }
+    return elements;
+  }
 }
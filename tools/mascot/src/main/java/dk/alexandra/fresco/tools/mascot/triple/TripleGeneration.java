@@ -183,14 +183,7 @@ public class TripleGeneration {
         .flatMap(TripleCandidate::stream)
         .collect(Collectors.toList());
 
-    List<List<AuthenticatedElement>> shares = new ArrayList<>();
-    for (int partyId = 1; partyId <= resourcePool.getNoOfParties(); partyId++) {
-      if (partyId == resourcePool.getMyId()) {
-        shares.add(elementGeneration.input(flatInputs));
-      } else {
-        shares.add(elementGeneration.input(partyId, flatInputs.size()));
-      }
-    }
+    List<List<AuthenticatedElement>> shares = elementGeneration.inputFromAll(flatInputs);
 
     List<AuthenticatedElement> combined = Addable.sumRows(shares);
     return toAuthenticatedCandidate(combined, 5);
@@ -0,0 +1,145 @@
+package dk.alexandra.fresco.tools.mascot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import dk.alexandra.fresco.framework.Party;
+import dk.alexandra.fresco.framework.builder.numeric.Addable;
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import dk.alexandra.fresco.tools.mascot.field.MultiplicationTriple;
+import dk.alexandra.fresco.tools.ot.base.DummyOt;
+import dk.alexandra.fresco.tools.ot.base.Ot;
+import dk.alexandra.fresco.tools.ot.otextension.RotList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestParallelMascot {
+
+  private static final int NO_OF_PARTIES = 2;
+  private final MascotSecurityParameters securityParameters =
+      new MascotSecurityParameters(16, 256, 3);
+  private final FieldDefinition fieldDefinition =
+      new BigIntegerFieldDefinition(ModulusFinder.findSuitableModulus(16));
+  private final FieldElement macKeyShareOne = fieldDefinition.createElement(11231);
+  private final FieldElement macKeyShareTwo = fieldDefinition.createElement(7719);
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(NO_OF_PARTIES);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static Network createNetwork(int myId, int instance) {
+    Map<Integer, Party> parties = new HashMap<>();
+    for (int partyId = 1; partyId <= NO_OF_PARTIES; partyId++) {
+      parties.put(partyId, new Party(partyId, "localhost", 8300 + 10 * instance + partyId));
+    }
+    return new SocketNetwork(new NetworkConfigurationImpl(myId, parties));
+  }
+
+  private List<MultiplicationTriple> runParty(int myId, FieldElement macKeyShare,
+      int numberOfInstances, int[] batches) {
+    List<Network> networks = new ArrayList<>(numberOfInstances);
+    for (int i = 0; i < numberOfInstances; i++) {
+      networks.add(createNetwork(myId, i));
+    }
+    try {
+      Drbg drbg = AesCtrDrbgFactory.fromDerivedSeed(new byte[] {(byte) myId});
+      Map<Integer, RotList> seedOts = new HashMap<>();
+      int otherId = 3 - myId;
+      Ot ot = new DummyOt(otherId, networks.get(0));
+      RotList currentSeedOts = new RotList(drbg, securityParameters.getPrgSeedLength());
+      if (myId < otherId) {
+        currentSeedOts.send(ot);
+        currentSeedOts.receive(ot);
+      } else {
+        currentSeedOts.receive(ot);
+        currentSeedOts.send(ot);
+      }
+      seedOts.put(otherId, currentSeedOts);
+      List<MultiplicationTriple> triples = new ArrayList<>();
+      try (ParallelMascot mascot = new ParallelMascot(myId, NO_OF_PARTIES, 1, drbg, seedOts,
+          securityParameters, fieldDefinition, networks, macKeyShare)) {
+        assertEquals(numberOfInstances, mascot.getNumberOfInstances());
+        for (int batch : batches) {
+          triples.addAll(mascot.getTriples(batch));
+        }
+      }
+      return triples;
+    } finally {
+      for (Network network : networks) {
+        ExceptionConverter.safe(() -> {
+          ((CloseableNetwork) network).close();
+          return null;
+        }, "Closing network failed");
+      }
+    }
+  }
+
+  private void runTest(int numberOfInstances, int... batches) {
+    List<Callable<List<MultiplicationTriple>>> tasks = new ArrayList<>();
+    tasks.add(() -> runParty(1, macKeyShareOne, numberOfInstances, batches));
+    tasks.add(() -> runParty(2, macKeyShareTwo, numberOfInstances, batches));
+    List<Future<List<MultiplicationTriple>>> futures = ExceptionConverter
+        .safe(() -> executor.invokeAll(tasks, 60, TimeUnit.SECONDS), "Invoke all failed");
+    List<List<MultiplicationTriple>> results = futures.stream()
+        .map(future -> ExceptionConverter.safe(future::get, "Party task failed"))
+        .collect(Collectors.toList());
+    int expected = 0;
+    for (int batch : batches) {
+      expected += batch;
+    }
+    assertEquals(expected, results.get(0).size());
+    assertEquals(expected, results.get(1).size());
+    List<MultiplicationTriple> combined = Addable.sumRows(results);
+    for (MultiplicationTriple triple : combined) {
+      CustomAsserts.assertTripleIsValid(fieldDefinition, triple,
+          macKeyShareOne.add(macKeyShareTwo));
+    }
+    // Sanity check that the instances do not produce the same triples
+    assertNotEquals(fieldDefinition.convertToUnsigned(combined.get(0).getLeft().getShare()),
+        fieldDefinition.convertToUnsigned(combined.get(expected - 1).getLeft().getShare()));
+  }
+
+  @Test
+  public void testTriples() {
+    runTest(3, 9, 4);
+  }
+
+  @Test
+  public void testFewerTriplesThanInstances() {
+    runTest(3, 2, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoNetworks() {
+    new ParallelMascot(1, NO_OF_PARTIES, 1, AesCtrDrbgFactory.fromDerivedSeed(new byte[1]),
+        new HashMap<>(), securityParameters, fieldDefinition, new ArrayList<>(), macKeyShareOne);
+  }
+}
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.tools.mascot.cointossing;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.tools.mascot.MascotTestContext;
@@ -73,4 +74,28 @@ public class TestCoinTossingMpc extends NetworkedTest {
     assertEquals(expected, partyOneOut);
   }
 
+  @Test
+  public void threePartyMultipleSeeds() {
+    initContexts(3);
+
+    List<Callable<List<StrictBitVector>>> tasks = Arrays.asList(
+        () -> new CoinTossingMpc(contexts.get(1).getResourcePool(), contexts.get(1).getNetwork())
+            .generateJointSeeds(4, 128),
+        () -> new CoinTossingMpc(contexts.get(2).getResourcePool(), contexts.get(2).getNetwork())
+            .generateJointSeeds(4, 128),
+        () -> new CoinTossingMpc(contexts.get(3).getResourcePool(), contexts.get(3).getNetwork())
+            .generateJointSeeds(4, 128));
+
+    List<List<StrictBitVector>> results = testRuntime.runPerPartyTasks(tasks);
+
+    assertEquals(results.get(0), results.get(1));
+    assertEquals(results.get(1), results.get(2));
+    List<StrictBitVector> seeds = results.get(0);
+    assertEquals(4, seeds.size());
+    for (StrictBitVector seed : seeds) {
+      assertEquals(128, seed.getSize());
+    }
+    assertNotEquals(seeds.get(0), seeds.get(1));
+  }
+
 }
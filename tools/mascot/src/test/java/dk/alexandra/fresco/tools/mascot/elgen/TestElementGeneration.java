@@ -69,6 +69,15 @@ public class TestElementGeneration extends NetworkedTest {
     return elGen.input(inputterId, numInputs);
   }
 
+  private List<List<AuthenticatedElement>> runInputFromAll(MascotTestContext ctx,
+      FieldElement macKeyShare, List<FieldElement> inputs) {
+    FieldElementPrg jointSampler =
+        new FieldElementPrgImpl(new StrictBitVector(new byte[]{1, 2, 3}), getFieldDefinition());
+    ElementGeneration elGen =
+        new ElementGeneration(ctx.getResourcePool(), ctx.getNetwork(), macKeyShare, jointSampler);
+    return elGen.inputFromAll(inputs);
+  }
+
   @Test
   public void testTwoPartiesSingleInput() {
     // two parties run this
@@ -254,6 +263,45 @@ public class TestElementGeneration extends NetworkedTest {
     CustomAsserts.assertEqualsAuth(getFieldDefinition(), expected, actual);
   }
 
+  @Test
+  public void testThreePartiesInputFromAll() {
+    initContexts(3);
+
+    // party mac key shares
+    List<FieldElement> macKeyShares = Arrays.asList(
+        getFieldDefinition().createElement("11231"),
+        getFieldDefinition().createElement("7719"),
+        getFieldDefinition().createElement("40401"));
+
+    // inputs of each party
+    int[][] inputArr = {{70, 5}, {12, 9}, {123, 1}};
+    List<List<FieldElement>> inputs =
+        MascotTestUtils.generateMatrix(inputArr, getFieldDefinition());
+
+    // define task each party will run
+    List<Callable<List<List<AuthenticatedElement>>>> tasks = new ArrayList<>();
+    for (int partyId = 1; partyId <= 3; partyId++) {
+      MascotTestContext ctx = contexts.get(partyId);
+      FieldElement macKeyShare = macKeyShares.get(partyId - 1);
+      List<FieldElement> partyInputs = inputs.get(partyId - 1);
+      tasks.add(() -> runInputFromAll(ctx, macKeyShare, partyInputs));
+    }
+
+    // run tasks and get ordered list of results
+    List<List<List<AuthenticatedElement>>> results = testRuntime.runPerPartyTasks(tasks);
+
+    for (int inputterId = 1; inputterId <= 3; inputterId++) {
+      List<List<AuthenticatedElement>> shares = new ArrayList<>();
+      for (List<List<AuthenticatedElement>> partyResult : results) {
+        shares.add(partyResult.get(inputterId - 1));
+      }
+      List<AuthenticatedElement> actual = Addable.sumRows(shares);
+      List<AuthenticatedElement> expected =
+          computeExpected(inputs.get(inputterId - 1), macKeyShares);
+      CustomAsserts.assertEqualsAuth(getFieldDefinition(), expected, actual);
+    }
+  }
+
   // util methods
 
   private List<AuthenticatedElement> computeExpected(List<FieldElement> inputs,
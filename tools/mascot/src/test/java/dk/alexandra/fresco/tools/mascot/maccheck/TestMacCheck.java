@@ -249,4 +249,49 @@ public class TestMacCheck extends NetworkedTest {
     maliciousPartyThree(opened, macKeyShare, macShare);
   }
 
+  private Pair<Boolean, Exception> runSinglePartyBatchMacCheck(MascotTestContext ctx,
+      List<FieldElement> opened, FieldElement macKeyShare, List<FieldElement> macShares) {
+    MacCheck macChecker = new MacCheck(ctx.getResourcePool(), ctx.getNetwork());
+    try {
+      macChecker.check(opened, macKeyShare, macShares);
+    } catch (MaliciousException e) {
+      return new Pair<>(true, e);
+    }
+    return new Pair<>(false, null);
+  }
+
+  private List<Pair<Boolean, Exception>> runTwoPartyBatchMacCheck(int tamperedMacShare) {
+    initContexts(2);
+    FieldElement opened = getFieldDefinition().createElement(42);
+    // the same valid values as in the single value test
+    List<FieldElement> openedList = Arrays.asList(opened, opened, opened);
+    List<FieldElement> macSharesOne = Arrays.asList(getFieldDefinition().createElement(9000),
+        getFieldDefinition().createElement(9000), getFieldDefinition().createElement(9000));
+    List<FieldElement> macSharesTwo = Arrays.asList(getFieldDefinition().createElement(672),
+        getFieldDefinition().createElement(672), getFieldDefinition().createElement(672));
+    if (tamperedMacShare >= 0) {
+      macSharesTwo.set(tamperedMacShare, getFieldDefinition().createElement(671));
+    }
+    Callable<Pair<Boolean, Exception>> partyOneTask = () -> runSinglePartyBatchMacCheck(
+        contexts.get(1), openedList, getFieldDefinition().createElement(11231), macSharesOne);
+    Callable<Pair<Boolean, Exception>> partyTwoTask = () -> runSinglePartyBatchMacCheck(
+        contexts.get(2), openedList, getFieldDefinition().createElement(7719), macSharesTwo);
+    return testRuntime.runPerPartyTasks(Arrays.asList(partyOneTask, partyTwoTask));
+  }
+
+  @Test
+  public void testTwoPartiesValidBatchMacCheck() {
+    for (Pair<Boolean, Exception> res : runTwoPartyBatchMacCheck(-1)) {
+      assertEquals(false, res.getFirst());
+    }
+  }
+
+  @Test
+  public void testPartyTwoTampersWithMacShareInBatch() {
+    for (Pair<Boolean, Exception> res : runTwoPartyBatchMacCheck(2)) {
+      assertEquals(true, res.getFirst());
+      assertEquals("Malicious mac forging detected", res.getSecond().getMessage());
+    }
+  }
+
 }
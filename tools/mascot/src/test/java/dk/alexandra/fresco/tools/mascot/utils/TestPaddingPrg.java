@@ -1,5 +1,6 @@
 package dk.alexandra.fresco.tools.mascot.utils;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -11,6 +12,7 @@ import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrg;
 import dk.alexandra.fresco.tools.mascot.prg.FieldElementPrgImpl;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import org.junit.Test;
 
@@ -83,4 +85,20 @@ public class TestPaddingPrg {
     FieldElement elTwo = prgTwo.getNext();
     assertNotEquals(elOne, elTwo);
   }
+
+  @Test
+  public void testBulkSamplingMatchesSingleSampling() {
+    byte[] seedBytes = new byte[32];
+    new Random().nextBytes(seedBytes);
+    FieldElementPrg prgOne = new FieldElementPrgImpl(new StrictBitVector(seedBytes), definition);
+    FieldElementPrg prgTwo = new FieldElementPrgImpl(new StrictBitVector(seedBytes), definition);
+    List<List<FieldElement>> bulk = prgOne.getNext(10, 20);
+    assertEquals(10, bulk.size());
+    for (List<FieldElement> row : bulk) {
+      assertEquals(20, row.size());
+      for (FieldElement el : row) {
+        CustomAsserts.assertEquals(definition, prgTwo.getNext(), el);
+      }
+    }
+  }
 }
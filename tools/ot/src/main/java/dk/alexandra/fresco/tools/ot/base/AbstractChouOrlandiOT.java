@@ -9,18 +9,32 @@ import org.bouncycastle.crypto.digests.SHA3Digest;
 import org.bouncycastle.crypto.macs.HMac;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Uses Chou-Orlandi with fixes as seen in https://eprint.iacr.org/2021/1218
  *
+ * <p>Batches of OTs, see {@link BatchOt}, are done in a constant number of rounds by sending the
+ * group elements of all OTs in the batch in a single message. The group operations of a batch are
+ * run in parallel and, if the group provides one, exponentiations of the generator use a
+ * precomputed table, see {@link #createGeneratorTable()}.</p>
  */
-public abstract class AbstractChouOrlandiOT<T extends InterfaceOtElement<T>> implements Ot {
+public abstract class AbstractChouOrlandiOT<T extends InterfaceOtElement<T>> implements BatchOt {
+
+    // The amount of bytes in the keys derived in batched OTs
+    private static final int KEY_BYTES = 32;
 
     private final int otherId;
     private final Network network;
     protected final Drng randNum;
 
     private final Mac mac;
+    private FixedBaseTable<T> generatorTable;
+    private boolean generatorTableCreated;
 
 
     /**
@@ -143,4 +157,123 @@ public abstract class AbstractChouOrlandiOT<T extends InterfaceOtElement<T>> imp
     }
 
 
+    @Override
+    public void send(List<StrictBitVector> messagesZero, List<StrictBitVector> messagesOne) {
+        if (messagesZero.isEmpty() && messagesOne.isEmpty()) {
+            return;
+        }
+        int messageBytes = BaseOtHelper.checkMessages(messagesZero, messagesOne);
+        int size = messagesZero.size();
+        int elementBytes = getElementBytes();
+        prepareGeneratorTable();
+        List<BigInteger> ys = BaseOtHelper.sampleExponents(randNum, getSubgroupOrder(), size);
+        // A = g^y
+        List<T> as = ys.parallelStream().map(this::exponentiateGenerator)
+                .collect(Collectors.toList());
+        network.send(otherId, BaseOtHelper.encodeElements(as, elementBytes));
+        byte[] uBytes = network.receive(otherId);
+        if (uBytes.length != size * elementBytes) {
+            throw new MaliciousException("Received an unexpected amount of group elements");
+        }
+        List<T> us = BaseOtHelper.decodeElements(uBytes, size, elementBytes, this::decodeElement);
+        byte[] cipherTexts = new byte[2 * size * messageBytes];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            T a = as.get(i);
+            T u = us.get(i);
+            BigInteger y = ys.get(i);
+            byte[] aBytes = a.toByteArray();
+            // k0 = H(A, U^y), k1 = H(A, (U * A^(-1))^y)
+            byte[] key0 = deriveKey(aBytes, u.exponentiation(y).toByteArray());
+            byte[] key1 = deriveKey(aBytes, u.groupOp(a.inverse()).exponentiation(y).toByteArray());
+            System.arraycopy(PseudoOtp.encrypt(messagesZero.get(i).toByteArray(), key0), 0,
+                    cipherTexts, 2 * i * messageBytes, messageBytes);
+            System.arraycopy(PseudoOtp.encrypt(messagesOne.get(i).toByteArray(), key1), 0,
+                    cipherTexts, (2 * i + 1) * messageBytes, messageBytes);
+        });
+        network.send(otherId, cipherTexts);
+    }
+
+    @Override
+    public List<StrictBitVector> receive(StrictBitVector choiceBits) {
+        int size = choiceBits.getSize();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        int elementBytes = getElementBytes();
+        prepareGeneratorTable();
+        byte[] aBytes = network.receive(otherId);
+        if (aBytes.length != size * elementBytes) {
+            throw new MaliciousException("Received an unexpected amount of group elements");
+        }
+        List<T> as = BaseOtHelper.decodeElements(aBytes, size, elementBytes, this::decodeElement);
+        List<BigInteger> xs = BaseOtHelper.sampleExponents(randNum, getSubgroupOrder(), size);
+        // U = A^b * g^x
+        List<T> us = IntStream.range(0, size).parallel().mapToObj(i -> {
+            T gx = exponentiateGenerator(xs.get(i));
+            return choiceBits.getBit(i, false) ? as.get(i).groupOp(gx) : gx;
+        }).collect(Collectors.toList());
+        network.send(otherId, BaseOtHelper.encodeElements(us, elementBytes));
+        // k = H(A, A^x)
+        List<byte[]> keys = IntStream.range(0, size).parallel()
+                .mapToObj(i -> deriveKey(BaseOtHelper.copy(aBytes, i * elementBytes, elementBytes),
+                        as.get(i).exponentiation(xs.get(i)).toByteArray()))
+                .collect(Collectors.toList());
+        byte[] cipherTexts = network.receive(otherId);
+        if (cipherTexts.length % (2 * size) != 0) {
+            throw new MaliciousException("The length of the two choice messages is not equal");
+        }
+        int messageBytes = cipherTexts.length / (2 * size);
+        List<StrictBitVector> res = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int choice = choiceBits.getBit(i, false) ? 1 : 0;
+            byte[] cipherText = BaseOtHelper.copy(cipherTexts, (2 * i + choice) * messageBytes,
+                    messageBytes);
+            res.add(new StrictBitVector(PseudoOtp.decrypt(cipherText, keys.get(i))));
+        }
+        return res;
+    }
+
+    /**
+     * Hashes the encoding of the sender's element and the shared element into a key. Creates a new
+     * digest on each call, such that keys can be derived concurrently.
+     */
+    private static byte[] deriveKey(byte[] a, byte[] shared) {
+        SHA3Digest digest = new SHA3Digest(KEY_BYTES * Byte.SIZE);
+        digest.update(a, 0, a.length);
+        digest.update(shared, 0, shared.length);
+        byte[] key = new byte[KEY_BYTES];
+        digest.doFinal(key, 0);
+        return key;
+    }
+
+    private int getElementBytes() {
+        return getGenerator().toByteArray().length;
+    }
+
+    /**
+     * Creates a table for exponentiations of the generator in batches of OTs, or returns null if
+     * ordinary exponentiation is faster in the group.
+     *
+     * @return a table of powers of the generator or null
+     */
+    FixedBaseTable<T> createGeneratorTable() {
+        return null;
+    }
+
+    /**
+     * Creates the table of powers of the generator on first use. Must be called before
+     * exponentiating the generator concurrently.
+     */
+    private void prepareGeneratorTable() {
+        if (!generatorTableCreated) {
+            generatorTable = createGeneratorTable();
+            generatorTableCreated = true;
+        }
+    }
+
+    private T exponentiateGenerator(BigInteger exponent) {
+        return generatorTable == null
+                ? getGenerator().exponentiation(exponent) : generatorTable.exponentiation(exponent);
+    }
+
 }
@@ -7,30 +7,45 @@ import dk.alexandra.fresco.tools.ot.otextension.PseudoOtp;
 
 import java.math.BigInteger;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-public abstract class AbstractNaorPinkasOT<T extends InterfaceOtElement<T>> implements Ot {
+/**
+ * Naor-Pinkas OT.
+ *
+ * <p>Batches of OTs, see {@link BatchOt}, are done in a constant number of rounds by sending the
+ * group elements of all OTs in the batch in a single message. The group operations of a batch are
+ * run in parallel and, if the group provides one, exponentiations of the generator use a
+ * precomputed table, see {@link #createGeneratorTable()}.</p>
+ */
+public abstract class AbstractNaorPinkasOT<T extends InterfaceOtElement<T>> implements BatchOt {
 
   // The amount of bytes in the random message
   private static final int MESSAGE_SIZE_BYTES = 32;
   private final int otherId;
   private final Network network;
   protected final Drng randNum;
+  private FixedBaseTable<T> generatorTable;
+  private boolean generatorTableCreated;
 
   /**
    * @return a randomly generated NaorPinkas Element
    */
-  abstract InterfaceOtElement generateRandomNaorPinkasElement();
+  abstract T generateRandomNaorPinkasElement();
 
   /**
    * Decodes an encoded element
    * @param bytes the encoded element represented in bytes
    * @return the decoded element
    */
-  abstract InterfaceOtElement decodeElement(byte[] bytes);
+  abstract T decodeElement(byte[] bytes);
 
   abstract BigInteger getSubgroupOrder();
 
-  abstract InterfaceOtElement getGenerator();
+  abstract T getGenerator();
 
 
   public AbstractNaorPinkasOT(int otherId, Drbg randBit, Network network) {
@@ -171,4 +186,126 @@ public abstract class AbstractNaorPinkasOT<T extends InterfaceOtElement<T>> impl
   }
 
 
+  @Override
+  public void send(List<StrictBitVector> messagesZero, List<StrictBitVector> messagesOne) {
+    if (messagesZero.isEmpty() && messagesOne.isEmpty()) {
+      return;
+    }
+    int messageBytes = BaseOtHelper.checkMessages(messagesZero, messagesOne);
+    int size = messagesZero.size();
+    int elementBytes = getElementBytes();
+    prepareGeneratorTable();
+    List<T> randPoints = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      randPoints.add(generateRandomNaorPinkasElement());
+    }
+    network.send(otherId, BaseOtHelper.encodeElements(randPoints, elementBytes));
+    byte[] keyBytes = network.receive(otherId);
+    if (keyBytes.length != size * elementBytes) {
+      throw new MaliciousException("Received an unexpected amount of group elements");
+    }
+    List<T> publicKeysZero =
+        BaseOtHelper.decodeElements(keyBytes, size, elementBytes, this::decodeElement);
+    List<BigInteger> rs = BaseOtHelper.sampleExponents(randNum, getSubgroupOrder(), 2 * size);
+    // The response holds the encryptions of all random messages followed by the padded messages
+    int elementsLength = 2 * size * elementBytes;
+    byte[] response = new byte[elementsLength + 2 * size * messageBytes];
+    IntStream.range(0, size).parallel().forEach(i -> {
+      T publicKeyZero = publicKeysZero.get(i);
+      T publicKeyOne = publicKeyZero.inverse().groupOp(randPoints.get(i));
+      for (int choice = 0; choice < 2; choice++) {
+        BigInteger r = rs.get(2 * i + choice);
+        T publicKey = choice == 0 ? publicKeyZero : publicKeyOne;
+        StrictBitVector message = choice == 0 ? messagesZero.get(i) : messagesOne.get(i);
+        System.arraycopy(exponentiateGenerator(r).toByteArray(), 0, response,
+            (2 * i + choice) * elementBytes, elementBytes);
+        byte[] seed = hashToMessage(publicKey.exponentiation(r));
+        System.arraycopy(PseudoOtp.encrypt(message.toByteArray(), seed), 0, response,
+            elementsLength + (2 * i + choice) * messageBytes, messageBytes);
+      }
+    });
+    network.send(otherId, response);
+  }
+
+  @Override
+  public List<StrictBitVector> receive(StrictBitVector choiceBits) {
+    int size = choiceBits.getSize();
+    if (size == 0) {
+      return Collections.emptyList();
+    }
+    int elementBytes = getElementBytes();
+    prepareGeneratorTable();
+    byte[] pointBytes = network.receive(otherId);
+    if (pointBytes.length != size * elementBytes) {
+      throw new MaliciousException("Received an unexpected amount of group elements");
+    }
+    List<T> randPoints =
+        BaseOtHelper.decodeElements(pointBytes, size, elementBytes, this::decodeElement);
+    List<BigInteger> privateKeys =
+        BaseOtHelper.sampleExponents(randNum, getSubgroupOrder(), size);
+    List<T> publicKeys = IntStream.range(0, size).parallel().mapToObj(i -> {
+      T publicKeySigma = exponentiateGenerator(privateKeys.get(i));
+      return choiceBits.getBit(i, false)
+          ? publicKeySigma.inverse().groupOp(randPoints.get(i)) : publicKeySigma;
+    }).collect(Collectors.toList());
+    network.send(otherId, BaseOtHelper.encodeElements(publicKeys, elementBytes));
+    byte[] response = network.receive(otherId);
+    int elementsLength = 2 * size * elementBytes;
+    if (response.length < elementsLength
+        || (response.length - elementsLength) % (2 * size) != 0) {
+      throw new MaliciousException("The length of the two choice messages is not equal");
+    }
+    int messageBytes = (response.length - elementsLength) / (2 * size);
+    List<T> encryptions =
+        BaseOtHelper.decodeElements(response, 2 * size, elementBytes, this::decodeElement);
+    return IntStream.range(0, size).parallel().mapToObj(i -> {
+      int index = 2 * i + (choiceBits.getBit(i, false) ? 1 : 0);
+      byte[] seed = hashToMessage(encryptions.get(index).exponentiation(privateKeys.get(i)));
+      byte[] cipherText = BaseOtHelper.copy(response, elementsLength + index * messageBytes,
+          messageBytes);
+      return new StrictBitVector(PseudoOtp.decrypt(cipherText, seed));
+    }).collect(Collectors.toList());
+  }
+
+  /**
+   * Derives the random message from a shared group element, as in {@link
+   * #encryptRandomMessage(InterfaceOtElement)}.
+   */
+  private static byte[] hashToMessage(InterfaceOtElement<?> toHash) {
+    HmacDrbg rand = new HmacDrbg(toHash.toByteArray());
+    byte[] message = new byte[MESSAGE_SIZE_BYTES];
+    rand.nextBytes(message);
+    return message;
+  }
+
+  private int getElementBytes() {
+    return getGenerator().toByteArray().length;
+  }
+
+  /**
+   * Creates a table for exponentiations of the generator in batches of OTs, or returns null if
+   * ordinary exponentiation is faster in the group.
+   *
+   * @return a table of powers of the generator or null
+   */
+  FixedBaseTable<T> createGeneratorTable() {
+    return null;
+  }
+
+  /**
+   * Creates the table of powers of the generator on first use. Must be called before
+   * exponentiating the generator concurrently.
+   */
+  private void prepareGeneratorTable() {
+    if (!generatorTableCreated) {
+      generatorTable = createGeneratorTable();
+      generatorTableCreated = true;
+    }
+  }
+
+  private T exponentiateGenerator(BigInteger exponent) {
+    return generatorTable == null
+        ? getGenerator().exponentiation(exponent) : generatorTable.exponentiation(exponent);
+  }
+
 }
@@ -0,0 +1,87 @@
+package dk.alexandra.fresco.tools.ot.base;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.util.Drng;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Helper methods shared by the batched base OTs, for sampling exponents and for packing group
+ * elements and messages of a whole batch into single network messages.
+ */
+final class BaseOtHelper {
+
+  private BaseOtHelper() {
+    // Should not be instantiated
+  }
+
+  /**
+   * Checks that the batch of message pairs is well formed.
+   *
+   * @param messagesZero the zero-choice messages
+   * @param messagesOne the one-choice messages
+   * @return the length of the messages in bytes
+   */
+  static int checkMessages(List<StrictBitVector> messagesZero,
+      List<StrictBitVector> messagesOne) {
+    if (messagesZero.size() != messagesOne.size()) {
+      throw new IllegalArgumentException("The amount of zero and one messages must be equal");
+    }
+    int messageBits = messagesZero.get(0).getSize();
+    for (int i = 0; i < messagesZero.size(); i++) {
+      if (messagesZero.get(i).getSize() != messageBits
+          || messagesOne.get(i).getSize() != messageBits) {
+        throw new IllegalArgumentException("All messages must have the same length");
+      }
+    }
+    return messageBits / Byte.SIZE;
+  }
+
+  /**
+   * Samples exponents sequentially, such that the result only depends on the state of the
+   * generator.
+   */
+  static List<BigInteger> sampleExponents(Drng rand, BigInteger bound, int amount) {
+    List<BigInteger> res = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      res.add(rand.nextBigInteger(bound));
+    }
+    return res;
+  }
+
+  /**
+   * Encodes a list of elements, all of encoded length {@code elementBytes}, into a single array.
+   */
+  static <T extends InterfaceOtElement<T>> byte[] encodeElements(List<T> elements,
+      int elementBytes) {
+    byte[] res = new byte[elements.size() * elementBytes];
+    IntStream.range(0, elements.size()).parallel().forEach(i -> System
+        .arraycopy(elements.get(i).toByteArray(), 0, res, i * elementBytes, elementBytes));
+    return res;
+  }
+
+  /**
+   * Decodes {@code amount} elements of encoded length {@code elementBytes} from the start of an
+   * array.
+   */
+  static <T extends InterfaceOtElement<T>> List<T> decodeElements(byte[] bytes, int amount,
+      int elementBytes, Function<byte[], T> decoder) {
+    if (bytes.length < amount * elementBytes) {
+      throw new MaliciousException("Received an unexpected amount of group elements");
+    }
+    return IntStream.range(0, amount).parallel()
+        .mapToObj(i -> decoder.apply(copy(bytes, i * elementBytes, elementBytes)))
+        .collect(Collectors.toList());
+  }
+
+  static byte[] copy(byte[] bytes, int offset, int length) {
+    byte[] res = new byte[length];
+    System.arraycopy(bytes, offset, res, 0, length);
+    return res;
+  }
+}
@@ -0,0 +1,29 @@
+package dk.alexandra.fresco.tools.ot.base;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.util.List;
+
+/**
+ * An {@link Ot} which can also carry out a batch of 1-out-of-2 OTs at once, using a constant
+ * number of communication rounds for the whole batch rather than a number of rounds per OT.
+ */
+public interface BatchOt extends Ot {
+
+  /**
+   * Send a batch of pairs of messages for the recipient to choose from. All messages must have the
+   * same length.
+   *
+   * @param messagesZero The zero-choice messages
+   * @param messagesOne The one-choice messages
+   */
+  void send(List<StrictBitVector> messagesZero, List<StrictBitVector> messagesOne);
+
+  /**
+   * Receive a batch of one-out-of-two messages.
+   *
+   * @param choiceBits The choice bits, one per OT. False (0) means message zero and true (1)
+   *        message one
+   * @return The messages indicated by the choice bits
+   */
+  List<StrictBitVector> receive(StrictBitVector choiceBits);
+}
@@ -42,4 +42,10 @@ public class ECChouOrlandi extends AbstractChouOrlandiOT<ECElement>{
         return this.curveOrder;
     }
 
+    @Override
+    FixedBaseTable<ECElement> createGeneratorTable() {
+        return new FixedBaseTable<>(getGenerator(), FixedBaseTable.DEFAULT_WINDOW_BITS,
+                getSubgroupOrder().bitLength());
+    }
+
 }
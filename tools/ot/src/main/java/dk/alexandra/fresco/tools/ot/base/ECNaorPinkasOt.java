@@ -114,4 +114,10 @@ public class ECNaorPinkasOt extends AbstractNaorPinkasOT<ECElement> {
     return new ECElement(this.generator);
   }
 
+  @Override
+  FixedBaseTable<ECElement> createGeneratorTable() {
+    return new FixedBaseTable<>(getGenerator(), FixedBaseTable.DEFAULT_WINDOW_BITS,
+        getSubgroupOrder().bitLength());
+  }
+
 }
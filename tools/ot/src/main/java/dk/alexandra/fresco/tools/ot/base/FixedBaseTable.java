@@ -0,0 +1,89 @@
+package dk.alexandra.fresco.tools.ot.base;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-base windowed exponentiation. For a base <i>g</i>, a window size <i>w</i> and a maximal
+ * exponent bit length <i>l</i> the table holds <i>g^(j * 2^(w * i))</i> for all
+ * <i>0 &lt; j &lt; 2^w</i> and <i>0 &le; i &lt; l / w</i>. An exponentiation then takes at most
+ * <i>l / w</i> group operations and no squarings.
+ *
+ * <p>The table is immutable once constructed, so exponentiations can be run concurrently.</p>
+ *
+ * <p>The result is a product of table entries, so it is only in canonical form if the group
+ * operation of the elements returns canonical elements. This holds for {@link ECElement}, but not
+ * for {@link BigIntElement}, whose group operation does not reduce modulo the DH modulus.</p>
+ *
+ * @param <T> the type of group elements
+ */
+class FixedBaseTable<T extends InterfaceOtElement<T>> {
+
+  /**
+   * A window size giving a good trade-off between the time to construct the table and the time
+   * per exponentiation for elliptic curves of about 256 bits.
+   */
+  static final int DEFAULT_WINDOW_BITS = 6;
+
+  private final T base;
+  private final int windowBits;
+  private final int maxBitLength;
+  private final List<List<T>> table;
+
+  /**
+   * Precomputes the table of powers of a base.
+   *
+   * @param base the fixed base
+   * @param windowBits the amount of exponent bits handled by each table lookup
+   * @param maxBitLength the bit length of the largest exponent supported by the table
+   */
+  FixedBaseTable(T base, int windowBits, int maxBitLength) {
+    if (windowBits < 1 || windowBits > 16) {
+      throw new IllegalArgumentException("Window size must be between 1 and 16 bits");
+    }
+    this.base = base;
+    this.windowBits = windowBits;
+    this.maxBitLength = maxBitLength;
+    int windows = (maxBitLength + windowBits - 1) / windowBits;
+    this.table = new ArrayList<>(windows);
+    T windowBase = base;
+    for (int i = 0; i < windows; i++) {
+      List<T> row = new ArrayList<>((1 << windowBits) - 1);
+      row.add(windowBase);
+      for (int j = 2; j < 1 << windowBits; j++) {
+        row.add(row.get(j - 2).groupOp(windowBase));
+      }
+      table.add(row);
+      // g^(2^(w * (i + 1))) = g^((2^w - 1) * 2^(w * i)) * g^(2^(w * i))
+      windowBase = row.get(row.size() - 1).groupOp(windowBase);
+    }
+  }
+
+  /**
+   * Computes the base raised to a non-negative exponent. Exponents longer than supported by the
+   * table fall back to ordinary exponentiation.
+   *
+   * @param exponent the exponent
+   * @return the base raised to the exponent
+   */
+  T exponentiation(BigInteger exponent) {
+    if (exponent.signum() <= 0 || exponent.bitLength() > maxBitLength) {
+      return base.exponentiation(exponent);
+    }
+    T res = null;
+    for (int i = 0; i * windowBits < exponent.bitLength(); i++) {
+      int digit = 0;
+      for (int bit = 0; bit < windowBits; bit++) {
+        if (exponent.testBit(i * windowBits + bit)) {
+          digit |= 1 << bit;
+        }
+      }
+      if (digit != 0) {
+        T power = table.get(i).get(digit - 1);
+        res = res == null ? power : res.groupOp(power);
+      }
+    }
+    return res;
+  }
+}
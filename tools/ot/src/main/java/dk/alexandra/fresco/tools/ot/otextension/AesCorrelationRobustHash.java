@@ -0,0 +1,110 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A correlation robust hash based on AES with a fixed, public key, using the tweakable
+ * Matyas-Meyer-Oseas construction <i>H(x, i) = &pi;(&pi;(x) &oplus; i) &oplus; &pi;(x)</i>, where
+ * <i>&pi;</i> is AES under the fixed key (see Guo et al., "Efficient and Secure Multiparty
+ * Computation from Fixed-Key Block Ciphers", https://eprint.iacr.org/2019/074).
+ *
+ * <p>Elements are split into 128 bit blocks (padding the last block with zeros). Each of the two
+ * 128 bit halves of a hash value is the XOR of <i>H</i> applied to each block, with a tweak
+ * encoding the index of the element, the index of the block and the index of the half. The
+ * security of the hash relies on the 128 bit security of AES, so elements should be of at least
+ * 128 bits.</p>
+ *
+ * <p>All elements are encrypted in batches through a single ECB cipher, which lets the JCE provider
+ * use hardware AES instructions. Instances are not thread-safe.</p>
+ */
+public class AesCorrelationRobustHash implements CorrelationRobustHash {
+
+  private static final int BLOCK_BYTES = 16;
+  private static final int OUTPUT_BLOCKS = OUTPUT_LENGTH / Byte.SIZE / BLOCK_BYTES;
+  private static final int BATCH_SIZE = 1024;
+  // The key is public, any fixed value will do
+  private static final byte[] FIXED_KEY = {
+      (byte) 0x61, (byte) 0x7e, (byte) 0x8d, (byte) 0xa2, (byte) 0xa0, (byte) 0x51, (byte) 0x1e,
+      (byte) 0x96, (byte) 0x5e, (byte) 0x41, (byte) 0xc2, (byte) 0x9b, (byte) 0x15, (byte) 0x3f,
+      (byte) 0xc7, (byte) 0x7a};
+
+  private final Cipher cipher;
+
+  /**
+   * Constructs a new hash.
+   */
+  public AesCorrelationRobustHash() {
+    this.cipher = ExceptionConverter.safe(() -> {
+      Cipher aes = Cipher.getInstance("AES/ECB/NoPadding");
+      aes.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(FIXED_KEY, "AES"));
+      return aes;
+    }, "Configuration error, AES is needed for OT extension");
+  }
+
+  @Override
+  public List<StrictBitVector> hash(List<StrictBitVector> input, int size) {
+    List<StrictBitVector> res = new ArrayList<>(size);
+    int elementBytes = input.get(0).getSize() / Byte.SIZE;
+    int blocks = (elementBytes + BLOCK_BYTES - 1) / BLOCK_BYTES;
+    int batch = Math.min(size, BATCH_SIZE);
+    byte[] plain = new byte[batch * blocks * BLOCK_BYTES];
+    byte[] permuted = new byte[plain.length];
+    byte[] tweaked = new byte[OUTPUT_BLOCKS * plain.length];
+    byte[] encrypted = new byte[tweaked.length];
+    for (int offset = 0; offset < size; offset += batch) {
+      int elements = Math.min(batch, size - offset);
+      int length = elements * blocks * BLOCK_BYTES;
+      for (int i = 0; i < elements; i++) {
+        System.arraycopy(input.get(offset + i).toByteArray(), 0, plain, i * blocks * BLOCK_BYTES,
+            elementBytes);
+      }
+      encrypt(plain, length, permuted);
+      // Compute pi(x) XOR tweak for all halves, elements and blocks
+      ByteBuffer tweaks = ByteBuffer.wrap(tweaked);
+      for (int half = 0; half < OUTPUT_BLOCKS; half++) {
+        for (int i = 0; i < elements; i++) {
+          for (int block = 0; block < blocks; block++) {
+            tweaks.putInt(offset + i).putInt(block).putInt(half).putInt(0);
+          }
+        }
+      }
+      for (int half = 0; half < OUTPUT_BLOCKS; half++) {
+        xor(tweaked, half * length, permuted, 0, length);
+      }
+      encrypt(tweaked, OUTPUT_BLOCKS * length, encrypted);
+      for (int i = 0; i < elements; i++) {
+        StrictBitVector hash = new StrictBitVector(OUTPUT_LENGTH);
+        // Write directly into the vector to avoid copying
+        byte[] hashBytes = hash.toByteArray();
+        for (int half = 0; half < OUTPUT_BLOCKS; half++) {
+          for (int block = 0; block < blocks; block++) {
+            int position = (i * blocks + block) * BLOCK_BYTES;
+            xor(hashBytes, half * BLOCK_BYTES, encrypted, half * length + position, BLOCK_BYTES);
+            xor(hashBytes, half * BLOCK_BYTES, permuted, position, BLOCK_BYTES);
+          }
+        }
+        res.add(hash);
+      }
+    }
+    return res;
+  }
+
+  private void encrypt(byte[] in, int length, byte[] out) {
+    ExceptionConverter.safe(() -> cipher.doFinal(in, 0, length, out, 0),
+        "Failed to compute fixed-key AES");
+  }
+
+  private static void xor(byte[] target, int targetOffset, byte[] source, int sourceOffset,
+      int length) {
+    for (int i = 0; i < length; i++) {
+      target[targetOffset + i] ^= source[sourceOffset + i];
+    }
+  }
+
+}
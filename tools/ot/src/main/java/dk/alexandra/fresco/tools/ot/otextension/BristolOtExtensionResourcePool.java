@@ -14,6 +14,7 @@ public class BristolOtExtensionResourcePool extends ResourcePoolImpl implements
   private final int adjustedLambdaSecurityParam;
   private final int instanceId;
   private final MessageDigest digest;
+  private final CorrelationRobustHash hash;
   private final RotList seedOts;
   private final CoinTossing ct;
   private final Drbg drbg;
@@ -34,6 +35,30 @@ public class BristolOtExtensionResourcePool extends ResourcePoolImpl implements
   public BristolOtExtensionResourcePool(int myId, int otherId,
       int computationalSecurityParam, int lambdaSecurityParam, int instanceId,
       Drbg drbg, CoinTossing ct, RotList seedOts) {
+    this(myId, otherId, computationalSecurityParam, lambdaSecurityParam, instanceId, drbg, ct,
+        seedOts, null);
+  }
+
+  /**
+   * Constructs an OT extension resource pool using a specific correlation robust hash function,
+   * e.g., an {@link AesCorrelationRobustHash} which is considerably faster than the default
+   * {@link Sha256CorrelationRobustHash}. Both parties must use the same hash function.
+   *
+   * @param myId                       The ID of the calling party
+   * @param otherId                    The ID of the other party
+   * @param computationalSecurityParam The computational security parameter
+   * @param lambdaSecurityParam        The statistical security parameter
+   * @param instanceId                 The instance ID of this specific resource pool instance
+   * @param drbg                       The randomness generator to be used by the calling party
+   * @param ct                         An instance of a coin tossing protocol to be used with this
+   *                                   specific resource pool
+   * @param seedOts                    The seed OTs to be used as the base of the extension
+   * @param hash                       The correlation robust hash function to use, or null to
+   *                                   use SHA-256
+   */
+  public BristolOtExtensionResourcePool(int myId, int otherId,
+      int computationalSecurityParam, int lambdaSecurityParam, int instanceId,
+      Drbg drbg, CoinTossing ct, RotList seedOts, CorrelationRobustHash hash) {
     super(myId, 2);
     if (computationalSecurityParam < 1 || lambdaSecurityParam < 1
         || lambdaSecurityParam % 8 != 0 || computationalSecurityParam
@@ -53,6 +78,7 @@ public class BristolOtExtensionResourcePool extends ResourcePoolImpl implements
     this.digest = ExceptionConverter.safe(() -> MessageDigest
             .getInstance("SHA-256"),
         "Configuration error, SHA-256 is needed for OT extension");
+    this.hash = hash == null ? new Sha256CorrelationRobustHash(digest) : hash;
     this.ct = ct;
     this.seedOts = seedOts;
   }
@@ -87,6 +113,11 @@ public class BristolOtExtensionResourcePool extends ResourcePoolImpl implements
     return digest;
   }
 
+  @Override
+  public CorrelationRobustHash getCorrelationRobustHash() {
+    return hash;
+  }
+
   @Override
   public int getInstanceId() {
     return instanceId;
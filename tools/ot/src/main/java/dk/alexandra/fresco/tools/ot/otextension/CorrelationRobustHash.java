@@ -0,0 +1,29 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.util.List;
+
+/**
+ * A correlation robust hash function used to remove the correlation from the messages of the
+ * correlated OT extension when constructing random OTs. Each element is hashed together with its
+ * index in the list, which is what makes it safe to use the same correlation for all OTs.
+ */
+public interface CorrelationRobustHash {
+
+  /**
+   * The number of bits in each hash value.
+   */
+  int OUTPUT_LENGTH = 256;
+
+  /**
+   * Hashes the first {@code size} elements of a list, each concatenated with its index in the
+   * list.
+   *
+   * @param input The list of elements to hash. All elements MUST have same length
+   * @param size The amount of elements of the list to hash. Must be less than or equal to the
+   *        amount of elements in the list.
+   * @return A list containing the {@link #OUTPUT_LENGTH} bit hash values
+   */
+  List<StrictBitVector> hash(List<StrictBitVector> input, int size);
+
+}
@@ -0,0 +1,44 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.network.Network;
+
+/**
+ * Factory for a protocol instance of 1-out-of-N OT extension, see {@link OneOutOfNOtShared}.
+ *
+ * <p>A single 1-out-of-N OT replaces the <i>log N</i> 1-out-of-2 OTs otherwise needed to select
+ * one of N values, e.g., a table entry, at roughly the cost of a single 1-out-of-2 OT for small
+ * N.</p>
+ */
+public class OneOutOfNOtFactory {
+
+  private final OtExtensionResourcePool resources;
+  private final Network network;
+  private final int amountOfMessages;
+
+  /**
+   * Constructs a new 1-out-of-N OT extension protocol.
+   *
+   * @param resources The common resource pool for OT extension. Must hold at least twice the
+   *        computational security parameter seed OTs
+   * @param network The network instance
+   * @param amountOfMessages The amount of messages, N, to choose between in each OT
+   */
+  public OneOutOfNOtFactory(OtExtensionResourcePool resources, Network network,
+      int amountOfMessages) {
+    this.resources = resources;
+    this.network = network;
+    this.amountOfMessages = amountOfMessages;
+  }
+
+  public OtExtensionResourcePool getResources() {
+    return resources;
+  }
+
+  public OneOutOfNOtSender createSender() {
+    return new OneOutOfNOtSender(resources, network, amountOfMessages);
+  }
+
+  public OneOutOfNOtReceiver createReceiver() {
+    return new OneOutOfNOtReceiver(resources, network, amountOfMessages);
+  }
+}
@@ -0,0 +1,103 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Protocol class for the party acting as the receiver in a 1-out-of-N OT extension.
+ */
+public class OneOutOfNOtReceiver extends OneOutOfNOtShared {
+
+  // The pairs of PRGs based on the seeds sent in the seed OTs
+  private final List<Pair<Drbg, Drbg>> prgs;
+  private final List<StrictBitVector> codewords;
+
+  /**
+   * Constructs a receiving party for an instance of the 1-out-of-N OT extension.
+   *
+   * @param resources The common resource pool needed for OT extension
+   * @param network The network to use
+   * @param amountOfMessages The amount of messages, N, to choose between in each OT
+   */
+  public OneOutOfNOtReceiver(OtExtensionResourcePool resources, Network network,
+      int amountOfMessages) {
+    super(resources, network, amountOfMessages);
+    List<Pair<StrictBitVector, StrictBitVector>> seeds =
+        resources.getSeedOts().getSentMessages();
+    checkSeedOts(seeds.size());
+    this.prgs = seeds.stream().limit(getCodeLength())
+        .map(pair -> new Pair<>(initPrg(pair.getFirst()), initPrg(pair.getSecond())))
+        .collect(Collectors.toList());
+    this.codewords = IntStream.range(0, amountOfMessages).mapToObj(this::encode)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Constructs a new batch of random 1-out-of-N OTs.
+   *
+   * @param choices The receiver's choices, each between 0 and N - 1
+   * @return The random message chosen in each OT
+   */
+  public List<StrictBitVector> extend(int[] choices) {
+    if (choices.length < 1) {
+      throw new IllegalArgumentException("The amount of OTs must be a positive integer");
+    }
+    int ell = roundUp(choices.length);
+    // The rows of the code matrix are the codewords of the choices, padded with codewords of 0
+    List<StrictBitVector> codeRows = new ArrayList<>(ell);
+    for (int i = 0; i < ell; i++) {
+      int choice = i < choices.length ? choices[i] : 0;
+      if (choice < 0 || choice >= getAmountOfMessages()) {
+        throw new IllegalArgumentException(
+            "Choices must be between 0 and " + (getAmountOfMessages() - 1));
+      }
+      codeRows.add(new StrictBitVector(codewords.get(choice).toByteArray()));
+    }
+    List<StrictBitVector> codeColumns = Transpose.transpose(codeRows);
+    List<StrictBitVector> tlistZero = expand(
+        prgs.stream().map(Pair::getFirst).collect(Collectors.toList()), ell);
+    List<StrictBitVector> ulist = expand(
+        prgs.stream().map(Pair::getSecond).collect(Collectors.toList()), ell);
+    int columnBytes = ell / Byte.SIZE;
+    byte[] corrections = new byte[getCodeLength() * columnBytes];
+    IntStream.range(0, getCodeLength()).parallel().forEach(j -> {
+      StrictBitVector u = ulist.get(j);
+      u.xor(tlistZero.get(j));
+      u.xor(codeColumns.get(j));
+      System.arraycopy(u.toByteArray(), 0, corrections, j * columnBytes, columnBytes);
+    });
+    getNetwork().send(getResources().getOtherId(), corrections);
+    List<StrictBitVector> rows = Transpose.transpose(tlistZero);
+    return getResources().getCorrelationRobustHash().hash(rows, choices.length);
+  }
+
+  /**
+   * Receives a batch of chosen message 1-out-of-N OTs.
+   *
+   * @param choices The receiver's choices, each between 0 and N - 1
+   * @return The message chosen in each OT
+   */
+  public List<StrictBitVector> receive(int[] choices) {
+    List<StrictBitVector> keys = extend(choices);
+    byte[] cipherTexts = getNetwork().receive(getResources().getOtherId());
+    int otAmount = choices.length * getAmountOfMessages();
+    if (cipherTexts.length % otAmount != 0) {
+      throw new MaliciousException("Received an unexpected amount of encrypted messages");
+    }
+    int messageBytes = cipherTexts.length / otAmount;
+    int otBytes = getAmountOfMessages() * messageBytes;
+    return IntStream.range(0, choices.length).parallel().mapToObj(i -> {
+      byte[] cipherText = new byte[messageBytes];
+      System.arraycopy(cipherTexts, i * otBytes + choices[i] * messageBytes, cipherText, 0,
+          messageBytes);
+      return new StrictBitVector(PseudoOtp.decrypt(cipherText, keys.get(i).toByteArray()));
+    }).collect(Collectors.toList());
+  }
+}
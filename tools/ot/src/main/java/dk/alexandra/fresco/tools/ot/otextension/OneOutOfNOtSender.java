@@ -0,0 +1,137 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Protocol class for the party acting as the sender in a 1-out-of-N OT extension.
+ */
+public class OneOutOfNOtSender extends OneOutOfNOtShared {
+
+  // The PRGs based on the seeds learned from the seed OTs
+  private final List<Drbg> prgs;
+  // The random choices of the seed OTs
+  private final StrictBitVector otChoices;
+  // The codewords of all messages masked by the choices of the seed OTs
+  private final List<StrictBitVector> maskedCodewords;
+
+  /**
+   * Constructs a sending party for an instance of the 1-out-of-N OT extension.
+   *
+   * @param resources The common resource pool needed for OT extension
+   * @param network The network to use
+   * @param amountOfMessages The amount of messages, N, to choose between in each OT
+   */
+  public OneOutOfNOtSender(OtExtensionResourcePool resources, Network network,
+      int amountOfMessages) {
+    super(resources, network, amountOfMessages);
+    List<StrictBitVector> seeds = resources.getSeedOts().getLearnedMessages();
+    checkSeedOts(seeds.size());
+    this.prgs = seeds.stream().limit(getCodeLength()).map(this::initPrg)
+        .collect(Collectors.toList());
+    StrictBitVector choices = resources.getSeedOts().getChoices();
+    this.otChoices = new StrictBitVector(getCodeLength());
+    for (int j = 0; j < getCodeLength(); j++) {
+      otChoices.setBit(j, choices.getBit(j, false), false);
+    }
+    this.maskedCodewords = new ArrayList<>(amountOfMessages);
+    for (int value = 0; value < amountOfMessages; value++) {
+      StrictBitVector codeword = encode(value);
+      StrictBitVector masked = new StrictBitVector(getCodeLength());
+      for (int j = 0; j < getCodeLength(); j++) {
+        masked.setBit(j, codeword.getBit(j, false) && otChoices.getBit(j, false), false);
+      }
+      maskedCodewords.add(masked);
+    }
+  }
+
+  /**
+   * Constructs a new batch of random 1-out-of-N OTs.
+   *
+   * @param size The amount of OTs to construct
+   * @return For each OT the list of the N random messages, indexed by the choice
+   */
+  public List<List<StrictBitVector>> extend(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("The amount of OTs must be a positive integer");
+    }
+    int ell = roundUp(size);
+    List<StrictBitVector> qlist = expand(prgs, ell);
+    byte[] corrections = getNetwork().receive(getResources().getOtherId());
+    int columnBytes = ell / Byte.SIZE;
+    if (corrections.length != getCodeLength() * columnBytes) {
+      throw new MaliciousException("Received an unexpected amount of corrections");
+    }
+    IntStream.range(0, getCodeLength()).parallel()
+        .filter(j -> otChoices.getBit(j, false))
+        .forEach(j -> {
+          byte[] column = new byte[columnBytes];
+          System.arraycopy(corrections, j * columnBytes, column, 0, columnBytes);
+          qlist.get(j).xor(new StrictBitVector(column));
+        });
+    // Row i is now t_i XOR (C(r_i) AND s)
+    List<StrictBitVector> rows = Transpose.transpose(qlist);
+    // Message v of OT i is H(i, t_i XOR (C(r_i) AND s) XOR (C(v) AND s)), which the receiver
+    // knows as H(i, t_i) exactly when v = r_i
+    CorrelationRobustHash hash = getResources().getCorrelationRobustHash();
+    List<List<StrictBitVector>> hashes = new ArrayList<>(getAmountOfMessages());
+    for (int value = 0; value < getAmountOfMessages(); value++) {
+      StrictBitVector mask = maskedCodewords.get(value);
+      List<StrictBitVector> masked = IntStream.range(0, size).parallel().mapToObj(i -> {
+        StrictBitVector row = new StrictBitVector(rows.get(i).toByteArray());
+        row.xor(mask);
+        return row;
+      }).collect(Collectors.toList());
+      hashes.add(hash.hash(masked, size));
+    }
+    List<List<StrictBitVector>> res = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      List<StrictBitVector> messages = new ArrayList<>(getAmountOfMessages());
+      for (int value = 0; value < getAmountOfMessages(); value++) {
+        messages.add(hashes.get(value).get(i));
+      }
+      res.add(messages);
+    }
+    return res;
+  }
+
+  /**
+   * Sends a batch of chosen message 1-out-of-N OTs. The messages are encrypted under the random
+   * messages of the extension and all sent in one message. All messages must have the same
+   * length.
+   *
+   * @param messages For each OT the list of the N messages to choose between
+   */
+  public void send(List<List<StrictBitVector>> messages) {
+    int messageBytes = messages.get(0).get(0).getSize() / Byte.SIZE;
+    for (List<StrictBitVector> list : messages) {
+      if (list.size() != getAmountOfMessages()) {
+        throw new IllegalArgumentException(
+            "Each OT must have " + getAmountOfMessages() + " messages");
+      }
+      for (StrictBitVector message : list) {
+        if (message.getSize() != messageBytes * Byte.SIZE) {
+          throw new IllegalArgumentException("All messages must have the same length");
+        }
+      }
+    }
+    List<List<StrictBitVector>> keys = extend(messages.size());
+    int otBytes = getAmountOfMessages() * messageBytes;
+    byte[] cipherTexts = new byte[messages.size() * otBytes];
+    IntStream.range(0, messages.size()).parallel().forEach(i -> {
+      for (int value = 0; value < getAmountOfMessages(); value++) {
+        byte[] cipherText = PseudoOtp.encrypt(messages.get(i).get(value).toByteArray(),
+            keys.get(i).get(value).toByteArray());
+        System.arraycopy(cipherText, 0, cipherTexts, i * otBytes + value * messageBytes,
+            messageBytes);
+      }
+    });
+    getNetwork().send(getResources().getOtherId(), cipherTexts);
+  }
+}
@@ -0,0 +1,142 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.AesCtrDrbgFactory;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Superclass containing the common methods for the sender and receiver parties of the 1-out-of-N
+ * OT extension of Kolesnikov and Kumaresan, "Improved OT Extension for Transferring Short
+ * Secrets", CRYPTO 2013.
+ *
+ * <p>Where the 1-out-of-2 extension corrects the seed OT columns by the choice bits, this
+ * extension corrects them by the codewords of the choices under a Walsh-Hadamard code. The code
+ * has length <i>2 * kappa</i> and minimum distance <i>kappa</i>, where <i>kappa</i> is the
+ * computational security parameter, so up to <i>2 * kappa</i> messages can be chosen between and
+ * <i>2 * kappa</i> seed OTs are needed. The extension is secure against semi-honest adversaries
+ * only.</p>
+ */
+public abstract class OneOutOfNOtShared {
+
+  // Domain separation from the PRGs of the 1-out-of-2 extension using the same seed OTs
+  private static final int PRG_DOMAIN = 0x4b4b3133;
+  private final OtExtensionResourcePool resources;
+  private final Network network;
+  private final int codeLength;
+  private final int amountOfMessages;
+
+  /**
+   * Constructs a 1-out-of-N OT extension super-class.
+   *
+   * @param resources The common resource pool needed for OT extension. Must hold at least twice
+   *        the computational security parameter seed OTs
+   * @param network The network to use
+   * @param amountOfMessages The amount of messages, N, to choose between in each OT
+   */
+  public OneOutOfNOtShared(OtExtensionResourcePool resources, Network network,
+      int amountOfMessages) {
+    this.codeLength = 2 * resources.getComputationalSecurityParameter();
+    if ((codeLength & (codeLength - 1)) != 0) {
+      throw new IllegalArgumentException(
+          "The computational security parameter must be a power of two");
+    }
+    if (amountOfMessages < 2 || amountOfMessages > codeLength) {
+      throw new IllegalArgumentException(
+          "The amount of messages must be between 2 and " + codeLength);
+    }
+    this.resources = resources;
+    this.network = network;
+    this.amountOfMessages = amountOfMessages;
+  }
+
+  /**
+   * Gets the amount of messages to choose between in each OT.
+   *
+   * @return The amount of messages, N
+   */
+  public int getAmountOfMessages() {
+    return amountOfMessages;
+  }
+
+  OtExtensionResourcePool getResources() {
+    return resources;
+  }
+
+  Network getNetwork() {
+    return network;
+  }
+
+  int getCodeLength() {
+    return codeLength;
+  }
+
+  /**
+   * Checks that there are enough seed OTs for the code length.
+   *
+   * @param amount The amount of seed OTs
+   */
+  void checkSeedOts(int amount) {
+    if (amount < codeLength) {
+      throw new IllegalArgumentException(
+          "At least " + codeLength + " seed OTs are needed for 1-out-of-N OT extension");
+    }
+  }
+
+  /**
+   * Computes the Walsh-Hadamard codeword of a value, where bit <i>j</i> is the parity of the
+   * bitwise AND of the value and <i>j</i>.
+   *
+   * @param value The value to encode
+   * @return The codeword
+   */
+  StrictBitVector encode(int value) {
+    StrictBitVector codeword = new StrictBitVector(codeLength);
+    for (int j = 0; j < codeLength; j++) {
+      if ((Integer.bitCount(value & j) & 1) == 1) {
+        codeword.setBit(j, true, false);
+      }
+    }
+    return codeword;
+  }
+
+  /**
+   * Rounds the amount of OTs up to the nearest two-power of at least 8, as required when
+   * transposing.
+   */
+  static int roundUp(int size) {
+    int res = Byte.SIZE;
+    while (res < size) {
+      res *= 2;
+    }
+    return res;
+  }
+
+  /**
+   * Initializes a PRG based on a seed, the internal instance ID and a domain separator.
+   *
+   * @param originalSeed The seed to initialize the PRG from
+   * @return The initialized PRG
+   */
+  Drbg initPrg(StrictBitVector originalSeed) {
+    byte[] seedBytes = originalSeed.toByteArray();
+    ByteBuffer idBuffer = ByteBuffer.allocate(seedBytes.length + 2 * Integer.BYTES);
+    byte[] newSeed = idBuffer.putInt(PRG_DOMAIN).putInt(resources.getInstanceId())
+        .put(seedBytes).array();
+    return AesCtrDrbgFactory.fromDerivedSeed(newSeed);
+  }
+
+  /**
+   * Expands each of the PRGs into a column of {@code bits} bits.
+   */
+  static List<StrictBitVector> expand(List<Drbg> prgs, int bits) {
+    return prgs.parallelStream().map(drbg -> {
+      byte[] bytes = new byte[bits / Byte.SIZE];
+      drbg.nextBytes(bytes);
+      return new StrictBitVector(bytes);
+    }).collect(Collectors.toList());
+  }
+}
@@ -38,6 +38,13 @@ public interface OtExtensionResourcePool extends ResourcePool {
    */
   MessageDigest getDigest();
 
+  /**
+   * Gets the correlation robust hash function used to construct random OTs from correlated OTs.
+   *
+   * @return The correlation robust hash function
+   */
+  CorrelationRobustHash getCorrelationRobustHash();
+
   /**
    * Gets the instance ID of this resource pool.
    *
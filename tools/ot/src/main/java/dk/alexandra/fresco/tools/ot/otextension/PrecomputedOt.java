@@ -0,0 +1,258 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.MaliciousException;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.ot.base.BatchOt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chosen message 1-out-of-2 OTs served from a pool of precomputed random OTs.
+ *
+ * <p>Random OTs are produced by the random OT extension in large batches, either explicitly
+ * through {@link #precomputeSends(int)} and {@link #precomputeReceives(int)}, e.g., while the
+ * application is otherwise idle, or automatically when the pool runs out. They are stored in flat
+ * byte arrays. A chosen message OT is then derived from a random OT using Beaver's
+ * derandomisation: the receiver sends the XOR of its actual and random choice bit and the sender
+ * answers with both messages masked by the random messages, swapped accordingly. Thus an OT takes
+ * a single round and only XORs, and a batch of OTs can be done in the same single round using
+ * {@link #send(List, List)} and {@link #receive(StrictBitVector)}.</p>
+ *
+ * <p>Messages longer than the computational security parameter are masked with keys stretched
+ * from the random messages, as in {@link PseudoOtp}.</p>
+ *
+ * <p>The two parties must request the same amounts of precomputed OTs in the same order, as each
+ * request runs the random OT extension. The network must not be used by anything else while
+ * precomputing.</p>
+ */
+public class PrecomputedOt implements BatchOt {
+
+  private final RotFactory rot;
+  private final OtExtensionResourcePool resources;
+  private final Network network;
+  private final int batchSize;
+  private final int keyBytes;
+  private RotSender sender;
+  private RotReceiver receiver;
+
+  // The random messages of the sender, stored consecutively
+  private byte[] sendZero = new byte[0];
+  private byte[] sendOne = new byte[0];
+  private int sendOffset;
+  private int sendCount;
+  // The random choices, one per byte, and messages of the receiver
+  private byte[] receiveChoices = new byte[0];
+  private byte[] receiveMessages = new byte[0];
+  private int receiveOffset;
+  private int receiveCount;
+
+  /**
+   * Constructs a new pool of precomputed OTs.
+   *
+   * @param rot The random OT extension to use
+   * @param network The network to use
+   * @param batchSize The amount of random OTs to compute when the pool runs out
+   */
+  public PrecomputedOt(RotFactory rot, Network network, int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.rot = rot;
+    this.resources = rot.getResources();
+    this.network = network;
+    this.batchSize = batchSize;
+    this.keyBytes = resources.getComputationalSecurityParameter() / Byte.SIZE;
+  }
+
+  /**
+   * Precomputes random OTs for this party to use as the sender. Must be matched by a call to
+   * {@link #precomputeReceives(int)} by the other party.
+   *
+   * @param amount The amount of OTs to precompute
+   */
+  public void precomputeSends(int amount) {
+    if (sender == null) {
+      sender = rot.createSender();
+    }
+    int rounded = roundUp(amount);
+    Pair<List<StrictBitVector>, List<StrictBitVector>> messages = sender.extend(rounded);
+    int available = sendCount - sendOffset;
+    byte[] zero = new byte[(available + rounded) * keyBytes];
+    byte[] one = new byte[zero.length];
+    System.arraycopy(sendZero, sendOffset * keyBytes, zero, 0, available * keyBytes);
+    System.arraycopy(sendOne, sendOffset * keyBytes, one, 0, available * keyBytes);
+    for (int i = 0; i < rounded; i++) {
+      int position = (available + i) * keyBytes;
+      System.arraycopy(messages.getFirst().get(i).toByteArray(), 0, zero, position, keyBytes);
+      System.arraycopy(messages.getSecond().get(i).toByteArray(), 0, one, position, keyBytes);
+    }
+    sendZero = zero;
+    sendOne = one;
+    sendOffset = 0;
+    sendCount = available + rounded;
+  }
+
+  /**
+   * Precomputes random OTs for this party to use as the receiver. Must be matched by a call to
+   * {@link #precomputeSends(int)} by the other party.
+   *
+   * @param amount The amount of OTs to precompute
+   */
+  public void precomputeReceives(int amount) {
+    if (receiver == null) {
+      receiver = rot.createReceiver();
+    }
+    int rounded = roundUp(amount);
+    StrictBitVector randomChoices = new StrictBitVector(rounded, resources.getRandomGenerator());
+    List<StrictBitVector> messages = receiver.extend(randomChoices);
+    int available = receiveCount - receiveOffset;
+    byte[] choices = new byte[available + rounded];
+    byte[] received = new byte[choices.length * keyBytes];
+    System.arraycopy(receiveChoices, receiveOffset, choices, 0, available);
+    System.arraycopy(receiveMessages, receiveOffset * keyBytes, received, 0,
+        available * keyBytes);
+    for (int i = 0; i < rounded; i++) {
+      choices[available + i] = (byte) (randomChoices.getBit(i, false) ? 1 : 0);
+      System.arraycopy(messages.get(i).toByteArray(), 0, received, (available + i) * keyBytes,
+          keyBytes);
+    }
+    receiveChoices = choices;
+    receiveMessages = received;
+    receiveOffset = 0;
+    receiveCount = available + rounded;
+  }
+
+  /**
+   * Gets the amount of precomputed OTs left for this party to use as the sender.
+   *
+   * @return The amount of precomputed OTs
+   */
+  public int getAvailableSends() {
+    return sendCount - sendOffset;
+  }
+
+  /**
+   * Gets the amount of precomputed OTs left for this party to use as the receiver.
+   *
+   * @return The amount of precomputed OTs
+   */
+  public int getAvailableReceives() {
+    return receiveCount - receiveOffset;
+  }
+
+  @Override
+  public void send(StrictBitVector messageZero, StrictBitVector messageOne) {
+    send(Arrays.asList(messageZero), Arrays.asList(messageOne));
+  }
+
+  @Override
+  public StrictBitVector receive(boolean choiceBit) {
+    StrictBitVector choice = new StrictBitVector(Byte.SIZE);
+    choice.setBit(0, choiceBit, false);
+    return receiveBits(choice, 1).get(0);
+  }
+
+  /**
+   * Sends a batch of OTs in a single round. All messages must have the same length.
+   *
+   * @param messagesZero The zero-choice messages
+   * @param messagesOne The one-choice messages
+   */
+  @Override
+  public void send(List<StrictBitVector> messagesZero, List<StrictBitVector> messagesOne) {
+    int size = messagesZero.size();
+    if (messagesOne.size() != size) {
+      throw new IllegalArgumentException("The amount of zero and one messages must be equal");
+    }
+    int messageBytes = messagesZero.get(0).getSize() / Byte.SIZE;
+    for (int i = 0; i < size; i++) {
+      if (messagesZero.get(i).getSize() != messageBytes * Byte.SIZE
+          || messagesOne.get(i).getSize() != messageBytes * Byte.SIZE) {
+        throw new IllegalArgumentException("All messages must have the same length");
+      }
+    }
+    if (getAvailableSends() < size) {
+      precomputeSends(Math.max(batchSize, size - getAvailableSends()));
+    }
+    byte[] switchBits = network.receive(resources.getOtherId());
+    if (switchBits.length != (size + Byte.SIZE - 1) / Byte.SIZE) {
+      throw new MaliciousException("Received an unexpected amount of switch bits");
+    }
+    StrictBitVector switches = new StrictBitVector(switchBits);
+    byte[] response = new byte[2 * size * messageBytes];
+    for (int i = 0; i < size; i++) {
+      boolean swap = switches.getBit(i, false);
+      byte[] zero = messagesZero.get(i).toByteArray();
+      byte[] one = messagesOne.get(i).toByteArray();
+      mask(swap ? one : zero, sendZero, sendOffset + i, response, 2 * i * messageBytes);
+      mask(swap ? zero : one, sendOne, sendOffset + i, response, (2 * i + 1) * messageBytes);
+    }
+    sendOffset += size;
+    network.send(resources.getOtherId(), response);
+  }
+
+  /**
+   * Receives a batch of OTs in a single round.
+   *
+   * @param choiceBits The choice bits. False (0) means message zero and true (1) message one
+   * @return The messages chosen
+   */
+  @Override
+  public List<StrictBitVector> receive(StrictBitVector choiceBits) {
+    return receiveBits(choiceBits, choiceBits.getSize());
+  }
+
+  private List<StrictBitVector> receiveBits(StrictBitVector choiceBits, int size) {
+    if (getAvailableReceives() < size) {
+      precomputeReceives(Math.max(batchSize, size - getAvailableReceives()));
+    }
+    StrictBitVector switches = new StrictBitVector(roundUp(size));
+    for (int i = 0; i < size; i++) {
+      boolean randomChoice = receiveChoices[receiveOffset + i] == 1;
+      switches.setBit(i, choiceBits.getBit(i, false) ^ randomChoice, false);
+    }
+    network.send(resources.getOtherId(), switches.toByteArray());
+    byte[] response = network.receive(resources.getOtherId());
+    if (response.length % (2 * size) != 0) {
+      throw new MaliciousException("Received an unexpected amount of masked messages");
+    }
+    int messageBytes = response.length / (2 * size);
+    List<StrictBitVector> res = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int index = receiveOffset + i;
+      int offset = (2 * i + receiveChoices[index]) * messageBytes;
+      byte[] message = new byte[messageBytes];
+      mask(Arrays.copyOfRange(response, offset, offset + messageBytes), receiveMessages, index,
+          message, 0);
+      res.add(new StrictBitVector(message));
+    }
+    receiveOffset += size;
+    return res;
+  }
+
+  /**
+   * Masks a message with a random message from a pool, writing the result to a target array.
+   */
+  private void mask(byte[] message, byte[] pool, int index, byte[] target, int targetOffset) {
+    byte[] key;
+    int keyOffset;
+    if (message.length <= keyBytes) {
+      key = pool;
+      keyOffset = index * keyBytes;
+    } else {
+      key = LengthAdjustment.adjust(
+          Arrays.copyOfRange(pool, index * keyBytes, (index + 1) * keyBytes), message.length);
+      keyOffset = 0;
+    }
+    for (int i = 0; i < message.length; i++) {
+      target[targetOffset + i] = (byte) (message[i] ^ key[keyOffset + i]);
+    }
+  }
+
+  private static int roundUp(int amount) {
+    return (amount + Byte.SIZE - 1) / Byte.SIZE * Byte.SIZE;
+  }
+}
@@ -3,6 +3,7 @@ package dk.alexandra.fresco.tools.ot.otextension;
 import dk.alexandra.fresco.framework.util.Drbg;
 import dk.alexandra.fresco.framework.util.Pair;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.ot.base.BatchOt;
 import dk.alexandra.fresco.tools.ot.base.Ot;
 
 import java.util.ArrayList;
@@ -52,9 +53,35 @@ public class RotList {
     this.choices = choices;
   }
 
+  private RotList(StrictBitVector choices,
+      List<Pair<StrictBitVector, StrictBitVector>> sendMessages,
+      List<StrictBitVector> learnedMessages) {
+    this.amount = choices.getSize();
+    this.sendMessages = sendMessages;
+    this.learnedMessages = learnedMessages;
+    this.choices = choices;
+    this.sent = true;
+    this.received = true;
+  }
+
+  /**
+   * Recreates a list of random OTs which have already been sent and received, e.g., from a {@link
+   * SeedOtCache}.
+   *
+   * @param choices The choices used when receiving
+   * @param sendMessages The messages sent
+   * @param learnedMessages The messages received
+   * @return The list of random OTs
+   */
+  static RotList restore(StrictBitVector choices,
+      List<Pair<StrictBitVector, StrictBitVector>> sendMessages,
+      List<StrictBitVector> learnedMessages) {
+    return new RotList(choices, sendMessages, learnedMessages);
+  }
+
   /**
    * Sends the prepared random OTs using {@code ot} as the underlying OT
-   * functionality.
+   * functionality, one OT at a time.
    * <p>
    * This method should only be called once.
    * </p>
@@ -72,9 +99,35 @@ public class RotList {
     sent = true;
   }
 
+  /**
+   * Sends the prepared random OTs as a single batch using {@code ot} as the
+   * underlying OT functionality. The other party must receive them using
+   * {@link #receiveBatch(BatchOt)}.
+   * <p>
+   * This method should only be called once, and not together with
+   * {@link #send(Ot)}.
+   * </p>
+   *
+   * @param ot
+   *          The batch OT functionality to use for sending the random OTs
+   */
+  public void sendBatch(BatchOt ot) {
+    if (sent == true) {
+      throw new IllegalStateException("Seed OTs have already been sent.");
+    }
+    List<StrictBitVector> messagesZero = new ArrayList<>(amount);
+    List<StrictBitVector> messagesOne = new ArrayList<>(amount);
+    for (Pair<StrictBitVector, StrictBitVector> pair : sendMessages) {
+      messagesZero.add(pair.getFirst());
+      messagesOne.add(pair.getSecond());
+    }
+    ot.send(messagesZero, messagesOne);
+    sent = true;
+  }
+
   /**
    * Executes the receiving parts of the list of OTs using {@code ot} as the
-   * underlying OT protocol.
+   * underlying OT protocol, one OT at a time.
    * <p>
    * This method should only be called once.
    * </p>
@@ -93,6 +146,26 @@ public class RotList {
     received = true;
   }
 
+  /**
+   * Executes the receiving parts of the list of OTs as a single batch using
+   * {@code ot} as the underlying OT protocol. The other party must send them
+   * using {@link #sendBatch(BatchOt)}.
+   * <p>
+   * This method should only be called once, and not together with
+   * {@link #receive(Ot)}.
+   * </p>
+   *
+   * @param ot
+   *          The batch OT functionality to use for receiving the random OTs
+   */
+  public void receiveBatch(BatchOt ot) {
+    if (received == true) {
+      throw new IllegalStateException("Seed OTs have already been received.");
+    }
+    learnedMessages.addAll(ot.receive(choices));
+    received = true;
+  }
+
   /**
    * Retrieves the list of random messages used as the sending part of the OTs.
    * <p>
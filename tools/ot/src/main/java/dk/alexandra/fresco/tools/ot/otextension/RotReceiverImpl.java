@@ -21,7 +21,7 @@ public class RotReceiverImpl extends RotSharedImpl implements RotReceiver {
    */
   public RotReceiverImpl(CoteReceiver rec, OtExtensionResourcePool resources,
       Network network) {
-    super(resources.getCoinTossing(), resources.getDigest(), resources
+    super(resources.getCoinTossing(), resources.getCorrelationRobustHash(), resources
         .getComputationalSecurityParameter());
     this.receiver = rec;
     this.resources = resources;
@@ -1,9 +1,8 @@
 package dk.alexandra.fresco.tools.ot.otextension;
 
+import dk.alexandra.fresco.framework.util.PackedBitVector;
 import dk.alexandra.fresco.framework.util.StrictBitVector;
 import dk.alexandra.fresco.tools.cointossing.CoinTossing;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,19 +15,19 @@ import java.util.stream.IntStream;
 public abstract class RotSharedImpl {
   private final CoinTossing ct;
   private final int comSecParam;
-  private final MessageDigest digest;
+  private final CorrelationRobustHash hash;
 
   /**
    * Constructs a random OT extension super-class using an underlying correlated OT with errors
    * object.
    *
    * @param ct The coin tossing instance to use
-   * @param digest The hash function to use
+   * @param hash The correlation robust hash function to use
    * @param comSecParam The computational security parameter
    */
-  public RotSharedImpl(CoinTossing ct, MessageDigest digest, int comSecParam) {
+  public RotSharedImpl(CoinTossing ct, CorrelationRobustHash hash, int comSecParam) {
     this.ct = ct;
-    this.digest = digest;
+    this.hash = hash;
     this.comSecParam = comSecParam;
   }
 
@@ -48,57 +47,43 @@ public abstract class RotSharedImpl {
   protected static StrictBitVector computeInnerProduct(List<StrictBitVector> alist,
       List<StrictBitVector> blist) {
     // All elements of each list MUST have equal size so we find the size using the first element.
-    StrictBitVector res = new StrictBitVector(alist.get(0).getSize() + blist.get(0).getSize());
-    List<StrictBitVector> products = IntStream.range(0, alist.size()).parallel()
+    PackedBitVector res = new PackedBitVector(alist.get(0).getSize() + blist.get(0).getSize());
+    List<PackedBitVector> products = IntStream.range(0, alist.size()).parallel()
         .mapToObj(i -> multiplyWithoutReduction(alist.get(i), blist.get(i)))
         .collect(Collectors.toList());
     products.stream().reduce(res, (a, b) -> {
       a.xor(b);
       return a;
     });
-    return res;
+    return res.toStrictBitVector();
   }
 
   /**
    * Computes the Galois product of two bit vectors, without reduction modulo a reduction
-   * polynomial.
+   * polynomial. The product is computed on packed words, shifting and XOR'ing the second vector
+   * for each bit set in the first.
    *
    * @param avec The first bit vector
    * @param bvec The second bit vector
-   * @return The product represented as a StrictBitVector
+   * @return The product, of size equal to the sum of the sizes of the inputs
    */
-  private static StrictBitVector multiplyWithoutReduction(StrictBitVector avec,
-      StrictBitVector bvec) {
-    byte[] res = new byte[(avec.getSize() + bvec.getSize()) / Byte.SIZE];
-    byte[] avecBytes = avec.toByteArray();
-    byte[] bvecBytes = bvec.toByteArray();
-    byte[][] rotations = new byte[Byte.SIZE][bvecBytes.length + 1];
-    System.arraycopy(bvecBytes, 0, rotations[0], 0, bvecBytes.length);
-    for (int i = 1; i < Byte.SIZE; i++) {
-      for (int j = 0; j < rotations[i].length - 1; j++) {
-        int b = Byte.toUnsignedInt(bvecBytes[j]);
-        rotations[i][j] ^= (byte) (b >> i);
-        rotations[i][j + 1] = (byte) (b << Byte.SIZE - i);
-      }
-    }
+  static PackedBitVector multiplyWithoutReduction(StrictBitVector avec, StrictBitVector bvec) {
+    PackedBitVector res = new PackedBitVector(avec.getSize() + bvec.getSize());
+    PackedBitVector apacked = new PackedBitVector(avec);
+    PackedBitVector bpacked = new PackedBitVector(bvec);
     // multiply using the school book method (where addition is XOR)
-    for (int i = 0; i < avec.getSize(); i++) {
-      int bitIndex = i % Byte.SIZE;
-      int byteIndex = i / Byte.SIZE;
-      byte currentByte = (byte) (avecBytes[byteIndex] >> ((Byte.SIZE - 1) - (bitIndex)));
-      if ((currentByte & 1) == 1) {
-        byte[] currentRotation = rotations[bitIndex];
-        for (int j = 0; j < currentRotation.length; j++) {
-          res[byteIndex + j] ^= currentRotation[j];
-        }
+    for (int i = 0; i < apacked.getSize(); i++) {
+      if (apacked.getBit(i)) {
+        res.xorShifted(bpacked, i);
       }
     }
-    return new StrictBitVector(res);
+    return res;
   }
 
   /**
-   * Compute a SHA-256 digest of elements in a list, concatenated with their index in the list. Only
-   * the first {@code size} elements of the list will be hashed.
+   * Hashes the elements in a list, concatenated with their index in the list, using the
+   * correlation robust hash of this instance. Only the first {@code size} elements of the list
+   * will be hashed.
    *
    * @param input The list of StrictBitVector elements to hash. All elements MUST have same length
    * @param size The amount of elements of the list, to hash. Must be less than or equal to the
@@ -106,23 +91,7 @@ public abstract class RotSharedImpl {
    * @return A list containing the hashed StrictBitVector as StrictBitVector objects
    */
   protected List<StrictBitVector> hashBitVector(List<StrictBitVector> input, int size) {
-    List<StrictBitVector> res = new ArrayList<>(size);
-    // Allocate a buffer to contain the index of the value to hash along with
-    // the value itself.
-    ByteBuffer indexBuffer = ByteBuffer.allocate((Integer.SIZE + input.get(0).getSize()) / 8);
-    byte[] hash;
-    for (int i = 0; i < size; i++) {
-      indexBuffer.clear();
-      // Move the index into the buffer
-      indexBuffer.putInt(i);
-      // Move the value to hash into the buffer
-      indexBuffer.put(input.get(i).toByteArray());
-      hash = digest.digest(indexBuffer.array());
-      // Allocate the new bitvector, which contains 256 bits since SHA-256 is
-      // used
-      res.add(new StrictBitVector(hash));
-    }
-    return res;
+    return hash.hash(input, size);
   }
 
   /**
@@ -0,0 +1,391 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.ot.base.Ot;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * An opt-in, encrypted on-disk cache of seed OTs, allowing a party to skip the base OTs when a
+ * process is restarted.
+ *
+ * <p>The seed OTs for each peer are stored in a separate file in a given directory, encrypted and
+ * authenticated with AES-GCM under a key derived from a session key. Files are named after the
+ * parties and a fingerprint of the session key, so different session keys use separate
+ * entries.</p>
+ *
+ * <p>Before using a cached entry the two parties exchange its identifier and use count, and the
+ * entry is only used if both parties hold the same entry and neither consider it stale. Otherwise
+ * both parties run fresh base OTs. An entry is stale when it is older than the maximum age or has
+ * been used the maximum number of times. Since the OT extension derives its PRGs from the seed OTs
+ * and an instance ID which is typically reused between processes, the seed OTs handed out are
+ * never the cached messages themselves, but are rekeyed by hashing each message with the entry
+ * identifier and use count. The use count is persisted before the seed OTs are handed out.</p>
+ *
+ * <p>The choice bits of the seed OTs, and hence the correlation of the OT extension, is the same
+ * for all uses of an entry. A malicious party can learn a bit of the correlation per session by
+ * deviating in the OT extension and observing whether the consistency check fails. An entry is
+ * therefore marked as in use when its seed OTs are handed out, and only becomes usable again once
+ * {@link #release(int, int)} is called after a session that ended without errors. An entry that
+ * was never released, e.g., because the session aborted or a party was caught cheating, is
+ * dropped. The maximum age and number of uses should still be kept moderate.</p>
+ */
+public class SeedOtCache {
+
+  private static final String CIPHER = "AES/GCM/NoPadding";
+  private static final int IV_BYTES = 12;
+  private static final int TAG_BITS = 128;
+  private static final int ID_BYTES = 16;
+  private static final byte[] NO_ENTRY = new byte[] { 0 };
+
+  private final int myId;
+  private final File directory;
+  private final SecretKeySpec key;
+  private final String fingerprint;
+  private final long maxAgeMillis;
+  private final int maxUses;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param myId The ID of the calling party
+   * @param directory The directory to store the seed OTs in, created if it does not exist
+   * @param sessionKey A secret key used to encrypt the seed OTs. Only known by the calling party
+   * @param maxAgeMillis The maximum age of cached seed OTs, in milliseconds
+   * @param maxUses The maximum number of times seed OTs are used, including the run computing them
+   */
+  public SeedOtCache(int myId, File directory, byte[] sessionKey, long maxAgeMillis,
+      int maxUses) {
+    if (maxAgeMillis < 0 || maxUses < 0) {
+      throw new IllegalArgumentException("Maximum age and uses must be non-negative");
+    }
+    directory.mkdirs();
+    if (!directory.isDirectory()) {
+      throw new IllegalArgumentException("Could not create seed OT cache directory " + directory);
+    }
+    this.myId = myId;
+    this.directory = directory;
+    this.key = new SecretKeySpec(digest("key", sessionKey), "AES");
+    byte[] print = digest("fingerprint", sessionKey);
+    StringBuilder hex = new StringBuilder();
+    for (int i = 0; i < 8; i++) {
+      hex.append(String.format("%02x", print[i]));
+    }
+    this.fingerprint = hex.toString();
+    this.maxAgeMillis = maxAgeMillis;
+    this.maxUses = maxUses;
+  }
+
+  /**
+   * Gets seed OTs for all other parties, see {@link #getSeedOts(int, int, Drbg, Network,
+   * IntFunction)}.
+   *
+   * @param noOfParties The number of parties
+   * @param amount The amount of seed OTs, i.e., the computational security parameter
+   * @param drbg The randomness generator to use for fresh seed OTs
+   * @param network The network to use
+   * @param baseOt Creates the base OT functionality to use with a given party
+   * @return The seed OTs for each of the other parties
+   */
+  public Map<Integer, RotList> getAllSeedOts(int noOfParties, int amount, Drbg drbg,
+      Network network, IntFunction<Ot> baseOt) {
+    Map<Integer, RotList> seedOts = new HashMap<>();
+    for (int otherId = 1; otherId <= noOfParties; otherId++) {
+      if (otherId != myId) {
+        seedOts.put(otherId, getSeedOts(otherId, amount, drbg, network, baseOt));
+      }
+    }
+    return seedOts;
+  }
+
+  /**
+   * Releases the seed OTs for all other parties, see {@link #release(int, int)}.
+   *
+   * @param noOfParties The number of parties
+   * @param amount The amount of seed OTs
+   */
+  public void releaseAll(int noOfParties, int amount) {
+    for (int otherId = 1; otherId <= noOfParties; otherId++) {
+      if (otherId != myId) {
+        release(otherId, amount);
+      }
+    }
+  }
+
+  /**
+   * Marks the seed OTs handed out for another party as no longer in use, allowing them to be
+   * used again. Must only be called once the session using them has ended without errors.
+   *
+   * @param otherId The ID of the other party
+   * @param amount The amount of seed OTs
+   */
+  public void release(int otherId, int amount) {
+    File file = getFile(otherId, amount);
+    Entry entry = load(file, otherId, amount);
+    if (entry != null && entry.inUse) {
+      entry.inUse = false;
+      store(file, otherId, entry);
+    }
+  }
+
+  /**
+   * Gets seed OTs for another party. If both parties hold the same fresh cached entry, rekeyed seed
+   * OTs are derived from it without running any base OTs. Otherwise fresh seed OTs are computed
+   * using the base OT and stored in the cache. In both cases a single round of communication with
+   * the other party is needed to agree on what to do. The entry is marked as in use until {@link
+   * #release(int, int)} is called.
+   *
+   * @param otherId The ID of the other party
+   * @param amount The amount of seed OTs, i.e., the computational security parameter
+   * @param drbg The randomness generator to use for fresh seed OTs
+   * @param network The network to use
+   * @param baseOt Creates the base OT functionality to use with a given party, only called if
+   *        fresh seed OTs are needed
+   * @return The seed OTs
+   */
+  public RotList getSeedOts(int otherId, int amount, Drbg drbg, Network network,
+      IntFunction<Ot> baseOt) {
+    File file = getFile(otherId, amount);
+    Entry entry = load(file, otherId, amount);
+    if (entry != null && isStale(entry)) {
+      entry = null;
+    }
+    byte[] token = entry == null ? NO_ENTRY : entry.getToken();
+    network.send(otherId, token);
+    byte[] otherToken = network.receive(otherId);
+    if (entry == null || !Arrays.equals(token, otherToken)) {
+      entry = createEntry(otherId, amount, drbg, network, baseOt.apply(otherId));
+    }
+    entry.useCount++;
+    entry.inUse = true;
+    store(file, otherId, entry);
+    return entry.rekey();
+  }
+
+  /**
+   * Gets the file holding the cached seed OTs for a given party.
+   *
+   * @param otherId The ID of the other party
+   * @param amount The amount of seed OTs
+   * @return The file
+   */
+  File getFile(int otherId, int amount) {
+    return new File(directory,
+        "seed-ots-" + myId + "-" + otherId + "-" + amount + "-" + fingerprint + ".bin");
+  }
+
+  private boolean isStale(Entry entry) {
+    if (entry.inUse) {
+      // The last session using the entry did not end cleanly, so the correlation may have been
+      // probed
+      return true;
+    }
+    long age = System.currentTimeMillis() - entry.created;
+    return age < 0 || age >= maxAgeMillis || entry.useCount >= maxUses;
+  }
+
+  private Entry createEntry(int otherId, int amount, Drbg drbg, Network network, Ot ot) {
+    RotList seedOts = new RotList(drbg, amount);
+    byte[] id;
+    if (myId < otherId) {
+      seedOts.send(ot);
+      seedOts.receive(ot);
+      id = new byte[ID_BYTES];
+      new SecureRandom().nextBytes(id);
+      network.send(otherId, id);
+    } else {
+      seedOts.receive(ot);
+      seedOts.send(ot);
+      id = network.receive(otherId);
+      if (id.length != ID_BYTES) {
+        throw new IllegalStateException("Received an invalid seed OT cache entry identifier");
+      }
+    }
+    return new Entry(id, System.currentTimeMillis(), 0, false, seedOts.getChoices(),
+        seedOts.getSentMessages(), seedOts.getLearnedMessages());
+  }
+
+  private Entry load(File file, int otherId, int amount) {
+    if (!file.exists()) {
+      return null;
+    }
+    try {
+      byte[] content = Files.readAllBytes(file.toPath());
+      if (content.length < IV_BYTES) {
+        return null;
+      }
+      Cipher cipher = Cipher.getInstance(CIPHER);
+      cipher.init(Cipher.DECRYPT_MODE, key,
+          new GCMParameterSpec(TAG_BITS, content, 0, IV_BYTES));
+      cipher.updateAAD(associatedData(otherId));
+      byte[] plain = cipher.doFinal(content, IV_BYTES, content.length - IV_BYTES);
+      Entry entry = Entry.read(new DataInputStream(new ByteArrayInputStream(plain)));
+      return entry.choices.getSize() == amount ? entry : null;
+    } catch (IOException | GeneralSecurityException e) {
+      // Corrupted, tampered with or written under another key, treat it as a cache miss
+      return null;
+    }
+  }
+
+  private void store(File file, int otherId, Entry entry) {
+    ExceptionConverter.safe(() -> {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      entry.write(new DataOutputStream(bytes));
+      byte[] iv = new byte[IV_BYTES];
+      new SecureRandom().nextBytes(iv);
+      Cipher cipher = Cipher.getInstance(CIPHER);
+      cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+      cipher.updateAAD(associatedData(otherId));
+      byte[] encrypted = cipher.doFinal(bytes.toByteArray());
+      File temp = File.createTempFile("seed-ots", ".tmp", directory);
+      try {
+        Files.write(temp.toPath(), ByteBuffer.allocate(iv.length + encrypted.length).put(iv)
+            .put(encrypted).array());
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temp.toPath());
+      }
+      return null;
+    }, "Could not store seed OTs in cache");
+  }
+
+  private byte[] associatedData(int otherId) {
+    return ByteBuffer.allocate(2 * Integer.BYTES).putInt(myId).putInt(otherId).array();
+  }
+
+  private static byte[] digest(String purpose, byte[] sessionKey) {
+    MessageDigest digest = ExceptionConverter.safe(() -> MessageDigest.getInstance("SHA-256"),
+        "Configuration error, SHA-256 is needed for the seed OT cache");
+    digest.update(("fresco-seed-ot-cache-" + purpose).getBytes(StandardCharsets.UTF_8));
+    return digest.digest(sessionKey);
+  }
+
+  /**
+   * A cached set of seed OTs along with its identifier, creation time, use count and whether it is
+   * in use.
+   */
+  private static class Entry {
+
+    private final byte[] id;
+    private final long created;
+    private int useCount;
+    private boolean inUse;
+    private final StrictBitVector choices;
+    private final List<Pair<StrictBitVector, StrictBitVector>> sent;
+    private final List<StrictBitVector> learned;
+
+    private Entry(byte[] id, long created, int useCount, boolean inUse, StrictBitVector choices,
+        List<Pair<StrictBitVector, StrictBitVector>> sent, List<StrictBitVector> learned) {
+      this.id = id;
+      this.created = created;
+      this.useCount = useCount;
+      this.inUse = inUse;
+      this.choices = choices;
+      this.sent = sent;
+      this.learned = learned;
+    }
+
+    /**
+     * The token exchanged to check that both parties hold the same entry.
+     */
+    private byte[] getToken() {
+      return ByteBuffer.allocate(1 + ID_BYTES + Integer.BYTES).put((byte) 1).put(id)
+          .putInt(useCount).array();
+    }
+
+    /**
+     * Derives seed OTs specific to the current use of this entry.
+     */
+    private RotList rekey() {
+      MessageDigest digest = ExceptionConverter.safe(() -> MessageDigest.getInstance("SHA-256"),
+          "Configuration error, SHA-256 is needed for the seed OT cache");
+      int amount = choices.getSize();
+      List<Pair<StrictBitVector, StrictBitVector>> rekeyedSent = new ArrayList<>(amount);
+      List<StrictBitVector> rekeyedLearned = new ArrayList<>(amount);
+      for (int i = 0; i < amount; i++) {
+        rekeyedSent.add(new Pair<>(rekey(digest, i, sent.get(i).getFirst()),
+            rekey(digest, i, sent.get(i).getSecond())));
+        rekeyedLearned.add(rekey(digest, i, learned.get(i)));
+      }
+      return RotList.restore(choices, rekeyedSent, rekeyedLearned);
+    }
+
+    private StrictBitVector rekey(MessageDigest digest, int index, StrictBitVector message) {
+      digest.update(id);
+      digest.update(ByteBuffer.allocate(2 * Integer.BYTES).putInt(useCount).putInt(index)
+          .array());
+      byte[] hash = digest.digest(message.toByteArray());
+      return new StrictBitVector(LengthAdjustment.adjust(hash, message.getSize() / Byte.SIZE));
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+      out.write(id);
+      out.writeLong(created);
+      out.writeInt(useCount);
+      out.writeBoolean(inUse);
+      out.writeInt(choices.getSize());
+      out.write(choices.toByteArray());
+      for (Pair<StrictBitVector, StrictBitVector> pair : sent) {
+        out.write(pair.getFirst().toByteArray());
+        out.write(pair.getSecond().toByteArray());
+      }
+      for (StrictBitVector message : learned) {
+        out.write(message.toByteArray());
+      }
+      out.flush();
+    }
+
+    private static Entry read(DataInputStream in) throws IOException {
+      byte[] id = new byte[ID_BYTES];
+      in.readFully(id);
+      long created = in.readLong();
+      int useCount = in.readInt();
+      boolean inUse = in.readBoolean();
+      int amount = in.readInt();
+      if (amount <= 0 || amount % Byte.SIZE != 0) {
+        throw new IOException("Invalid amount of seed OTs: " + amount);
+      }
+      StrictBitVector choices = readVector(in, amount);
+      List<Pair<StrictBitVector, StrictBitVector>> sent = new ArrayList<>(amount);
+      for (int i = 0; i < amount; i++) {
+        sent.add(new Pair<>(readVector(in, amount), readVector(in, amount)));
+      }
+      List<StrictBitVector> learned = new ArrayList<>(amount);
+      for (int i = 0; i < amount; i++) {
+        learned.add(readVector(in, amount));
+      }
+      return new Entry(id, created, useCount, inUse, choices, sent, learned);
+    }
+
+    private static StrictBitVector readVector(DataInputStream in, int bits) throws IOException {
+      byte[] bytes = new byte[bits / Byte.SIZE];
+      in.readFully(bytes);
+      return new StrictBitVector(bytes);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import dk.alexandra.fresco.framework.util.ExceptionConverter;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A correlation robust hash computing a SHA-256 digest of each element concatenated with its
+ * index.
+ */
+public class Sha256CorrelationRobustHash implements CorrelationRobustHash {
+
+  private final MessageDigest digest;
+
+  /**
+   * Constructs a new hash using a given SHA-256 digest.
+   *
+   * @param digest The SHA-256 digest to use
+   */
+  public Sha256CorrelationRobustHash(MessageDigest digest) {
+    this.digest = digest;
+  }
+
+  /**
+   * Constructs a new hash using the default SHA-256 implementation.
+   */
+  public Sha256CorrelationRobustHash() {
+    this(ExceptionConverter.safe(() -> MessageDigest.getInstance("SHA-256"),
+        "Configuration error, SHA-256 is needed for OT extension"));
+  }
+
+  @Override
+  public List<StrictBitVector> hash(List<StrictBitVector> input, int size) {
+    List<StrictBitVector> res = new ArrayList<>(size);
+    // Allocate a buffer to contain the index of the value to hash along with
+    // the value itself.
+    ByteBuffer indexBuffer = ByteBuffer.allocate((Integer.SIZE + input.get(0).getSize()) / 8);
+    byte[] hash;
+    for (int i = 0; i < size; i++) {
+      indexBuffer.clear();
+      // Move the index into the buffer
+      indexBuffer.putInt(i);
+      // Move the value to hash into the buffer
+      indexBuffer.put(input.get(i).toByteArray());
+      hash = digest.digest(indexBuffer.array());
+      // Allocate the new bitvector, which contains 256 bits since SHA-256 is
+      // used
+      res.add(new StrictBitVector(hash));
+    }
+    return res;
+  }
+
+}
@@ -1,6 +1,7 @@
 package dk.alexandra.fresco.tools.ot.otextension;
 
 import dk.alexandra.fresco.framework.util.StrictBitVector;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,9 +10,15 @@ import java.util.stream.IntStream;
 /**
  * Class used to do bit transposition using Eklundhs method. Transposition is carried out in on a
  * row-major matrix represented as a list (rows) of bit vectors.
+ *
+ * <p>Matrices where both dimensions are multiples of 64 are transposed in blocks of 64 x 64 bits
+ * held in longs, see {@link #transpose(long[], int, int, long[])}. Smaller matrices are transposed
+ * on bytes.</p>
  */
 public class Transpose {
 
+  private static final int BLOCK_SIZE = Long.SIZE;
+
   private Transpose() {
     // This class is meant to only contain static helper methods.
   }
@@ -24,6 +31,20 @@ public class Transpose {
   public static List<StrictBitVector> transpose(List<StrictBitVector> input) {
     // Ensure the is correctly formed
     doSanityCheck(input);
+    if (input.size() % BLOCK_SIZE == 0 && input.get(0).getSize() % BLOCK_SIZE == 0) {
+      return transposeLongBlocks(input);
+    }
+    return transposeByteBlocks(input);
+  }
+
+  /**
+   * Transposes a matrix by first transposing all 8 x 8 bit blocks and then completing Eklundhs
+   * method on bytes. Works for any matrix passing the sanity check.
+   *
+   * @param input The matrix to transpose
+   * @return the transposed matrix
+   */
+  static List<StrictBitVector> transposeByteBlocks(List<StrictBitVector> input) {
     int minDim = Math.min(input.get(0).getSize(), input.size());
     int maxDim = Math.max(input.get(0).getSize(), input.size());
     // Check if the matrix is tall
@@ -46,6 +67,84 @@ public class Transpose {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Transposes a bit matrix stored in row-major order in an array of longs. Each row is stored in
+   * <i>columns / 64</i> consecutive longs, with the first bit of the row being the most
+   * significant bit of the first long.
+   *
+   * <p>The matrix is split into blocks of 64 x 64 bits, which are transposed in parallel directly in
+   * the output array. No memory is allocated.</p>
+   *
+   * @param input the matrix to transpose, it is not modified
+   * @param rows the number of rows of the matrix, must be a multiple of 64
+   * @param columns the number of columns of the matrix, must be a multiple of 64
+   * @param output the array to write the transposed matrix (with <i>columns</i> rows) to
+   */
+  public static void transpose(long[] input, int rows, int columns, long[] output) {
+    if (rows % BLOCK_SIZE != 0 || columns % BLOCK_SIZE != 0) {
+      throw new IllegalArgumentException("The dimensions of the matrix must be multiples of 64");
+    }
+    int rowBlocks = rows / BLOCK_SIZE;
+    int columnBlocks = columns / BLOCK_SIZE;
+    if (input.length != rowBlocks * columns || output.length != input.length) {
+      throw new IllegalArgumentException("The arrays do not match the dimensions of the matrix");
+    }
+    // Every task writes a separate band of 64 output rows
+    IntStream.range(0, columnBlocks).parallel().forEach(j -> {
+      for (int i = 0; i < rowBlocks; i++) {
+        int outputOffset = j * BLOCK_SIZE * rowBlocks + i;
+        for (int k = 0; k < BLOCK_SIZE; k++) {
+          output[outputOffset + k * rowBlocks] = input[(i * BLOCK_SIZE + k) * columnBlocks + j];
+        }
+        transposeBlock(output, outputOffset, rowBlocks);
+      }
+    });
+  }
+
+  /**
+   * Transposes, in-place, a block of 64 x 64 bits using the recursive butterfly of swapping the
+   * off-diagonal sub blocks of size 32, 16, ..., 1.
+   *
+   * @param matrix the array holding the block
+   * @param offset the index of the first row of the block
+   * @param stride the distance between two rows of the block
+   */
+  static void transposeBlock(long[] matrix, int offset, int stride) {
+    long mask = 0x00000000FFFFFFFFL;
+    for (int width = BLOCK_SIZE / 2; width > 0; width >>>= 1, mask ^= mask << width) {
+      for (int k = 0; k < BLOCK_SIZE; k = (k + width + 1) & ~width) {
+        int upper = offset + k * stride;
+        int lower = upper + width * stride;
+        long t = (matrix[upper] ^ (matrix[lower] >>> width)) & mask;
+        matrix[upper] ^= t;
+        matrix[lower] ^= t << width;
+      }
+    }
+  }
+
+  /**
+   * Transposes a matrix with dimensions that are multiples of 64 by packing it into longs.
+   *
+   * @param input the matrix to transpose
+   * @return the transposed matrix
+   */
+  private static List<StrictBitVector> transposeLongBlocks(List<StrictBitVector> input) {
+    int rows = input.size();
+    int columns = input.get(0).getSize();
+    int inputRowLength = columns / BLOCK_SIZE;
+    long[] packed = new long[rows * inputRowLength];
+    IntStream.range(0, rows).parallel().forEach(i -> ByteBuffer.wrap(input.get(i).toByteArray())
+        .asLongBuffer().get(packed, i * inputRowLength, inputRowLength));
+    long[] transposed = new long[packed.length];
+    transpose(packed, rows, columns, transposed);
+    int outputRowLength = rows / BLOCK_SIZE;
+    return IntStream.range(0, columns).parallel().mapToObj(i -> {
+      ByteBuffer row = ByteBuffer.allocate(rows / Byte.SIZE);
+      row.asLongBuffer().put(transposed, i * outputRowLength, outputRowLength);
+      return new StrictBitVector(row.array());
+    }).collect(Collectors.toList());
+  }
+
   /**
    * Given a matrix <i>M</i> where the smallest dimension, <i>m</i>, divides the largest,<i>n</i>,
    * we can see <i>M</i> as a matrix consisting of a sequence of <i>n/m</i> square sub matrices of
@@ -0,0 +1,47 @@
+package dk.alexandra.fresco.tools.ot.base;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.Drng;
+import dk.alexandra.fresco.framework.util.DrngImpl;
+import dk.alexandra.fresco.tools.helper.HelperForTests;
+import java.math.BigInteger;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.junit.Test;
+
+public class TestFixedBaseTable {
+
+  private final Drng rand = new DrngImpl(new AesCtrDrbg(HelperForTests.seedOne));
+
+  private <T extends InterfaceOtElement<T>> void checkExponentiations(T base, BigInteger order,
+      int windowBits) {
+    FixedBaseTable<T> table = new FixedBaseTable<>(base, windowBits, order.bitLength());
+    for (int i = 0; i < 20; i++) {
+      BigInteger exponent = rand.nextBigInteger(order);
+      assertArrayEquals(base.exponentiation(exponent).toByteArray(),
+          table.exponentiation(exponent).toByteArray());
+    }
+    // Edge cases and exponents too long for the table
+    BigInteger[] exponents = {BigInteger.ONE, BigInteger.valueOf(16), order.subtract(BigInteger.ONE),
+        order.shiftLeft(3).add(BigInteger.ONE)};
+    for (BigInteger exponent : exponents) {
+      assertArrayEquals(base.exponentiation(exponent).toByteArray(),
+          table.exponentiation(exponent).toByteArray());
+    }
+  }
+
+  @Test
+  public void testEcElement() {
+    X9ECParameters params = CustomNamedCurves.getByName("curve25519");
+    ECElement generator = new ECElement(params.getG());
+    checkExponentiations(generator, params.getCurve().getOrder(), 4);
+    checkExponentiations(generator, params.getCurve().getOrder(), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalWindow() {
+    new FixedBaseTable<>(new BigIntElement(BigInteger.valueOf(2), BigInteger.valueOf(11)), 0, 4);
+  }
+}
@@ -174,6 +174,58 @@ public class TestFunctionalOT {
     assertEquals(iterations, extendResults.get(1).size());
   }
 
+  private List<Pair<StrictBitVector, StrictBitVector>> otSendBatch(int iterations)
+      throws Exception {
+    Network network =
+        new SocketNetwork(RuntimeForTests.defaultNetworkConfiguration(1, Arrays.asList(1, 2)));
+    try {
+      Drbg rand = new AesCtrDrbg(HelperForTests.seedOne);
+      BatchOt otSender = (BatchOt) this.testClass.getConstructors()[0]
+          .newInstance(2, rand, network);
+      List<StrictBitVector> messagesZero = new ArrayList<>(iterations);
+      List<StrictBitVector> messagesOne = new ArrayList<>(iterations);
+      List<Pair<StrictBitVector, StrictBitVector>> messages = new ArrayList<>(iterations);
+      for (int i = 0; i < iterations; i++) {
+        messagesZero.add(new StrictBitVector(messageLength, rand));
+        messagesOne.add(new StrictBitVector(messageLength, rand));
+        messages.add(new Pair<>(messagesZero.get(i), messagesOne.get(i)));
+      }
+      otSender.send(messagesZero, messagesOne);
+      return messages;
+    } finally {
+      ((Closeable) network).close();
+    }
+  }
+
+  private List<StrictBitVector> otReceiveBatch(StrictBitVector choices) throws Exception {
+    Network network =
+        new SocketNetwork(RuntimeForTests.defaultNetworkConfiguration(2, Arrays.asList(1, 2)));
+    try {
+      Drbg rand = new AesCtrDrbg(HelperForTests.seedTwo);
+      BatchOt otReceiver = (BatchOt) this.testClass.getConstructors()[0]
+          .newInstance(1, rand, network);
+      return otReceiver.receive(choices);
+    } finally {
+      ((Closeable) network).close();
+    }
+  }
+
+  /**
+   * Verify that a batch of OTs gives the same result as individual OTs.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testBatchOt() {
+    int iterations = 24;
+    Drbg rand = new AesCtrDrbg(HelperForTests.seedThree);
+    StrictBitVector choices = new StrictBitVector(iterations, rand);
+    Callable<List<?>> partyOneOt = () -> otSendBatch(iterations);
+    Callable<List<?>> partyTwoOt = () -> otReceiveBatch(choices);
+    List<List<?>> results = testRuntime.runPerPartyTasks(Arrays.asList(partyOneOt, partyTwoOt));
+    HelperForTests.verifyOts((List<Pair<StrictBitVector, StrictBitVector>>) results.get(0),
+        (List<StrictBitVector>) results.get(1), choices);
+  }
+
   /***** NEGATIVE TESTS. *****/
   private List<StrictBitVector> otSendCheat() throws IOException {
     Network network =
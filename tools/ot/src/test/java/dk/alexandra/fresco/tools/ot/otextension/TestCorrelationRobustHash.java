@@ -0,0 +1,85 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.helper.HelperForTests;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class TestCorrelationRobustHash {
+
+  private static List<StrictBitVector> randomList(int size, int bits) {
+    Drbg rand = new AesCtrDrbg(HelperForTests.seedOne);
+    List<StrictBitVector> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(new StrictBitVector(bits, rand));
+    }
+    return list;
+  }
+
+  /**** POSITIVE TESTS. ****/
+  @Test
+  public void testSha256MatchesDigestOfIndexAndValue() throws NoSuchAlgorithmException {
+    List<StrictBitVector> input = randomList(10, 128);
+    List<StrictBitVector> res = new Sha256CorrelationRobustHash().hash(input, 5);
+    assertEquals(5, res.size());
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    for (int i = 0; i < res.size(); i++) {
+      byte[] toHash = ByteBuffer.allocate(4 + 16).putInt(i).put(input.get(i).toByteArray())
+          .array();
+      assertEquals(new StrictBitVector(digest.digest(toHash)), res.get(i));
+    }
+  }
+
+  @Test
+  public void testAesOutputLength() {
+    for (int bits : new int[] { 64, 128, 256, 200 }) {
+      List<StrictBitVector> res = new AesCorrelationRobustHash().hash(randomList(3, bits), 3);
+      for (StrictBitVector hash : res) {
+        assertEquals(CorrelationRobustHash.OUTPUT_LENGTH, hash.getSize());
+      }
+    }
+  }
+
+  @Test
+  public void testAesDeterministicAcrossBatches() {
+    // More elements than fit in one batch
+    List<StrictBitVector> input = randomList(2500, 128);
+    List<StrictBitVector> res = new AesCorrelationRobustHash().hash(input, input.size());
+    List<StrictBitVector> prefix = new AesCorrelationRobustHash().hash(input, 1500);
+    assertEquals(res.subList(0, 1500), prefix);
+    Set<StrictBitVector> distinct = new HashSet<>(res);
+    assertEquals(input.size(), distinct.size());
+  }
+
+  @Test
+  public void testAesDependsOnIndex() {
+    StrictBitVector value = randomList(1, 128).get(0);
+    List<StrictBitVector> res = new AesCorrelationRobustHash()
+        .hash(Collections.nCopies(2, value), 2);
+    assertNotEquals(res.get(0), res.get(1));
+  }
+
+  @Test
+  public void testAesDependsOnEveryBlock() {
+    List<StrictBitVector> input = randomList(1, 256);
+    StrictBitVector original = new AesCorrelationRobustHash().hash(input, 1).get(0);
+    byte[] changed = input.get(0).toByteArray().clone();
+    changed[changed.length - 1] ^= 1;
+    StrictBitVector res = new AesCorrelationRobustHash()
+        .hash(Collections.singletonList(new StrictBitVector(changed)), 1).get(0);
+    assertNotEquals(original, res);
+  }
+
+}
@@ -0,0 +1,166 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.helper.HelperForTests;
+import dk.alexandra.fresco.tools.helper.RuntimeForTests;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestFunctionalOneOutOfNOt {
+
+  private final int kbitLength = 128;
+  private final int lambdaSecurityParam = 64;
+  private OtExtensionTestContext senderContext;
+  private OtExtensionTestContext receiverContext;
+  private RuntimeForTests testRuntime;
+
+  /**
+   * Initializes the test runtime by setting up OT extension contexts with enough seed OTs for
+   * 1-out-of-N OT extension.
+   */
+  @Before
+  public void initializeRuntime() {
+    this.testRuntime = new RuntimeForTests();
+    Callable<OtExtensionTestContext> partyOneInit =
+        () -> new OtExtensionTestContext(1, 2, kbitLength, lambdaSecurityParam, 2 * kbitLength);
+    Callable<OtExtensionTestContext> partyTwoInit =
+        () -> new OtExtensionTestContext(2, 1, kbitLength, lambdaSecurityParam, 2 * kbitLength);
+    List<OtExtensionTestContext> initResults =
+        testRuntime.runPerPartyTasks(Arrays.asList(partyOneInit, partyTwoInit));
+    senderContext = initResults.get(0);
+    receiverContext = initResults.get(1);
+  }
+
+  /**
+   * Shuts down the network and test runtime.
+   *
+   * @throws IOException Thrown if the network cannot shut down
+   */
+  @After
+  public void shutdown() throws IOException {
+    testRuntime.shutdown();
+    ((Closeable) senderContext.getNetwork()).close();
+    ((Closeable) receiverContext.getNetwork()).close();
+  }
+
+  private OneOutOfNOtFactory createFactory(OtExtensionTestContext ctx, int amountOfMessages) {
+    return new OneOutOfNOtFactory(ctx.createResources(1), ctx.getNetwork(), amountOfMessages);
+  }
+
+  private static int[] randomChoices(int size, int amountOfMessages) {
+    Drbg rand = new AesCtrDrbg(HelperForTests.seedThree);
+    int[] choices = new int[size];
+    byte[] bytes = new byte[size];
+    rand.nextBytes(bytes);
+    for (int i = 0; i < size; i++) {
+      choices[i] = (bytes[i] & 0xFF) % amountOfMessages;
+    }
+    return choices;
+  }
+
+  private void verifyRandomOts(int amountOfMessages, int size) {
+    int[] choices = randomChoices(size, amountOfMessages);
+    Callable<List<?>> partyOneExtend =
+        () -> createFactory(senderContext, amountOfMessages).createSender().extend(size);
+    Callable<List<?>> partyTwoExtend =
+        () -> createFactory(receiverContext, amountOfMessages).createReceiver().extend(choices);
+    List<List<?>> results =
+        testRuntime.runPerPartyTasks(Arrays.asList(partyOneExtend, partyTwoExtend));
+    assertEquals(size, results.get(0).size());
+    assertEquals(size, results.get(1).size());
+    for (int i = 0; i < size; i++) {
+      @SuppressWarnings("unchecked")
+      List<StrictBitVector> messages = (List<StrictBitVector>) results.get(0).get(i);
+      StrictBitVector received = (StrictBitVector) results.get(1).get(i);
+      assertEquals(amountOfMessages, messages.size());
+      for (int value = 0; value < amountOfMessages; value++) {
+        if (value == choices[i]) {
+          assertEquals(messages.get(value), received);
+        } else {
+          assertNotEquals(messages.get(value), received);
+        }
+      }
+    }
+  }
+
+  /**** POSITIVE TESTS. ****/
+  @Test
+  public void testRandomOts() {
+    verifyRandomOts(16, 1000);
+  }
+
+  @Test
+  public void testRandomOtsSmallBatch() {
+    verifyRandomOts(2, 3);
+  }
+
+  @Test
+  public void testRandomOtsMaximalN() {
+    verifyRandomOts(2 * kbitLength, 300);
+  }
+
+  @Test
+  public void testChosenMessageOts() {
+    int amountOfMessages = 4;
+    int size = 200;
+    int[] choices = randomChoices(size, amountOfMessages);
+    Drbg rand = new AesCtrDrbg(HelperForTests.seedOne);
+    List<List<StrictBitVector>> messages = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      List<StrictBitVector> list = new ArrayList<>(amountOfMessages);
+      for (int value = 0; value < amountOfMessages; value++) {
+        // Longer than the random messages
+        list.add(new StrictBitVector(512, rand));
+      }
+      messages.add(list);
+    }
+    Callable<List<StrictBitVector>> partyOneOt = () -> {
+      createFactory(senderContext, amountOfMessages).createSender().send(messages);
+      return null;
+    };
+    Callable<List<StrictBitVector>> partyTwoOt =
+        () -> createFactory(receiverContext, amountOfMessages).createReceiver().receive(choices);
+    List<List<StrictBitVector>> results =
+        testRuntime.runPerPartyTasks(Arrays.asList(partyOneOt, partyTwoOt));
+    for (int i = 0; i < size; i++) {
+      assertEquals(messages.get(i).get(choices[i]), results.get(1).get(i));
+    }
+  }
+
+  /**** NEGATIVE TESTS. ****/
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyMessages() {
+    new OneOutOfNOtReceiver(new BristolOtExtensionResourcePool(2, 1, kbitLength,
+        lambdaSecurityParam, 1, null, null, new RotList(new AesCtrDrbg(HelperForTests.seedOne), 2 * kbitLength)),
+        receiverContext.getNetwork(), 2 * kbitLength + 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooFewSeedOts() {
+    // Only as many seed OTs as the computational security parameter
+    Drbg rand = new AesCtrDrbg(HelperForTests.seedOne);
+    List<Pair<StrictBitVector, StrictBitVector>> sent = new ArrayList<>();
+    List<StrictBitVector> learned = new ArrayList<>();
+    for (int i = 0; i < kbitLength; i++) {
+      sent.add(new Pair<>(new StrictBitVector(kbitLength, rand),
+          new StrictBitVector(kbitLength, rand)));
+      learned.add(new StrictBitVector(kbitLength, rand));
+    }
+    RotList seedOts = RotList.restore(new StrictBitVector(kbitLength, rand), sent, learned);
+    new OneOutOfNOtReceiver(new BristolOtExtensionResourcePool(2, 1, kbitLength,
+        lambdaSecurityParam, 1, null, null, seedOts), receiverContext.getNetwork(), 4);
+  }
+}
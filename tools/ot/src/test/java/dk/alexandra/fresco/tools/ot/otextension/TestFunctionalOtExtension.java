@@ -176,6 +176,50 @@ public class TestFunctionalOtExtension {
     HelperForTests.verifyOts(senderResults, receiverResults, choices);
   }
 
+  private List<Pair<StrictBitVector, StrictBitVector>> extendRotSenderWithAes(int size) {
+    OtExtensionResourcePool resources = new BristolOtExtensionResourcePool(1, 2, kbitLength,
+        lambdaSecurityParam, 1, senderResources.getRandomGenerator(),
+        senderResources.getCoinTossing(), senderResources.getSeedOts(),
+        new AesCorrelationRobustHash());
+    RotSender rotSender = new RotSenderImpl(coteSender.getSender(), resources, senderNetwork);
+    Pair<List<StrictBitVector>, List<StrictBitVector>> messages = rotSender.extend(size);
+    List<Pair<StrictBitVector, StrictBitVector>> res = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      res.add(new Pair<>(messages.getFirst().get(i), messages.getSecond().get(i)));
+    }
+    return res;
+  }
+
+  private List<StrictBitVector> extendRotReceiverWithAes(StrictBitVector choices) {
+    OtExtensionResourcePool resources = new BristolOtExtensionResourcePool(2, 1, kbitLength,
+        lambdaSecurityParam, 1, receiverResources.getRandomGenerator(),
+        receiverResources.getCoinTossing(), receiverResources.getSeedOts(),
+        new AesCorrelationRobustHash());
+    RotReceiver rotReceiver = new RotReceiverImpl(coteReceiver.getReceiver(), resources,
+        receiverNetwork);
+    return rotReceiver.extend(choices);
+  }
+
+  /**
+   * Verify that the random OTs are correct when using the fixed-key AES hash.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testRotWithAesHash() {
+    int extendSize = 1800;
+    Callable<List<?>> partyOneExtend = () -> extendRotSenderWithAes(extendSize);
+    StrictBitVector choices = new StrictBitVector(extendSize,
+        new AesCtrDrbg(HelperForTests.seedThree));
+    Callable<List<?>> partyTwoExtend = () -> extendRotReceiverWithAes(choices);
+    List<List<?>> extendResults = testRuntime.runPerPartyTasks(Arrays.asList(
+        partyOneExtend, partyTwoExtend));
+    List<Pair<StrictBitVector, StrictBitVector>> senderResults =
+        (List<Pair<StrictBitVector, StrictBitVector>>) extendResults.get(0);
+    List<StrictBitVector> receiverResults = (List<StrictBitVector>) extendResults
+        .get(1);
+    HelperForTests.verifyOts(senderResults, receiverResults, choices);
+  }
+
   /***** NEGATIVE TESTS. *****/
 
   /**
@@ -0,0 +1,164 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import static org.junit.Assert.assertEquals;
+
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.Drbg;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.helper.HelperForTests;
+import dk.alexandra.fresco.tools.helper.RuntimeForTests;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestFunctionalPrecomputedOt {
+
+  private final int kbitLength = 128;
+  private final int lambdaSecurityParam = 56;
+  private OtExtensionTestContext senderContext;
+  private OtExtensionTestContext receiverContext;
+  private RuntimeForTests testRuntime;
+
+  /**
+   * Initializes the test runtime by setting up OT extension contexts for both sender and receiver.
+   */
+  @Before
+  public void initializeRuntime() {
+    this.testRuntime = new RuntimeForTests();
+    Callable<OtExtensionTestContext> partyOneInit =
+        () -> new OtExtensionTestContext(1, 2, kbitLength, lambdaSecurityParam);
+    Callable<OtExtensionTestContext> partyTwoInit =
+        () -> new OtExtensionTestContext(2, 1, kbitLength, lambdaSecurityParam);
+    List<OtExtensionTestContext> initResults =
+        testRuntime.runPerPartyTasks(Arrays.asList(partyOneInit, partyTwoInit));
+    senderContext = initResults.get(0);
+    receiverContext = initResults.get(1);
+  }
+
+  /**
+   * Shuts down the network and test runtime.
+   *
+   * @throws IOException Thrown if the network cannot shut down
+   */
+  @After
+  public void shutdown() throws IOException {
+    testRuntime.shutdown();
+    ((Closeable) senderContext.getNetwork()).close();
+    ((Closeable) receiverContext.getNetwork()).close();
+  }
+
+  private PrecomputedOt createOt(OtExtensionTestContext ctx, int batchSize) {
+    OtExtensionResourcePool resources = ctx.createResources(1);
+    return new PrecomputedOt(new RotFactory(resources, ctx.getNetwork()), ctx.getNetwork(),
+        batchSize);
+  }
+
+  private static List<StrictBitVector> randomMessages(Drbg rand, int amount, int bits) {
+    List<StrictBitVector> messages = new ArrayList<>(amount);
+    for (int i = 0; i < amount; i++) {
+      messages.add(new StrictBitVector(bits, rand));
+    }
+    return messages;
+  }
+
+  private List<Pair<StrictBitVector, StrictBitVector>> sendSingle(int precomputed, int iterations,
+      int messageBits) {
+    PrecomputedOt ot = createOt(senderContext, 64);
+    ot.precomputeSends(precomputed);
+    assertEquals(precomputed, ot.getAvailableSends());
+    Drbg rand = senderContext.createRand(1);
+    List<Pair<StrictBitVector, StrictBitVector>> messages = new ArrayList<>(iterations);
+    for (int i = 0; i < iterations; i++) {
+      StrictBitVector msgZero = new StrictBitVector(messageBits, rand);
+      StrictBitVector msgOne = new StrictBitVector(messageBits, rand);
+      ot.send(msgZero, msgOne);
+      messages.add(new Pair<>(msgZero, msgOne));
+    }
+    return messages;
+  }
+
+  private List<StrictBitVector> receiveSingle(int precomputed, StrictBitVector choices) {
+    PrecomputedOt ot = createOt(receiverContext, 64);
+    ot.precomputeReceives(precomputed);
+    assertEquals(precomputed, ot.getAvailableReceives());
+    List<StrictBitVector> messages = new ArrayList<>(choices.getSize());
+    for (int i = 0; i < choices.getSize(); i++) {
+      messages.add(ot.receive(choices.getBit(i, false)));
+    }
+    return messages;
+  }
+
+  private List<Pair<StrictBitVector, StrictBitVector>> sendBatches(int batchSize, int batches,
+      int batchLength, int messageBits) {
+    PrecomputedOt ot = createOt(senderContext, batchSize);
+    Drbg rand = senderContext.createRand(1);
+    List<Pair<StrictBitVector, StrictBitVector>> messages = new ArrayList<>();
+    for (int i = 0; i < batches; i++) {
+      List<StrictBitVector> zero = randomMessages(rand, batchLength, messageBits);
+      List<StrictBitVector> one = randomMessages(rand, batchLength, messageBits);
+      ot.send(zero, one);
+      for (int j = 0; j < batchLength; j++) {
+        messages.add(new Pair<>(zero.get(j), one.get(j)));
+      }
+    }
+    return messages;
+  }
+
+  private List<StrictBitVector> receiveBatches(int batchSize, int batches, int batchLength,
+      StrictBitVector choices) {
+    PrecomputedOt ot = createOt(receiverContext, batchSize);
+    List<StrictBitVector> messages = new ArrayList<>();
+    for (int i = 0; i < batches; i++) {
+      StrictBitVector batchChoices = new StrictBitVector(batchLength);
+      for (int j = 0; j < batchLength; j++) {
+        batchChoices.setBit(j, choices.getBit(i * batchLength + j, false), false);
+      }
+      messages.addAll(ot.receive(batchChoices));
+    }
+    return messages;
+  }
+
+  /**** POSITIVE TESTS. ****/
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testSingleOts() {
+    // Use more OTs than precomputed, with messages longer than the random messages
+    int iterations = 104;
+    StrictBitVector choices = new StrictBitVector(iterations,
+        new AesCtrDrbg(HelperForTests.seedThree));
+    Callable<List<?>> partyOneOt = () -> sendSingle(80, iterations, 1024);
+    Callable<List<?>> partyTwoOt = () -> receiveSingle(80, choices);
+    List<List<?>> results = testRuntime.runPerPartyTasks(Arrays.asList(partyOneOt, partyTwoOt));
+    HelperForTests.verifyOts((List<Pair<StrictBitVector, StrictBitVector>>) results.get(0),
+        (List<StrictBitVector>) results.get(1), choices);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testBatchOts() {
+    // Batches larger and smaller than the amount of OTs computed when running out
+    int batches = 3;
+    int batchLength = 200;
+    StrictBitVector choices = new StrictBitVector(batches * batchLength,
+        new AesCtrDrbg(HelperForTests.seedThree));
+    Callable<List<?>> partyOneOt = () -> sendBatches(128, batches, batchLength, 64);
+    Callable<List<?>> partyTwoOt = () -> receiveBatches(128, batches, batchLength, choices);
+    List<List<?>> results = testRuntime.runPerPartyTasks(Arrays.asList(partyOneOt, partyTwoOt));
+    HelperForTests.verifyOts((List<Pair<StrictBitVector, StrictBitVector>>) results.get(0),
+        (List<StrictBitVector>) results.get(1), choices);
+  }
+
+  /**** NEGATIVE TESTS. ****/
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalBatchSize() {
+    new PrecomputedOt(new RotFactory(null, senderContext.getNetwork()),
+        senderContext.getNetwork(), 0);
+  }
+}
@@ -8,29 +8,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import org.junit.Before;
 import org.junit.Test;
 
 public class TestRot {
-  private Method multiplyWithoutReduction;
-
-  /**
-   * Setup a local Rot instance.
-   */
-  @Before
-  public void setup() throws NoSuchMethodException,
-      SecurityException, IllegalArgumentException {
-    multiplyWithoutReduction = RotSharedImpl.class.getDeclaredMethod(
-        "multiplyWithoutReduction", StrictBitVector.class,
-        StrictBitVector.class);
-    multiplyWithoutReduction.setAccessible(true);
-  }
 
   /**** POSITIVE TESTS. ****/
   @Test
-  public void testMultiplyByZeroWithoutReduction() throws
-      SecurityException, IllegalAccessException, IllegalArgumentException,
-      InvocationTargetException {
+  public void testMultiplyByZeroWithoutReduction() {
     // 0 1 0 0 0 0 0 1, 1 1 1 1 1 1 1 1
     byte[] abyte = new byte[]{(byte) 0x41, (byte) 0xFF};
     // Semantically equal to 1 as we read bits from left to right
@@ -41,14 +25,13 @@ public class TestRot {
     StrictBitVector a = new StrictBitVector(abyte);
     StrictBitVector b = new StrictBitVector(bbyte);
     StrictBitVector expected = new StrictBitVector(expectedByte);
-    StrictBitVector res = (StrictBitVector) multiplyWithoutReduction.invoke(
-        RotReceiverImpl.class, a, b);
+    StrictBitVector res = RotSharedImpl.multiplyWithoutReduction(a, b)
+        .toStrictBitVector();
     assertEquals(expected, res);
   }
 
   @Test
-  public void testMultiplyByOneWithoutReduction() throws IllegalAccessException,
-      IllegalArgumentException, InvocationTargetException {
+  public void testMultiplyByOneWithoutReduction() {
     // 0 1 0 0 0 0 0 1, 1 1 1 1 1 1 1 1
     byte[] abyte = new byte[]{(byte) 0x41, (byte) 0xFF};
     // Semantically equal to 1 as we read bits from left to right
@@ -59,15 +42,13 @@ public class TestRot {
     StrictBitVector a = new StrictBitVector(abyte);
     StrictBitVector b = new StrictBitVector(bbyte);
     StrictBitVector expected = new StrictBitVector(expectedByte);
-    StrictBitVector res = (StrictBitVector) multiplyWithoutReduction.invoke(
-        RotReceiverImpl.class, a, b);
+    StrictBitVector res = RotSharedImpl.multiplyWithoutReduction(a, b)
+        .toStrictBitVector();
     assertEquals(expected, res);
   }
 
   @Test
-  public void testMultiplyByFourWithoutReduction()
-      throws IllegalAccessException, IllegalArgumentException,
-      InvocationTargetException {
+  public void testMultiplyByFourWithoutReduction() {
     // 0 1 0 0 0 0 0 1, 1 1 1 1 1 1 1 1
     byte[] abyte = new byte[]{(byte) 0x41, (byte) 0xFF};
     // Semantically equal to 1 as we read bits from left to right
@@ -78,14 +59,13 @@ public class TestRot {
     StrictBitVector a = new StrictBitVector(abyte);
     StrictBitVector b = new StrictBitVector(bbyte);
     StrictBitVector expected = new StrictBitVector(expectedByte);
-    StrictBitVector res = (StrictBitVector) multiplyWithoutReduction.invoke(
-        RotReceiverImpl.class, a, b);
+    StrictBitVector res = RotSharedImpl.multiplyWithoutReduction(a, b)
+        .toStrictBitVector();
     assertEquals(expected, res);
   }
 
   @Test
-  public void testMultiplyWithoutReduction() throws IllegalAccessException,
-      IllegalArgumentException, InvocationTargetException {
+  public void testMultiplyWithoutReduction() {
     // 0 1 0 0 0 0 0 1, 1 1 1 1 1 1 1 1
     byte[] abyte = new byte[]{(byte) 0x41, (byte) 0xFF};
     // Semantically equal to 1 as we read bits from left to right
@@ -100,14 +80,13 @@ public class TestRot {
     StrictBitVector a = new StrictBitVector(abyte);
     StrictBitVector b = new StrictBitVector(bbyte);
     StrictBitVector expected = new StrictBitVector(expectedByte);
-    StrictBitVector res = (StrictBitVector) multiplyWithoutReduction.invoke(
-        RotReceiverImpl.class, a, b);
+    StrictBitVector res = RotSharedImpl.multiplyWithoutReduction(a, b)
+        .toStrictBitVector();
     assertEquals(expected, res);
   }
 
   @Test
-  public void testComputePolyLinearCombination() throws IllegalAccessException,
-      IllegalArgumentException, InvocationTargetException {
+  public void testComputePolyLinearCombination() {
     // 0 1 0 0 0 0 0 1, 1 1 1 1 1 1 1 1
     byte[] abyte = new byte[]{(byte) 0x41, (byte) 0xFF};
     // Semantically equal to 1 as we read bits from left to right
@@ -120,8 +99,8 @@ public class TestRot {
     // 0 1 0 1 0 0 0 1, 1 0 0 0 0 0 0 0, 1 1 0 0 0 0 0 0
     byte[] expectedByte = new byte[]{(byte) 0x51, (byte) 0x80, (byte) 0xC0};
     StrictBitVector expected = new StrictBitVector(expectedByte);
-    StrictBitVector res = (StrictBitVector) multiplyWithoutReduction.invoke(
-        RotReceiverImpl.class, a, b);
+    StrictBitVector res = RotSharedImpl.multiplyWithoutReduction(a, b)
+        .toStrictBitVector();
     assertEquals(true, expected.equals(res));
   }
 
@@ -0,0 +1,183 @@
+package dk.alexandra.fresco.tools.ot.otextension;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+import dk.alexandra.fresco.framework.util.AesCtrDrbg;
+import dk.alexandra.fresco.framework.util.StrictBitVector;
+import dk.alexandra.fresco.tools.helper.HelperForTests;
+import dk.alexandra.fresco.tools.helper.RuntimeForTests;
+import dk.alexandra.fresco.tools.ot.base.DummyOt;
+import dk.alexandra.fresco.tools.ot.base.Ot;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestSeedOtCache {
+
+  private static final int AMOUNT = 128;
+  private static final long MAX_AGE = 60 * 60 * 1000;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private RuntimeForTests testRuntime;
+  private File[] directories;
+  private AtomicInteger baseOts;
+
+  /**
+   * Sets up a runtime and a cache directory for each party.
+   */
+  @Before
+  public void setup() throws IOException {
+    testRuntime = new RuntimeForTests();
+    directories = new File[] { folder.newFolder(), folder.newFolder() };
+    baseOts = new AtomicInteger();
+  }
+
+  @After
+  public void shutdown() {
+    testRuntime.shutdown();
+  }
+
+  private RotList runParty(int myId, int maxUses, boolean release) throws IOException {
+    int otherId = 3 - myId;
+    SeedOtCache cache = new SeedOtCache(myId, directories[myId - 1],
+        new byte[] { (byte) myId, 1, 2, 3 }, MAX_AGE, maxUses);
+    try (CloseableNetwork network = new SocketNetwork(
+        RuntimeForTests.defaultNetworkConfiguration(myId, Arrays.asList(1, 2)))) {
+      RotList seedOts = cache.getSeedOts(otherId, AMOUNT,
+          new AesCtrDrbg(HelperForTests.seedOne), network, id -> {
+            baseOts.incrementAndGet();
+            return new DummyOt(id, network);
+          });
+      if (release) {
+        cache.release(otherId, AMOUNT);
+      }
+      return seedOts;
+    }
+  }
+
+  private List<RotList> runSession(int maxUses) {
+    return runSession(maxUses, true);
+  }
+
+  private List<RotList> runSession(int maxUses, boolean release) {
+    List<Callable<RotList>> tasks = new ArrayList<>();
+    tasks.add(() -> runParty(1, maxUses, release));
+    tasks.add(() -> runParty(2, maxUses, release));
+    List<RotList> res = testRuntime.runPerPartyTasks(tasks);
+    verifySeedOts(res.get(0), res.get(1));
+    verifySeedOts(res.get(1), res.get(0));
+    return res;
+  }
+
+  private static void verifySeedOts(RotList sender, RotList receiver) {
+    StrictBitVector choices = receiver.getChoices();
+    for (int i = 0; i < AMOUNT; i++) {
+      StrictBitVector expected = choices.getBit(i, false)
+          ? sender.getSentMessages().get(i).getSecond()
+          : sender.getSentMessages().get(i).getFirst();
+      assertEquals(expected, receiver.getLearnedMessages().get(i));
+    }
+  }
+
+  /**** POSITIVE TESTS. ****/
+  @Test
+  public void testReuseCachedSeedOts() {
+    List<RotList> first = runSession(10);
+    assertEquals(2, baseOts.get());
+    List<RotList> second = runSession(10);
+    // No base OTs were needed
+    assertEquals(2, baseOts.get());
+    // The same correlation is used but the messages are rekeyed for each use
+    assertEquals(first.get(0).getChoices(), second.get(0).getChoices());
+    assertNotEquals(first.get(0).getLearnedMessages(), second.get(0).getLearnedMessages());
+    assertNotEquals(first.get(1).getSentMessages().get(0).getFirst(),
+        second.get(1).getSentMessages().get(0).getFirst());
+  }
+
+  @Test
+  public void testRekeyAfterMaxUses() {
+    runSession(1);
+    runSession(1);
+    assertEquals(4, baseOts.get());
+  }
+
+  @Test
+  public void testRecomputeIfOnePartyLostCache() {
+    runSession(10);
+    for (File file : directories[1].listFiles()) {
+      file.delete();
+    }
+    runSession(10);
+    assertEquals(4, baseOts.get());
+    runSession(10);
+    assertEquals(4, baseOts.get());
+  }
+
+  @Test
+  public void testRecomputeIfNotReleased() {
+    // E.g. the session aborted, so the correlation may have been probed
+    runSession(10, false);
+    runSession(10);
+    assertEquals(4, baseOts.get());
+    runSession(10);
+    assertEquals(4, baseOts.get());
+  }
+
+  @Test
+  public void testRecomputeIfOnePartyDidNotRelease() {
+    runSession(10);
+    List<Callable<RotList>> tasks = new ArrayList<>();
+    tasks.add(() -> runParty(1, 10, true));
+    tasks.add(() -> runParty(2, 10, false));
+    testRuntime.runPerPartyTasks(tasks);
+    assertEquals(2, baseOts.get());
+    runSession(10);
+    assertEquals(4, baseOts.get());
+  }
+
+  @Test
+  public void testCreateMissingDirectory() {
+    File directory = new File(directories[0], "missing");
+    new SeedOtCache(1, directory, new byte[16], MAX_AGE, 10);
+    assertTrue(directory.isDirectory());
+  }
+
+  @Test
+  public void testRecomputeIfTamperedWith() throws IOException {
+    runSession(10);
+    File file = directories[0].listFiles()[0];
+    byte[] content = Files.readAllBytes(file.toPath());
+    content[content.length / 2] ^= 1;
+    Files.write(file.toPath(), content);
+    runSession(10);
+    assertEquals(4, baseOts.get());
+  }
+
+  /**** NEGATIVE TESTS. ****/
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeMaxUses() {
+    new SeedOtCache(1, directories[0], new byte[16], MAX_AGE, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDirectoryIsFile() throws IOException {
+    new SeedOtCache(1, folder.newFile(), new byte[16], MAX_AGE, 10);
+  }
+
+}
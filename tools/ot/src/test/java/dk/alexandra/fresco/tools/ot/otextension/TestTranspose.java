@@ -1,5 +1,6 @@
 package dk.alexandra.fresco.tools.ot.otextension;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import dk.alexandra.fresco.framework.util.StrictBitVector;
@@ -9,6 +10,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -275,7 +277,60 @@ public class TestTranspose {
     }
   }
 
+  @Test
+  public void testLongBlockTranspose() {
+    Random rand = new Random(42);
+    int[][] dimensions = { { 64, 64 }, { 128, 1024 }, { 1024, 128 }, { 256, 64 } };
+    for (int[] dimension : dimensions) {
+      List<StrictBitVector> input = randomMatrix(rand, dimension[0], dimension[1]);
+      List<StrictBitVector> res = Transpose.transpose(input);
+      assertEquals(dimension[1], res.size());
+      for (int i = 0; i < dimension[0]; i++) {
+        for (int j = 0; j < dimension[1]; j++) {
+          assertEquals(input.get(i).getBit(j, false), res.get(j).getBit(i, false));
+        }
+      }
+      assertEquals(Transpose.transposeByteBlocks(input), res);
+    }
+  }
+
+  @Test
+  public void testLongArrayTranspose() {
+    Random rand = new Random(42);
+    int rows = 128;
+    int columns = 256;
+    long[] input = new long[rows * columns / Long.SIZE];
+    for (int i = 0; i < input.length; i++) {
+      input[i] = rand.nextLong();
+    }
+    long[] output = new long[input.length];
+    Transpose.transpose(input, rows, columns, output);
+    long[] twice = new long[input.length];
+    Transpose.transpose(output, columns, rows, twice);
+    assertArrayEquals(input, twice);
+  }
+
+  private static List<StrictBitVector> randomMatrix(Random rand, int rows, int columns) {
+    List<StrictBitVector> matrix = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      byte[] row = new byte[columns / Byte.SIZE];
+      rand.nextBytes(row);
+      matrix.add(new StrictBitVector(row));
+    }
+    return matrix;
+  }
+
   /**** NEGATIVE TESTS. ****/
+  @Test(expected = IllegalArgumentException.class)
+  public void testLongArrayWrongDimensions() {
+    Transpose.transpose(new long[8], 64, 8, new long[8]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLongArrayWrongOutputLength() {
+    Transpose.transpose(new long[64], 64, 64, new long[32]);
+  }
+
   @Test
   public void testWrongAmountOfRows() {
     boolean thrown;